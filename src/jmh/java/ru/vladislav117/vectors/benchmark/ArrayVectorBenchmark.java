@@ -0,0 +1,117 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк методов {@link ArrayVector} для размеров от 2 до 1M.
+ * <p>
+ * Операнд {@code array} проверяет путь для векторов одного типа, {@code generic} - общий путь
+ * через {@link Vector#getIndexOrZero(int)}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayVectorBenchmark {
+    @Param({"2", "3", "16", "128", "768", "4096", "65536", "1048576"})
+    public int size;
+    @Param({BenchmarkVectors.ARRAY, BenchmarkVectors.GENERIC})
+    public String operandKind;
+
+    protected ArrayVector vector;
+    protected Vector operand;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        vector = new ArrayVector(BenchmarkVectors.randomArray(size, 1));
+        operand = BenchmarkVectors.operand(vector, operandKind, 2);
+    }
+
+    @Benchmark
+    public Vector cloneVector() {
+        return vector.clone();
+    }
+
+    @Benchmark
+    public Vector set() {
+        return vector.set(operand);
+    }
+
+    @Benchmark
+    public Vector add() {
+        return vector.add(operand);
+    }
+
+    @Benchmark
+    public Vector subtract() {
+        return vector.subtract(operand);
+    }
+
+    @Benchmark
+    public Vector multiple() {
+        return vector.multiple(-1);
+    }
+
+    @Benchmark
+    public Vector divide() {
+        return vector.divide(-1);
+    }
+
+    @Benchmark
+    public double length() {
+        return vector.length();
+    }
+
+    @Benchmark
+    public double distance() {
+        return vector.distance(operand);
+    }
+
+    @Benchmark
+    public Vector normalize() {
+        return vector.normalize();
+    }
+
+    @Benchmark
+    public Vector toNormalized() {
+        return vector.toNormalized();
+    }
+
+    @Benchmark
+    public Vector vectorTo() {
+        return vector.vectorTo(operand);
+    }
+
+    @Benchmark
+    public Vector directionTo() {
+        return vector.directionTo(operand);
+    }
+
+    @Benchmark
+    public boolean equalsVector() {
+        return vector.equals(operand);
+    }
+
+    @Benchmark
+    public int hashCodeVector() {
+        return vector.hashCode();
+    }
+}
@@ -0,0 +1,94 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.concurrent.AtomicVector3D;
+import ru.vladislav117.vectors.concurrent.VectorAdder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк пропускной способности прибавления к общему трёхмерному вектору из нескольких потоков:
+ * {@link AtomicVector3D}, {@link VectorAdder} и {@link Vector3D} с синхронизацией. Группы {@code atomicMixed} и
+ * {@code synchronizedMixed} дополнительно читают согласованные снимки вектора в отдельном потоке.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AtomicVectorBenchmark {
+    protected final AtomicVector3D atomicVector = new AtomicVector3D();
+    protected final Vector3D synchronizedVector = new Vector3D();
+    protected final VectorAdder adder = new VectorAdder(Vector3D.SIZE);
+    protected final double[] summand = {1, 2, 3};
+
+    @State(Scope.Thread)
+    public static class Snapshot {
+        public final Vector3D vector = new Vector3D();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public AtomicVector3D atomic() {
+        return atomicVector.accumulate(1, 2, 3);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VectorAdder adder() {
+        return adder.add(summand, 0);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Vector3D synchronizedAdd() {
+        synchronized (synchronizedVector) {
+            return synchronizedVector.add(1, 2, 3);
+        }
+    }
+
+    @Benchmark
+    @Group("atomicMixed")
+    @GroupThreads(7)
+    public AtomicVector3D atomicMixedAdd() {
+        return atomicVector.accumulate(1, 2, 3);
+    }
+
+    @Benchmark
+    @Group("atomicMixed")
+    @GroupThreads(1)
+    public Vector3D atomicMixedRead(Snapshot snapshot) {
+        return atomicVector.get(snapshot.vector);
+    }
+
+    @Benchmark
+    @Group("synchronizedMixed")
+    @GroupThreads(7)
+    public Vector3D synchronizedMixedAdd() {
+        synchronized (synchronizedVector) {
+            return synchronizedVector.add(1, 2, 3);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedMixed")
+    @GroupThreads(1)
+    public Vector3D synchronizedMixedRead(Snapshot snapshot) {
+        synchronized (synchronizedVector) {
+            return snapshot.vector.set(synchronizedVector);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ru.vladislav117.vectors.benchmark;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector1D;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector5D;
+
+import java.util.Random;
+
+/**
+ * Фабрика векторов для бенчмарков.
+ */
+public final class BenchmarkVectors {
+    /**
+     * Тип вектора, совпадающий с типом вектора, над которым выполняется операция (мономорфный быстрый путь).
+     */
+    public static final String SAME = "same";
+    /**
+     * Вектор-массив (быстрый путь для {@link ArrayVector}, общий путь через getIndexOrZero для остальных).
+     */
+    public static final String ARRAY = "array";
+    /**
+     * Вектор без быстрых путей в других реализациях (общий путь через getIndexOrZero).
+     */
+    public static final String GENERIC = "generic";
+    /**
+     * Несколько векторов разных типов по очереди (полиморфный общий путь).
+     */
+    public static final String MIXED = "mixed";
+
+    private BenchmarkVectors() {
+    }
+
+    /**
+     * Создание массива случайных значений.
+     *
+     * @param size Размер массива
+     * @param seed Зерно генератора
+     * @return Массив значений.
+     */
+    public static double[] randomArray(int size, long seed) {
+        Random random = new Random(seed);
+        double[] array = new double[size];
+        for (int index = 0; index < size; index++) array[index] = random.nextDouble() * 2 - 1;
+        return array;
+    }
+
+    /**
+     * Создание вектора фиксированного размера (от 1D до 5D) со случайными значениями.
+     *
+     * @param dimension Размерность вектора
+     * @param seed      Зерно генератора
+     * @return Вектор.
+     */
+    public static Vector fixed(int dimension, long seed) {
+        double[] values = randomArray(dimension, seed);
+        return switch (dimension) {
+            case Vector1D.SIZE -> new Vector1D(values[0]);
+            case Vector2D.SIZE -> new Vector2D(values[0], values[1]);
+            case Vector3D.SIZE -> new Vector3D(values[0], values[1], values[2]);
+            case Vector4D.SIZE -> new Vector4D(values[0], values[1], values[2], values[3]);
+            case Vector5D.SIZE -> new Vector5D(values[0], values[1], values[2], values[3], values[4]);
+            default -> throw new IllegalArgumentException("Unsupported dimension " + dimension);
+        };
+    }
+
+    /**
+     * Создание операнда для вектора.
+     *
+     * @param vector      Вектор, над которым будет выполняться операция
+     * @param operandKind Вид операнда ({@link #SAME}, {@link #ARRAY} или {@link #GENERIC})
+     * @param seed        Зерно генератора
+     * @return Операнд.
+     */
+    public static Vector operand(Vector vector, String operandKind, long seed) {
+        double[] values = randomArray(vector.getSize(), seed);
+        return switch (operandKind) {
+            case SAME -> vector instanceof ArrayVector ? new ArrayVector(values) : fixed(vector.getSize(), seed);
+            case ARRAY -> new ArrayVector(values);
+            case GENERIC -> new GenericVector(values);
+            default -> throw new IllegalArgumentException("Unsupported operand kind " + operandKind);
+        };
+    }
+
+    /**
+     * Создание набора операндов разных типов, которые будут чередоваться.
+     * Количество операндов всегда является степенью двойки.
+     *
+     * @param vector Вектор, над которым будет выполняться операция
+     * @param seed   Зерно генератора
+     * @return Операнды.
+     */
+    public static Vector[] mixedOperands(Vector vector, long seed) {
+        Vector[] operands = new Vector[4];
+        int count = 0;
+        operands[count++] = new ArrayVector(randomArray(vector.getSize(), seed));
+        operands[count++] = new GenericVector(randomArray(vector.getSize(), seed + 1));
+        for (int dimension = Vector1D.SIZE; dimension <= Vector5D.SIZE && count < operands.length; dimension++) {
+            Vector candidate = fixed(dimension, seed + 1 + dimension);
+            if (candidate.getClass() != vector.getClass()) operands[count++] = candidate;
+        }
+        return operands;
+    }
+}
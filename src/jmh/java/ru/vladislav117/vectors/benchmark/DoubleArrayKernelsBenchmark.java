@@ -0,0 +1,83 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение скалярной реализации ядер {@link DoubleArrayKernels} и реализации на Vector API
+ * на размерах, характерных для эмбеддингов.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class DoubleArrayKernelsBenchmark {
+    @Param({"768", "1024", "1536", "4096"})
+    public int size;
+    @Param({"scalar", "simd"})
+    public String backend;
+
+    protected DoubleArrayKernels kernels;
+    protected double[] first;
+    protected double[] second;
+
+    @Setup
+    public void setup() {
+        kernels = backend.equals("simd") ? DoubleArrayKernels.simd() : DoubleArrayKernels.scalar();
+        first = BenchmarkVectors.randomArray(size, 1);
+        second = BenchmarkVectors.randomArray(size, 2);
+    }
+
+    @Benchmark
+    public double[] add() {
+        kernels.add(first, 0, second, 0, size);
+        return first;
+    }
+
+    @Benchmark
+    public double[] subtract() {
+        kernels.subtract(first, 0, second, 0, size);
+        return first;
+    }
+
+    @Benchmark
+    public double[] multiple() {
+        kernels.multiple(first, 0, size, -1);
+        return first;
+    }
+
+    @Benchmark
+    public double[] divide() {
+        kernels.divide(first, 0, size, -1);
+        return first;
+    }
+
+    @Benchmark
+    public double sumOfSquares() {
+        return kernels.sumOfSquares(first, 0, size);
+    }
+
+    @Benchmark
+    public double sumOfSquaresOfDifferences() {
+        return kernels.sumOfSquaresOfDifferences(first, 0, second, 0, size);
+    }
+
+    @Benchmark
+    public double dot() {
+        return kernels.dot(first, 0, second, 0, size);
+    }
+}
@@ -0,0 +1,133 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.Vector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк методов {@link Vector} для векторов фиксированного размера (от 1D до 5D).
+ * <p>
+ * Операнд {@code same} проверяет мономорфный быстрый путь, {@code array} и {@code generic} - общий путь
+ * через {@link Vector#getIndexOrZero(int)}, {@code mixed} - общий путь с полиморфным местом вызова.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FixedVectorBenchmark {
+    @Param({"1", "2", "3", "4", "5"})
+    public int dimension;
+    @Param({BenchmarkVectors.SAME, BenchmarkVectors.ARRAY, BenchmarkVectors.GENERIC, BenchmarkVectors.MIXED})
+    public String operandKind;
+
+    protected Vector vector;
+    protected Vector[] operands;
+    protected int operandIndex;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        vector = BenchmarkVectors.fixed(dimension, 1);
+        if (operandKind.equals(BenchmarkVectors.MIXED)) {
+            operands = BenchmarkVectors.mixedOperands(vector, 2);
+        } else {
+            operands = new Vector[]{BenchmarkVectors.operand(vector, operandKind, 2)};
+        }
+        operandIndex = 0;
+    }
+
+    protected Vector nextOperand() {
+        Vector operand = operands[operandIndex];
+        operandIndex = (operandIndex + 1) & (operands.length - 1);
+        return operand;
+    }
+
+    @Benchmark
+    public Vector cloneVector() {
+        return vector.clone();
+    }
+
+    @Benchmark
+    public double getIndexOrZero() {
+        return vector.getIndexOrZero(0);
+    }
+
+    @Benchmark
+    public Vector set() {
+        return vector.set(nextOperand());
+    }
+
+    @Benchmark
+    public Vector add() {
+        return vector.add(nextOperand());
+    }
+
+    @Benchmark
+    public Vector subtract() {
+        return vector.subtract(nextOperand());
+    }
+
+    @Benchmark
+    public Vector multiple() {
+        return vector.multiple(-1);
+    }
+
+    @Benchmark
+    public Vector divide() {
+        return vector.divide(-1);
+    }
+
+    @Benchmark
+    public double length() {
+        return vector.length();
+    }
+
+    @Benchmark
+    public double distance() {
+        return vector.distance(nextOperand());
+    }
+
+    @Benchmark
+    public Vector normalize() {
+        return vector.normalize();
+    }
+
+    @Benchmark
+    public Vector toNormalized() {
+        return vector.toNormalized();
+    }
+
+    @Benchmark
+    public Vector vectorTo() {
+        return vector.vectorTo(nextOperand());
+    }
+
+    @Benchmark
+    public Vector directionTo() {
+        return vector.directionTo(nextOperand());
+    }
+
+    @Benchmark
+    public boolean equalsVector() {
+        return vector.equals(nextOperand());
+    }
+
+    @Benchmark
+    public int hashCodeVector() {
+        return vector.hashCode();
+    }
+}
@@ -0,0 +1,177 @@
+package ru.vladislav117.vectors.benchmark;
+
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+/**
+ * Простейшая реализация вектора, о которой не знает ни одна реализация библиотеки.
+ * Используется для замера общих путей: реализации библиотеки получают его значения
+ * через {@link Vector#copyTo(double[], int)}, который этот класс переопределяет копированием массива.
+ */
+public class GenericVector implements Vector {
+    /**
+     * Массив значений осей.
+     */
+    protected double[] values;
+
+    /**
+     * Создание вектора. Массив значений будет скопирован.
+     *
+     * @param values Массив значений осей
+     */
+    public GenericVector(double[] values) {
+        this.values = values.clone();
+    }
+
+    @Override
+    public GenericVector clone() {
+        return new GenericVector(values);
+    }
+
+    @Override
+    public int getSize() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < values.length;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (containsIndex(index)) return values[index];
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        return containsIndex(index) ? values[index] : 0;
+    }
+
+    @Override
+    public GenericVector setIndex(int index, double value) {
+        if (!containsIndex(index)) throw new VectorIndexError(index);
+        values[index] = value;
+        return this;
+    }
+
+    @Override
+    public GenericVector addIndex(int index, double summand) {
+        return setIndex(index, getIndex(index) + summand);
+    }
+
+    @Override
+    public GenericVector subtractIndex(int index, double subtrahend) {
+        return setIndex(index, getIndex(index) - subtrahend);
+    }
+
+    @Override
+    public GenericVector multipleIndex(int index, double multiplier) {
+        return setIndex(index, getIndex(index) * multiplier);
+    }
+
+    @Override
+    public GenericVector divideIndex(int index, double divisor) {
+        return setIndex(index, getIndex(index) / divisor);
+    }
+
+    @Override
+    public GenericVector set(Vector vector) {
+        for (int index = 0; index < values.length; index++) {
+            if (vector.containsIndex(index)) values[index] = vector.getIndex(index);
+        }
+        return this;
+    }
+
+    @Override
+    public GenericVector add(Vector summand) {
+        for (int index = 0; index < values.length; index++) values[index] += summand.getIndexOrZero(index);
+        return this;
+    }
+
+    @Override
+    public GenericVector subtract(Vector subtrahend) {
+        for (int index = 0; index < values.length; index++) values[index] -= subtrahend.getIndexOrZero(index);
+        return this;
+    }
+
+    @Override
+    public GenericVector multiple(double multiplier) {
+        for (int index = 0; index < values.length; index++) values[index] *= multiplier;
+        return this;
+    }
+
+    @Override
+    public GenericVector divide(double divisor) {
+        for (int index = 0; index < values.length; index++) values[index] /= divisor;
+        return this;
+    }
+
+    @Override
+    public double length() {
+        double sumOfSquares = 0;
+        for (double value : values) sumOfSquares += value * value;
+        return Math.sqrt(sumOfSquares);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        double sumOfSquares = 0;
+        for (int index = 0; index < values.length; index++) {
+            double difference = values[index] - vector.getIndexOrZero(index);
+            sumOfSquares += difference * difference;
+        }
+        return Math.sqrt(sumOfSquares);
+    }
+
+    @Override
+    public GenericVector normalize() {
+        return divide(length());
+    }
+
+    @Override
+    public GenericVector toNormalized() {
+        return clone().normalize();
+    }
+
+    @Override
+    public GenericVector vectorTo(Vector vector) {
+        GenericVector vectorTo = new GenericVector(new double[values.length]);
+        for (int index = 0; index < values.length; index++) vectorTo.values[index] = vector.getIndexOrZero(index) - values[index];
+        return vectorTo;
+    }
+
+    @Override
+    public GenericVector directionTo(Vector vector) {
+        return vectorTo(vector).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        System.arraycopy(values, 0, destination, offset, values.length);
+        return destination;
+    }
+
+    @Override
+    public GenericVector copyFrom(double[] source, int offset) {
+        System.arraycopy(source, offset, values, 0, values.length);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        for (int index = 0; index < values.length; index++) {
+            if (!vector.containsIndex(index) || vector.getIndex(index) != values[index]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (double value : values) result = 31 * result + Double.hashCode(value + 0.0);
+        return result;
+    }
+}
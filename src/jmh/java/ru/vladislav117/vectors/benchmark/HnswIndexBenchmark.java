@@ -0,0 +1,92 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.search.HnswIndex;
+import ru.vladislav117.vectors.search.Metric;
+import ru.vladislav117.vectors.search.TopKSearcher;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение задержки приближённого поиска {@link HnswIndex} с точным перебором {@link TopKSearcher} по {@link VectorMatrix}.
+ * Полнота поиска по индексу относительно перебора вычисляется при подготовке и выводится в консоль.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class HnswIndexBenchmark {
+    @Param({"100000"})
+    public int count;
+    @Param({"128"})
+    public int dimension;
+    @Param({"L2", "COSINE"})
+    public String metric;
+    @Param({"32", "128"})
+    public int ef;
+
+    protected static final int K = 10;
+    protected static final int QUERIES = 64;
+
+    protected VectorMatrix matrix;
+    protected HnswIndex index;
+    protected TopKSearcher searcher;
+    protected List<ArrayVector> queries;
+    protected long[] indices;
+    protected double[] scores;
+    protected int query;
+
+    @Setup
+    public void setup() {
+        List<ArrayVector> vectors = new ArrayList<>(count);
+        for (int position = 0; position < count; position++) vectors.add(new ArrayVector(BenchmarkVectors.randomArray(dimension, position)));
+        matrix = new VectorMatrix(vectors, dimension);
+        index = new HnswIndex(dimension, count, Metric.valueOf(metric));
+        index.addAll(vectors);
+        searcher = new TopKSearcher(Metric.valueOf(metric));
+        queries = new ArrayList<>(QUERIES);
+        for (int position = 0; position < QUERIES; position++) queries.add(new ArrayVector(BenchmarkVectors.randomArray(dimension, -1 - position)));
+        indices = new long[K];
+        scores = new double[K];
+        long[] expected = new long[K];
+        int found = 0;
+        for (ArrayVector vector : queries) {
+            searcher.search(vector, matrix, K, expected, scores);
+            int resultCount = index.search(vector, K, ef, indices, scores);
+            for (int position = 0; position < resultCount; position++) {
+                for (long id : expected) {
+                    if (id == indices[position]) found++;
+                }
+            }
+        }
+        System.out.printf("%nRecall@%d (ef = %d): %.4f%n", K, ef, (double) found / (QUERIES * K));
+    }
+
+    @Benchmark
+    public long[] hnsw() {
+        index.search(queries.get(query++ & (QUERIES - 1)), K, ef, indices, scores);
+        return indices;
+    }
+
+    @Benchmark
+    public long[] bruteForce() {
+        searcher.search(queries.get(query++ & (QUERIES - 1)), matrix, K, indices, scores);
+        return indices;
+    }
+}
@@ -0,0 +1,96 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.search.Metric;
+import ru.vladislav117.vectors.search.ProductQuantizedIndex;
+import ru.vladislav117.vectors.search.ProductQuantizer;
+import ru.vladislav117.vectors.search.TopKSearcher;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение поиска по кодам {@link ProductQuantizedIndex} с точным перебором {@link TopKSearcher} по {@link VectorMatrix}.
+ * Сжатие и полнота поиска по кодам относительно перебора вычисляются при подготовке и выводятся в консоль.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ProductQuantizerBenchmark {
+    @Param({"100000"})
+    public int count;
+    @Param({"128"})
+    public int dimension;
+    @Param({"32", "64"})
+    public int subspaces;
+    @Param({"L2"})
+    public String metric;
+
+    protected static final int K = 10;
+    protected static final int QUERIES = 64;
+    protected static final int SAMPLE = 10_000;
+
+    protected VectorMatrix matrix;
+    protected ProductQuantizedIndex index;
+    protected TopKSearcher searcher;
+    protected List<ArrayVector> queries;
+    protected long[] indices;
+    protected double[] scores;
+    protected int query;
+
+    @Setup
+    public void setup() {
+        List<ArrayVector> vectors = new ArrayList<>(count);
+        for (int position = 0; position < count; position++) vectors.add(new ArrayVector(BenchmarkVectors.randomArray(dimension, position)));
+        matrix = new VectorMatrix(vectors, dimension);
+        ProductQuantizer quantizer = new ProductQuantizer(dimension, subspaces, ProductQuantizer.MAX_CENTROIDS)
+                .train(vectors.subList(0, Math.min(SAMPLE, count)), 10, 1);
+        index = new ProductQuantizedIndex(quantizer, count, Metric.valueOf(metric));
+        index.addAll(vectors);
+        searcher = new TopKSearcher(Metric.valueOf(metric));
+        queries = new ArrayList<>(QUERIES);
+        for (int position = 0; position < QUERIES; position++) queries.add(new ArrayVector(BenchmarkVectors.randomArray(dimension, -1 - position)));
+        indices = new long[K];
+        scores = new double[K];
+        long[] expected = new long[K];
+        int found = 0;
+        for (ArrayVector vector : queries) {
+            searcher.search(vector, matrix, K, expected, scores);
+            int resultCount = index.search(vector, K, indices, scores);
+            for (int position = 0; position < resultCount; position++) {
+                for (long id : expected) {
+                    if (id == indices[position]) found++;
+                }
+            }
+        }
+        System.out.printf("%nBytes per vector: %d instead of %d, recall@%d: %.4f%n", subspaces, dimension * Double.BYTES, K, (double) found / (QUERIES * K));
+    }
+
+    @Benchmark
+    public long[] productQuantized() {
+        index.search(queries.get(query++ & (QUERIES - 1)), K, indices, scores);
+        return indices;
+    }
+
+    @Benchmark
+    public long[] bruteForce() {
+        searcher.search(queries.get(query++ & (QUERIES - 1)), matrix, K, indices, scores);
+        return indices;
+    }
+}
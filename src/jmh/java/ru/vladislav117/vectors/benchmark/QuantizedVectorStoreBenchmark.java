@@ -0,0 +1,77 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
+import ru.vladislav117.vectors.store.QuantizedVectorStore;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение массового вычисления скалярных произведений по 8- и 16-битным кодам {@link QuantizedVectorStore}
+ * с вычислением по значениям double в {@link VectorMatrix}.
+ * Реализация ядер на Vector API включается параметром JVM {@code -Dru.vladislav117.vectors.simd=true}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dru.vladislav117.vectors.simd=true"})
+public class QuantizedVectorStoreBenchmark {
+    @Param({"10000"})
+    public int count;
+    @Param({"768"})
+    public int dimension;
+
+    protected QuantizedVectorStore int8;
+    protected QuantizedVectorStore int16;
+    protected VectorMatrix matrix;
+    protected ArrayVector query;
+    protected double[] result;
+
+    @Setup
+    public void setup() {
+        int8 = new QuantizedVectorStore(count, dimension, QuantizedVectorStore.Precision.INT8);
+        int16 = new QuantizedVectorStore(count, dimension, QuantizedVectorStore.Precision.INT16);
+        matrix = new VectorMatrix(count, dimension);
+        for (int row = 0; row < count; row++) {
+            ArrayVector vector = new ArrayVector(BenchmarkVectors.randomArray(dimension, row));
+            int8.set(row, vector);
+            int16.set(row, vector);
+            matrix.set(row, vector);
+        }
+        query = new ArrayVector(BenchmarkVectors.randomArray(dimension, -1));
+        result = new double[count];
+    }
+
+    @Benchmark
+    public double[] int8Dots() {
+        return int8.rowDots(query, result);
+    }
+
+    @Benchmark
+    public double[] int16Dots() {
+        return int16.rowDots(query, result);
+    }
+
+    @Benchmark
+    public double[] doubleDots() {
+        // Последовательный перебор строк, как в QuantizedVectorStore.rowDots.
+        double[] values = query.copyTo(new double[dimension], 0);
+        DoubleArrayKernels kernels = DoubleArrayKernels.get();
+        matrix.forEachRow(0, count, (row, array, offset) -> result[(int) row] = kernels.dot(array, offset, values, 0, dimension));
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.search.Metric;
+import ru.vladislav117.vectors.search.TopKSearcher;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение поиска {@link TopKSearcher} по списку векторов-массивов и по матрице {@link VectorMatrix}
+ * с перебором циклом по {@link ArrayVector#distance(Vector)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class TopKSearcherBenchmark {
+    @Param({"100000"})
+    public int count;
+    @Param({"128", "768"})
+    public int dimension;
+    @Param({"L2", "COSINE"})
+    public String metric;
+
+    protected static final int K = 10;
+
+    protected List<ArrayVector> vectors;
+    protected VectorMatrix matrix;
+    protected ArrayVector query;
+    protected TopKSearcher searcher;
+    protected long[] indices;
+    protected double[] scores;
+
+    @Setup
+    public void setup() {
+        vectors = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) vectors.add(new ArrayVector(BenchmarkVectors.randomArray(dimension, index)));
+        matrix = new VectorMatrix(vectors, dimension);
+        query = new ArrayVector(BenchmarkVectors.randomArray(dimension, -1));
+        searcher = new TopKSearcher(Metric.valueOf(metric));
+        indices = new long[K];
+        scores = new double[K];
+    }
+
+    @Benchmark
+    public long[] list() {
+        searcher.search(query, vectors, K, indices, scores);
+        return indices;
+    }
+
+    @Benchmark
+    public long[] matrix() {
+        searcher.search(query, matrix, K, indices, scores);
+        return indices;
+    }
+
+    @Benchmark
+    public long[] loop() {
+        // Перебор, заменяемый поиском: расстояние до каждого вектора и вставка в упорядоченный массив.
+        double[] best = scores;
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        for (int index = 0; index < count; index++) {
+            double distance = vectors.get(index).distance(query);
+            if (distance >= best[K - 1]) continue;
+            int position = K - 1;
+            while (position > 0 && best[position - 1] > distance) {
+                best[position] = best[position - 1];
+                indices[position] = indices[position - 1];
+                position--;
+            }
+            best[position] = distance;
+            indices[position] = index;
+        }
+        return indices;
+    }
+}
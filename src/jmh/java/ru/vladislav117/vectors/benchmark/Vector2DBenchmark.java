@@ -0,0 +1,60 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк методов {@link Vector2D}, вычисляющих углы.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Vector2DBenchmark {
+    @Param({BenchmarkVectors.SAME, BenchmarkVectors.ARRAY, BenchmarkVectors.GENERIC})
+    public String operandKind;
+
+    protected Vector2D vector;
+    protected Vector operand;
+
+    @Setup
+    public void setup() {
+        vector = (Vector2D) BenchmarkVectors.fixed(Vector2D.SIZE, 1);
+        operand = BenchmarkVectors.operand(vector, operandKind, 2);
+    }
+
+    @Benchmark
+    public double angle() {
+        return vector.angle();
+    }
+
+    @Benchmark
+    public double angleDegrees() {
+        return vector.angleDegrees();
+    }
+
+    @Benchmark
+    public double angleTo() {
+        return vector.angleTo(operand);
+    }
+
+    @Benchmark
+    public double angleDegreesTo() {
+        return vector.angleDegreesTo(operand);
+    }
+}
@@ -0,0 +1,58 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.concurrent.VectorAdder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк пропускной способности прибавления к общей сумме векторов из многих потоков:
+ * {@link VectorAdder} и {@link ArrayVector} с синхронизацией. Количество потоков задаётся параметром JMH {@code -t}
+ * (по умолчанию {@link Threads#MAX}), что позволяет проверить масштабирование по ядрам.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class VectorAdderBenchmark {
+    @Param({"3", "256"})
+    public int dimension;
+
+    protected VectorAdder adder;
+    protected ArrayVector synchronizedSum;
+    protected ArrayVector summand;
+
+    @Setup
+    public void setup() {
+        adder = new VectorAdder(dimension);
+        synchronizedSum = new ArrayVector(new double[dimension]);
+        summand = new ArrayVector(BenchmarkVectors.randomArray(dimension, 1));
+    }
+
+    @Benchmark
+    public VectorAdder adder() {
+        return adder.add(summand);
+    }
+
+    @Benchmark
+    public ArrayVector synchronizedAdd() {
+        synchronized (synchronizedSum) {
+            return synchronizedSum.add(summand);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.collection.Vector3DIntMap;
+import ru.vladislav117.vectors.collection.VectorSet;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк удаления повторов из набора трёхмерных точек: назначение индексов уникальным точкам с помощью
+ * {@link HashMap} с ключами {@link Vector3D} и {@link Vector3DIntMap}, а также добавление точек в {@link VectorSet}.
+ * Примерно каждая вторая точка повторяет одну из предыдущих.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VectorCollectionBenchmark {
+    @Param({"100000", "1000000"})
+    public int count;
+
+    protected double[] points;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        int side = (int) Math.cbrt(count / 2.0) + 1;
+        points = new double[count * 3];
+        for (int index = 0; index < points.length; index++) points[index] = random.nextInt(side) * 0.1;
+    }
+
+    @Benchmark
+    public int hashMap() {
+        HashMap<Vector3D, Integer> map = new HashMap<>();
+        for (int offset = 0; offset < points.length; offset += 3) {
+            map.putIfAbsent(new Vector3D(points[offset], points[offset + 1], points[offset + 2]), map.size());
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public int intMap() {
+        Vector3DIntMap map = new Vector3DIntMap();
+        for (int offset = 0; offset < points.length; offset += 3) {
+            map.putIfAbsent(points[offset], points[offset + 1], points[offset + 2], map.getSize());
+        }
+        return map.getSize();
+    }
+
+    @Benchmark
+    public int intMapWithEpsilon() {
+        Vector3DIntMap map = new Vector3DIntMap(0, 1e-6);
+        for (int offset = 0; offset < points.length; offset += 3) {
+            map.putIfAbsent(points[offset], points[offset + 1], points[offset + 2], map.getSize());
+        }
+        return map.getSize();
+    }
+
+    @Benchmark
+    public int vectorSet() {
+        VectorSet set = new VectorSet(3);
+        for (int offset = 0; offset < points.length; offset += 3) set.add(points, offset);
+        return set.getSize();
+    }
+}
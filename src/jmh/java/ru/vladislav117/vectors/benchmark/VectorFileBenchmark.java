@@ -0,0 +1,96 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.store.MappedVectorStore;
+import ru.vladislav117.vectors.store.VectorFile;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение загрузки векторов разбором текстового файла с отображением файла {@link VectorFile} в память.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorFileBenchmark {
+    @Param({"100000"})
+    public int count;
+    @Param({"128"})
+    public int dimension;
+
+    protected Path binary;
+    protected Path text;
+
+    @Setup
+    public void setup() throws IOException {
+        VectorMatrix matrix = new VectorMatrix(count, dimension);
+        binary = Files.createTempFile("vectors", ".vecs");
+        text = Files.createTempFile("vectors", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(text)) {
+            for (int row = 0; row < count; row++) {
+                double[] values = BenchmarkVectors.randomArray(dimension, row);
+                matrix.copyFrom(row, values, 0);
+                for (int axis = 0; axis < dimension; axis++) {
+                    if (axis > 0) writer.write(' ');
+                    writer.write(Double.toString(values[axis]));
+                }
+                writer.newLine();
+            }
+        }
+        VectorFile.write(binary, matrix);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binary);
+        Files.deleteIfExists(text);
+    }
+
+    @Benchmark
+    public List<ArrayVector> parseText() throws IOException {
+        List<ArrayVector> vectors = new ArrayList<>(count);
+        try (BufferedReader reader = Files.newBufferedReader(text)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                double[] values = new double[parts.length];
+                for (int axis = 0; axis < parts.length; axis++) values[axis] = Double.parseDouble(parts[axis]);
+                vectors.add(new ArrayVector(values));
+            }
+        }
+        return vectors;
+    }
+
+    @Benchmark
+    public MappedVectorStore map() throws IOException {
+        return MappedVectorStore.open(binary);
+    }
+
+    @Benchmark
+    public MappedVectorStore mapVerified() throws IOException {
+        return MappedVectorStore.open(binary).verify();
+    }
+}
@@ -0,0 +1,60 @@
+package ru.vladislav117.vectors.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vladislav117.vectors.Vector;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк использования векторов фиксированного размера в качестве ключей хеш-таблицы:
+ * удаление повторов из набора векторов с помощью {@link HashSet}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VectorHashBenchmark {
+    @Param({"2", "3", "5"})
+    public int dimension;
+    @Param({"4096"})
+    public int count;
+
+    protected Vector[] vectors;
+
+    @Setup
+    public void setup() {
+        Vector[] distinct = new Vector[count / 4];
+        for (int index = 0; index < distinct.length; index++) distinct[index] = BenchmarkVectors.fixed(dimension, index);
+        Random random = new Random(1);
+        vectors = new Vector[count];
+        for (int index = 0; index < count; index++) vectors[index] = distinct[random.nextInt(distinct.length)].clone();
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        int result = 0;
+        for (Vector vector : vectors) result += vector.hashCode();
+        return result;
+    }
+
+    @Benchmark
+    public int deduplicate() {
+        HashSet<Vector> unique = new HashSet<>();
+        for (Vector vector : vectors) unique.add(vector);
+        return unique.size();
+    }
+}
@@ -1,18 +1,40 @@
 package ru.vladislav117.vectors;
 
 import ru.vladislav117.vectors.error.VectorIndexError;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
- * Вектор-массив. Имеет такую размерность, которая равна длине массива.
+ * Вектор-массив. Имеет такую размерность, которая равна длине массива (или длине отрезка массива).
+ * <p>
+ * Операции между векторами-массивами и операции над всеми значениями вектора выполняются ядрами
+ * {@link DoubleArrayKernels}, которые могут использовать Vector API.
+ * </p>
+ * <p>
+ * Вектор, созданный методом {@link #wrap(double[], int, int)}, является представлением отрезка чужого массива:
+ * он не копирует значения, а читает и изменяет их прямо в массиве. Изменения массива видны через вектор,
+ * изменения вектора видны в массиве и во всех других представлениях того же отрезка.
+ * Результат операций между представлениями частично пересекающихся отрезков не определён.
+ * Самостоятельную копию возвращает {@link #clone()}, а также методы, создающие новый вектор
+ * ({@link #toNormalized()}, {@link #vectorTo(Vector)}, {@link #directionTo(Vector)}).
+ * </p>
  */
 public class ArrayVector implements Vector {
     /**
      * Массив значений осей.
      */
     protected double[] array;
+    /**
+     * Индекс значения по оси 0 в массиве.
+     */
+    protected int offset;
+    /**
+     * Размер вектора.
+     */
+    protected int size;
 
     /**
      * Создание вектора-массива. Массив значений осей будет скопирован.
@@ -22,6 +44,7 @@ public class ArrayVector implements Vector {
     public ArrayVector(double[] array) {
         this.array = new double[array.length];
         System.arraycopy(array, 0, this.array, 0, array.length);
+        size = array.length;
     }
 
     /**
@@ -32,14 +55,80 @@ public class ArrayVector implements Vector {
     public ArrayVector(int size) {
         array = new double[size];
         Arrays.fill(array, 0);
+        this.size = size;
+    }
+
+    /**
+     * Создание вектора-массива над отрезком массива без копирования.
+     *
+     * @param array  Массив значений осей
+     * @param offset Индекс значения по оси 0 в массиве
+     * @param size   Размер вектора
+     */
+    protected ArrayVector(double[] array, int offset, int size) {
+        Objects.checkFromIndexSize(offset, size, array.length);
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Создание вектора-массива над всем массивом без копирования.
+     * Вектор и массив разделяют значения: изменения одного видны в другом.
+     *
+     * @param data Массив значений осей
+     * @return Вектор-массив, использующий массив data.
+     */
+    public static ArrayVector wrap(double[] data) {
+        return new ArrayVector(data, 0, data.length);
+    }
+
+    /**
+     * Создание вектора-массива над отрезком массива без копирования.
+     * Вектор и массив разделяют значения: изменения одного видны в другом.
+     * Например, строка row матрицы, хранящейся в массиве по строкам, — {@code wrap(data, row * columns, columns)}.
+     *
+     * @param data   Массив значений осей
+     * @param offset Индекс значения по оси 0 в массиве
+     * @param length Размер вектора
+     * @return Вектор-массив, использующий отрезок массива data.
+     * @throws IndexOutOfBoundsException Если отрезок выходит за пределы массива
+     */
+    public static ArrayVector wrap(double[] data, int offset, int length) {
+        return new ArrayVector(data, offset, length);
+    }
+
+    /**
+     * Создание вектора над значениями массива, расположенными с постоянным шагом, без копирования.
+     * Например, столбец column матрицы, хранящейся в массиве по строкам, — {@code wrap(data, column, rows, columns)}.
+     *
+     * @param data   Массив значений осей
+     * @param offset Индекс значения по оси 0 в массиве
+     * @param length Размер вектора
+     * @param stride Шаг между значениями соседних осей в массиве
+     * @return Вектор, использующий значения массива data.
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     */
+    public static StridedArrayVector wrap(double[] data, int offset, int length, int stride) {
+        return new StridedArrayVector(data, offset, length, stride);
+    }
+
+    /**
+     * Проверка, является ли вектор представлением того же отрезка того же массива.
+     *
+     * @param other Другой вектор-массив
+     * @return Используют ли векторы одни и те же значения.
+     */
+    protected boolean sharesValues(ArrayVector other) {
+        return array == other.array && offset == other.offset;
     }
 
     @Override
     public ArrayVector clone() {
         try {
             ArrayVector cloned = (ArrayVector) super.clone();
-            cloned.array = new double[array.length];
-            System.arraycopy(array, 0, cloned.array, 0, array.length);
+            cloned.array = Arrays.copyOfRange(array, offset, offset + size);
+            cloned.offset = 0;
             return cloned;
         } catch (CloneNotSupportedException exception) {
             throw new RuntimeException(exception);
@@ -48,30 +137,30 @@ public class ArrayVector implements Vector {
 
     @Override
     public int getSize() {
-        return array.length;
+        return size;
     }
 
     @Override
     public boolean containsIndex(int index) {
-        return 0 <= index && index < array.length;
+        return 0 <= index && index < size;
     }
 
     @Override
     public double getIndex(int index) {
-        if (0 <= index && index < array.length) return array[index];
+        if (0 <= index && index < size) return array[offset + index];
         throw new VectorIndexError(index);
     }
 
     @Override
     public double getIndexOrZero(int index) {
-        if (0 <= index && index < array.length) return array[index];
+        if (0 <= index && index < size) return array[offset + index];
         return 0;
     }
 
     @Override
     public ArrayVector setIndex(int index, double value) {
-        if (0 <= index && index < array.length) {
-            array[index] = value;
+        if (0 <= index && index < size) {
+            array[offset + index] = value;
             return this;
         }
         throw new VectorIndexError(index);
@@ -79,8 +168,8 @@ public class ArrayVector implements Vector {
 
     @Override
     public ArrayVector addIndex(int index, double summand) {
-        if (0 <= index && index < array.length) {
-            array[index] += summand;
+        if (0 <= index && index < size) {
+            array[offset + index] += summand;
             return this;
         }
         throw new VectorIndexError(index);
@@ -88,8 +177,8 @@ public class ArrayVector implements Vector {
 
     @Override
     public ArrayVector subtractIndex(int index, double subtrahend) {
-        if (0 <= index && index < array.length) {
-            array[index] -= subtrahend;
+        if (0 <= index && index < size) {
+            array[offset + index] -= subtrahend;
             return this;
         }
         throw new VectorIndexError(index);
@@ -97,8 +186,8 @@ public class ArrayVector implements Vector {
 
     @Override
     public ArrayVector multipleIndex(int index, double multiplier) {
-        if (0 <= index && index < array.length) {
-            array[index] *= multiplier;
+        if (0 <= index && index < size) {
+            array[offset + index] *= multiplier;
             return this;
         }
         throw new VectorIndexError(index);
@@ -106,8 +195,8 @@ public class ArrayVector implements Vector {
 
     @Override
     public ArrayVector divideIndex(int index, double divisor) {
-        if (0 <= index && index < array.length) {
-            array[index] /= divisor;
+        if (0 <= index && index < size) {
+            array[offset + index] /= divisor;
             return this;
         }
         throw new VectorIndexError(index);
@@ -115,105 +204,292 @@ public class ArrayVector implements Vector {
 
     @Override
     public ArrayVector set(Vector vector) {
-        for (int axis = 0; axis < array.length; axis++) {
-            if (vector.containsIndex(axis)) array[axis] = vector.getIndex(axis);
+        if (vector instanceof ArrayVector vectorArray) {
+            System.arraycopy(vectorArray.array, vectorArray.offset, array, offset, Math.min(size, vectorArray.size));
+            return this;
+        }
+        if (vector instanceof FloatArrayVector vectorArray) {
+            int commonLength = Math.min(size, vectorArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) array[offset + axis] = vectorArray.array[axis];
+            return this;
+        }
+        if (vector instanceof SparseVector sparse) {
+            int commonLength = Math.min(size, sparse.size);
+            Arrays.fill(array, offset, offset + commonLength, 0);
+            for (int position = 0; position < sparse.count && sparse.indices[position] < commonLength; position++) {
+                array[offset + sparse.indices[position]] = sparse.values[position];
+            }
+            return this;
         }
+        if (vector.getSize() <= size) {
+            vector.copyTo(array, offset);
+            return this;
+        }
+        System.arraycopy(VectorScratch.copyPrefix(vector, size), 0, array, offset, size);
         return this;
     }
 
     @Override
     public ArrayVector add(Vector summand) {
-        for (int axis = 0; axis < array.length; axis++) {
-            array[axis] += summand.getIndexOrZero(axis);
+        if (summand instanceof ArrayVector summandArray) {
+            DoubleArrayKernels.get().add(array, offset, summandArray.array, summandArray.offset, Math.min(size, summandArray.size));
+            return this;
+        }
+        if (summand instanceof FloatArrayVector summandArray) {
+            int commonLength = Math.min(size, summandArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) array[offset + axis] += summandArray.array[axis];
+            return this;
+        }
+        if (summand instanceof SparseVector sparse) {
+            for (int position = 0; position < sparse.count && sparse.indices[position] < size; position++) {
+                array[offset + sparse.indices[position]] += sparse.values[position];
+            }
+            return this;
         }
+        DoubleArrayKernels.get().add(array, offset, VectorScratch.copyPrefix(summand, size), 0, size);
         return this;
     }
 
     @Override
     public ArrayVector subtract(Vector subtrahend) {
-        for (int axis = 0; axis < array.length; axis++) {
-            array[axis] -= subtrahend.getIndexOrZero(axis);
+        if (subtrahend instanceof ArrayVector subtrahendArray) {
+            DoubleArrayKernels.get().subtract(array, offset, subtrahendArray.array, subtrahendArray.offset, Math.min(size, subtrahendArray.size));
+            return this;
+        }
+        if (subtrahend instanceof FloatArrayVector subtrahendArray) {
+            int commonLength = Math.min(size, subtrahendArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) array[offset + axis] -= subtrahendArray.array[axis];
+            return this;
         }
+        if (subtrahend instanceof SparseVector sparse) {
+            for (int position = 0; position < sparse.count && sparse.indices[position] < size; position++) {
+                array[offset + sparse.indices[position]] -= sparse.values[position];
+            }
+            return this;
+        }
+        DoubleArrayKernels.get().subtract(array, offset, VectorScratch.copyPrefix(subtrahend, size), 0, size);
         return this;
     }
 
     @Override
     public ArrayVector multiple(double multiplier) {
-        for (int axis = 0; axis < array.length; axis++) {
-            array[axis] *= multiplier;
-        }
+        DoubleArrayKernels.get().multiple(array, offset, size, multiplier);
         return this;
     }
 
     @Override
     public ArrayVector divide(double divisor) {
-        for (int axis = 0; axis < array.length; axis++) {
-            array[axis] /= divisor;
-        }
+        DoubleArrayKernels.get().divide(array, offset, size, divisor);
         return this;
     }
 
     @Override
     public double length() {
-        double sumOfSquares = 0;
-        for (double axisValue : array) sumOfSquares += axisValue * axisValue;
-        return Math.sqrt(sumOfSquares);
+        return Math.sqrt(lengthSquared());
+    }
+
+    @Override
+    public double lengthSquared() {
+        return DoubleArrayKernels.get().sumOfSquares(array, offset, size);
     }
 
     @Override
     public double distance(Vector vector) {
-        double sumOfSquaresOfDifferences = 0;
-        for (int axis = 0; axis < array.length; axis++) {
-            sumOfSquaresOfDifferences += (array[axis] - vector.getIndexOrZero(axis)) * (array[axis] - vector.getIndexOrZero(axis));
+        return Math.sqrt(distanceSquared(vector));
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof ArrayVector vectorArray) {
+            DoubleArrayKernels kernels = DoubleArrayKernels.get();
+            int commonLength = Math.min(size, vectorArray.size);
+            double sumOfSquaresOfDifferences = kernels.sumOfSquaresOfDifferences(array, offset, vectorArray.array, vectorArray.offset, commonLength);
+            return sumOfSquaresOfDifferences + kernels.sumOfSquares(array, offset + commonLength, size - commonLength);
+        }
+        if (vector instanceof FloatArrayVector vectorArray) {
+            int commonLength = Math.min(size, vectorArray.array.length);
+            double sumOfSquaresOfDifferences = DoubleArrayKernels.get().sumOfSquares(array, offset + commonLength, size - commonLength);
+            for (int axis = 0; axis < commonLength; axis++) {
+                double difference = array[offset + axis] - vectorArray.array[axis];
+                sumOfSquaresOfDifferences += difference * difference;
+            }
+            return sumOfSquaresOfDifferences;
         }
-        return Math.sqrt(sumOfSquaresOfDifferences);
+        if (vector instanceof SparseVector sparse) {
+            return sparse.sumOfSquaresOfDifferences(array, offset, size);
+        }
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        return DoubleArrayKernels.get().sumOfSquaresOfDifferences(array, offset, values, 0, size);
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof ArrayVector vectorArray) {
+            return DoubleArrayKernels.get().dot(array, offset, vectorArray.array, vectorArray.offset, Math.min(size, vectorArray.size));
+        }
+        if (vector instanceof FloatArrayVector vectorArray) {
+            int commonLength = Math.min(size, vectorArray.array.length);
+            double dot = 0;
+            for (int axis = 0; axis < commonLength; axis++) dot += array[offset + axis] * vectorArray.array[axis];
+            return dot;
+        }
+        if (vector instanceof SparseVector sparse) {
+            return sparse.dot(array, offset, size);
+        }
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        return DoubleArrayKernels.get().dot(array, offset, values, 0, size);
     }
 
     @Override
     public ArrayVector normalize() {
-        double length = length();
-        for (int axis = 0; axis < array.length; axis++) array[axis] = array[axis] / length;
-        return this;
+        return divide(length());
     }
 
     @Override
     public ArrayVector toNormalized() {
+        return clone().normalize();
+    }
+
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public ArrayVector toNormalized(ArrayVector destination) {
+        checkDestination(destination);
         double length = length();
-        double[] normalizedArray = new double[array.length];
-        for (int axis = 0; axis < array.length; axis++) normalizedArray[axis] = array[axis] / length;
-        return new ArrayVector(normalizedArray);
+        if (!sharesValues(destination)) System.arraycopy(array, offset, destination.array, destination.offset, size);
+        DoubleArrayKernels.get().divide(destination.array, destination.offset, size, length);
+        return destination;
     }
 
     @Override
     public ArrayVector vectorTo(Vector vector) {
-        ArrayVector vectorTo = new ArrayVector(array.length);
-        for (int axis = 0; axis < array.length; axis++) {
-            vectorTo.array[axis] = vector.getIndexOrZero(axis) - array[axis];
+        return vectorTo(vector, new ArrayVector(size));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public ArrayVector vectorTo(Vector vector, ArrayVector destination) {
+        checkDestination(destination);
+        if (vector instanceof ArrayVector vectorArray && !sharesValues(destination)) {
+            int commonLength = Math.min(size, vectorArray.size);
+            System.arraycopy(vectorArray.array, vectorArray.offset, destination.array, destination.offset, commonLength);
+            Arrays.fill(destination.array, destination.offset + commonLength, destination.offset + size, 0);
+            DoubleArrayKernels.get().subtract(destination.array, destination.offset, array, offset, size);
+            return destination;
+        }
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        for (int axis = 0; axis < size; axis++) {
+            destination.array[destination.offset + axis] = values[axis] - array[offset + axis];
         }
-        return vectorTo;
+        return destination;
     }
 
     @Override
     public ArrayVector directionTo(Vector vector) {
-        ArrayVector vectorTo = new ArrayVector(array.length);
-        for (int axis = 0; axis < array.length; axis++) {
-            vectorTo.array[axis] = vector.getIndexOrZero(axis) - array[axis];
+        return vectorTo(vector).normalize();
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public ArrayVector directionTo(Vector vector, ArrayVector destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    /**
+     * Проверка того, что вектор для записи результата имеет такой же размер, как этот вектор.
+     *
+     * @param destination Вектор для записи результата
+     * @throws IllegalArgumentException Если размеры векторов различаются
+     */
+    protected void checkDestination(ArrayVector destination) {
+        if (destination.size != size) {
+            throw new IllegalArgumentException("Destination size " + destination.size + " does not match vector size " + size);
+        }
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        System.arraycopy(array, this.offset, destination, offset, size);
+        return destination;
+    }
+
+    @Override
+    public ArrayVector copyFrom(double[] source, int offset) {
+        System.arraycopy(source, offset, array, this.offset, size);
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        type.checkWrite(buffer, size);
+        if (type == ValueType.FLOAT) {
+            for (int index = offset; index < offset + size; index++) buffer.putFloat((float) array[index]);
+        } else {
+            for (int index = offset; index < offset + size; index++) buffer.putDouble(array[index]);
         }
-        return vectorTo.normalize();
+        return buffer;
+    }
+
+    @Override
+    public ArrayVector readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    @Override
+    public ArrayVector readFrom(ByteBuffer buffer, ValueType type) {
+        type.checkRead(buffer, size);
+        if (type == ValueType.FLOAT) {
+            for (int index = offset; index < offset + size; index++) array[index] = buffer.getFloat();
+        } else {
+            for (int index = offset; index < offset + size; index++) array[index] = buffer.getDouble();
+        }
+        return this;
     }
 
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Vector vector)) return false;
-        for (int axis = 0; axis < array.length; axis++) {
-            if (!vector.containsIndex(axis)) return false;
-            if (vector.getIndex(axis) != array[axis]) return false;
+        if (vector.getSize() < size) return false;
+        double[] values;
+        int valuesOffset;
+        if (vector instanceof ArrayVector vectorArray) {
+            values = vectorArray.array;
+            valuesOffset = vectorArray.offset;
+        } else {
+            values = VectorScratch.copyPrefix(vector, size);
+            valuesOffset = 0;
+        }
+        for (int axis = 0; axis < size; axis++) {
+            if (values[valuesOffset + axis] != array[offset + axis]) return false;
         }
         return true;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(array);
+        int result = 1;
+        for (int axis = 0; axis < size; axis++) result = 31 * result + Double.hashCode(array[offset + axis] + 0.0);
+        return result;
     }
 }
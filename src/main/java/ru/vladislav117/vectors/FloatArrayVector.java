@@ -0,0 +1,392 @@
+package ru.vladislav117.vectors;
+
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Вектор-массив, хранящий значения в типе float. Имеет такую размерность, которая равна длине массива.
+ * <p>
+ * Занимает вдвое меньше памяти, чем {@link ArrayVector}. Суммы при вычислении длины и расстояния накапливаются в типе double.
+ * Операции с векторами-массивами обоих типов выполняются циклами по массивам без обращения к значениям по индексу.
+ * </p>
+ */
+public class FloatArrayVector implements Vector {
+    /**
+     * Массив значений осей.
+     */
+    protected float[] array;
+
+    /**
+     * Создание вектора-массива. Массив значений осей будет скопирован.
+     *
+     * @param array Массив значений осей
+     */
+    public FloatArrayVector(float[] array) {
+        this.array = Arrays.copyOf(array, array.length);
+    }
+
+    /**
+     * Создание вектора-массива с нулевыми значениями осей.
+     *
+     * @param size Размер вектора
+     */
+    public FloatArrayVector(int size) {
+        array = new float[size];
+    }
+
+    /**
+     * Создание вектора-массива на основе другого вектора. Значения округляются до float.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     */
+    public FloatArrayVector(Vector vector) {
+        this(vector.getSize());
+        set(vector);
+    }
+
+    @Override
+    public FloatArrayVector clone() {
+        try {
+            FloatArrayVector cloned = (FloatArrayVector) super.clone();
+            cloned.array = Arrays.copyOf(array, array.length);
+            return cloned;
+        } catch (CloneNotSupportedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return array.length;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < array.length;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (0 <= index && index < array.length) return array[index];
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        if (0 <= index && index < array.length) return array[index];
+        return 0;
+    }
+
+    @Override
+    public FloatArrayVector setIndex(int index, double value) {
+        if (0 <= index && index < array.length) {
+            array[index] = (float) value;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public FloatArrayVector addIndex(int index, double summand) {
+        if (0 <= index && index < array.length) {
+            array[index] += summand;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public FloatArrayVector subtractIndex(int index, double subtrahend) {
+        if (0 <= index && index < array.length) {
+            array[index] -= subtrahend;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public FloatArrayVector multipleIndex(int index, double multiplier) {
+        if (0 <= index && index < array.length) {
+            array[index] *= multiplier;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public FloatArrayVector divideIndex(int index, double divisor) {
+        if (0 <= index && index < array.length) {
+            array[index] /= divisor;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public FloatArrayVector set(Vector vector) {
+        if (vector instanceof FloatArrayVector vectorArray) {
+            System.arraycopy(vectorArray.array, 0, array, 0, Math.min(array.length, vectorArray.array.length));
+            return this;
+        }
+        if (vector instanceof ArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.size);
+            for (int axis = 0; axis < commonLength; axis++) array[axis] = (float) vectorArray.array[vectorArray.offset + axis];
+            return this;
+        }
+        int commonLength = Math.min(array.length, vector.getSize());
+        double[] values = VectorScratch.copyPrefix(vector, commonLength);
+        for (int axis = 0; axis < commonLength; axis++) array[axis] = (float) values[axis];
+        return this;
+    }
+
+    @Override
+    public FloatArrayVector add(Vector summand) {
+        if (summand instanceof FloatArrayVector summandArray) {
+            int commonLength = Math.min(array.length, summandArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) array[axis] += summandArray.array[axis];
+            return this;
+        }
+        if (summand instanceof ArrayVector summandArray) {
+            int commonLength = Math.min(array.length, summandArray.size);
+            for (int axis = 0; axis < commonLength; axis++) array[axis] += summandArray.array[summandArray.offset + axis];
+            return this;
+        }
+        double[] values = VectorScratch.copyPrefix(summand, array.length);
+        for (int axis = 0; axis < array.length; axis++) array[axis] += values[axis];
+        return this;
+    }
+
+    @Override
+    public FloatArrayVector subtract(Vector subtrahend) {
+        if (subtrahend instanceof FloatArrayVector subtrahendArray) {
+            int commonLength = Math.min(array.length, subtrahendArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) array[axis] -= subtrahendArray.array[axis];
+            return this;
+        }
+        if (subtrahend instanceof ArrayVector subtrahendArray) {
+            int commonLength = Math.min(array.length, subtrahendArray.size);
+            for (int axis = 0; axis < commonLength; axis++) array[axis] -= subtrahendArray.array[subtrahendArray.offset + axis];
+            return this;
+        }
+        double[] values = VectorScratch.copyPrefix(subtrahend, array.length);
+        for (int axis = 0; axis < array.length; axis++) array[axis] -= values[axis];
+        return this;
+    }
+
+    @Override
+    public FloatArrayVector multiple(double multiplier) {
+        for (int axis = 0; axis < array.length; axis++) array[axis] *= multiplier;
+        return this;
+    }
+
+    @Override
+    public FloatArrayVector divide(double divisor) {
+        for (int axis = 0; axis < array.length; axis++) array[axis] /= divisor;
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    @Override
+    public double lengthSquared() {
+        return sumOfSquares(0);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        return Math.sqrt(distanceSquared(vector));
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        double sumOfSquaresOfDifferences = 0;
+        if (vector instanceof FloatArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) {
+                double difference = (double) array[axis] - vectorArray.array[axis];
+                sumOfSquaresOfDifferences += difference * difference;
+            }
+            return sumOfSquaresOfDifferences + sumOfSquares(commonLength);
+        }
+        if (vector instanceof ArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.size);
+            for (int axis = 0; axis < commonLength; axis++) {
+                double difference = array[axis] - vectorArray.array[vectorArray.offset + axis];
+                sumOfSquaresOfDifferences += difference * difference;
+            }
+            return sumOfSquaresOfDifferences + sumOfSquares(commonLength);
+        }
+        double[] values = VectorScratch.copyPrefix(vector, array.length);
+        for (int axis = 0; axis < array.length; axis++) {
+            double difference = array[axis] - values[axis];
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        double dot = 0;
+        if (vector instanceof FloatArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) dot += (double) array[axis] * vectorArray.array[axis];
+            return dot;
+        }
+        if (vector instanceof ArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.size);
+            for (int axis = 0; axis < commonLength; axis++) dot += array[axis] * vectorArray.array[vectorArray.offset + axis];
+            return dot;
+        }
+        double[] values = VectorScratch.copyPrefix(vector, array.length);
+        for (int axis = 0; axis < array.length; axis++) dot += array[axis] * values[axis];
+        return dot;
+    }
+
+    /**
+     * Вычисление суммы квадратов значений, начиная с индекса.
+     *
+     * @param from Индекс первого значения
+     * @return Сумма квадратов значений.
+     */
+    protected double sumOfSquares(int from) {
+        double sumOfSquares = 0;
+        for (int axis = from; axis < array.length; axis++) sumOfSquares += (double) array[axis] * array[axis];
+        return sumOfSquares;
+    }
+
+    @Override
+    public FloatArrayVector normalize() {
+        return divide(length());
+    }
+
+    @Override
+    public FloatArrayVector toNormalized() {
+        return clone().normalize();
+    }
+
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public FloatArrayVector toNormalized(FloatArrayVector destination) {
+        checkDestination(destination);
+        double length = length();
+        for (int axis = 0; axis < array.length; axis++) destination.array[axis] = (float) (array[axis] / length);
+        return destination;
+    }
+
+    @Override
+    public FloatArrayVector vectorTo(Vector vector) {
+        return vectorTo(vector, new FloatArrayVector(array.length));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public FloatArrayVector vectorTo(Vector vector, FloatArrayVector destination) {
+        checkDestination(destination);
+        if (vector instanceof FloatArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.array.length);
+            for (int axis = 0; axis < commonLength; axis++) destination.array[axis] = vectorArray.array[axis] - array[axis];
+            for (int axis = commonLength; axis < array.length; axis++) destination.array[axis] = -array[axis];
+            return destination;
+        }
+        if (vector instanceof ArrayVector vectorArray) {
+            int commonLength = Math.min(array.length, vectorArray.size);
+            for (int axis = 0; axis < commonLength; axis++) destination.array[axis] = (float) (vectorArray.array[vectorArray.offset + axis] - array[axis]);
+            for (int axis = commonLength; axis < array.length; axis++) destination.array[axis] = -array[axis];
+            return destination;
+        }
+        double[] values = VectorScratch.copyPrefix(vector, array.length);
+        for (int axis = 0; axis < array.length; axis++) {
+            destination.array[axis] = (float) (values[axis] - array[axis]);
+        }
+        return destination;
+    }
+
+    @Override
+    public FloatArrayVector directionTo(Vector vector) {
+        return vectorTo(vector).normalize();
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public FloatArrayVector directionTo(Vector vector, FloatArrayVector destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    /**
+     * Проверка того, что вектор для записи результата имеет такой же размер, как этот вектор.
+     *
+     * @param destination Вектор для записи результата
+     * @throws IllegalArgumentException Если размеры векторов различаются
+     */
+    protected void checkDestination(FloatArrayVector destination) {
+        if (destination.array.length != array.length) {
+            throw new IllegalArgumentException("Destination size " + destination.array.length + " does not match vector size " + array.length);
+        }
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, array.length, destination.length);
+        for (int axis = 0; axis < array.length; axis++) destination[offset + axis] = array[axis];
+        return destination;
+    }
+
+    @Override
+    public FloatArrayVector copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, array.length, source.length);
+        for (int axis = 0; axis < array.length; axis++) array[axis] = (float) source[offset + axis];
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        if (vector.getSize() < array.length) return false;
+        if (vector instanceof FloatArrayVector vectorArray) {
+            for (int axis = 0; axis < array.length; axis++) {
+                if (vectorArray.array[axis] != array[axis]) return false;
+            }
+            return true;
+        }
+        double[] values = VectorScratch.copyPrefix(vector, array.length);
+        for (int axis = 0; axis < array.length; axis++) {
+            if (values[axis] != array[axis]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Хеш совпадает с хешем вектора-массива с теми же значениями.
+        int result = 1;
+        for (float value : array) result = 31 * result + Double.hashCode(value + 0.0);
+        return result;
+    }
+}
@@ -0,0 +1,646 @@
+package ru.vladislav117.vectors;
+
+import ru.vladislav117.vectors.error.VectorIndexError;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Разреженный вектор. Хранит только ненулевые значения: отсортированный массив индексов и массив значений.
+ * <p>
+ * Подходит для векторов большой размерности, у которых ненулевых значений мало.
+ * Операции между разреженными векторами выполняются слиянием массивов индексов,
+ * операции с векторами-массивами проходят только по ненулевым значениям разреженного вектора.
+ * Значения, ставшие равными нулю, удаляются. Отсутствующие значения всегда равны нулю,
+ * поэтому умножение и деление всех значений на бесконечность или NaN их не изменяет.
+ * </p>
+ */
+public class SparseVector implements Vector {
+    /**
+     * Размер вектора.
+     */
+    protected final int size;
+    /**
+     * Отсортированные по возрастанию индексы ненулевых значений.
+     */
+    protected int[] indices;
+    /**
+     * Ненулевые значения.
+     */
+    protected double[] values;
+    /**
+     * Количество ненулевых значений.
+     */
+    protected int count;
+
+    /**
+     * Создание разреженного вектора с нулевыми значениями.
+     *
+     * @param size Размер вектора
+     */
+    public SparseVector(int size) {
+        if (size < 0) throw new IllegalArgumentException("Size must not be negative: " + size);
+        this.size = size;
+        indices = new int[4];
+        values = new double[4];
+    }
+
+    /**
+     * Создание разреженного вектора. Массивы будут скопированы, нулевые значения пропущены.
+     *
+     * @param size    Размер вектора
+     * @param indices Строго возрастающие индексы значений
+     * @param values  Значения
+     */
+    public SparseVector(int size, int[] indices, double[] values) {
+        this(size);
+        if (indices.length != values.length) throw new IllegalArgumentException("Indices and values lengths differ");
+        ensureCapacity(indices.length);
+        for (int position = 0; position < indices.length; position++) {
+            int index = indices[position];
+            if (index < 0 || index >= size) throw new VectorIndexError(index);
+            if (position > 0 && index <= indices[position - 1]) throw new IllegalArgumentException("Indices must be strictly increasing");
+            if (values[position] == 0) continue;
+            this.indices[count] = index;
+            this.values[count] = values[position];
+            count++;
+        }
+    }
+
+    /**
+     * Создание разреженного вектора на основе другого вектора.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     */
+    public SparseVector(Vector vector) {
+        this(vector.getSize());
+        set(vector);
+    }
+
+    @Override
+    public SparseVector clone() {
+        try {
+            SparseVector cloned = (SparseVector) super.clone();
+            cloned.indices = Arrays.copyOf(indices, Math.max(count, 1));
+            cloned.values = Arrays.copyOf(values, Math.max(count, 1));
+            return cloned;
+        } catch (CloneNotSupportedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение количества ненулевых значений.
+     *
+     * @return Количество ненулевых значений.
+     */
+    public int getNonZeroCount() {
+        return count;
+    }
+
+    /**
+     * Получение индекса ненулевого значения.
+     *
+     * @param position Номер ненулевого значения (от 0 до {@link #getNonZeroCount()})
+     * @return Индекс значения в векторе.
+     */
+    public int getNonZeroIndex(int position) {
+        return indices[Objects.checkIndex(position, count)];
+    }
+
+    /**
+     * Получение ненулевого значения.
+     *
+     * @param position Номер ненулевого значения (от 0 до {@link #getNonZeroCount()})
+     * @return Значение.
+     */
+    public double getNonZeroValue(int position) {
+        return values[Objects.checkIndex(position, count)];
+    }
+
+    /**
+     * Обнуление всех значений.
+     *
+     * @return Этот же вектор.
+     */
+    public SparseVector clear() {
+        count = 0;
+        return this;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < size;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (index < 0 || index >= size) throw new VectorIndexError(index);
+        int position = Arrays.binarySearch(indices, 0, count, index);
+        return position >= 0 ? values[position] : 0;
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        if (index < 0 || index >= size) return 0;
+        int position = Arrays.binarySearch(indices, 0, count, index);
+        return position >= 0 ? values[position] : 0;
+    }
+
+    @Override
+    public SparseVector setIndex(int index, double value) {
+        if (index < 0 || index >= size) throw new VectorIndexError(index);
+        int position = Arrays.binarySearch(indices, 0, count, index);
+        if (position >= 0) {
+            if (value != 0) {
+                values[position] = value;
+                return this;
+            }
+            System.arraycopy(indices, position + 1, indices, position, count - position - 1);
+            System.arraycopy(values, position + 1, values, position, count - position - 1);
+            count--;
+            return this;
+        }
+        if (value == 0) return this;
+        position = -position - 1;
+        ensureCapacity(count + 1);
+        System.arraycopy(indices, position, indices, position + 1, count - position);
+        System.arraycopy(values, position, values, position + 1, count - position);
+        indices[position] = index;
+        values[position] = value;
+        count++;
+        return this;
+    }
+
+    @Override
+    public SparseVector addIndex(int index, double summand) {
+        return setIndex(index, getIndex(index) + summand);
+    }
+
+    @Override
+    public SparseVector subtractIndex(int index, double subtrahend) {
+        return setIndex(index, getIndex(index) - subtrahend);
+    }
+
+    @Override
+    public SparseVector multipleIndex(int index, double multiplier) {
+        return setIndex(index, getIndex(index) * multiplier);
+    }
+
+    @Override
+    public SparseVector divideIndex(int index, double divisor) {
+        return setIndex(index, getIndex(index) / divisor);
+    }
+
+    @Override
+    public SparseVector set(Vector vector) {
+        if (vector == this) return this;
+        if (vector instanceof SparseVector sparse) {
+            int limit = Math.min(size, sparse.size);
+            int sourceCount = lowerBound(sparse.indices, sparse.count, limit);
+            replaceHead(limit, sourceCount);
+            System.arraycopy(sparse.indices, 0, indices, 0, sourceCount);
+            System.arraycopy(sparse.values, 0, values, 0, sourceCount);
+            return this;
+        }
+        if (vector instanceof ArrayVector vectorArray) {
+            return setDense(vectorArray.array, vectorArray.offset, Math.min(size, vectorArray.size));
+        }
+        int limit = Math.min(size, vector.getSize());
+        return setDense(VectorScratch.copyPrefix(vector, limit), 0, limit);
+    }
+
+    /**
+     * Установка значений с индексами меньше limit из плотного массива.
+     *
+     * @param array  Плотный массив значений
+     * @param offset Позиция значения с индексом 0 в массиве
+     * @param limit  Количество устанавливаемых значений
+     * @return Этот же вектор.
+     */
+    protected SparseVector setDense(double[] array, int offset, int limit) {
+        int sourceCount = 0;
+        for (int axis = 0; axis < limit; axis++) {
+            if (array[offset + axis] != 0) sourceCount++;
+        }
+        replaceHead(limit, sourceCount);
+        int position = 0;
+        for (int axis = 0; axis < limit; axis++) {
+            if (array[offset + axis] == 0) continue;
+            indices[position] = axis;
+            values[position] = array[offset + axis];
+            position++;
+        }
+        return this;
+    }
+
+    @Override
+    public SparseVector add(Vector summand) {
+        return merge(summand, 1);
+    }
+
+    @Override
+    public SparseVector subtract(Vector subtrahend) {
+        return merge(subtrahend, -1);
+    }
+
+    @Override
+    public SparseVector multiple(double multiplier) {
+        for (int position = 0; position < count; position++) values[position] *= multiplier;
+        removeZeros();
+        return this;
+    }
+
+    @Override
+    public SparseVector divide(double divisor) {
+        for (int position = 0; position < count; position++) values[position] /= divisor;
+        removeZeros();
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    @Override
+    public double lengthSquared() {
+        return DoubleArrayKernels.get().sumOfSquares(values, 0, count);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        return Math.sqrt(distanceSquared(vector));
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof SparseVector sparse) {
+            int otherCount = lowerBound(sparse.indices, sparse.count, size);
+            double sumOfSquaresOfDifferences = 0;
+            int position = 0, otherPosition = 0;
+            while (position < count || otherPosition < otherCount) {
+                double difference;
+                if (otherPosition == otherCount || position < count && indices[position] < sparse.indices[otherPosition]) {
+                    difference = values[position++];
+                } else if (position == count || sparse.indices[otherPosition] < indices[position]) {
+                    difference = sparse.values[otherPosition++];
+                } else {
+                    difference = values[position++] - sparse.values[otherPosition++];
+                }
+                sumOfSquaresOfDifferences += difference * difference;
+            }
+            return sumOfSquaresOfDifferences;
+        }
+        int limit = Math.min(size, vector.getSize());
+        double sumOfSquaresOfDifferences = vector instanceof ArrayVector vectorArray
+                ? sumOfSquaresOfDifferences(vectorArray.array, vectorArray.offset, limit)
+                : sumOfSquaresOfDifferences(VectorScratch.copyPrefix(vector, limit), 0, limit);
+        for (int position = lowerBound(indices, count, limit); position < count; position++) {
+            sumOfSquaresOfDifferences += values[position] * values[position];
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof SparseVector sparse) {
+            double dot = 0;
+            int position = 0, otherPosition = 0;
+            while (position < count && otherPosition < sparse.count) {
+                int index = indices[position], otherIndex = sparse.indices[otherPosition];
+                if (index < otherIndex) {
+                    position++;
+                } else if (otherIndex < index) {
+                    otherPosition++;
+                } else {
+                    dot += values[position++] * sparse.values[otherPosition++];
+                }
+            }
+            return dot;
+        }
+        int limit = Math.min(size, vector.getSize());
+        if (vector instanceof ArrayVector vectorArray) return dot(vectorArray.array, vectorArray.offset, limit);
+        return dot(VectorScratch.copyPrefix(vector, limit), 0, limit);
+    }
+
+    /**
+     * Вычисление скалярного произведения плотного массива и этого вектора на отрезке от 0 до limit.
+     * Обращается только к значениям массива по индексам ненулевых значений этого вектора.
+     *
+     * @param array  Плотный массив значений
+     * @param offset Позиция значения с индексом 0 в массиве
+     * @param limit  Конец отрезка (не включительно)
+     * @return Скалярное произведение.
+     */
+    protected double dot(double[] array, int offset, int limit) {
+        double dot = 0;
+        for (int position = 0; position < count && indices[position] < limit; position++) {
+            dot += values[position] * array[offset + indices[position]];
+        }
+        return dot;
+    }
+
+    /**
+     * Вычисление суммы квадратов разностей значений плотного массива и этого вектора на отрезке от 0 до limit.
+     * Промежутки между ненулевыми значениями этого вектора вычисляются ядрами {@link DoubleArrayKernels}.
+     *
+     * @param array  Плотный массив значений
+     * @param offset Позиция значения с индексом 0 в массиве
+     * @param limit  Конец отрезка (не включительно)
+     * @return Сумма квадратов разностей.
+     */
+    protected double sumOfSquaresOfDifferences(double[] array, int offset, int limit) {
+        DoubleArrayKernels kernels = DoubleArrayKernels.get();
+        double sumOfSquaresOfDifferences = 0;
+        int from = 0;
+        for (int position = 0; position < count && indices[position] < limit; position++) {
+            int index = indices[position];
+            sumOfSquaresOfDifferences += kernels.sumOfSquares(array, offset + from, index - from);
+            double difference = array[offset + index] - values[position];
+            sumOfSquaresOfDifferences += difference * difference;
+            from = index + 1;
+        }
+        return sumOfSquaresOfDifferences + kernels.sumOfSquares(array, offset + from, limit - from);
+    }
+
+    @Override
+    public SparseVector normalize() {
+        return divide(length());
+    }
+
+    @Override
+    public SparseVector toNormalized() {
+        return clone().normalize();
+    }
+
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public SparseVector toNormalized(SparseVector destination) {
+        checkDestination(destination);
+        return destination.set(this).normalize();
+    }
+
+    @Override
+    public SparseVector vectorTo(Vector vector) {
+        return vectorTo(vector, new SparseVector(size));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public SparseVector vectorTo(Vector vector, SparseVector destination) {
+        checkDestination(destination);
+        if (destination == this) return multiple(-1).add(vector);
+        if (destination == vector) return destination.subtract(this);
+        return destination.clear().add(vector).subtract(this);
+    }
+
+    @Override
+    public SparseVector directionTo(Vector vector) {
+        return vectorTo(vector).normalize();
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор того же размера, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     * @throws IllegalArgumentException Если размер вектора destination отличается от размера этого вектора
+     */
+    public SparseVector directionTo(Vector vector, SparseVector destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    /**
+     * Проверка того, что вектор для записи результата имеет такой же размер, как этот вектор.
+     *
+     * @param destination Вектор для записи результата
+     * @throws IllegalArgumentException Если размеры векторов различаются
+     */
+    protected void checkDestination(SparseVector destination) {
+        if (destination.size != size) {
+            throw new IllegalArgumentException("Destination size " + destination.size + " does not match vector size " + size);
+        }
+    }
+
+    /**
+     * Прибавление значений другого вектора, умноженных на знак.
+     * Разреженные векторы сливаются с конца массивов, поэтому при достаточной вместимости новые массивы не создаются.
+     *
+     * @param vector Вектор
+     * @param sign   1 для сложения, -1 для вычитания
+     * @return Этот же вектор.
+     */
+    protected SparseVector merge(Vector vector, double sign) {
+        if (vector == this) return multiple(1 + sign);
+        if (vector instanceof SparseVector sparse) {
+            int otherCount = lowerBound(sparse.indices, sparse.count, size);
+            ensureCapacity(count + otherCount);
+            int position = count - 1, target = count + otherCount - 1;
+            for (int otherPosition = otherCount - 1; otherPosition >= 0; target--) {
+                int otherIndex = sparse.indices[otherPosition];
+                if (position >= 0 && indices[position] > otherIndex) {
+                    indices[target] = indices[position];
+                    values[target] = values[position--];
+                } else if (position >= 0 && indices[position] == otherIndex) {
+                    indices[target] = otherIndex;
+                    values[target] = values[position--] + sign * sparse.values[otherPosition--];
+                } else {
+                    indices[target] = otherIndex;
+                    values[target] = sign * sparse.values[otherPosition--];
+                }
+            }
+            compactMerged(position + 1, target + 1, count + otherCount);
+            return this;
+        }
+        int limit = Math.min(size, vector.getSize());
+        if (vector instanceof ArrayVector vectorArray) return mergeDense(vectorArray.array, vectorArray.offset, limit, sign);
+        return mergeDense(VectorScratch.copyPrefix(vector, limit), 0, limit, sign);
+    }
+
+    /**
+     * Прибавление значений плотного массива с индексами меньше limit, умноженных на знак.
+     *
+     * @param array  Плотный массив значений
+     * @param offset Позиция значения с индексом 0 в массиве
+     * @param limit  Количество прибавляемых значений
+     * @param sign   1 для сложения, -1 для вычитания
+     * @return Этот же вектор.
+     */
+    protected SparseVector mergeDense(double[] array, int offset, int limit, double sign) {
+        int otherCount = 0;
+        for (int axis = 0; axis < limit; axis++) {
+            if (array[offset + axis] != 0) otherCount++;
+        }
+        ensureCapacity(count + otherCount);
+        int position = count - 1, target = count + otherCount - 1;
+        for (int axis = limit - 1; axis >= 0; ) {
+            if (position >= 0 && indices[position] > axis) {
+                indices[target] = indices[position];
+                values[target--] = values[position--];
+                continue;
+            }
+            double value = array[offset + axis];
+            if (position >= 0 && indices[position] == axis) {
+                indices[target] = axis;
+                values[target--] = values[position--] + sign * value;
+            } else if (value != 0) {
+                indices[target] = axis;
+                values[target--] = sign * value;
+            }
+            axis--;
+        }
+        compactMerged(position + 1, target + 1, count + otherCount);
+        return this;
+    }
+
+    /**
+     * Перенос результата слияния в начало массивов с удалением нулевых значений.
+     *
+     * @param kept  Количество значений в начале массивов, оставшихся на месте
+     * @param from  Начало результата слияния
+     * @param until Конец результата слияния (не включительно)
+     */
+    private void compactMerged(int kept, int from, int until) {
+        int target = kept;
+        for (int position = from; position < until; position++) {
+            if (values[position] == 0) continue;
+            indices[target] = indices[position];
+            values[target] = values[position];
+            target++;
+        }
+        count = target;
+    }
+
+    private void removeZeros() {
+        compactMerged(0, 0, count);
+    }
+
+    /**
+     * Замена значений с индексами меньше limit: значения с индексами от limit сдвигаются так,
+     * чтобы перед ними поместилось headCount новых значений. Новые значения записываются вызывающим кодом.
+     *
+     * @param limit     Граница заменяемых индексов
+     * @param headCount Количество новых значений
+     */
+    private void replaceHead(int limit, int headCount) {
+        int tail = lowerBound(indices, count, limit);
+        int tailCount = count - tail;
+        ensureCapacity(headCount + tailCount);
+        System.arraycopy(indices, tail, indices, headCount, tailCount);
+        System.arraycopy(values, tail, values, headCount, tailCount);
+        count = headCount + tailCount;
+    }
+
+    /**
+     * Поиск первой позиции, индекс в которой не меньше указанного.
+     *
+     * @param indices Отсортированные индексы
+     * @param count   Количество индексов
+     * @param index   Индекс
+     * @return Позиция.
+     */
+    protected static int lowerBound(int[] indices, int count, int index) {
+        int position = Arrays.binarySearch(indices, 0, count, index);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Расширение массивов так, чтобы в них поместилось указанное количество значений.
+     *
+     * @param capacity Необходимая вместимость
+     */
+    protected void ensureCapacity(int capacity) {
+        if (capacity <= indices.length) return;
+        int newCapacity = Math.max(capacity, indices.length + (indices.length >> 1));
+        indices = Arrays.copyOf(indices, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, size, destination.length);
+        Arrays.fill(destination, offset, offset + size, 0);
+        for (int position = 0; position < count; position++) {
+            destination[offset + indices[position]] = values[position];
+        }
+        return destination;
+    }
+
+    @Override
+    public SparseVector copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, size, source.length);
+        return setDense(source, offset, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        if (vector instanceof SparseVector sparse) {
+            if (sparse.size < size || lowerBound(sparse.indices, sparse.count, size) != count) return false;
+            for (int position = 0; position < count; position++) {
+                if (indices[position] != sparse.indices[position] || values[position] != sparse.values[position]) return false;
+            }
+            return true;
+        }
+        if (vector.getSize() < size) return false;
+        double[] array;
+        int offset;
+        if (vector instanceof ArrayVector vectorArray) {
+            array = vectorArray.array;
+            offset = vectorArray.offset;
+        } else {
+            array = VectorScratch.copyPrefix(vector, size);
+            offset = 0;
+        }
+        int position = 0;
+        for (int axis = 0; axis < size; axis++) {
+            double value = position < count && indices[position] == axis ? values[position++] : 0;
+            if (array[offset + axis] != value) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Хеш совпадает с хешем вектора-массива с теми же значениями: 31^size + Σ 31^(size - 1 - index) * hash(value).
+        int result = power31(size);
+        for (int position = 0; position < count; position++) {
+            result += power31(size - 1 - indices[position]) * Double.hashCode(values[position] + 0.0);
+        }
+        return result;
+    }
+
+    private static int power31(int exponent) {
+        int result = 1, base = 31;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) result *= base;
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+}
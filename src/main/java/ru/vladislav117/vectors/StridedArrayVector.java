@@ -0,0 +1,312 @@
+package ru.vladislav117.vectors;
+
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Objects;
+
+/**
+ * Вектор над значениями массива, расположенными с постоянным шагом. Например, столбец матрицы, хранящейся в массиве по строкам.
+ * <p>
+ * Вектор является представлением чужого массива: он не копирует значения, а читает и изменяет их прямо в массиве.
+ * Изменения массива видны через вектор, изменения вектора видны в массиве и во всех других представлениях тех же значений.
+ * Результат операций между представлениями пересекающихся значений не определён, если представления не совпадают.
+ * Самостоятельную копию с шагом 1 возвращает {@link #clone()}, а также методы, создающие новый вектор.
+ * </p>
+ * <p>
+ * Создаётся методом {@link ArrayVector#wrap(double[], int, int, int)}.
+ * </p>
+ */
+public class StridedArrayVector implements Vector {
+    /**
+     * Массив значений осей.
+     */
+    protected double[] array;
+    /**
+     * Индекс значения по оси 0 в массиве.
+     */
+    protected int offset;
+    /**
+     * Размер вектора.
+     */
+    protected int size;
+    /**
+     * Шаг между значениями соседних осей в массиве.
+     */
+    protected int stride;
+
+    /**
+     * Создание вектора над значениями массива без копирования.
+     *
+     * @param array  Массив значений осей
+     * @param offset Индекс значения по оси 0 в массиве
+     * @param size   Размер вектора
+     * @param stride Шаг между значениями соседних осей в массиве
+     * @throws IllegalArgumentException  Если шаг не положителен
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     */
+    public StridedArrayVector(double[] array, int offset, int size, int stride) {
+        if (stride <= 0) throw new IllegalArgumentException("Stride must be positive: " + stride);
+        if (size < 0) throw new IndexOutOfBoundsException("Negative size: " + size);
+        Objects.checkIndex(offset, array.length + (size == 0 ? 1 : 0));
+        if (size > 0) Objects.checkIndex(offset + (long) (size - 1) * stride, array.length);
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+        this.stride = stride;
+    }
+
+    /**
+     * Создание вектора с нулевыми значениями осей и собственным массивом.
+     *
+     * @param size Размер вектора
+     */
+    public StridedArrayVector(int size) {
+        this(new double[size], 0, size, 1);
+    }
+
+    /**
+     * Получение шага между значениями соседних осей в массиве.
+     *
+     * @return Шаг между значениями.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public StridedArrayVector clone() {
+        try {
+            StridedArrayVector cloned = (StridedArrayVector) super.clone();
+            cloned.array = copyTo(new double[size], 0);
+            cloned.offset = 0;
+            cloned.stride = 1;
+            return cloned;
+        } catch (CloneNotSupportedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < size;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (0 <= index && index < size) return array[offset + index * stride];
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        if (0 <= index && index < size) return array[offset + index * stride];
+        return 0;
+    }
+
+    @Override
+    public StridedArrayVector setIndex(int index, double value) {
+        if (0 <= index && index < size) {
+            array[offset + index * stride] = value;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public StridedArrayVector addIndex(int index, double summand) {
+        if (0 <= index && index < size) {
+            array[offset + index * stride] += summand;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public StridedArrayVector subtractIndex(int index, double subtrahend) {
+        if (0 <= index && index < size) {
+            array[offset + index * stride] -= subtrahend;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public StridedArrayVector multipleIndex(int index, double multiplier) {
+        if (0 <= index && index < size) {
+            array[offset + index * stride] *= multiplier;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public StridedArrayVector divideIndex(int index, double divisor) {
+        if (0 <= index && index < size) {
+            array[offset + index * stride] /= divisor;
+            return this;
+        }
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public StridedArrayVector set(Vector vector) {
+        if (vector instanceof ArrayVector vectorArray) {
+            int commonLength = Math.min(size, vectorArray.size);
+            for (int axis = 0, position = offset; axis < commonLength; axis++, position += stride) {
+                array[position] = vectorArray.array[vectorArray.offset + axis];
+            }
+            return this;
+        }
+        int commonLength = Math.min(size, vector.getSize());
+        double[] values = VectorScratch.copyPrefix(vector, commonLength);
+        for (int axis = 0, position = offset; axis < commonLength; axis++, position += stride) array[position] = values[axis];
+        return this;
+    }
+
+    @Override
+    public StridedArrayVector add(Vector summand) {
+        if (summand instanceof ArrayVector summandArray) {
+            int commonLength = Math.min(size, summandArray.size);
+            for (int axis = 0, position = offset; axis < commonLength; axis++, position += stride) {
+                array[position] += summandArray.array[summandArray.offset + axis];
+            }
+            return this;
+        }
+        double[] values = VectorScratch.copyPrefix(summand, size);
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) array[position] += values[axis];
+        return this;
+    }
+
+    @Override
+    public StridedArrayVector subtract(Vector subtrahend) {
+        if (subtrahend instanceof ArrayVector subtrahendArray) {
+            int commonLength = Math.min(size, subtrahendArray.size);
+            for (int axis = 0, position = offset; axis < commonLength; axis++, position += stride) {
+                array[position] -= subtrahendArray.array[subtrahendArray.offset + axis];
+            }
+            return this;
+        }
+        double[] values = VectorScratch.copyPrefix(subtrahend, size);
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) array[position] -= values[axis];
+        return this;
+    }
+
+    @Override
+    public StridedArrayVector multiple(double multiplier) {
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) array[position] *= multiplier;
+        return this;
+    }
+
+    @Override
+    public StridedArrayVector divide(double divisor) {
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) array[position] /= divisor;
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    @Override
+    public double lengthSquared() {
+        double sumOfSquares = 0;
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) {
+            sumOfSquares += array[position] * array[position];
+        }
+        return sumOfSquares;
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        return Math.sqrt(distanceSquared(vector));
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        double sumOfSquaresOfDifferences = 0;
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) {
+            double difference = array[position] - values[axis];
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        double dot = 0;
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) dot += array[position] * values[axis];
+        return dot;
+    }
+
+    @Override
+    public StridedArrayVector normalize() {
+        return divide(length());
+    }
+
+    @Override
+    public StridedArrayVector toNormalized() {
+        return clone().normalize();
+    }
+
+    @Override
+    public StridedArrayVector vectorTo(Vector vector) {
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        StridedArrayVector result = new StridedArrayVector(size);
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) {
+            result.array[axis] = values[axis] - array[position];
+        }
+        return result;
+    }
+
+    @Override
+    public StridedArrayVector directionTo(Vector vector) {
+        return vectorTo(vector).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, size, destination.length);
+        for (int axis = 0, position = this.offset; axis < size; axis++, position += stride) {
+            destination[offset + axis] = array[position];
+        }
+        return destination;
+    }
+
+    @Override
+    public StridedArrayVector copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, size, source.length);
+        for (int axis = 0, position = this.offset; axis < size; axis++, position += stride) {
+            array[position] = source[offset + axis];
+        }
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        if (vector.getSize() < size) return false;
+        double[] values = VectorScratch.copyPrefix(vector, size);
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) {
+            if (values[axis] != array[position]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Хеш совпадает с хешем вектора-массива с теми же значениями.
+        int result = 1;
+        for (int axis = 0, position = offset; axis < size; axis++, position += stride) {
+            result = 31 * result + Double.hashCode(array[position] + 0.0);
+        }
+        return result;
+    }
+}
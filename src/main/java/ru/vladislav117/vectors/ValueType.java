@@ -0,0 +1,78 @@
+package ru.vladislav117.vectors;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Тип, в котором значения векторов записываются в буфер и читаются из него.
+ * Порядок байтов определяется порядком буфера ({@link ByteBuffer#order()}).
+ */
+public enum ValueType {
+    /**
+     * Значения типа double (8 байт).
+     */
+    DOUBLE(Double.BYTES),
+    /**
+     * Значения типа float (4 байта). При записи значения округляются до float.
+     */
+    FLOAT(Float.BYTES);
+
+    private final int bytes;
+
+    ValueType(int bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Получение размера значения в байтах.
+     *
+     * @return Размер значения в байтах.
+     */
+    public int getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Запись значения в текущую позицию буфера.
+     *
+     * @param buffer Буфер
+     * @param value  Значение
+     * @return Буфер.
+     */
+    public ByteBuffer put(ByteBuffer buffer, double value) {
+        return this == DOUBLE ? buffer.putDouble(value) : buffer.putFloat((float) value);
+    }
+
+    /**
+     * Чтение значения из текущей позиции буфера.
+     *
+     * @param buffer Буфер
+     * @return Значение.
+     */
+    public double get(ByteBuffer buffer) {
+        return this == DOUBLE ? buffer.getDouble() : buffer.getFloat();
+    }
+
+    /**
+     * Проверка, что в буфер поместятся count значений.
+     *
+     * @param buffer Буфер
+     * @param count  Количество значений
+     * @throws BufferOverflowException Если значения не помещаются
+     */
+    void checkWrite(ByteBuffer buffer, long count) {
+        if (buffer.remaining() < count * bytes) throw new BufferOverflowException();
+    }
+
+    /**
+     * Проверка, что в буфере есть count значений.
+     *
+     * @param buffer Буфер
+     * @param count  Количество значений
+     * @throws BufferUnderflowException Если значений недостаточно
+     */
+    void checkRead(ByteBuffer buffer, long count) {
+        if (buffer.remaining() < count * bytes) throw new BufferUnderflowException();
+    }
+}
@@ -1,5 +1,10 @@
 package ru.vladislav117.vectors;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 /**
  * Абстрактный вектор.
  * Экземпляры реализаций этого интерфейса должны иметь конкретную длину и значения по осям.
@@ -148,6 +153,51 @@ public interface Vector extends Cloneable {
      */
     double distance(Vector vector);
 
+    /**
+     * Вычисление квадрата длины вектора.
+     * В отличие от {@link #length()}, не вычисляет квадратный корень, поэтому подходит для сравнения длин.
+     *
+     * @return Квадрат длины вектора.
+     */
+    default double lengthSquared() {
+        double lengthSquared = 0;
+        for (int index = 0; index < getSize(); index++) {
+            double value = getIndex(index);
+            lengthSquared += value * value;
+        }
+        return lengthSquared;
+    }
+
+    /**
+     * Вычисление квадрата расстояния до другого вектора.
+     * В отличие от {@link #distance(Vector)}, не вычисляет квадратный корень, поэтому подходит для сравнения расстояний.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Вектор, квадрат расстояния до которого будет вычислен
+     * @return Квадрат расстояния до вектора.
+     */
+    default double distanceSquared(Vector vector) {
+        double distanceSquared = 0;
+        for (int index = 0; index < getSize(); index++) {
+            double difference = getIndex(index) - vector.getIndexOrZero(index);
+            distanceSquared += difference * difference;
+        }
+        return distanceSquared;
+    }
+
+    /**
+     * Вычисление скалярного произведения с другим вектором.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Второй множитель
+     * @return Скалярное произведение векторов.
+     */
+    default double dot(Vector vector) {
+        double dot = 0;
+        for (int index = 0; index < getSize(); index++) dot += getIndex(index) * vector.getIndexOrZero(index);
+        return dot;
+    }
+
     /**
      * Приведение вектора к нормальной форме. Изменяется этот же вектор.
      *
@@ -181,4 +231,140 @@ public interface Vector extends Cloneable {
      * @return Направление до целевого вектора.
      */
     Vector directionTo(Vector vector);
+
+    /**
+     * Копирование значений вектора в массив.
+     * В массив записываются {@link #getSize()} значений, начиная с указанной позиции.
+     * Реализации переопределяют этот метод копированием без обращения к значениям по индексу,
+     * поэтому операции между векторами разных типов выполняются циклами по массиву.
+     *
+     * @param destination Массив, в который будут записаны значения
+     * @param offset      Позиция в массиве, с которой будут записаны значения
+     * @return Массив destination.
+     * @throws IndexOutOfBoundsException Если значения не помещаются в массив
+     */
+    default double[] copyTo(double[] destination, int offset) {
+        int size = getSize();
+        Objects.checkFromIndexSize(offset, size, destination.length);
+        for (int index = 0; index < size; index++) {
+            destination[offset + index] = getIndex(index);
+        }
+        return destination;
+    }
+
+    /**
+     * Установка значений вектора из массива.
+     * Из массива читаются {@link #getSize()} значений, начиная с указанной позиции.
+     *
+     * @param source Массив, из которого будут прочитаны значения
+     * @param offset Позиция в массиве, с которой будут прочитаны значения
+     * @return Этот же вектор.
+     * @throws IndexOutOfBoundsException Если в массиве недостаточно значений
+     */
+    default Vector copyFrom(double[] source, int offset) {
+        int size = getSize();
+        Objects.checkFromIndexSize(offset, size, source.length);
+        for (int index = 0; index < size; index++) {
+            setIndex(index, source[offset + index]);
+        }
+        return this;
+    }
+
+    /**
+     * Запись значений вектора в буфер в типе double.
+     *
+     * @param buffer Буфер, в текущую позицию которого будут записаны {@link #getSize()} значений
+     * @return Буфер.
+     * @throws BufferOverflowException Если значения не помещаются в буфер (тогда буфер не изменяется)
+     * @see #writeTo(ByteBuffer, ValueType)
+     */
+    default ByteBuffer writeTo(ByteBuffer buffer) {
+        return writeTo(buffer, ValueType.DOUBLE);
+    }
+
+    /**
+     * Запись значений вектора в буфер.
+     * Значения записываются начиная с текущей позиции буфера в его порядке байтов, позиция сдвигается за записанные значения.
+     *
+     * @param buffer Буфер, в который будут записаны {@link #getSize()} значений
+     * @param type   Тип значений в буфере
+     * @return Буфер.
+     * @throws BufferOverflowException Если значения не помещаются в буфер (тогда буфер не изменяется)
+     */
+    default ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        int size = getSize();
+        type.checkWrite(buffer, size);
+        for (int index = 0; index < size; index++) type.put(buffer, getIndexOrZero(index));
+        return buffer;
+    }
+
+    /**
+     * Установка значений вектора из буфера, записанного в типе double.
+     *
+     * @param buffer Буфер, из текущей позиции которого будут прочитаны {@link #getSize()} значений
+     * @return Этот же вектор.
+     * @throws BufferUnderflowException Если в буфере недостаточно значений (тогда вектор и буфер не изменяются)
+     * @see #readFrom(ByteBuffer, ValueType)
+     */
+    default Vector readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    /**
+     * Установка значений вектора из буфера.
+     * Значения читаются начиная с текущей позиции буфера в его порядке байтов, позиция сдвигается за прочитанные значения.
+     *
+     * @param buffer Буфер, из которого будут прочитаны {@link #getSize()} значений
+     * @param type   Тип значений в буфере
+     * @return Этот же вектор.
+     * @throws BufferUnderflowException Если в буфере недостаточно значений (тогда вектор и буфер не изменяются)
+     */
+    default Vector readFrom(ByteBuffer buffer, ValueType type) {
+        int size = getSize();
+        type.checkRead(buffer, size);
+        for (int index = 0; index < size; index++) setIndex(index, type.get(buffer));
+        return this;
+    }
+
+    /**
+     * Запись значений участка массива векторов в буфер подряд.
+     *
+     * @param buffer  Буфер
+     * @param vectors Массив векторов
+     * @param offset  Индекс первого вектора в массиве
+     * @param length  Количество векторов
+     * @param type    Тип значений в буфере
+     * @return Буфер.
+     * @throws BufferOverflowException Если значения не помещаются в буфер (тогда буфер не изменяется)
+     */
+    static ByteBuffer writeTo(ByteBuffer buffer, Vector[] vectors, int offset, int length, ValueType type) {
+        Objects.checkFromIndexSize(offset, length, vectors.length);
+        long count = 0;
+        for (int index = offset; index < offset + length; index++) count += vectors[index].getSize();
+        type.checkWrite(buffer, count);
+        for (int index = offset; index < offset + length; index++) vectors[index].writeTo(buffer, type);
+        return buffer;
+    }
+
+    /**
+     * Установка значений участка массива векторов из буфера, в котором значения векторов записаны подряд.
+     * Новые векторы не создаются: значения читаются в векторы массива.
+     *
+     * @param buffer  Буфер
+     * @param vectors Массив векторов
+     * @param offset  Индекс первого вектора в массиве
+     * @param length  Количество векторов
+     * @param type    Тип значений в буфере
+     * @param <V>     Тип векторов
+     * @return Массив векторов.
+     * @throws BufferUnderflowException Если в буфере недостаточно значений (тогда векторы и буфер не изменяются)
+     */
+    static <V extends Vector> V[] readFrom(ByteBuffer buffer, V[] vectors, int offset, int length, ValueType type) {
+        Objects.checkFromIndexSize(offset, length, vectors.length);
+        long count = 0;
+        for (int index = offset; index < offset + length; index++) count += vectors[index].getSize();
+        type.checkRead(buffer, count);
+        for (int index = offset; index < offset + length; index++) vectors[index].readFrom(buffer, type);
+        return vectors;
+    }
 }
@@ -2,6 +2,7 @@ package ru.vladislav117.vectors;
 
 import ru.vladislav117.vectors.error.VectorIndexError;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -277,6 +278,25 @@ public class Vector1D implements Vector {
         return Math.abs(x - vector.getIndexOrZero(Axis.X_INDEX));
     }
 
+    @Override
+    public double lengthSquared() {
+        return x * x;
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        double difference = distance(vector);
+        return difference * difference;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector1D vector1D) {
+            return x * vector1D.x;
+        }
+        return x * vector.getIndexOrZero(Axis.X_INDEX);
+    }
+
     @Override
     public Vector1D normalize() {
         x = Math.signum(x);
@@ -304,6 +324,83 @@ public class Vector1D implements Vector {
         return new Vector1D(vector.getIndexOrZero(Axis.X_INDEX) - x).normalize();
     }
 
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector1D toNormalized(Vector1D destination) {
+        return destination.set(Math.signum(x));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector1D vectorTo(Vector vector, Vector1D destination) {
+        if (vector instanceof Vector1D vector1D) {
+            return destination.set(vector1D.x - x);
+        }
+        return destination.set(vector.getIndexOrZero(Axis.X_INDEX) - x);
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector1D directionTo(Vector vector, Vector1D destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        return destination;
+    }
+
+    @Override
+    public Vector1D copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = source[offset];
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        type.checkWrite(buffer, SIZE);
+        if (type == ValueType.FLOAT) return buffer.putFloat((float) x);
+        return buffer.putDouble(x);
+    }
+
+    @Override
+    public Vector1D readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    @Override
+    public Vector1D readFrom(ByteBuffer buffer, ValueType type) {
+        type.checkRead(buffer, SIZE);
+        if (type == ValueType.FLOAT) {
+            x = buffer.getFloat();
+        } else {
+            x = buffer.getDouble();
+        }
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Vector vector)) return false;
@@ -318,6 +415,6 @@ public class Vector1D implements Vector {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x);
+        return 31 + Double.hashCode(x + 0.0);
     }
 }
@@ -2,6 +2,7 @@ package ru.vladislav117.vectors;
 
 import ru.vladislav117.vectors.error.VectorIndexError;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -44,6 +45,11 @@ public class Vector2D implements Vector {
             y = vector2D.y;
             return;
         }
+        if (vector instanceof Vector2F vector2F) {
+            x = vector2F.x;
+            y = vector2F.y;
+            return;
+        }
         x = vector.getIndexOrZero(Axis.X_INDEX);
         y = vector.getIndexOrZero(Axis.Y_INDEX);
     }
@@ -338,6 +344,11 @@ public class Vector2D implements Vector {
             y = vector2D.y;
             return this;
         }
+        if (vector instanceof Vector2F vector2F) {
+            x = vector2F.x;
+            y = vector2F.y;
+            return this;
+        }
         if (vector.containsIndex(Axis.X_INDEX)) x = vector.getIndex(Axis.X_INDEX);
         if (vector.containsIndex(Axis.Y_INDEX)) y = vector.getIndex(Axis.Y_INDEX);
         return this;
@@ -363,6 +374,11 @@ public class Vector2D implements Vector {
             y += summand2D.y;
             return this;
         }
+        if (summand instanceof Vector2F summand2F) {
+            x += summand2F.x;
+            y += summand2F.y;
+            return this;
+        }
         x += summand.getIndexOrZero(Axis.X_INDEX);
         y += summand.getIndexOrZero(Axis.Y_INDEX);
         return this;
@@ -388,6 +404,11 @@ public class Vector2D implements Vector {
             y -= subtrahend2D.y;
             return this;
         }
+        if (subtrahend instanceof Vector2F subtrahend2F) {
+            x -= subtrahend2F.x;
+            y -= subtrahend2F.y;
+            return this;
+        }
         x -= subtrahend.getIndexOrZero(Axis.X_INDEX);
         y -= subtrahend.getIndexOrZero(Axis.Y_INDEX);
         return this;
@@ -409,15 +430,45 @@ public class Vector2D implements Vector {
 
     @Override
     public double length() {
-        return Math.sqrt(x * x + y * y);
+        return Vectors2D.length(x, y);
     }
 
     @Override
     public double distance(Vector vector) {
         if (vector instanceof Vector2D vector2D) {
-            return Math.sqrt((x - vector2D.x) * (x - vector2D.x) + (y - vector2D.y) * (y - vector2D.y));
+            return Vectors2D.distance(x, y, vector2D.x, vector2D.y);
+        }
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.distance(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.distance(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors2D.lengthSquared(x, y);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.distanceSquared(x, y, vector2D.x, vector2D.y);
+        }
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.distanceSquared(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.distanceSquared(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.dot(x, y, vector2D.x, vector2D.y);
         }
-        return Math.sqrt((x - vector.getIndexOrZero(Axis.X_INDEX)) * (x - vector.getIndexOrZero(Axis.X_INDEX)) + (y - vector.getIndexOrZero(Axis.Y_INDEX)) * (y - vector.getIndexOrZero(Axis.Y_INDEX)));
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.dot(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.dot(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
     }
 
     @Override
@@ -439,6 +490,9 @@ public class Vector2D implements Vector {
         if (vector instanceof Vector2D vector2D) {
             return new Vector2D(vector2D.x - x, vector2D.y - y);
         }
+        if (vector instanceof Vector2F vector2F) {
+            return new Vector2D(vector2F.x - x, vector2F.y - y);
+        }
         return new Vector2D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y);
     }
 
@@ -447,9 +501,56 @@ public class Vector2D implements Vector {
         if (vector instanceof Vector2D vector2D) {
             return new Vector2D(vector2D.x - x, vector2D.y - y).normalize();
         }
+        if (vector instanceof Vector2F vector2F) {
+            return new Vector2D(vector2F.x - x, vector2F.y - y).normalize();
+        }
         return new Vector2D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y).normalize();
     }
 
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector2D toNormalized(Vector2D destination) {
+        double length = length();
+        return destination.set(x / length, y / length);
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector2D vectorTo(Vector vector, Vector2D destination) {
+        if (vector instanceof Vector2D vector2D) {
+            return destination.set(vector2D.x - x, vector2D.y - y);
+        }
+        if (vector instanceof Vector2F vector2F) {
+            return destination.set(vector2F.x - x, vector2F.y - y);
+        }
+        return destination.set(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y);
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector2D directionTo(Vector vector, Vector2D destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
     /**
      * Вычисление угла вектора в радианах.
      * В отличие от метода {@link Math#atan2(double, double)},
@@ -458,9 +559,7 @@ public class Vector2D implements Vector {
      * @return Угол вектора в радианах.
      */
     public double angle() {
-        double angle = Math.atan2(y, x);
-        if (angle >= 0) return angle;
-        return Math.TAU + angle;
+        return Vectors2D.angle(x, y);
     }
 
     /**
@@ -483,8 +582,13 @@ public class Vector2D implements Vector {
      * @return Угол поворота до вектора в радианах.
      */
     public double angleTo(Vector vector) {
-        Vector2D difference = clone().subtract(vector);
-        return Math.PI + Math.atan2(difference.getY(), difference.getX());
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.angleTo(x, y, vector2D.x, vector2D.y);
+        }
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.angleTo(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.angleTo(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
     }
 
     /**
@@ -494,8 +598,54 @@ public class Vector2D implements Vector {
      * @return Угол поворота до вектора в градусах.
      */
     public double angleDegreesTo(Vector vector) {
-        Vector2D difference = clone().subtract(vector);
-        return 180 + Math.toDegrees(Math.atan2(difference.getY(), difference.getX()));
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.angleDegreesTo(x, y, vector2D.x, vector2D.y);
+        }
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.angleDegreesTo(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.angleDegreesTo(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        return destination;
+    }
+
+    @Override
+    public Vector2D copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = source[offset];
+        y = source[offset + 1];
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        type.checkWrite(buffer, SIZE);
+        if (type == ValueType.FLOAT) return buffer.putFloat((float) x).putFloat((float) y);
+        return buffer.putDouble(x).putDouble(y);
+    }
+
+    @Override
+    public Vector2D readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    @Override
+    public Vector2D readFrom(ByteBuffer buffer, ValueType type) {
+        type.checkRead(buffer, SIZE);
+        if (type == ValueType.FLOAT) {
+            x = buffer.getFloat();
+            y = buffer.getFloat();
+        } else {
+            x = buffer.getDouble();
+            y = buffer.getDouble();
+        }
+        return this;
     }
 
     @Override
@@ -504,6 +654,9 @@ public class Vector2D implements Vector {
         if (vector instanceof Vector2D vector2D) {
             return x == vector2D.x && y == vector2D.y;
         }
+        if (vector instanceof Vector2F vector2F) {
+            return x == vector2F.x && y == vector2F.y;
+        }
         if (vector.containsIndex(Axis.X_INDEX) && vector.containsIndex(Axis.Y_INDEX)) {
             return x == vector.getIndex(Axis.X_INDEX) && y == vector.getIndex(Axis.Y_INDEX);
         }
@@ -512,6 +665,7 @@ public class Vector2D implements Vector {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        int result = 31 + Double.hashCode(x + 0.0);
+        return 31 * result + Double.hashCode(y + 0.0);
     }
 }
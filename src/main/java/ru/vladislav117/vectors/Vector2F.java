@@ -0,0 +1,582 @@
+package ru.vladislav117.vectors;
+
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Objects;
+
+/**
+ * Вектор в двумерном пространстве, хранящий значения в типе float.
+ * Занимает вдвое меньше памяти, чем {@link Vector2D}. Вычисления выполняются в типе double,
+ * результаты записываются в вектор с округлением до float.
+ */
+public class Vector2F implements Vector {
+    /**
+     * Размер вектора.
+     */
+    public static final int SIZE = 2;
+    /**
+     * Значение по оси абсцисс (x).
+     */
+    protected float x;
+    /**
+     * Значение по оси ординат (y).
+     */
+    protected float y;
+
+    /**
+     * Создание двумерного вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     */
+    public Vector2F(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Создание двумерного вектора на основе другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     */
+    public Vector2F(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            x = vector2F.x;
+            y = vector2F.y;
+            return;
+        }
+        if (vector instanceof Vector2D vector2D) {
+            x = (float) vector2D.x;
+            y = (float) vector2D.y;
+            return;
+        }
+        x = (float) vector.getIndexOrZero(Axis.X_INDEX);
+        y = (float) vector.getIndexOrZero(Axis.Y_INDEX);
+    }
+
+    /**
+     * Создание двумерного вектора с нулевыми значениями.
+     */
+    public Vector2F() {
+        x = 0;
+        y = 0;
+    }
+
+    @Override
+    public Vector2F clone() {
+        try {
+            Vector2F cloned = (Vector2F) super.clone();
+            cloned.x = x;
+            cloned.y = y;
+            return cloned;
+        } catch (CloneNotSupportedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return index == Axis.X_INDEX || index == Axis.Y_INDEX;
+    }
+
+    /**
+     * Получение значения по оси абсцисс (x).
+     *
+     * @return Значение по оси абсцисс (x).
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Получение значения по оси ординат (y).
+     *
+     * @return Значение по оси ординат (y).
+     */
+    public float getY() {
+        return y;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        return switch (index) {
+            case Axis.X_INDEX -> x;
+            case Axis.Y_INDEX -> y;
+            default -> throw new VectorIndexError(index);
+        };
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        return switch (index) {
+            case Axis.X_INDEX -> x;
+            case Axis.Y_INDEX -> y;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Установка значения по оси абсцисс (x).
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @return Этот же вектор.
+     */
+    public Vector2F setX(float x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси ординат (y).
+     *
+     * @param y Значение по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public Vector2F setY(float y) {
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public Vector2F setIndex(int index, double value) {
+        switch (index) {
+            case Axis.X_INDEX -> x = (float) value;
+            case Axis.Y_INDEX -> y = (float) value;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси абсцисс (x).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector2F addX(float summand) {
+        x += summand;
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси ординат (y).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector2F addY(float summand) {
+        y += summand;
+        return this;
+    }
+
+    @Override
+    public Vector2F addIndex(int index, double summand) {
+        switch (index) {
+            case Axis.X_INDEX -> x += summand;
+            case Axis.Y_INDEX -> y += summand;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси абсцисс (x).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector2F subtractX(float subtrahend) {
+        x -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси ординат (y).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector2F subtractY(float subtrahend) {
+        y -= subtrahend;
+        return this;
+    }
+
+    @Override
+    public Vector2F subtractIndex(int index, double subtrahend) {
+        switch (index) {
+            case Axis.X_INDEX -> x -= subtrahend;
+            case Axis.Y_INDEX -> y -= subtrahend;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси абсцисс (x).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector2F multipleX(float multiplier) {
+        x *= multiplier;
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси ординат (y).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector2F multipleY(float multiplier) {
+        y *= multiplier;
+        return this;
+    }
+
+    @Override
+    public Vector2F multipleIndex(int index, double multiplier) {
+        switch (index) {
+            case Axis.X_INDEX -> x *= multiplier;
+            case Axis.Y_INDEX -> y *= multiplier;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Деление значения по оси абсцисс (x).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector2F divideX(float divisor) {
+        x /= divisor;
+        return this;
+    }
+
+    /**
+     * Деление значения по оси ординат (y).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector2F divideY(float divisor) {
+        y /= divisor;
+        return this;
+    }
+
+    @Override
+    public Vector2F divideIndex(int index, double divisor) {
+        switch (index) {
+            case Axis.X_INDEX -> x /= divisor;
+            case Axis.Y_INDEX -> y /= divisor;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Установка значений вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public Vector2F set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public Vector2F set(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            x = vector2F.x;
+            y = vector2F.y;
+            return this;
+        }
+        if (vector instanceof Vector2D vector2D) {
+            x = (float) vector2D.x;
+            y = (float) vector2D.y;
+            return this;
+        }
+        if (vector.containsIndex(Axis.X_INDEX)) x = (float) vector.getIndex(Axis.X_INDEX);
+        if (vector.containsIndex(Axis.Y_INDEX)) y = (float) vector.getIndex(Axis.Y_INDEX);
+        return this;
+    }
+
+    /**
+     * Прибавление к значениям вектора.
+     *
+     * @param summandX Слагаемое по оси абсцисс (x)
+     * @param summandY Слагаемое по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public Vector2F add(float summandX, float summandY) {
+        x += summandX;
+        y += summandY;
+        return this;
+    }
+
+    @Override
+    public Vector2F add(Vector summand) {
+        if (summand instanceof Vector2F summand2F) {
+            x += summand2F.x;
+            y += summand2F.y;
+            return this;
+        }
+        if (summand instanceof Vector2D summand2D) {
+            x += summand2D.x;
+            y += summand2D.y;
+            return this;
+        }
+        x += summand.getIndexOrZero(Axis.X_INDEX);
+        y += summand.getIndexOrZero(Axis.Y_INDEX);
+        return this;
+    }
+
+    /**
+     * Вычитание из значений вектора.
+     *
+     * @param subtrahendX Вычитаемое по оси абсцисс (x)
+     * @param subtrahendY Вычитаемое по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public Vector2F subtract(float subtrahendX, float subtrahendY) {
+        x -= subtrahendX;
+        y -= subtrahendY;
+        return this;
+    }
+
+    @Override
+    public Vector2F subtract(Vector subtrahend) {
+        if (subtrahend instanceof Vector2F subtrahend2F) {
+            x -= subtrahend2F.x;
+            y -= subtrahend2F.y;
+            return this;
+        }
+        if (subtrahend instanceof Vector2D subtrahend2D) {
+            x -= subtrahend2D.x;
+            y -= subtrahend2D.y;
+            return this;
+        }
+        x -= subtrahend.getIndexOrZero(Axis.X_INDEX);
+        y -= subtrahend.getIndexOrZero(Axis.Y_INDEX);
+        return this;
+    }
+
+    @Override
+    public Vector2F multiple(double multiplier) {
+        x *= multiplier;
+        y *= multiplier;
+        return this;
+    }
+
+    @Override
+    public Vector2F divide(double divisor) {
+        x /= divisor;
+        y /= divisor;
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Vectors2D.length(x, y);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.distance(x, y, vector2F.x, vector2F.y);
+        }
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.distance(x, y, vector2D.x, vector2D.y);
+        }
+        return Vectors2D.distance(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors2D.lengthSquared(x, y);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.distanceSquared(x, y, vector2F.x, vector2F.y);
+        }
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.distanceSquared(x, y, vector2D.x, vector2D.y);
+        }
+        return Vectors2D.distanceSquared(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.dot(x, y, vector2F.x, vector2F.y);
+        }
+        if (vector instanceof Vector2D vector2D) {
+            return Vectors2D.dot(x, y, vector2D.x, vector2D.y);
+        }
+        return Vectors2D.dot(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public Vector2F normalize() {
+        double length = length();
+        x /= length;
+        y /= length;
+        return this;
+    }
+
+    @Override
+    public Vector2F toNormalized() {
+        return toNormalized(new Vector2F());
+    }
+
+    @Override
+    public Vector2F vectorTo(Vector vector) {
+        return vectorTo(vector, new Vector2F());
+    }
+
+    @Override
+    public Vector2F directionTo(Vector vector) {
+        return vectorTo(vector, new Vector2F()).normalize();
+    }
+
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector2F toNormalized(Vector2F destination) {
+        double length = length();
+        return destination.set((float) (x / length), (float) (y / length));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector2F vectorTo(Vector vector, Vector2F destination) {
+        if (vector instanceof Vector2F vector2F) {
+            return destination.set(vector2F.x - x, vector2F.y - y);
+        }
+        if (vector instanceof Vector2D vector2D) {
+            return destination.set((float) (vector2D.x - x), (float) (vector2D.y - y));
+        }
+        return destination.set((float) (vector.getIndexOrZero(Axis.X_INDEX) - x), (float) (vector.getIndexOrZero(Axis.Y_INDEX) - y));
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector2F directionTo(Vector vector, Vector2F destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    /**
+     * Вычисление угла вектора в радианах.
+     * В отличие от метода {@link Math#atan2(double, double)},
+     * этот метод возвращает радианы по всей окружности, от 0 до 2π.
+     *
+     * @return Угол вектора в радианах.
+     */
+    public double angle() {
+        return Vectors2D.angle(x, y);
+    }
+
+    /**
+     * Вычисление угла вектора в градусах.
+     * В отличие от метода {@link Math#atan2(double, double)},
+     * этот метод возвращает градусы по всей окружности, от 0 до 360.
+     *
+     * @return Угол вектора в градусах.
+     */
+    public double angleDegrees() {
+        return Math.toDegrees(angle());
+    }
+
+    /**
+     * Вычисление угла поворота до другого вектора в радианах.
+     *
+     * @param vector Вектор, поворот до которого будет рассчитан
+     * @return Угол поворота до вектора в радианах.
+     */
+    public double angleTo(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.angleTo(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.angleTo(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Вычисление угла поворота до другого вектора в градусах.
+     *
+     * @param vector Вектор, поворот до которого будет рассчитан
+     * @return Угол поворота до вектора в градусах.
+     */
+    public double angleDegreesTo(Vector vector) {
+        if (vector instanceof Vector2F vector2F) {
+            return Vectors2D.angleDegreesTo(x, y, vector2F.x, vector2F.y);
+        }
+        return Vectors2D.angleDegreesTo(x, y, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        return destination;
+    }
+
+    @Override
+    public Vector2F copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = (float) source[offset];
+        y = (float) source[offset + 1];
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        if (vector instanceof Vector2F vector2F) {
+            return x == vector2F.x && y == vector2F.y;
+        }
+        if (vector instanceof Vector2D vector2D) {
+            return x == vector2D.x && y == vector2D.y;
+        }
+        if (vector.containsIndex(Axis.X_INDEX) && vector.containsIndex(Axis.Y_INDEX)) {
+            return x == vector.getIndex(Axis.X_INDEX) && y == vector.getIndex(Axis.Y_INDEX);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 + Double.hashCode(x + 0.0);
+        return 31 * result + Double.hashCode(y + 0.0);
+    }
+}
@@ -2,6 +2,7 @@ package ru.vladislav117.vectors;
 
 import ru.vladislav117.vectors.error.VectorIndexError;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -51,6 +52,12 @@ public class Vector3D implements Vector {
             z = vector3D.z;
             return;
         }
+        if (vector instanceof Vector3F vector3F) {
+            x = vector3F.x;
+            y = vector3F.y;
+            z = vector3F.z;
+            return;
+        }
         x = vector.getIndexOrZero(Axis.X_INDEX);
         y = vector.getIndexOrZero(Axis.Y_INDEX);
         z = vector.getIndexOrZero(Axis.Z_INDEX);
@@ -378,6 +385,12 @@ public class Vector3D implements Vector {
             z = vector3D.z;
             return this;
         }
+        if (vector instanceof Vector3F vector3F) {
+            x = vector3F.x;
+            y = vector3F.y;
+            z = vector3F.z;
+            return this;
+        }
         if (vector.containsIndex(Axis.X_INDEX)) x = vector.getIndex(Axis.X_INDEX);
         if (vector.containsIndex(Axis.Y_INDEX)) y = vector.getIndex(Axis.Y_INDEX);
         if (vector.containsIndex(Axis.Z_INDEX)) z = vector.getIndex(Axis.Z_INDEX);
@@ -407,6 +420,12 @@ public class Vector3D implements Vector {
             z += summand3D.z;
             return this;
         }
+        if (summand instanceof Vector3F summand3F) {
+            x += summand3F.x;
+            y += summand3F.y;
+            z += summand3F.z;
+            return this;
+        }
         x += summand.getIndexOrZero(Axis.X_INDEX);
         y += summand.getIndexOrZero(Axis.Y_INDEX);
         z += summand.getIndexOrZero(Axis.Z_INDEX);
@@ -436,6 +455,12 @@ public class Vector3D implements Vector {
             z -= subtrahend3D.z;
             return this;
         }
+        if (subtrahend instanceof Vector3F subtrahend3F) {
+            x -= subtrahend3F.x;
+            y -= subtrahend3F.y;
+            z -= subtrahend3F.z;
+            return this;
+        }
         x -= subtrahend.getIndexOrZero(Axis.X_INDEX);
         y -= subtrahend.getIndexOrZero(Axis.Y_INDEX);
         z -= subtrahend.getIndexOrZero(Axis.Z_INDEX);
@@ -460,15 +485,45 @@ public class Vector3D implements Vector {
 
     @Override
     public double length() {
-        return Math.sqrt(x * x + y * y + z * z);
+        return Vectors3D.length(x, y, z);
     }
 
     @Override
     public double distance(Vector vector) {
         if (vector instanceof Vector3D vector3D) {
-            return Math.sqrt((x - vector3D.x) * (x - vector3D.x) + (y - vector3D.y) * (y - vector3D.y) + (z - vector3D.z) * (z - vector3D.z));
+            return Vectors3D.distance(x, y, z, vector3D.x, vector3D.y, vector3D.z);
+        }
+        if (vector instanceof Vector3F vector3F) {
+            return Vectors3D.distance(x, y, z, vector3F.x, vector3F.y, vector3F.z);
+        }
+        return Vectors3D.distance(x, y, z, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors3D.lengthSquared(x, y, z);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector3D vector3D) {
+            return Vectors3D.distanceSquared(x, y, z, vector3D.x, vector3D.y, vector3D.z);
+        }
+        if (vector instanceof Vector3F vector3F) {
+            return Vectors3D.distanceSquared(x, y, z, vector3F.x, vector3F.y, vector3F.z);
         }
-        return Math.sqrt((x - vector.getIndexOrZero(Axis.X_INDEX)) * (x - vector.getIndexOrZero(Axis.X_INDEX)) + (y - vector.getIndexOrZero(Axis.Y_INDEX)) * (y - vector.getIndexOrZero(Axis.Y_INDEX)) + (z - vector.getIndexOrZero(Axis.Z_INDEX)) * (z - vector.getIndexOrZero(Axis.Z_INDEX)));
+        return Vectors3D.distanceSquared(x, y, z, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector3D vector3D) {
+            return Vectors3D.dot(x, y, z, vector3D.x, vector3D.y, vector3D.z);
+        }
+        if (vector instanceof Vector3F vector3F) {
+            return Vectors3D.dot(x, y, z, vector3F.x, vector3F.y, vector3F.z);
+        }
+        return Vectors3D.dot(x, y, z, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
     }
 
     @Override
@@ -491,6 +546,9 @@ public class Vector3D implements Vector {
         if (vector instanceof Vector3D vector3D) {
             return new Vector3D(vector3D.x - x, vector3D.y - y, vector3D.z - z);
         }
+        if (vector instanceof Vector3F vector3F) {
+            return new Vector3D(vector3F.x - x, vector3F.y - y, vector3F.z - z);
+        }
         return new Vector3D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z);
     }
 
@@ -499,15 +557,148 @@ public class Vector3D implements Vector {
         if (vector instanceof Vector3D vector3D) {
             return new Vector3D(vector3D.x - x, vector3D.y - y, vector3D.z - z).normalize();
         }
+        if (vector instanceof Vector3F vector3F) {
+            return new Vector3D(vector3F.x - x, vector3F.y - y, vector3F.z - z).normalize();
+        }
         return new Vector3D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z).normalize();
     }
 
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector3D toNormalized(Vector3D destination) {
+        double length = length();
+        return destination.set(x / length, y / length, z / length);
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector3D vectorTo(Vector vector, Vector3D destination) {
+        if (vector instanceof Vector3D vector3D) {
+            return destination.set(vector3D.x - x, vector3D.y - y, vector3D.z - z);
+        }
+        if (vector instanceof Vector3F vector3F) {
+            return destination.set(vector3F.x - x, vector3F.y - y, vector3F.z - z);
+        }
+        return destination.set(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z);
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector3D directionTo(Vector vector, Vector3D destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    /**
+     * Вычисление векторного произведения этого вектора на другой вектор.
+     * Если у вектора нет значений по осям x, y или z, то такие значения будут взяты за 0.
+     *
+     * @param vector Второй множитель
+     * @return Новый вектор, перпендикулярный обоим векторам.
+     */
+    public Vector3D cross(Vector vector) {
+        return cross(vector, new Vector3D());
+    }
+
+    /**
+     * Вычисление векторного произведения этого вектора на другой вектор с записью результата в указанный вектор.
+     * В отличие от {@link #cross(Vector)}, не создаёт новый вектор.
+     * Если у вектора нет значений по осям x, y или z, то такие значения будут взяты за 0.
+     *
+     * @param vector      Второй множитель
+     * @param destination Вектор, в который будет записан результат (может быть этим же или вторым множителем)
+     * @return Вектор destination.
+     */
+    public Vector3D cross(Vector vector, Vector3D destination) {
+        double vectorX, vectorY, vectorZ;
+        if (vector instanceof Vector3D vector3D) {
+            vectorX = vector3D.x;
+            vectorY = vector3D.y;
+            vectorZ = vector3D.z;
+        } else if (vector instanceof Vector3F vector3F) {
+            vectorX = vector3F.x;
+            vectorY = vector3F.y;
+            vectorZ = vector3F.z;
+        } else {
+            vectorX = vector.getIndexOrZero(Axis.X_INDEX);
+            vectorY = vector.getIndexOrZero(Axis.Y_INDEX);
+            vectorZ = vector.getIndexOrZero(Axis.Z_INDEX);
+        }
+        return destination.set(y * vectorZ - z * vectorY, z * vectorX - x * vectorZ, x * vectorY - y * vectorX);
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        destination[offset + 2] = z;
+        return destination;
+    }
+
+    @Override
+    public Vector3D copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = source[offset];
+        y = source[offset + 1];
+        z = source[offset + 2];
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        type.checkWrite(buffer, SIZE);
+        if (type == ValueType.FLOAT) return buffer.putFloat((float) x).putFloat((float) y).putFloat((float) z);
+        return buffer.putDouble(x).putDouble(y).putDouble(z);
+    }
+
+    @Override
+    public Vector3D readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    @Override
+    public Vector3D readFrom(ByteBuffer buffer, ValueType type) {
+        type.checkRead(buffer, SIZE);
+        if (type == ValueType.FLOAT) {
+            x = buffer.getFloat();
+            y = buffer.getFloat();
+            z = buffer.getFloat();
+        } else {
+            x = buffer.getDouble();
+            y = buffer.getDouble();
+            z = buffer.getDouble();
+        }
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Vector vector)) return false;
         if (vector instanceof Vector3D vector3D) {
             return x == vector3D.x && y == vector3D.y && z == vector3D.z;
         }
+        if (vector instanceof Vector3F vector3F) {
+            return x == vector3F.x && y == vector3F.y && z == vector3F.z;
+        }
         if (vector.containsIndex(Axis.X_INDEX) && vector.containsIndex(Axis.Y_INDEX) && vector.containsIndex(Axis.Z_INDEX)) {
             return x == vector.getIndex(Axis.X_INDEX) && y == vector.getIndex(Axis.Y_INDEX) && z == vector.getIndex(Axis.Z_INDEX);
         }
@@ -516,6 +707,8 @@ public class Vector3D implements Vector {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z);
+        int result = 31 + Double.hashCode(x + 0.0);
+        result = 31 * result + Double.hashCode(y + 0.0);
+        return 31 * result + Double.hashCode(z + 0.0);
     }
 }
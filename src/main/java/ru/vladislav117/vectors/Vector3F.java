@@ -0,0 +1,675 @@
+package ru.vladislav117.vectors;
+
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Objects;
+
+/**
+ * Вектор в трёхмерном пространстве, хранящий значения в типе float.
+ * Занимает вдвое меньше памяти, чем {@link Vector3D}. Вычисления выполняются в типе double,
+ * результаты записываются в вектор с округлением до float.
+ */
+public class Vector3F implements Vector {
+    /**
+     * Размер вектора.
+     */
+    public static final int SIZE = 3;
+    /**
+     * Значение по оси абсцисс (x).
+     */
+    protected float x;
+    /**
+     * Значение по оси ординат (y).
+     */
+    protected float y;
+    /**
+     * Значение по оси аппликат (z).
+     */
+    protected float z;
+
+    /**
+     * Создание трёхмерного вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @param z Значение по оси аппликат (z)
+     */
+    public Vector3F(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Создание трёхмерного вектора на основе другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     */
+    public Vector3F(Vector vector) {
+        if (vector instanceof Vector3F vector3F) {
+            x = vector3F.x;
+            y = vector3F.y;
+            z = vector3F.z;
+            return;
+        }
+        if (vector instanceof Vector3D vector3D) {
+            x = (float) vector3D.x;
+            y = (float) vector3D.y;
+            z = (float) vector3D.z;
+            return;
+        }
+        x = (float) vector.getIndexOrZero(Axis.X_INDEX);
+        y = (float) vector.getIndexOrZero(Axis.Y_INDEX);
+        z = (float) vector.getIndexOrZero(Axis.Z_INDEX);
+    }
+
+    /**
+     * Создание трёхмерного вектора с нулевыми значениями.
+     */
+    public Vector3F() {
+        x = 0;
+        y = 0;
+        z = 0;
+    }
+
+    @Override
+    public Vector3F clone() {
+        try {
+            Vector3F cloned = (Vector3F) super.clone();
+            cloned.x = x;
+            cloned.y = y;
+            cloned.z = z;
+            return cloned;
+        } catch (CloneNotSupportedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return index == Axis.X_INDEX || index == Axis.Y_INDEX || index == Axis.Z_INDEX;
+    }
+
+    /**
+     * Получение значения по оси абсцисс (x).
+     *
+     * @return Значение по оси абсцисс (x).
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Получение значения по оси ординат (y).
+     *
+     * @return Значение по оси ординат (y).
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Получение значения по оси аппликат (z).
+     *
+     * @return Значение по оси аппликат (z).
+     */
+    public float getZ() {
+        return z;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        return switch (index) {
+            case Axis.X_INDEX -> x;
+            case Axis.Y_INDEX -> y;
+            case Axis.Z_INDEX -> z;
+            default -> throw new VectorIndexError(index);
+        };
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        return switch (index) {
+            case Axis.X_INDEX -> x;
+            case Axis.Y_INDEX -> y;
+            case Axis.Z_INDEX -> z;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Установка значения по оси абсцисс (x).
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @return Этот же вектор.
+     */
+    public Vector3F setX(float x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси ординат (y).
+     *
+     * @param y Значение по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public Vector3F setY(float y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси аппликат (z).
+     *
+     * @param z Значение по оси аппликат (z)
+     * @return Этот же вектор.
+     */
+    public Vector3F setZ(float z) {
+        this.z = z;
+        return this;
+    }
+
+    @Override
+    public Vector3F setIndex(int index, double value) {
+        switch (index) {
+            case Axis.X_INDEX -> x = (float) value;
+            case Axis.Y_INDEX -> y = (float) value;
+            case Axis.Z_INDEX -> z = (float) value;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси абсцисс (x).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector3F addX(float summand) {
+        x += summand;
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси ординат (y).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector3F addY(float summand) {
+        y += summand;
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси аппликат (z).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector3F addZ(float summand) {
+        z += summand;
+        return this;
+    }
+
+    @Override
+    public Vector3F addIndex(int index, double summand) {
+        switch (index) {
+            case Axis.X_INDEX -> x += summand;
+            case Axis.Y_INDEX -> y += summand;
+            case Axis.Z_INDEX -> z += summand;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси абсцисс (x).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector3F subtractX(float subtrahend) {
+        x -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси ординат (y).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector3F subtractY(float subtrahend) {
+        y -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси аппликат (z).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector3F subtractZ(float subtrahend) {
+        z -= subtrahend;
+        return this;
+    }
+
+    @Override
+    public Vector3F subtractIndex(int index, double subtrahend) {
+        switch (index) {
+            case Axis.X_INDEX -> x -= subtrahend;
+            case Axis.Y_INDEX -> y -= subtrahend;
+            case Axis.Z_INDEX -> z -= subtrahend;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси абсцисс (x).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector3F multipleX(float multiplier) {
+        x *= multiplier;
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси ординат (y).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector3F multipleY(float multiplier) {
+        y *= multiplier;
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси аппликат (z).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector3F multipleZ(float multiplier) {
+        z *= multiplier;
+        return this;
+    }
+
+    @Override
+    public Vector3F multipleIndex(int index, double multiplier) {
+        switch (index) {
+            case Axis.X_INDEX -> x *= multiplier;
+            case Axis.Y_INDEX -> y *= multiplier;
+            case Axis.Z_INDEX -> z *= multiplier;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Деление значения по оси абсцисс (x).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector3F divideX(float divisor) {
+        x /= divisor;
+        return this;
+    }
+
+    /**
+     * Деление значения по оси ординат (y).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector3F divideY(float divisor) {
+        y /= divisor;
+        return this;
+    }
+
+    /**
+     * Деление значения по оси аппликат (z).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector3F divideZ(float divisor) {
+        z /= divisor;
+        return this;
+    }
+
+    @Override
+    public Vector3F divideIndex(int index, double divisor) {
+        switch (index) {
+            case Axis.X_INDEX -> x /= divisor;
+            case Axis.Y_INDEX -> y /= divisor;
+            case Axis.Z_INDEX -> z /= divisor;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Установка значений вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @param z Значение по оси аппликат (z)
+     * @return Этот же вектор.
+     */
+    public Vector3F set(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    @Override
+    public Vector3F set(Vector vector) {
+        if (vector instanceof Vector3F vector3F) {
+            x = vector3F.x;
+            y = vector3F.y;
+            z = vector3F.z;
+            return this;
+        }
+        if (vector instanceof Vector3D vector3D) {
+            x = (float) vector3D.x;
+            y = (float) vector3D.y;
+            z = (float) vector3D.z;
+            return this;
+        }
+        if (vector.containsIndex(Axis.X_INDEX)) x = (float) vector.getIndex(Axis.X_INDEX);
+        if (vector.containsIndex(Axis.Y_INDEX)) y = (float) vector.getIndex(Axis.Y_INDEX);
+        if (vector.containsIndex(Axis.Z_INDEX)) z = (float) vector.getIndex(Axis.Z_INDEX);
+        return this;
+    }
+
+    /**
+     * Прибавление к значениям вектора.
+     *
+     * @param summandX Слагаемое по оси абсцисс (x)
+     * @param summandY Слагаемое по оси ординат (y)
+     * @param summandZ Слагаемое по оси аппликат (z)
+     * @return Этот же вектор.
+     */
+    public Vector3F add(float summandX, float summandY, float summandZ) {
+        x += summandX;
+        y += summandY;
+        z += summandZ;
+        return this;
+    }
+
+    @Override
+    public Vector3F add(Vector summand) {
+        if (summand instanceof Vector3F summand3F) {
+            x += summand3F.x;
+            y += summand3F.y;
+            z += summand3F.z;
+            return this;
+        }
+        if (summand instanceof Vector3D summand3D) {
+            x += summand3D.x;
+            y += summand3D.y;
+            z += summand3D.z;
+            return this;
+        }
+        x += summand.getIndexOrZero(Axis.X_INDEX);
+        y += summand.getIndexOrZero(Axis.Y_INDEX);
+        z += summand.getIndexOrZero(Axis.Z_INDEX);
+        return this;
+    }
+
+    /**
+     * Вычитание из значений вектора.
+     *
+     * @param subtrahendX Вычитаемое по оси абсцисс (x)
+     * @param subtrahendY Вычитаемое по оси ординат (y)
+     * @param subtrahendZ Вычитаемое по оси аппликат (z)
+     * @return Этот же вектор.
+     */
+    public Vector3F subtract(float subtrahendX, float subtrahendY, float subtrahendZ) {
+        x -= subtrahendX;
+        y -= subtrahendY;
+        z -= subtrahendZ;
+        return this;
+    }
+
+    @Override
+    public Vector3F subtract(Vector subtrahend) {
+        if (subtrahend instanceof Vector3F subtrahend3F) {
+            x -= subtrahend3F.x;
+            y -= subtrahend3F.y;
+            z -= subtrahend3F.z;
+            return this;
+        }
+        if (subtrahend instanceof Vector3D subtrahend3D) {
+            x -= subtrahend3D.x;
+            y -= subtrahend3D.y;
+            z -= subtrahend3D.z;
+            return this;
+        }
+        x -= subtrahend.getIndexOrZero(Axis.X_INDEX);
+        y -= subtrahend.getIndexOrZero(Axis.Y_INDEX);
+        z -= subtrahend.getIndexOrZero(Axis.Z_INDEX);
+        return this;
+    }
+
+    @Override
+    public Vector3F multiple(double multiplier) {
+        x *= multiplier;
+        y *= multiplier;
+        z *= multiplier;
+        return this;
+    }
+
+    @Override
+    public Vector3F divide(double divisor) {
+        x /= divisor;
+        y /= divisor;
+        z /= divisor;
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Vectors3D.length(x, y, z);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        if (vector instanceof Vector3F vector3F) {
+            return Vectors3D.distance(x, y, z, vector3F.x, vector3F.y, vector3F.z);
+        }
+        if (vector instanceof Vector3D vector3D) {
+            return Vectors3D.distance(x, y, z, vector3D.x, vector3D.y, vector3D.z);
+        }
+        return Vectors3D.distance(x, y, z, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors3D.lengthSquared(x, y, z);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector3F vector3F) {
+            return Vectors3D.distanceSquared(x, y, z, vector3F.x, vector3F.y, vector3F.z);
+        }
+        if (vector instanceof Vector3D vector3D) {
+            return Vectors3D.distanceSquared(x, y, z, vector3D.x, vector3D.y, vector3D.z);
+        }
+        return Vectors3D.distanceSquared(x, y, z, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector3F vector3F) {
+            return Vectors3D.dot(x, y, z, vector3F.x, vector3F.y, vector3F.z);
+        }
+        if (vector instanceof Vector3D vector3D) {
+            return Vectors3D.dot(x, y, z, vector3D.x, vector3D.y, vector3D.z);
+        }
+        return Vectors3D.dot(x, y, z, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    @Override
+    public Vector3F normalize() {
+        double length = length();
+        x /= length;
+        y /= length;
+        z /= length;
+        return this;
+    }
+
+    @Override
+    public Vector3F toNormalized() {
+        return toNormalized(new Vector3F());
+    }
+
+    @Override
+    public Vector3F vectorTo(Vector vector) {
+        return vectorTo(vector, new Vector3F());
+    }
+
+    @Override
+    public Vector3F directionTo(Vector vector) {
+        return vectorTo(vector, new Vector3F()).normalize();
+    }
+
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector3F toNormalized(Vector3F destination) {
+        double length = length();
+        return destination.set((float) (x / length), (float) (y / length), (float) (z / length));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector3F vectorTo(Vector vector, Vector3F destination) {
+        if (vector instanceof Vector3F vector3F) {
+            return destination.set(vector3F.x - x, vector3F.y - y, vector3F.z - z);
+        }
+        if (vector instanceof Vector3D vector3D) {
+            return destination.set((float) (vector3D.x - x), (float) (vector3D.y - y), (float) (vector3D.z - z));
+        }
+        return destination.set((float) (vector.getIndexOrZero(Axis.X_INDEX) - x), (float) (vector.getIndexOrZero(Axis.Y_INDEX) - y), (float) (vector.getIndexOrZero(Axis.Z_INDEX) - z));
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector3F directionTo(Vector vector, Vector3F destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    /**
+     * Вычисление векторного произведения этого вектора на другой вектор.
+     * Если у вектора нет значений по осям x, y или z, то такие значения будут взяты за 0.
+     *
+     * @param vector Второй множитель
+     * @return Новый вектор, перпендикулярный обоим векторам.
+     */
+    public Vector3F cross(Vector vector) {
+        return cross(vector, new Vector3F());
+    }
+
+    /**
+     * Вычисление векторного произведения этого вектора на другой вектор с записью результата в указанный вектор.
+     * В отличие от {@link #cross(Vector)}, не создаёт новый вектор.
+     * Если у вектора нет значений по осям x, y или z, то такие значения будут взяты за 0.
+     *
+     * @param vector      Второй множитель
+     * @param destination Вектор, в который будет записан результат (может быть этим же или вторым множителем)
+     * @return Вектор destination.
+     */
+    public Vector3F cross(Vector vector, Vector3F destination) {
+        double vectorX, vectorY, vectorZ;
+        if (vector instanceof Vector3F vector3F) {
+            vectorX = vector3F.x;
+            vectorY = vector3F.y;
+            vectorZ = vector3F.z;
+        } else if (vector instanceof Vector3D vector3D) {
+            vectorX = vector3D.x;
+            vectorY = vector3D.y;
+            vectorZ = vector3D.z;
+        } else {
+            vectorX = vector.getIndexOrZero(Axis.X_INDEX);
+            vectorY = vector.getIndexOrZero(Axis.Y_INDEX);
+            vectorZ = vector.getIndexOrZero(Axis.Z_INDEX);
+        }
+        return destination.set((float) (y * vectorZ - z * vectorY), (float) (z * vectorX - x * vectorZ), (float) (x * vectorY - y * vectorX));
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        destination[offset + 2] = z;
+        return destination;
+    }
+
+    @Override
+    public Vector3F copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = (float) source[offset];
+        y = (float) source[offset + 1];
+        z = (float) source[offset + 2];
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        if (vector instanceof Vector3F vector3F) {
+            return x == vector3F.x && y == vector3F.y && z == vector3F.z;
+        }
+        if (vector instanceof Vector3D vector3D) {
+            return x == vector3D.x && y == vector3D.y && z == vector3D.z;
+        }
+        if (vector.containsIndex(Axis.X_INDEX) && vector.containsIndex(Axis.Y_INDEX) && vector.containsIndex(Axis.Z_INDEX)) {
+            return x == vector.getIndex(Axis.X_INDEX) && y == vector.getIndex(Axis.Y_INDEX) && z == vector.getIndex(Axis.Z_INDEX);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 + Double.hashCode(x + 0.0);
+        result = 31 * result + Double.hashCode(y + 0.0);
+        return 31 * result + Double.hashCode(z + 0.0);
+    }
+}
@@ -2,6 +2,7 @@ package ru.vladislav117.vectors;
 
 import ru.vladislav117.vectors.error.VectorIndexError;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -58,6 +59,13 @@ public class Vector4D implements Vector {
             w = vector4D.w;
             return;
         }
+        if (vector instanceof Vector4F vector4F) {
+            x = vector4F.x;
+            y = vector4F.y;
+            z = vector4F.z;
+            w = vector4F.w;
+            return;
+        }
         x = vector.getIndexOrZero(Axis.X_INDEX);
         y = vector.getIndexOrZero(Axis.Y_INDEX);
         z = vector.getIndexOrZero(Axis.Z_INDEX);
@@ -462,6 +470,13 @@ public class Vector4D implements Vector {
             w = vector4D.w;
             return this;
         }
+        if (vector instanceof Vector4F vector4F) {
+            x = vector4F.x;
+            y = vector4F.y;
+            z = vector4F.z;
+            w = vector4F.w;
+            return this;
+        }
         if (vector.containsIndex(Axis.X_INDEX)) x = vector.getIndex(Axis.X_INDEX);
         if (vector.containsIndex(Axis.Y_INDEX)) y = vector.getIndex(Axis.Y_INDEX);
         if (vector.containsIndex(Axis.Z_INDEX)) z = vector.getIndex(Axis.Z_INDEX);
@@ -495,6 +510,13 @@ public class Vector4D implements Vector {
             w += summand4D.w;
             return this;
         }
+        if (summand instanceof Vector4F summand4F) {
+            x += summand4F.x;
+            y += summand4F.y;
+            z += summand4F.z;
+            w += summand4F.w;
+            return this;
+        }
         x += summand.getIndexOrZero(Axis.X_INDEX);
         y += summand.getIndexOrZero(Axis.Y_INDEX);
         z += summand.getIndexOrZero(Axis.Z_INDEX);
@@ -528,6 +550,13 @@ public class Vector4D implements Vector {
             w -= subtrahend4D.w;
             return this;
         }
+        if (subtrahend instanceof Vector4F subtrahend4F) {
+            x -= subtrahend4F.x;
+            y -= subtrahend4F.y;
+            z -= subtrahend4F.z;
+            w -= subtrahend4F.w;
+            return this;
+        }
         x -= subtrahend.getIndexOrZero(Axis.X_INDEX);
         y -= subtrahend.getIndexOrZero(Axis.Y_INDEX);
         z -= subtrahend.getIndexOrZero(Axis.Z_INDEX);
@@ -555,15 +584,45 @@ public class Vector4D implements Vector {
 
     @Override
     public double length() {
-        return Math.sqrt(x * x + y * y + z * z + w * w);
+        return Vectors4D.length(x, y, z, w);
     }
 
     @Override
     public double distance(Vector vector) {
         if (vector instanceof Vector4D vector4D) {
-            return Math.sqrt((x - vector4D.x) * (x - vector4D.x) + (y - vector4D.y) * (y - vector4D.y) + (z - vector4D.z) * (z - vector4D.z) + (w - vector4D.w) * (w - vector4D.w));
+            return Vectors4D.distance(x, y, z, w, vector4D.x, vector4D.y, vector4D.z, vector4D.w);
+        }
+        if (vector instanceof Vector4F vector4F) {
+            return Vectors4D.distance(x, y, z, w, vector4F.x, vector4F.y, vector4F.z, vector4F.w);
         }
-        return Math.sqrt((x - vector.getIndexOrZero(Axis.X_INDEX)) * (x - vector.getIndexOrZero(Axis.X_INDEX)) + (y - vector.getIndexOrZero(Axis.Y_INDEX)) * (y - vector.getIndexOrZero(Axis.Y_INDEX)) + (z - vector.getIndexOrZero(Axis.Z_INDEX)) * (z - vector.getIndexOrZero(Axis.Z_INDEX)) + (w - vector.getIndexOrZero(Axis.W_INDEX)) * (w - vector.getIndexOrZero(Axis.W_INDEX)));
+        return Vectors4D.distance(x, y, z, w, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors4D.lengthSquared(x, y, z, w);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector4D vector4D) {
+            return Vectors4D.distanceSquared(x, y, z, w, vector4D.x, vector4D.y, vector4D.z, vector4D.w);
+        }
+        if (vector instanceof Vector4F vector4F) {
+            return Vectors4D.distanceSquared(x, y, z, w, vector4F.x, vector4F.y, vector4F.z, vector4F.w);
+        }
+        return Vectors4D.distanceSquared(x, y, z, w, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector4D vector4D) {
+            return Vectors4D.dot(x, y, z, w, vector4D.x, vector4D.y, vector4D.z, vector4D.w);
+        }
+        if (vector instanceof Vector4F vector4F) {
+            return Vectors4D.dot(x, y, z, w, vector4F.x, vector4F.y, vector4F.z, vector4F.w);
+        }
+        return Vectors4D.dot(x, y, z, w, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
     }
 
     @Override
@@ -587,6 +646,9 @@ public class Vector4D implements Vector {
         if (vector instanceof Vector4D vector4D) {
             return new Vector4D(vector4D.x - x, vector4D.y - y, vector4D.z - z, vector4D.w - w);
         }
+        if (vector instanceof Vector4F vector4F) {
+            return new Vector4D(vector4F.x - x, vector4F.y - y, vector4F.z - z, vector4F.w - w);
+        }
         return new Vector4D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z, vector.getIndexOrZero(Axis.W_INDEX) - w);
     }
 
@@ -595,15 +657,114 @@ public class Vector4D implements Vector {
         if (vector instanceof Vector4D vector4D) {
             return new Vector4D(vector4D.x - x, vector4D.y - y, vector4D.z - z, vector4D.w - w).normalize();
         }
+        if (vector instanceof Vector4F vector4F) {
+            return new Vector4D(vector4F.x - x, vector4F.y - y, vector4F.z - z, vector4F.w - w).normalize();
+        }
         return new Vector4D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z, vector.getIndexOrZero(Axis.W_INDEX) - w).normalize();
     }
 
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector4D toNormalized(Vector4D destination) {
+        double length = length();
+        return destination.set(x / length, y / length, z / length, w / length);
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector4D vectorTo(Vector vector, Vector4D destination) {
+        if (vector instanceof Vector4D vector4D) {
+            return destination.set(vector4D.x - x, vector4D.y - y, vector4D.z - z, vector4D.w - w);
+        }
+        if (vector instanceof Vector4F vector4F) {
+            return destination.set(vector4F.x - x, vector4F.y - y, vector4F.z - z, vector4F.w - w);
+        }
+        return destination.set(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z, vector.getIndexOrZero(Axis.W_INDEX) - w);
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector4D directionTo(Vector vector, Vector4D destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        destination[offset + 2] = z;
+        destination[offset + 3] = w;
+        return destination;
+    }
+
+    @Override
+    public Vector4D copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = source[offset];
+        y = source[offset + 1];
+        z = source[offset + 2];
+        w = source[offset + 3];
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        type.checkWrite(buffer, SIZE);
+        if (type == ValueType.FLOAT) return buffer.putFloat((float) x).putFloat((float) y).putFloat((float) z).putFloat((float) w);
+        return buffer.putDouble(x).putDouble(y).putDouble(z).putDouble(w);
+    }
+
+    @Override
+    public Vector4D readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    @Override
+    public Vector4D readFrom(ByteBuffer buffer, ValueType type) {
+        type.checkRead(buffer, SIZE);
+        if (type == ValueType.FLOAT) {
+            x = buffer.getFloat();
+            y = buffer.getFloat();
+            z = buffer.getFloat();
+            w = buffer.getFloat();
+        } else {
+            x = buffer.getDouble();
+            y = buffer.getDouble();
+            z = buffer.getDouble();
+            w = buffer.getDouble();
+        }
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Vector vector)) return false;
         if (vector instanceof Vector4D vector4D) {
             return x == vector4D.x && y == vector4D.y && z == vector4D.z && w == vector4D.w;
         }
+        if (vector instanceof Vector4F vector4F) {
+            return x == vector4F.x && y == vector4F.y && z == vector4F.z && w == vector4F.w;
+        }
         if (vector.containsIndex(Axis.X_INDEX) && vector.containsIndex(Axis.Y_INDEX) && vector.containsIndex(Axis.Z_INDEX) && vector.containsIndex(Axis.W_INDEX)) {
             return x == vector.getIndex(Axis.X_INDEX) && y == vector.getIndex(Axis.Y_INDEX) && z == vector.getIndex(Axis.Z_INDEX) && w == vector.getIndex(Axis.W_INDEX);
         }
@@ -612,6 +773,9 @@ public class Vector4D implements Vector {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z, w);
+        int result = 31 + Double.hashCode(x + 0.0);
+        result = 31 * result + Double.hashCode(y + 0.0);
+        result = 31 * result + Double.hashCode(z + 0.0);
+        return 31 * result + Double.hashCode(w + 0.0);
     }
 }
@@ -0,0 +1,740 @@
+package ru.vladislav117.vectors;
+
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Objects;
+
+/**
+ * Вектор в четырёхмерном пространстве, хранящий значения в типе float.
+ * Занимает вдвое меньше памяти, чем {@link Vector4D}. Вычисления выполняются в типе double,
+ * результаты записываются в вектор с округлением до float.
+ */
+public class Vector4F implements Vector {
+    /**
+     * Размер вектора.
+     */
+    public static final int SIZE = 4;
+    /**
+     * Значение по оси абсцисс (x).
+     */
+    protected float x;
+    /**
+     * Значение по оси ординат (y).
+     */
+    protected float y;
+    /**
+     * Значение по оси аппликат (z).
+     */
+    protected float z;
+    /**
+     * Значение по оси w.
+     */
+    protected float w;
+
+    /**
+     * Создание четырёхмерного вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @param z Значение по оси аппликат (z)
+     * @param w Значение по оси w
+     */
+    public Vector4F(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Создание четырёхмерного вектора на основе другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     */
+    public Vector4F(Vector vector) {
+        if (vector instanceof Vector4F vector4F) {
+            x = vector4F.x;
+            y = vector4F.y;
+            z = vector4F.z;
+            w = vector4F.w;
+            return;
+        }
+        if (vector instanceof Vector4D vector4D) {
+            x = (float) vector4D.x;
+            y = (float) vector4D.y;
+            z = (float) vector4D.z;
+            w = (float) vector4D.w;
+            return;
+        }
+        x = (float) vector.getIndexOrZero(Axis.X_INDEX);
+        y = (float) vector.getIndexOrZero(Axis.Y_INDEX);
+        z = (float) vector.getIndexOrZero(Axis.Z_INDEX);
+        w = (float) vector.getIndexOrZero(Axis.W_INDEX);
+    }
+
+    /**
+     * Создание четырёхмерного вектора с нулевыми значениями.
+     */
+    public Vector4F() {
+        x = 0;
+        y = 0;
+        z = 0;
+        w = 0;
+    }
+
+    @Override
+    public Vector4F clone() {
+        try {
+            Vector4F cloned = (Vector4F) super.clone();
+            cloned.x = x;
+            cloned.y = y;
+            cloned.z = z;
+            cloned.w = w;
+            return cloned;
+        } catch (CloneNotSupportedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return index == Axis.X_INDEX || index == Axis.Y_INDEX || index == Axis.Z_INDEX || index == Axis.W_INDEX;
+    }
+
+    /**
+     * Получение значения по оси абсцисс (x).
+     *
+     * @return Значение по оси абсцисс (x).
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Получение значения по оси ординат (y).
+     *
+     * @return Значение по оси ординат (y).
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Получение значения по оси аппликат (z).
+     *
+     * @return Значение по оси аппликат (z).
+     */
+    public float getZ() {
+        return z;
+    }
+
+    /**
+     * Получение значения по оси w.
+     *
+     * @return Значение по оси w.
+     */
+    public float getW() {
+        return w;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        return switch (index) {
+            case Axis.X_INDEX -> x;
+            case Axis.Y_INDEX -> y;
+            case Axis.Z_INDEX -> z;
+            case Axis.W_INDEX -> w;
+            default -> throw new VectorIndexError(index);
+        };
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        return switch (index) {
+            case Axis.X_INDEX -> x;
+            case Axis.Y_INDEX -> y;
+            case Axis.Z_INDEX -> z;
+            case Axis.W_INDEX -> w;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Установка значения по оси абсцисс (x).
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @return Этот же вектор.
+     */
+    public Vector4F setX(float x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси ординат (y).
+     *
+     * @param y Значение по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public Vector4F setY(float y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси аппликат (z).
+     *
+     * @param z Значение по оси аппликат (z)
+     * @return Этот же вектор.
+     */
+    public Vector4F setZ(float z) {
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси w.
+     *
+     * @param w Значение по оси w
+     * @return Этот же вектор.
+     */
+    public Vector4F setW(float w) {
+        this.w = w;
+        return this;
+    }
+
+    @Override
+    public Vector4F setIndex(int index, double value) {
+        switch (index) {
+            case Axis.X_INDEX -> x = (float) value;
+            case Axis.Y_INDEX -> y = (float) value;
+            case Axis.Z_INDEX -> z = (float) value;
+            case Axis.W_INDEX -> w = (float) value;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси абсцисс (x).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F addX(float summand) {
+        x += summand;
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси ординат (y).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F addY(float summand) {
+        y += summand;
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси аппликат (z).
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F addZ(float summand) {
+        z += summand;
+        return this;
+    }
+
+    /**
+     * Прибавление к значению по оси w.
+     *
+     * @param summand Слагаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F addW(float summand) {
+        w += summand;
+        return this;
+    }
+
+    @Override
+    public Vector4F addIndex(int index, double summand) {
+        switch (index) {
+            case Axis.X_INDEX -> x += summand;
+            case Axis.Y_INDEX -> y += summand;
+            case Axis.Z_INDEX -> z += summand;
+            case Axis.W_INDEX -> w += summand;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси абсцисс (x).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F subtractX(float subtrahend) {
+        x -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси ординат (y).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F subtractY(float subtrahend) {
+        y -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси аппликат (z).
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F subtractZ(float subtrahend) {
+        z -= subtrahend;
+        return this;
+    }
+
+    /**
+     * Вычитание из значения по оси w.
+     *
+     * @param subtrahend Вычитаемое
+     * @return Этот же вектор.
+     */
+    public Vector4F subtractW(float subtrahend) {
+        w -= subtrahend;
+        return this;
+    }
+
+    @Override
+    public Vector4F subtractIndex(int index, double subtrahend) {
+        switch (index) {
+            case Axis.X_INDEX -> x -= subtrahend;
+            case Axis.Y_INDEX -> y -= subtrahend;
+            case Axis.Z_INDEX -> z -= subtrahend;
+            case Axis.W_INDEX -> w -= subtrahend;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси абсцисс (x).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector4F multipleX(float multiplier) {
+        x *= multiplier;
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси ординат (y).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector4F multipleY(float multiplier) {
+        y *= multiplier;
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси аппликат (z).
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector4F multipleZ(float multiplier) {
+        z *= multiplier;
+        return this;
+    }
+
+    /**
+     * Умножение значения по оси w.
+     *
+     * @param multiplier Множитель
+     * @return Этот же вектор.
+     */
+    public Vector4F multipleW(float multiplier) {
+        w *= multiplier;
+        return this;
+    }
+
+    @Override
+    public Vector4F multipleIndex(int index, double multiplier) {
+        switch (index) {
+            case Axis.X_INDEX -> x *= multiplier;
+            case Axis.Y_INDEX -> y *= multiplier;
+            case Axis.Z_INDEX -> z *= multiplier;
+            case Axis.W_INDEX -> w *= multiplier;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Деление значения по оси абсцисс (x).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector4F divideX(float divisor) {
+        x /= divisor;
+        return this;
+    }
+
+    /**
+     * Деление значения по оси ординат (y).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector4F divideY(float divisor) {
+        y /= divisor;
+        return this;
+    }
+
+    /**
+     * Деление значения по оси аппликат (z).
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector4F divideZ(float divisor) {
+        z /= divisor;
+        return this;
+    }
+
+    /**
+     * Деление значения по оси w.
+     *
+     * @param divisor Делитель
+     * @return Этот же вектор.
+     */
+    public Vector4F divideW(float divisor) {
+        w /= divisor;
+        return this;
+    }
+
+    @Override
+    public Vector4F divideIndex(int index, double divisor) {
+        switch (index) {
+            case Axis.X_INDEX -> x /= divisor;
+            case Axis.Y_INDEX -> y /= divisor;
+            case Axis.Z_INDEX -> z /= divisor;
+            case Axis.W_INDEX -> w /= divisor;
+            default -> throw new VectorIndexError(index);
+        }
+        return this;
+    }
+
+    /**
+     * Установка значений вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @param z Значение по оси аппликат (z)
+     * @param w Значение по оси w
+     * @return Этот же вектор.
+     */
+    public Vector4F set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    @Override
+    public Vector4F set(Vector vector) {
+        if (vector instanceof Vector4F vector4F) {
+            x = vector4F.x;
+            y = vector4F.y;
+            z = vector4F.z;
+            w = vector4F.w;
+            return this;
+        }
+        if (vector instanceof Vector4D vector4D) {
+            x = (float) vector4D.x;
+            y = (float) vector4D.y;
+            z = (float) vector4D.z;
+            w = (float) vector4D.w;
+            return this;
+        }
+        if (vector.containsIndex(Axis.X_INDEX)) x = (float) vector.getIndex(Axis.X_INDEX);
+        if (vector.containsIndex(Axis.Y_INDEX)) y = (float) vector.getIndex(Axis.Y_INDEX);
+        if (vector.containsIndex(Axis.Z_INDEX)) z = (float) vector.getIndex(Axis.Z_INDEX);
+        if (vector.containsIndex(Axis.W_INDEX)) w = (float) vector.getIndex(Axis.W_INDEX);
+        return this;
+    }
+
+    /**
+     * Прибавление к значениям вектора.
+     *
+     * @param summandX Слагаемое по оси абсцисс (x)
+     * @param summandY Слагаемое по оси ординат (y)
+     * @param summandZ Слагаемое по оси аппликат (z)
+     * @param summandW Слагаемое по оси w
+     * @return Этот же вектор.
+     */
+    public Vector4F add(float summandX, float summandY, float summandZ, float summandW) {
+        x += summandX;
+        y += summandY;
+        z += summandZ;
+        w += summandW;
+        return this;
+    }
+
+    @Override
+    public Vector4F add(Vector summand) {
+        if (summand instanceof Vector4F summand4F) {
+            x += summand4F.x;
+            y += summand4F.y;
+            z += summand4F.z;
+            w += summand4F.w;
+            return this;
+        }
+        if (summand instanceof Vector4D summand4D) {
+            x += summand4D.x;
+            y += summand4D.y;
+            z += summand4D.z;
+            w += summand4D.w;
+            return this;
+        }
+        x += summand.getIndexOrZero(Axis.X_INDEX);
+        y += summand.getIndexOrZero(Axis.Y_INDEX);
+        z += summand.getIndexOrZero(Axis.Z_INDEX);
+        w += summand.getIndexOrZero(Axis.W_INDEX);
+        return this;
+    }
+
+    /**
+     * Вычитание из значений вектора.
+     *
+     * @param subtrahendX Вычитаемое по оси абсцисс (x)
+     * @param subtrahendY Вычитаемое по оси ординат (y)
+     * @param subtrahendZ Вычитаемое по оси аппликат (z)
+     * @param subtrahendW Вычитаемое по оси w
+     * @return Этот же вектор.
+     */
+    public Vector4F subtract(float subtrahendX, float subtrahendY, float subtrahendZ, float subtrahendW) {
+        x -= subtrahendX;
+        y -= subtrahendY;
+        z -= subtrahendZ;
+        w -= subtrahendW;
+        return this;
+    }
+
+    @Override
+    public Vector4F subtract(Vector subtrahend) {
+        if (subtrahend instanceof Vector4F subtrahend4F) {
+            x -= subtrahend4F.x;
+            y -= subtrahend4F.y;
+            z -= subtrahend4F.z;
+            w -= subtrahend4F.w;
+            return this;
+        }
+        if (subtrahend instanceof Vector4D subtrahend4D) {
+            x -= subtrahend4D.x;
+            y -= subtrahend4D.y;
+            z -= subtrahend4D.z;
+            w -= subtrahend4D.w;
+            return this;
+        }
+        x -= subtrahend.getIndexOrZero(Axis.X_INDEX);
+        y -= subtrahend.getIndexOrZero(Axis.Y_INDEX);
+        z -= subtrahend.getIndexOrZero(Axis.Z_INDEX);
+        w -= subtrahend.getIndexOrZero(Axis.W_INDEX);
+        return this;
+    }
+
+    @Override
+    public Vector4F multiple(double multiplier) {
+        x *= multiplier;
+        y *= multiplier;
+        z *= multiplier;
+        w *= multiplier;
+        return this;
+    }
+
+    @Override
+    public Vector4F divide(double divisor) {
+        x /= divisor;
+        y /= divisor;
+        z /= divisor;
+        w /= divisor;
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Vectors4D.length(x, y, z, w);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        if (vector instanceof Vector4F vector4F) {
+            return Vectors4D.distance(x, y, z, w, vector4F.x, vector4F.y, vector4F.z, vector4F.w);
+        }
+        if (vector instanceof Vector4D vector4D) {
+            return Vectors4D.distance(x, y, z, w, vector4D.x, vector4D.y, vector4D.z, vector4D.w);
+        }
+        return Vectors4D.distance(x, y, z, w, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors4D.lengthSquared(x, y, z, w);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector4F vector4F) {
+            return Vectors4D.distanceSquared(x, y, z, w, vector4F.x, vector4F.y, vector4F.z, vector4F.w);
+        }
+        if (vector instanceof Vector4D vector4D) {
+            return Vectors4D.distanceSquared(x, y, z, w, vector4D.x, vector4D.y, vector4D.z, vector4D.w);
+        }
+        return Vectors4D.distanceSquared(x, y, z, w, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector4F vector4F) {
+            return Vectors4D.dot(x, y, z, w, vector4F.x, vector4F.y, vector4F.z, vector4F.w);
+        }
+        if (vector instanceof Vector4D vector4D) {
+            return Vectors4D.dot(x, y, z, w, vector4D.x, vector4D.y, vector4D.z, vector4D.w);
+        }
+        return Vectors4D.dot(x, y, z, w, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
+    }
+
+    @Override
+    public Vector4F normalize() {
+        double length = length();
+        x /= length;
+        y /= length;
+        z /= length;
+        w /= length;
+        return this;
+    }
+
+    @Override
+    public Vector4F toNormalized() {
+        return toNormalized(new Vector4F());
+    }
+
+    @Override
+    public Vector4F vectorTo(Vector vector) {
+        return vectorTo(vector, new Vector4F());
+    }
+
+    @Override
+    public Vector4F directionTo(Vector vector) {
+        return vectorTo(vector, new Vector4F()).normalize();
+    }
+
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector4F toNormalized(Vector4F destination) {
+        double length = length();
+        return destination.set((float) (x / length), (float) (y / length), (float) (z / length), (float) (w / length));
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector4F vectorTo(Vector vector, Vector4F destination) {
+        if (vector instanceof Vector4F vector4F) {
+            return destination.set(vector4F.x - x, vector4F.y - y, vector4F.z - z, vector4F.w - w);
+        }
+        if (vector instanceof Vector4D vector4D) {
+            return destination.set((float) (vector4D.x - x), (float) (vector4D.y - y), (float) (vector4D.z - z), (float) (vector4D.w - w));
+        }
+        return destination.set((float) (vector.getIndexOrZero(Axis.X_INDEX) - x), (float) (vector.getIndexOrZero(Axis.Y_INDEX) - y), (float) (vector.getIndexOrZero(Axis.Z_INDEX) - z), (float) (vector.getIndexOrZero(Axis.W_INDEX) - w));
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector4F directionTo(Vector vector, Vector4F destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        destination[offset + 2] = z;
+        destination[offset + 3] = w;
+        return destination;
+    }
+
+    @Override
+    public Vector4F copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = (float) source[offset];
+        y = (float) source[offset + 1];
+        z = (float) source[offset + 2];
+        w = (float) source[offset + 3];
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        if (vector instanceof Vector4F vector4F) {
+            return x == vector4F.x && y == vector4F.y && z == vector4F.z && w == vector4F.w;
+        }
+        if (vector instanceof Vector4D vector4D) {
+            return x == vector4D.x && y == vector4D.y && z == vector4D.z && w == vector4D.w;
+        }
+        if (vector.containsIndex(Axis.X_INDEX) && vector.containsIndex(Axis.Y_INDEX) && vector.containsIndex(Axis.Z_INDEX) && vector.containsIndex(Axis.W_INDEX)) {
+            return x == vector.getIndex(Axis.X_INDEX) && y == vector.getIndex(Axis.Y_INDEX) && z == vector.getIndex(Axis.Z_INDEX) && w == vector.getIndex(Axis.W_INDEX);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 + Double.hashCode(x + 0.0);
+        result = 31 * result + Double.hashCode(y + 0.0);
+        result = 31 * result + Double.hashCode(z + 0.0);
+        return 31 * result + Double.hashCode(w + 0.0);
+    }
+}
@@ -2,6 +2,7 @@ package ru.vladislav117.vectors;
 
 import ru.vladislav117.vectors.error.VectorIndexError;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -650,15 +651,36 @@ public class Vector5D implements Vector {
 
     @Override
     public double length() {
-        return Math.sqrt(x * x + y * y + z * z + w * w + v * v);
+        return Vectors5D.length(x, y, z, w, v);
     }
 
     @Override
     public double distance(Vector vector) {
         if (vector instanceof Vector5D vector5D) {
-            return Math.sqrt((x - vector5D.x) * (x - vector5D.x) + (y - vector5D.y) * (y - vector5D.y) + (z - vector5D.z) * (z - vector5D.z) + (w - vector5D.w) * (w - vector5D.w) + (v - vector5D.v) * (v - vector5D.v));
+            return Vectors5D.distance(x, y, z, w, v, vector5D.x, vector5D.y, vector5D.z, vector5D.w, vector5D.v);
         }
-        return Math.sqrt((x - vector.getIndexOrZero(Axis.X_INDEX)) * (x - vector.getIndexOrZero(Axis.X_INDEX)) + (y - vector.getIndexOrZero(Axis.Y_INDEX)) * (y - vector.getIndexOrZero(Axis.Y_INDEX)) + (z - vector.getIndexOrZero(Axis.Z_INDEX)) * (z - vector.getIndexOrZero(Axis.Z_INDEX)) + (w - vector.getIndexOrZero(Axis.W_INDEX)) * (w - vector.getIndexOrZero(Axis.W_INDEX)) + (v - vector.getIndexOrZero(Axis.V_INDEX)) * (v - vector.getIndexOrZero(Axis.V_INDEX)));
+        return Vectors5D.distance(x, y, z, w, v, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX), vector.getIndexOrZero(Axis.V_INDEX));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return Vectors5D.lengthSquared(x, y, z, w, v);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (vector instanceof Vector5D vector5D) {
+            return Vectors5D.distanceSquared(x, y, z, w, v, vector5D.x, vector5D.y, vector5D.z, vector5D.w, vector5D.v);
+        }
+        return Vectors5D.distanceSquared(x, y, z, w, v, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX), vector.getIndexOrZero(Axis.V_INDEX));
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (vector instanceof Vector5D vector5D) {
+            return Vectors5D.dot(x, y, z, w, v, vector5D.x, vector5D.y, vector5D.z, vector5D.w, vector5D.v);
+        }
+        return Vectors5D.dot(x, y, z, w, v, vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX), vector.getIndexOrZero(Axis.V_INDEX));
     }
 
     @Override
@@ -694,6 +716,100 @@ public class Vector5D implements Vector {
         return new Vector5D(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z, vector.getIndexOrZero(Axis.W_INDEX) - w, vector.getIndexOrZero(Axis.V_INDEX) - v).normalize();
     }
 
+    /**
+     * Приведение копии вектора к нормальной форме с записью результата в указанный вектор. Этот вектор не изменяется.
+     * В отличие от {@link #toNormalized()}, не создаёт новый вектор.
+     *
+     * @param destination Вектор, в который будет записан результат (может быть этим же вектором)
+     * @return Вектор destination.
+     */
+    public Vector5D toNormalized(Vector5D destination) {
+        double length = length();
+        return destination.set(x / length, y / length, z / length, w / length, v / length);
+    }
+
+    /**
+     * Вычисление вектора до целевого вектора с записью результата в указанный вектор.
+     * В отличие от {@link #vectorTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector5D vectorTo(Vector vector, Vector5D destination) {
+        if (vector instanceof Vector5D vector5D) {
+            return destination.set(vector5D.x - x, vector5D.y - y, vector5D.z - z, vector5D.w - w, vector5D.v - v);
+        }
+        return destination.set(vector.getIndexOrZero(Axis.X_INDEX) - x, vector.getIndexOrZero(Axis.Y_INDEX) - y, vector.getIndexOrZero(Axis.Z_INDEX) - z, vector.getIndexOrZero(Axis.W_INDEX) - w, vector.getIndexOrZero(Axis.V_INDEX) - v);
+    }
+
+    /**
+     * Вычисление направления до вектора с записью результата в указанный вектор.
+     * В отличие от {@link #directionTo(Vector)}, не создаёт новый вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Целевой вектор
+     * @param destination Вектор, в который будет записан результат (может быть этим же или целевым вектором)
+     * @return Вектор destination.
+     */
+    public Vector5D directionTo(Vector vector, Vector5D destination) {
+        return vectorTo(vector, destination).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, destination.length);
+        destination[offset] = x;
+        destination[offset + 1] = y;
+        destination[offset + 2] = z;
+        destination[offset + 3] = w;
+        destination[offset + 4] = v;
+        return destination;
+    }
+
+    @Override
+    public Vector5D copyFrom(double[] source, int offset) {
+        Objects.checkFromIndexSize(offset, SIZE, source.length);
+        x = source[offset];
+        y = source[offset + 1];
+        z = source[offset + 2];
+        w = source[offset + 3];
+        v = source[offset + 4];
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        type.checkWrite(buffer, SIZE);
+        if (type == ValueType.FLOAT) return buffer.putFloat((float) x).putFloat((float) y).putFloat((float) z).putFloat((float) w).putFloat((float) v);
+        return buffer.putDouble(x).putDouble(y).putDouble(z).putDouble(w).putDouble(v);
+    }
+
+    @Override
+    public Vector5D readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    @Override
+    public Vector5D readFrom(ByteBuffer buffer, ValueType type) {
+        type.checkRead(buffer, SIZE);
+        if (type == ValueType.FLOAT) {
+            x = buffer.getFloat();
+            y = buffer.getFloat();
+            z = buffer.getFloat();
+            w = buffer.getFloat();
+            v = buffer.getFloat();
+        } else {
+            x = buffer.getDouble();
+            y = buffer.getDouble();
+            z = buffer.getDouble();
+            w = buffer.getDouble();
+            v = buffer.getDouble();
+        }
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Vector vector)) return false;
@@ -708,6 +824,10 @@ public class Vector5D implements Vector {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z, w, v);
+        int result = 31 + Double.hashCode(x + 0.0);
+        result = 31 * result + Double.hashCode(y + 0.0);
+        result = 31 * result + Double.hashCode(z + 0.0);
+        result = 31 * result + Double.hashCode(w + 0.0);
+        return 31 * result + Double.hashCode(v + 0.0);
     }
 }
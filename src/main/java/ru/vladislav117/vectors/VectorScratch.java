@@ -0,0 +1,71 @@
+package ru.vladislav117.vectors;
+
+import java.util.Arrays;
+
+/**
+ * Временные массивы потоков для операций с векторами неизвестных типов.
+ * Значения вектора копируются во временный массив одним вызовом {@link Vector#copyTo(double[], int)},
+ * после чего операция выполняется циклом по массиву без обращения к значениям по индексу.
+ */
+final class VectorScratch {
+    /**
+     * Размер, начиная с которого {@link #copyPrefix(Vector, int)} не копирует вектор, больший нужного количества
+     * значений, целиком.
+     */
+    static final int PREFIX_COPY_LIMIT = 64;
+    /**
+     * Максимальная длина временного массива, который сохраняется в потоке. Более длинные массивы создаются на время
+     * одной операции, чтобы поток не удерживал память после единственной операции с большим вектором.
+     */
+    static final int MAX_CACHED_LENGTH = 4096;
+    private static final ThreadLocal<double[]> BUFFERS = ThreadLocal.withInitial(() -> new double[16]);
+
+    private VectorScratch() {
+    }
+
+    /**
+     * Копирование значений вектора во временный массив потока.
+     * Массив действителен до следующего вызова в этом же потоке.
+     *
+     * @param vector    Вектор
+     * @param minLength Минимальное количество значений: значения после размера вектора заполняются нулями
+     * @return Временный массив, начинающийся со значений вектора.
+     */
+    private static double[] copy(Vector vector, int minLength) {
+        int size = vector.getSize();
+        int length = Math.max(size, minLength);
+        double[] buffer = buffer(length);
+        vector.copyTo(buffer, 0);
+        if (size < length) Arrays.fill(buffer, size, length, 0);
+        return buffer;
+    }
+
+    /**
+     * Получение первых значений вектора во временном массиве потока.
+     * Массив действителен до следующего вызова в этом же потоке.
+     * Вектор, который больше нужного количества значений и больше {@link #PREFIX_COPY_LIMIT}, не копируется целиком:
+     * нужные значения читаются по индексу.
+     *
+     * @param vector Вектор
+     * @param length Количество первых значений: значения после размера вектора заполняются нулями
+     * @return Временный массив, начинающийся с первых значений вектора.
+     */
+    static double[] copyPrefix(Vector vector, int length) {
+        if (vector.getSize() <= Math.max(length, PREFIX_COPY_LIMIT)) return copy(vector, length);
+        double[] buffer = buffer(length);
+        for (int index = 0; index < length; index++) {
+            buffer[index] = vector.getIndexOrZero(index);
+        }
+        return buffer;
+    }
+
+    private static double[] buffer(int length) {
+        if (length > MAX_CACHED_LENGTH) return new double[length];
+        double[] buffer = BUFFERS.get();
+        if (buffer.length < length) {
+            buffer = new double[Math.min(MAX_CACHED_LENGTH, Math.max(length, buffer.length * 2))];
+            BUFFERS.set(buffer);
+        }
+        return buffer;
+    }
+}
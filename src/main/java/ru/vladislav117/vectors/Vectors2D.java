@@ -0,0 +1,126 @@
+package ru.vladislav117.vectors;
+
+/**
+ * Вычисления над двумерными векторами, заданными значениями по осям.
+ * Методы принимают только примитивы и не создают объектов, методы {@link Vector2D} используют их для вычислений.
+ */
+public final class Vectors2D {
+    private Vectors2D() {
+    }
+
+    /**
+     * Вычисление квадрата длины вектора.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @return Квадрат длины вектора.
+     */
+    public static double lengthSquared(double x, double y) {
+        return x * x + y * y;
+    }
+
+    /**
+     * Вычисление длины вектора.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @return Длина вектора.
+     */
+    public static double length(double x, double y) {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Вычисление квадрата расстояния между векторами.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @return Квадрат расстояния между векторами.
+     */
+    public static double distanceSquared(double x1, double y1, double x2, double y2) {
+        return (x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2);
+    }
+
+    /**
+     * Вычисление расстояния между векторами.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @return Расстояние между векторами.
+     */
+    public static double distance(double x1, double y1, double x2, double y2) {
+        return Math.sqrt((x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2));
+    }
+
+    /**
+     * Вычисление скалярного произведения векторов.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @return Скалярное произведение векторов.
+     */
+    public static double dot(double x1, double y1, double x2, double y2) {
+        return x1 * x2 + y1 * y2;
+    }
+
+    /**
+     * Приведение вектора к нормальной форме с записью результата в массив.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param out    Массив, в который будет записан результат
+     * @param offset Индекс в массиве, начиная с которого будут записаны значения по осям x, y
+     * @return Массив out.
+     */
+    public static double[] normalizeInto(double x, double y, double[] out, int offset) {
+        double length = Math.sqrt(x * x + y * y);
+        out[offset] = x / length;
+        out[offset + 1] = y / length;
+        return out;
+    }
+
+    /**
+     * Вычисление угла вектора в радианах, от 0 до 2π.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @return Угол вектора в радианах.
+     */
+    public static double angle(double x, double y) {
+        double angle = Math.atan2(y, x);
+        if (angle >= 0) return angle;
+        return Math.TAU + angle;
+    }
+
+    /**
+     * Вычисление угла поворота от первого вектора до второго в радианах.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @return Угол поворота в радианах.
+     */
+    public static double angleTo(double x1, double y1, double x2, double y2) {
+        return Math.PI + Math.atan2(y1 - y2, x1 - x2);
+    }
+
+    /**
+     * Вычисление угла поворота от первого вектора до второго в градусах.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @return Угол поворота в градусах.
+     */
+    public static double angleDegreesTo(double x1, double y1, double x2, double y2) {
+        return 180 + Math.toDegrees(Math.atan2(y1 - y2, x1 - x2));
+    }
+}
@@ -0,0 +1,120 @@
+package ru.vladislav117.vectors;
+
+/**
+ * Вычисления над трёхмерными векторами, заданными значениями по осям.
+ * Методы принимают только примитивы и не создают объектов, методы {@link Vector3D} используют их для вычислений.
+ */
+public final class Vectors3D {
+    private Vectors3D() {
+    }
+
+    /**
+     * Вычисление квадрата длины вектора.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param z Значение вектора по оси аппликат (z)
+     * @return Квадрат длины вектора.
+     */
+    public static double lengthSquared(double x, double y, double z) {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Вычисление длины вектора.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param z Значение вектора по оси аппликат (z)
+     * @return Длина вектора.
+     */
+    public static double length(double x, double y, double z) {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Вычисление квадрата расстояния между векторами.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @return Квадрат расстояния между векторами.
+     */
+    public static double distanceSquared(double x1, double y1, double z1, double x2, double y2, double z2) {
+        return (x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2) + (z1 - z2) * (z1 - z2);
+    }
+
+    /**
+     * Вычисление расстояния между векторами.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @return Расстояние между векторами.
+     */
+    public static double distance(double x1, double y1, double z1, double x2, double y2, double z2) {
+        return Math.sqrt((x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2) + (z1 - z2) * (z1 - z2));
+    }
+
+    /**
+     * Вычисление скалярного произведения векторов.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @return Скалярное произведение векторов.
+     */
+    public static double dot(double x1, double y1, double z1, double x2, double y2, double z2) {
+        return x1 * x2 + y1 * y2 + z1 * z2;
+    }
+
+    /**
+     * Вычисление векторного произведения векторов с записью результата в массив.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @param out    Массив, в который будет записан результат
+     * @param offset Индекс в массиве, начиная с которого будут записаны значения по осям x, y, z
+     * @return Массив out.
+     */
+    public static double[] cross(double x1, double y1, double z1, double x2, double y2, double z2, double[] out, int offset) {
+        double crossX = y1 * z2 - z1 * y2;
+        double crossY = z1 * x2 - x1 * z2;
+        double crossZ = x1 * y2 - y1 * x2;
+        out[offset] = crossX;
+        out[offset + 1] = crossY;
+        out[offset + 2] = crossZ;
+        return out;
+    }
+
+    /**
+     * Приведение вектора к нормальной форме с записью результата в массив.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param z Значение вектора по оси аппликат (z)
+     * @param out    Массив, в который будет записан результат
+     * @param offset Индекс в массиве, начиная с которого будут записаны значения по осям x, y, z
+     * @return Массив out.
+     */
+    public static double[] normalizeInto(double x, double y, double z, double[] out, int offset) {
+        double length = Math.sqrt(x * x + y * y + z * z);
+        out[offset] = x / length;
+        out[offset + 1] = y / length;
+        out[offset + 2] = z / length;
+        return out;
+    }
+}
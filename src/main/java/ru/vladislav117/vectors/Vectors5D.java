@@ -0,0 +1,117 @@
+package ru.vladislav117.vectors;
+
+/**
+ * Вычисления над пятимерными векторами, заданными значениями по осям.
+ * Методы принимают только примитивы и не создают объектов, методы {@link Vector5D} используют их для вычислений.
+ */
+public final class Vectors5D {
+    private Vectors5D() {
+    }
+
+    /**
+     * Вычисление квадрата длины вектора.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param z Значение вектора по оси аппликат (z)
+     * @param w Значение вектора по оси w
+     * @param v Значение вектора по оси v
+     * @return Квадрат длины вектора.
+     */
+    public static double lengthSquared(double x, double y, double z, double w, double v) {
+        return x * x + y * y + z * z + w * w + v * v;
+    }
+
+    /**
+     * Вычисление длины вектора.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param z Значение вектора по оси аппликат (z)
+     * @param w Значение вектора по оси w
+     * @param v Значение вектора по оси v
+     * @return Длина вектора.
+     */
+    public static double length(double x, double y, double z, double w, double v) {
+        return Math.sqrt(x * x + y * y + z * z + w * w + v * v);
+    }
+
+    /**
+     * Вычисление квадрата расстояния между векторами.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param w1 Значение первого вектора по оси w
+     * @param v1 Значение первого вектора по оси v
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @param w2 Значение второго вектора по оси w
+     * @param v2 Значение второго вектора по оси v
+     * @return Квадрат расстояния между векторами.
+     */
+    public static double distanceSquared(double x1, double y1, double z1, double w1, double v1, double x2, double y2, double z2, double w2, double v2) {
+        return (x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2) + (z1 - z2) * (z1 - z2) + (w1 - w2) * (w1 - w2) + (v1 - v2) * (v1 - v2);
+    }
+
+    /**
+     * Вычисление расстояния между векторами.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param w1 Значение первого вектора по оси w
+     * @param v1 Значение первого вектора по оси v
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @param w2 Значение второго вектора по оси w
+     * @param v2 Значение второго вектора по оси v
+     * @return Расстояние между векторами.
+     */
+    public static double distance(double x1, double y1, double z1, double w1, double v1, double x2, double y2, double z2, double w2, double v2) {
+        return Math.sqrt((x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2) + (z1 - z2) * (z1 - z2) + (w1 - w2) * (w1 - w2) + (v1 - v2) * (v1 - v2));
+    }
+
+    /**
+     * Вычисление скалярного произведения векторов.
+     *
+     * @param x1 Значение первого вектора по оси абсцисс (x)
+     * @param y1 Значение первого вектора по оси ординат (y)
+     * @param z1 Значение первого вектора по оси аппликат (z)
+     * @param w1 Значение первого вектора по оси w
+     * @param v1 Значение первого вектора по оси v
+     * @param x2 Значение второго вектора по оси абсцисс (x)
+     * @param y2 Значение второго вектора по оси ординат (y)
+     * @param z2 Значение второго вектора по оси аппликат (z)
+     * @param w2 Значение второго вектора по оси w
+     * @param v2 Значение второго вектора по оси v
+     * @return Скалярное произведение векторов.
+     */
+    public static double dot(double x1, double y1, double z1, double w1, double v1, double x2, double y2, double z2, double w2, double v2) {
+        return x1 * x2 + y1 * y2 + z1 * z2 + w1 * w2 + v1 * v2;
+    }
+
+    /**
+     * Приведение вектора к нормальной форме с записью результата в массив.
+     *
+     * @param x Значение вектора по оси абсцисс (x)
+     * @param y Значение вектора по оси ординат (y)
+     * @param z Значение вектора по оси аппликат (z)
+     * @param w Значение вектора по оси w
+     * @param v Значение вектора по оси v
+     * @param out    Массив, в который будет записан результат
+     * @param offset Индекс в массиве, начиная с которого будут записаны значения по осям x, y, z, w, v
+     * @return Массив out.
+     */
+    public static double[] normalizeInto(double x, double y, double z, double w, double v, double[] out, int offset) {
+        double length = Math.sqrt(x * x + y * y + z * z + w * w + v * v);
+        out[offset] = x / length;
+        out[offset + 1] = y / length;
+        out[offset + 2] = z / length;
+        out[offset + 3] = w / length;
+        out[offset + 4] = v / length;
+        return out;
+    }
+}
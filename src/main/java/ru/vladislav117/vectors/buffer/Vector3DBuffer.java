@@ -0,0 +1,517 @@
+package ru.vladislav117.vectors.buffer;
+
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Буфер трёхмерных векторов.
+ * Значения по каждой оси хранятся в отдельном массиве (колонке), поэтому буфер не хранит объект на каждый вектор,
+ * а массовые операции выполняются простыми циклами по колонкам. Семантика операций совпадает с методами {@link Vector3D}.
+ */
+public class Vector3DBuffer extends VectorBuffer {
+    /**
+     * Колонка значений по оси абсцисс (x).
+     */
+    protected double[] xs;
+    /**
+     * Колонка значений по оси ординат (y).
+     */
+    protected double[] ys;
+    /**
+     * Колонка значений по оси аппликат (z).
+     */
+    protected double[] zs;
+
+    /**
+     * Создание буфера трёхмерных векторов.
+     *
+     * @param capacity Начальная вместимость буфера
+     */
+    public Vector3DBuffer(int capacity) {
+        xs = new double[capacity];
+        ys = new double[capacity];
+        zs = new double[capacity];
+    }
+
+    /**
+     * Создание буфера трёхмерных векторов с вместимостью по умолчанию.
+     */
+    public Vector3DBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public int getDimension() {
+        return Vector3D.SIZE;
+    }
+
+    @Override
+    public int getCapacity() {
+        return xs.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+    }
+
+    /**
+     * Получение колонки значений по оси абсцисс (x).
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси абсцисс (x).
+     */
+    public double[] getXColumn() {
+        return xs;
+    }
+
+    /**
+     * Получение колонки значений по оси ординат (y).
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси ординат (y).
+     */
+    public double[] getYColumn() {
+        return ys;
+    }
+
+    /**
+     * Получение колонки значений по оси аппликат (z).
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси аппликат (z).
+     */
+    public double[] getZColumn() {
+        return zs;
+    }
+
+    /**
+     * Получение значения по оси абсцисс (x) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси абсцисс (x).
+     */
+    public double getX(int index) {
+        return xs[checkIndex(index)];
+    }
+
+    /**
+     * Получение значения по оси ординат (y) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси ординат (y).
+     */
+    public double getY(int index) {
+        return ys[checkIndex(index)];
+    }
+
+    /**
+     * Получение значения по оси аппликат (z) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси аппликат (z).
+     */
+    public double getZ(int index) {
+        return zs[checkIndex(index)];
+    }
+
+    /**
+     * Установка значения по оси абсцисс (x) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param x     Значение по оси абсцисс (x)
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer setX(int index, double x) {
+        xs[checkIndex(index)] = x;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси ординат (y) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param y     Значение по оси ординат (y)
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer setY(int index, double y) {
+        ys[checkIndex(index)] = y;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси аппликат (z) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param z     Значение по оси аппликат (z)
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer setZ(int index, double z) {
+        zs[checkIndex(index)] = z;
+        return this;
+    }
+
+    @Override
+    public double get(int index, int axis) {
+        checkIndex(index);
+        return switch (axis) {
+            case Axis.X_INDEX -> xs[index];
+            case Axis.Y_INDEX -> ys[index];
+            case Axis.Z_INDEX -> zs[index];
+            default -> throw new VectorIndexError(axis);
+        };
+    }
+
+    @Override
+    public Vector3DBuffer set(int index, int axis, double value) {
+        checkIndex(index);
+        switch (axis) {
+            case Axis.X_INDEX -> xs[index] = value;
+            case Axis.Y_INDEX -> ys[index] = value;
+            case Axis.Z_INDEX -> zs[index] = value;
+            default -> throw new VectorIndexError(axis);
+        }
+        return this;
+    }
+
+    @Override
+    public Vector3D get(int index) {
+        checkIndex(index);
+        return new Vector3D(xs[index], ys[index], zs[index]);
+    }
+
+    /**
+     * Копирование значений вектора буфера в другой вектор.
+     *
+     * @param index       Индекс вектора в буфере
+     * @param destination Вектор, в который будут записаны значения
+     * @return Вектор, в который были записаны значения.
+     */
+    public Vector3D get(int index, Vector3D destination) {
+        checkIndex(index);
+        return destination.set(xs[index], ys[index], zs[index]);
+    }
+
+    /**
+     * Установка значений вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param x     Значение по оси абсцисс (x)
+     * @param y     Значение по оси ординат (y)
+     * @param z     Значение по оси аппликат (z)
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer set(int index, double x, double y, double z) {
+        checkIndex(index);
+        xs[index] = x;
+        ys[index] = y;
+        zs[index] = z;
+        return this;
+    }
+
+    /**
+     * Установка значений вектора буфера в значения другого вектора.
+     * Если у векторов совпадают не все индексы значений, то такие индексы будут проигнорированы.
+     *
+     * @param index  Индекс вектора в буфере
+     * @param vector Вектор, значения которого будут присвоены
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer set(int index, Vector vector) {
+        checkIndex(index);
+        if (vector instanceof Vector3D vector3D) {
+            xs[index] = vector3D.getX();
+            ys[index] = vector3D.getY();
+            zs[index] = vector3D.getZ();
+            return this;
+        }
+        if (vector.containsIndex(Axis.X_INDEX)) xs[index] = vector.getIndex(Axis.X_INDEX);
+        if (vector.containsIndex(Axis.Y_INDEX)) ys[index] = vector.getIndex(Axis.Y_INDEX);
+        if (vector.containsIndex(Axis.Z_INDEX)) zs[index] = vector.getIndex(Axis.Z_INDEX);
+        return this;
+    }
+
+    /**
+     * Добавление вектора в конец буфера.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @param z Значение по оси аппликат (z)
+     * @return Индекс добавленного вектора в буфере.
+     */
+    public int append(double x, double y, double z) {
+        ensureCapacity(size + 1);
+        xs[size] = x;
+        ys[size] = y;
+        zs[size] = z;
+        return size++;
+    }
+
+    @Override
+    public double[] copyTo(int index, double[] destination, int offset) {
+        checkIndex(index);
+        Objects.checkFromIndexSize(offset, 3, destination.length);
+        destination[offset] = xs[index];
+        destination[offset + 1] = ys[index];
+        destination[offset + 2] = zs[index];
+        return destination;
+    }
+
+    @Override
+    public Vector3DBuffer copyFrom(int index, double[] source, int offset) {
+        checkIndex(index);
+        Objects.checkFromIndexSize(offset, 3, source.length);
+        xs[index] = source[offset];
+        ys[index] = source[offset + 1];
+        zs[index] = source[offset + 2];
+        return this;
+    }
+
+    @Override
+    public int append(Vector vector) {
+        if (vector instanceof Vector3D vector3D) {
+            return append(vector3D.getX(), vector3D.getY(), vector3D.getZ());
+        }
+        return append(vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    /**
+     * Прибавление ко всем векторам буфера значений другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param summand Вектор, значения которого будут взяты как слагаемые
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer add(Vector summand) {
+        double summandX = summand.getIndexOrZero(Axis.X_INDEX);
+        double summandY = summand.getIndexOrZero(Axis.Y_INDEX);
+        double summandZ = summand.getIndexOrZero(Axis.Z_INDEX);
+        for (int index = 0; index < size; index++) {
+            xs[index] += summandX;
+            ys[index] += summandY;
+            zs[index] += summandZ;
+        }
+        return this;
+    }
+
+    /**
+     * Попарное прибавление к векторам буфера векторов другого буфера с теми же индексами.
+     *
+     * @param summand Буфер, векторы которого будут взяты как слагаемые
+     * @return Этот же буфер.
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    public Vector3DBuffer add(Vector3DBuffer summand) {
+        checkSameSize(summand);
+        double[] summandXs = summand.xs;
+        double[] summandYs = summand.ys;
+        double[] summandZs = summand.zs;
+        for (int index = 0; index < size; index++) {
+            xs[index] += summandXs[index];
+            ys[index] += summandYs[index];
+            zs[index] += summandZs[index];
+        }
+        return this;
+    }
+
+    /**
+     * Вычитание из всех векторов буфера значений другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param subtrahend Вектор, значения которого будут взяты как вычитаемые
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer subtract(Vector subtrahend) {
+        double subtrahendX = subtrahend.getIndexOrZero(Axis.X_INDEX);
+        double subtrahendY = subtrahend.getIndexOrZero(Axis.Y_INDEX);
+        double subtrahendZ = subtrahend.getIndexOrZero(Axis.Z_INDEX);
+        for (int index = 0; index < size; index++) {
+            xs[index] -= subtrahendX;
+            ys[index] -= subtrahendY;
+            zs[index] -= subtrahendZ;
+        }
+        return this;
+    }
+
+    /**
+     * Попарное вычитание из векторов буфера векторов другого буфера с теми же индексами.
+     *
+     * @param subtrahend Буфер, векторы которого будут взяты как вычитаемые
+     * @return Этот же буфер.
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    public Vector3DBuffer subtract(Vector3DBuffer subtrahend) {
+        checkSameSize(subtrahend);
+        double[] subtrahendXs = subtrahend.xs;
+        double[] subtrahendYs = subtrahend.ys;
+        double[] subtrahendZs = subtrahend.zs;
+        for (int index = 0; index < size; index++) {
+            xs[index] -= subtrahendXs[index];
+            ys[index] -= subtrahendYs[index];
+            zs[index] -= subtrahendZs[index];
+        }
+        return this;
+    }
+
+    /**
+     * Умножение всех значений всех векторов буфера.
+     *
+     * @param multiplier Множитель
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer multiple(double multiplier) {
+        for (int index = 0; index < size; index++) {
+            xs[index] *= multiplier;
+            ys[index] *= multiplier;
+            zs[index] *= multiplier;
+        }
+        return this;
+    }
+
+    /**
+     * Деление всех значений всех векторов буфера.
+     *
+     * @param divisor Делитель
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer divide(double divisor) {
+        for (int index = 0; index < size; index++) {
+            xs[index] /= divisor;
+            ys[index] /= divisor;
+            zs[index] /= divisor;
+        }
+        return this;
+    }
+
+    /**
+     * Вычисление длины вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Длина вектора.
+     */
+    public double length(int index) {
+        checkIndex(index);
+        return Math.sqrt(xs[index] * xs[index] + ys[index] * ys[index] + zs[index] * zs[index]);
+    }
+
+    /**
+     * Вычисление длин всех векторов буфера.
+     *
+     * @param destination Массив, в который будут записаны длины векторов (по индексам векторов)
+     * @return Массив с длинами векторов.
+     */
+    public double[] lengths(double[] destination) {
+        checkDestination(destination);
+        for (int index = 0; index < size; index++) {
+            destination[index] = Math.sqrt(xs[index] * xs[index] + ys[index] * ys[index] + zs[index] * zs[index]);
+        }
+        return destination;
+    }
+
+    /**
+     * Приведение всех векторов буфера к нормальной форме.
+     *
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer normalize() {
+        for (int index = 0; index < size; index++) {
+            double length = Math.sqrt(xs[index] * xs[index] + ys[index] * ys[index] + zs[index] * zs[index]);
+            xs[index] /= length;
+            ys[index] /= length;
+            zs[index] /= length;
+        }
+        return this;
+    }
+
+    /**
+     * Приведение вектора буфера к нормальной форме.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Этот же буфер.
+     */
+    public Vector3DBuffer normalize(int index) {
+        double length = length(index);
+        xs[index] /= length;
+        ys[index] /= length;
+        zs[index] /= length;
+        return this;
+    }
+
+    /**
+     * Вычисление расстояния от вектора буфера до другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param index  Индекс вектора в буфере
+     * @param vector Вектор, расстояние до которого будет вычислено
+     * @return Расстояние до вектора.
+     */
+    public double distance(int index, Vector vector) {
+        checkIndex(index);
+        double vectorX = vector.getIndexOrZero(Axis.X_INDEX);
+        double vectorY = vector.getIndexOrZero(Axis.Y_INDEX);
+        double vectorZ = vector.getIndexOrZero(Axis.Z_INDEX);
+        return Math.sqrt((xs[index] - vectorX) * (xs[index] - vectorX) + (ys[index] - vectorY) * (ys[index] - vectorY) + (zs[index] - vectorZ) * (zs[index] - vectorZ));
+    }
+
+    /**
+     * Вычисление расстояния между двумя векторами буфера.
+     *
+     * @param index      Индекс первого вектора в буфере
+     * @param otherIndex Индекс второго вектора в буфере
+     * @return Расстояние между векторами.
+     */
+    public double distance(int index, int otherIndex) {
+        checkIndex(index);
+        checkIndex(otherIndex);
+        return Math.sqrt((xs[index] - xs[otherIndex]) * (xs[index] - xs[otherIndex]) + (ys[index] - ys[otherIndex]) * (ys[index] - ys[otherIndex]) + (zs[index] - zs[otherIndex]) * (zs[index] - zs[otherIndex]));
+    }
+
+    /**
+     * Вычисление расстояний от всех векторов буфера до другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Вектор, расстояние до которого будет вычислено
+     * @param destination Массив, в который будут записаны расстояния (по индексам векторов)
+     * @return Массив с расстояниями.
+     */
+    public double[] distances(Vector vector, double[] destination) {
+        checkDestination(destination);
+        double vectorX = vector.getIndexOrZero(Axis.X_INDEX);
+        double vectorY = vector.getIndexOrZero(Axis.Y_INDEX);
+        double vectorZ = vector.getIndexOrZero(Axis.Z_INDEX);
+        for (int index = 0; index < size; index++) {
+            destination[index] = Math.sqrt((xs[index] - vectorX) * (xs[index] - vectorX) + (ys[index] - vectorY) * (ys[index] - vectorY) + (zs[index] - vectorZ) * (zs[index] - vectorZ));
+        }
+        return destination;
+    }
+
+    /**
+     * Вычисление попарных расстояний между векторами буфера и векторами другого буфера с теми же индексами.
+     *
+     * @param other       Другой буфер
+     * @param destination Массив, в который будут записаны расстояния (по индексам векторов)
+     * @return Массив с расстояниями.
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    public double[] distances(Vector3DBuffer other, double[] destination) {
+        checkSameSize(other);
+        checkDestination(destination);
+        double[] otherXs = other.xs;
+        double[] otherYs = other.ys;
+        double[] otherZs = other.zs;
+        for (int index = 0; index < size; index++) {
+            destination[index] = Math.sqrt((xs[index] - otherXs[index]) * (xs[index] - otherXs[index]) + (ys[index] - otherYs[index]) * (ys[index] - otherYs[index]) + (zs[index] - otherZs[index]) * (zs[index] - otherZs[index]));
+        }
+        return destination;
+    }
+}
@@ -0,0 +1,581 @@
+package ru.vladislav117.vectors.buffer;
+
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Буфер четырёхмерных векторов.
+ * Значения по каждой оси хранятся в отдельном массиве (колонке), поэтому буфер не хранит объект на каждый вектор,
+ * а массовые операции выполняются простыми циклами по колонкам. Семантика операций совпадает с методами {@link Vector4D}.
+ */
+public class Vector4DBuffer extends VectorBuffer {
+    /**
+     * Колонка значений по оси абсцисс (x).
+     */
+    protected double[] xs;
+    /**
+     * Колонка значений по оси ординат (y).
+     */
+    protected double[] ys;
+    /**
+     * Колонка значений по оси аппликат (z).
+     */
+    protected double[] zs;
+    /**
+     * Колонка значений по оси w.
+     */
+    protected double[] ws;
+
+    /**
+     * Создание буфера четырёхмерных векторов.
+     *
+     * @param capacity Начальная вместимость буфера
+     */
+    public Vector4DBuffer(int capacity) {
+        xs = new double[capacity];
+        ys = new double[capacity];
+        zs = new double[capacity];
+        ws = new double[capacity];
+    }
+
+    /**
+     * Создание буфера четырёхмерных векторов с вместимостью по умолчанию.
+     */
+    public Vector4DBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public int getDimension() {
+        return Vector4D.SIZE;
+    }
+
+    @Override
+    public int getCapacity() {
+        return xs.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        ws = Arrays.copyOf(ws, capacity);
+    }
+
+    /**
+     * Получение колонки значений по оси абсцисс (x).
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси абсцисс (x).
+     */
+    public double[] getXColumn() {
+        return xs;
+    }
+
+    /**
+     * Получение колонки значений по оси ординат (y).
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси ординат (y).
+     */
+    public double[] getYColumn() {
+        return ys;
+    }
+
+    /**
+     * Получение колонки значений по оси аппликат (z).
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси аппликат (z).
+     */
+    public double[] getZColumn() {
+        return zs;
+    }
+
+    /**
+     * Получение колонки значений по оси w.
+     * Возвращается сам массив буфера, а не его копия. Значимы только первые {@link #getSize()} элементов.
+     * После расширения буфера массив колонки заменяется новым.
+     *
+     * @return Колонка значений по оси w.
+     */
+    public double[] getWColumn() {
+        return ws;
+    }
+
+    /**
+     * Получение значения по оси абсцисс (x) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси абсцисс (x).
+     */
+    public double getX(int index) {
+        return xs[checkIndex(index)];
+    }
+
+    /**
+     * Получение значения по оси ординат (y) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси ординат (y).
+     */
+    public double getY(int index) {
+        return ys[checkIndex(index)];
+    }
+
+    /**
+     * Получение значения по оси аппликат (z) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси аппликат (z).
+     */
+    public double getZ(int index) {
+        return zs[checkIndex(index)];
+    }
+
+    /**
+     * Получение значения по оси w вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Значение по оси w.
+     */
+    public double getW(int index) {
+        return ws[checkIndex(index)];
+    }
+
+    /**
+     * Установка значения по оси абсцисс (x) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param x     Значение по оси абсцисс (x)
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer setX(int index, double x) {
+        xs[checkIndex(index)] = x;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси ординат (y) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param y     Значение по оси ординат (y)
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer setY(int index, double y) {
+        ys[checkIndex(index)] = y;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси аппликат (z) вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param z     Значение по оси аппликат (z)
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer setZ(int index, double z) {
+        zs[checkIndex(index)] = z;
+        return this;
+    }
+
+    /**
+     * Установка значения по оси w вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param w     Значение по оси w
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer setW(int index, double w) {
+        ws[checkIndex(index)] = w;
+        return this;
+    }
+
+    @Override
+    public double get(int index, int axis) {
+        checkIndex(index);
+        return switch (axis) {
+            case Axis.X_INDEX -> xs[index];
+            case Axis.Y_INDEX -> ys[index];
+            case Axis.Z_INDEX -> zs[index];
+            case Axis.W_INDEX -> ws[index];
+            default -> throw new VectorIndexError(axis);
+        };
+    }
+
+    @Override
+    public Vector4DBuffer set(int index, int axis, double value) {
+        checkIndex(index);
+        switch (axis) {
+            case Axis.X_INDEX -> xs[index] = value;
+            case Axis.Y_INDEX -> ys[index] = value;
+            case Axis.Z_INDEX -> zs[index] = value;
+            case Axis.W_INDEX -> ws[index] = value;
+            default -> throw new VectorIndexError(axis);
+        }
+        return this;
+    }
+
+    @Override
+    public Vector4D get(int index) {
+        checkIndex(index);
+        return new Vector4D(xs[index], ys[index], zs[index], ws[index]);
+    }
+
+    /**
+     * Копирование значений вектора буфера в другой вектор.
+     *
+     * @param index       Индекс вектора в буфере
+     * @param destination Вектор, в который будут записаны значения
+     * @return Вектор, в который были записаны значения.
+     */
+    public Vector4D get(int index, Vector4D destination) {
+        checkIndex(index);
+        return destination.set(xs[index], ys[index], zs[index], ws[index]);
+    }
+
+    /**
+     * Установка значений вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @param x     Значение по оси абсцисс (x)
+     * @param y     Значение по оси ординат (y)
+     * @param z     Значение по оси аппликат (z)
+     * @param w     Значение по оси w
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer set(int index, double x, double y, double z, double w) {
+        checkIndex(index);
+        xs[index] = x;
+        ys[index] = y;
+        zs[index] = z;
+        ws[index] = w;
+        return this;
+    }
+
+    /**
+     * Установка значений вектора буфера в значения другого вектора.
+     * Если у векторов совпадают не все индексы значений, то такие индексы будут проигнорированы.
+     *
+     * @param index  Индекс вектора в буфере
+     * @param vector Вектор, значения которого будут присвоены
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer set(int index, Vector vector) {
+        checkIndex(index);
+        if (vector instanceof Vector4D vector4D) {
+            xs[index] = vector4D.getX();
+            ys[index] = vector4D.getY();
+            zs[index] = vector4D.getZ();
+            ws[index] = vector4D.getW();
+            return this;
+        }
+        if (vector.containsIndex(Axis.X_INDEX)) xs[index] = vector.getIndex(Axis.X_INDEX);
+        if (vector.containsIndex(Axis.Y_INDEX)) ys[index] = vector.getIndex(Axis.Y_INDEX);
+        if (vector.containsIndex(Axis.Z_INDEX)) zs[index] = vector.getIndex(Axis.Z_INDEX);
+        if (vector.containsIndex(Axis.W_INDEX)) ws[index] = vector.getIndex(Axis.W_INDEX);
+        return this;
+    }
+
+    /**
+     * Добавление вектора в конец буфера.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @param z Значение по оси аппликат (z)
+     * @param w Значение по оси w
+     * @return Индекс добавленного вектора в буфере.
+     */
+    public int append(double x, double y, double z, double w) {
+        ensureCapacity(size + 1);
+        xs[size] = x;
+        ys[size] = y;
+        zs[size] = z;
+        ws[size] = w;
+        return size++;
+    }
+
+    @Override
+    public double[] copyTo(int index, double[] destination, int offset) {
+        checkIndex(index);
+        Objects.checkFromIndexSize(offset, 4, destination.length);
+        destination[offset] = xs[index];
+        destination[offset + 1] = ys[index];
+        destination[offset + 2] = zs[index];
+        destination[offset + 3] = ws[index];
+        return destination;
+    }
+
+    @Override
+    public Vector4DBuffer copyFrom(int index, double[] source, int offset) {
+        checkIndex(index);
+        Objects.checkFromIndexSize(offset, 4, source.length);
+        xs[index] = source[offset];
+        ys[index] = source[offset + 1];
+        zs[index] = source[offset + 2];
+        ws[index] = source[offset + 3];
+        return this;
+    }
+
+    @Override
+    public int append(Vector vector) {
+        if (vector instanceof Vector4D vector4D) {
+            return append(vector4D.getX(), vector4D.getY(), vector4D.getZ(), vector4D.getW());
+        }
+        return append(vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX), vector.getIndexOrZero(Axis.Z_INDEX), vector.getIndexOrZero(Axis.W_INDEX));
+    }
+
+    /**
+     * Прибавление ко всем векторам буфера значений другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param summand Вектор, значения которого будут взяты как слагаемые
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer add(Vector summand) {
+        double summandX = summand.getIndexOrZero(Axis.X_INDEX);
+        double summandY = summand.getIndexOrZero(Axis.Y_INDEX);
+        double summandZ = summand.getIndexOrZero(Axis.Z_INDEX);
+        double summandW = summand.getIndexOrZero(Axis.W_INDEX);
+        for (int index = 0; index < size; index++) {
+            xs[index] += summandX;
+            ys[index] += summandY;
+            zs[index] += summandZ;
+            ws[index] += summandW;
+        }
+        return this;
+    }
+
+    /**
+     * Попарное прибавление к векторам буфера векторов другого буфера с теми же индексами.
+     *
+     * @param summand Буфер, векторы которого будут взяты как слагаемые
+     * @return Этот же буфер.
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    public Vector4DBuffer add(Vector4DBuffer summand) {
+        checkSameSize(summand);
+        double[] summandXs = summand.xs;
+        double[] summandYs = summand.ys;
+        double[] summandZs = summand.zs;
+        double[] summandWs = summand.ws;
+        for (int index = 0; index < size; index++) {
+            xs[index] += summandXs[index];
+            ys[index] += summandYs[index];
+            zs[index] += summandZs[index];
+            ws[index] += summandWs[index];
+        }
+        return this;
+    }
+
+    /**
+     * Вычитание из всех векторов буфера значений другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param subtrahend Вектор, значения которого будут взяты как вычитаемые
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer subtract(Vector subtrahend) {
+        double subtrahendX = subtrahend.getIndexOrZero(Axis.X_INDEX);
+        double subtrahendY = subtrahend.getIndexOrZero(Axis.Y_INDEX);
+        double subtrahendZ = subtrahend.getIndexOrZero(Axis.Z_INDEX);
+        double subtrahendW = subtrahend.getIndexOrZero(Axis.W_INDEX);
+        for (int index = 0; index < size; index++) {
+            xs[index] -= subtrahendX;
+            ys[index] -= subtrahendY;
+            zs[index] -= subtrahendZ;
+            ws[index] -= subtrahendW;
+        }
+        return this;
+    }
+
+    /**
+     * Попарное вычитание из векторов буфера векторов другого буфера с теми же индексами.
+     *
+     * @param subtrahend Буфер, векторы которого будут взяты как вычитаемые
+     * @return Этот же буфер.
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    public Vector4DBuffer subtract(Vector4DBuffer subtrahend) {
+        checkSameSize(subtrahend);
+        double[] subtrahendXs = subtrahend.xs;
+        double[] subtrahendYs = subtrahend.ys;
+        double[] subtrahendZs = subtrahend.zs;
+        double[] subtrahendWs = subtrahend.ws;
+        for (int index = 0; index < size; index++) {
+            xs[index] -= subtrahendXs[index];
+            ys[index] -= subtrahendYs[index];
+            zs[index] -= subtrahendZs[index];
+            ws[index] -= subtrahendWs[index];
+        }
+        return this;
+    }
+
+    /**
+     * Умножение всех значений всех векторов буфера.
+     *
+     * @param multiplier Множитель
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer multiple(double multiplier) {
+        for (int index = 0; index < size; index++) {
+            xs[index] *= multiplier;
+            ys[index] *= multiplier;
+            zs[index] *= multiplier;
+            ws[index] *= multiplier;
+        }
+        return this;
+    }
+
+    /**
+     * Деление всех значений всех векторов буфера.
+     *
+     * @param divisor Делитель
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer divide(double divisor) {
+        for (int index = 0; index < size; index++) {
+            xs[index] /= divisor;
+            ys[index] /= divisor;
+            zs[index] /= divisor;
+            ws[index] /= divisor;
+        }
+        return this;
+    }
+
+    /**
+     * Вычисление длины вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Длина вектора.
+     */
+    public double length(int index) {
+        checkIndex(index);
+        return Math.sqrt(xs[index] * xs[index] + ys[index] * ys[index] + zs[index] * zs[index] + ws[index] * ws[index]);
+    }
+
+    /**
+     * Вычисление длин всех векторов буфера.
+     *
+     * @param destination Массив, в который будут записаны длины векторов (по индексам векторов)
+     * @return Массив с длинами векторов.
+     */
+    public double[] lengths(double[] destination) {
+        checkDestination(destination);
+        for (int index = 0; index < size; index++) {
+            destination[index] = Math.sqrt(xs[index] * xs[index] + ys[index] * ys[index] + zs[index] * zs[index] + ws[index] * ws[index]);
+        }
+        return destination;
+    }
+
+    /**
+     * Приведение всех векторов буфера к нормальной форме.
+     *
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer normalize() {
+        for (int index = 0; index < size; index++) {
+            double length = Math.sqrt(xs[index] * xs[index] + ys[index] * ys[index] + zs[index] * zs[index] + ws[index] * ws[index]);
+            xs[index] /= length;
+            ys[index] /= length;
+            zs[index] /= length;
+            ws[index] /= length;
+        }
+        return this;
+    }
+
+    /**
+     * Приведение вектора буфера к нормальной форме.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Этот же буфер.
+     */
+    public Vector4DBuffer normalize(int index) {
+        double length = length(index);
+        xs[index] /= length;
+        ys[index] /= length;
+        zs[index] /= length;
+        ws[index] /= length;
+        return this;
+    }
+
+    /**
+     * Вычисление расстояния от вектора буфера до другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param index  Индекс вектора в буфере
+     * @param vector Вектор, расстояние до которого будет вычислено
+     * @return Расстояние до вектора.
+     */
+    public double distance(int index, Vector vector) {
+        checkIndex(index);
+        double vectorX = vector.getIndexOrZero(Axis.X_INDEX);
+        double vectorY = vector.getIndexOrZero(Axis.Y_INDEX);
+        double vectorZ = vector.getIndexOrZero(Axis.Z_INDEX);
+        double vectorW = vector.getIndexOrZero(Axis.W_INDEX);
+        return Math.sqrt((xs[index] - vectorX) * (xs[index] - vectorX) + (ys[index] - vectorY) * (ys[index] - vectorY) + (zs[index] - vectorZ) * (zs[index] - vectorZ) + (ws[index] - vectorW) * (ws[index] - vectorW));
+    }
+
+    /**
+     * Вычисление расстояния между двумя векторами буфера.
+     *
+     * @param index      Индекс первого вектора в буфере
+     * @param otherIndex Индекс второго вектора в буфере
+     * @return Расстояние между векторами.
+     */
+    public double distance(int index, int otherIndex) {
+        checkIndex(index);
+        checkIndex(otherIndex);
+        return Math.sqrt((xs[index] - xs[otherIndex]) * (xs[index] - xs[otherIndex]) + (ys[index] - ys[otherIndex]) * (ys[index] - ys[otherIndex]) + (zs[index] - zs[otherIndex]) * (zs[index] - zs[otherIndex]) + (ws[index] - ws[otherIndex]) * (ws[index] - ws[otherIndex]));
+    }
+
+    /**
+     * Вычисление расстояний от всех векторов буфера до другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Вектор, расстояние до которого будет вычислено
+     * @param destination Массив, в который будут записаны расстояния (по индексам векторов)
+     * @return Массив с расстояниями.
+     */
+    public double[] distances(Vector vector, double[] destination) {
+        checkDestination(destination);
+        double vectorX = vector.getIndexOrZero(Axis.X_INDEX);
+        double vectorY = vector.getIndexOrZero(Axis.Y_INDEX);
+        double vectorZ = vector.getIndexOrZero(Axis.Z_INDEX);
+        double vectorW = vector.getIndexOrZero(Axis.W_INDEX);
+        for (int index = 0; index < size; index++) {
+            destination[index] = Math.sqrt((xs[index] - vectorX) * (xs[index] - vectorX) + (ys[index] - vectorY) * (ys[index] - vectorY) + (zs[index] - vectorZ) * (zs[index] - vectorZ) + (ws[index] - vectorW) * (ws[index] - vectorW));
+        }
+        return destination;
+    }
+
+    /**
+     * Вычисление попарных расстояний между векторами буфера и векторами другого буфера с теми же индексами.
+     *
+     * @param other       Другой буфер
+     * @param destination Массив, в который будут записаны расстояния (по индексам векторов)
+     * @return Массив с расстояниями.
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    public double[] distances(Vector4DBuffer other, double[] destination) {
+        checkSameSize(other);
+        checkDestination(destination);
+        double[] otherXs = other.xs;
+        double[] otherYs = other.ys;
+        double[] otherZs = other.zs;
+        double[] otherWs = other.ws;
+        for (int index = 0; index < size; index++) {
+            destination[index] = Math.sqrt((xs[index] - otherXs[index]) * (xs[index] - otherXs[index]) + (ys[index] - otherYs[index]) * (ys[index] - otherYs[index]) + (zs[index] - otherZs[index]) * (zs[index] - otherZs[index]) + (ws[index] - otherWs[index]) * (ws[index] - otherWs[index]));
+        }
+        return destination;
+    }
+}
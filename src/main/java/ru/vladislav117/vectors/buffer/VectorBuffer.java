@@ -0,0 +1,169 @@
+package ru.vladislav117.vectors.buffer;
+
+import ru.vladislav117.vectors.Vector;
+
+import java.util.Objects;
+
+/**
+ * Буфер векторов одинаковой размерности, хранящий значения по каждой оси в отдельном массиве (колонке).
+ * В отличие от массива векторов, буфер не хранит отдельный объект на каждый вектор.
+ */
+public abstract class VectorBuffer {
+    /**
+     * Вместимость буфера по умолчанию.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Количество векторов в буфере.
+     */
+    protected int size;
+
+    /**
+     * Получение размерности векторов буфера.
+     *
+     * @return Размерность векторов.
+     */
+    public abstract int getDimension();
+
+    /**
+     * Получение вместимости буфера.
+     *
+     * @return Количество векторов, которое буфер может хранить без расширения колонок.
+     */
+    public abstract int getCapacity();
+
+    /**
+     * Расширение колонок буфера до указанной вместимости.
+     *
+     * @param capacity Новая вместимость
+     */
+    protected abstract void resize(int capacity);
+
+    /**
+     * Получение значения вектора буфера по индексу оси.
+     *
+     * @param index Индекс вектора в буфере
+     * @param axis  Индекс оси
+     * @return Значение по оси.
+     */
+    public abstract double get(int index, int axis);
+
+    /**
+     * Установка значения вектора буфера по индексу оси.
+     *
+     * @param index Индекс вектора в буфере
+     * @param axis  Индекс оси
+     * @param value Значение
+     * @return Этот же буфер.
+     */
+    public abstract VectorBuffer set(int index, int axis, double value);
+
+    /**
+     * Получение копии вектора буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Новый вектор со значениями вектора буфера.
+     */
+    public abstract Vector get(int index);
+
+    /**
+     * Копирование значений вектора буфера в массив.
+     *
+     * @param index       Индекс вектора в буфере
+     * @param destination Массив, в который будут записаны {@link #getDimension()} значений
+     * @param offset      Позиция в массиве, с которой будут записаны значения
+     * @return Массив destination.
+     */
+    public abstract double[] copyTo(int index, double[] destination, int offset);
+
+    /**
+     * Установка значений вектора буфера из массива.
+     *
+     * @param index  Индекс вектора в буфере
+     * @param source Массив, из которого будут прочитаны {@link #getDimension()} значений
+     * @param offset Позиция в массиве, с которой будут прочитаны значения
+     * @return Этот же буфер.
+     */
+    public abstract VectorBuffer copyFrom(int index, double[] source, int offset);
+
+    /**
+     * Добавление вектора в конец буфера.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Добавляемый вектор
+     * @return Индекс добавленного вектора в буфере.
+     */
+    public abstract int append(Vector vector);
+
+    /**
+     * Получение количества векторов в буфере.
+     *
+     * @return Количество векторов.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаление всех векторов из буфера. Колонки не освобождаются.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Гарантия того, что буфер сможет хранить указанное количество векторов без расширения колонок.
+     *
+     * @param capacity Требуемая вместимость
+     */
+    public void ensureCapacity(int capacity) {
+        int currentCapacity = getCapacity();
+        if (capacity <= currentCapacity) return;
+        resize(Math.max(capacity, currentCapacity + (currentCapacity >> 1) + 1));
+    }
+
+    /**
+     * Создание курсора, указывающего на вектор буфера.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Курсор.
+     */
+    public VectorBufferCursor cursor(int index) {
+        return new VectorBufferCursor(this, index);
+    }
+
+    /**
+     * Проверка индекса вектора в буфере.
+     *
+     * @param index Индекс вектора в буфере
+     * @return Этот же индекс.
+     * @throws IndexOutOfBoundsException Если в буфере нет вектора с таким индексом
+     */
+    protected int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Проверка того, что буферы имеют одинаковое количество векторов.
+     *
+     * @param other Другой буфер
+     * @throws IllegalArgumentException Если количество векторов в буферах различается
+     */
+    protected void checkSameSize(VectorBuffer other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Buffer sizes do not match: " + size + " and " + other.size);
+        }
+    }
+
+    /**
+     * Проверка того, что массив результатов вмещает значение для каждого вектора буфера.
+     *
+     * @param destination Массив результатов
+     * @throws IllegalArgumentException Если массив короче количества векторов
+     */
+    protected void checkDestination(double[] destination) {
+        if (destination.length < size) {
+            throw new IllegalArgumentException("Destination length " + destination.length + " is less than buffer size " + size);
+        }
+    }
+}
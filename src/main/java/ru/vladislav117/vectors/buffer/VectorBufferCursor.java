@@ -0,0 +1,256 @@
+package ru.vladislav117.vectors.buffer;
+
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+/**
+ * Курсор буфера векторов.
+ * Представляет вектор буфера в виде {@link Vector} без копирования значений: чтение и изменение курсора
+ * читает и изменяет значения в колонках буфера. Курсор можно перемещать между векторами буфера,
+ * поэтому один объект курсора может использоваться для обхода всего буфера.
+ * <p>
+ * Методы, возвращающие новый вектор ({@link #clone()}, {@link #toNormalized()}, {@link #vectorTo(Vector)},
+ * {@link #directionTo(Vector)}), возвращают самостоятельный вектор, не связанный с буфером.
+ * </p>
+ */
+public class VectorBufferCursor implements Vector {
+    /**
+     * Буфер, на вектор которого указывает курсор.
+     */
+    protected final VectorBuffer buffer;
+    /**
+     * Индекс вектора в буфере.
+     */
+    protected int position;
+
+    /**
+     * Создание курсора.
+     *
+     * @param buffer   Буфер
+     * @param position Индекс вектора в буфере
+     */
+    public VectorBufferCursor(VectorBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    /**
+     * Получение буфера курсора.
+     *
+     * @return Буфер.
+     */
+    public VectorBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Получение индекса вектора в буфере, на который указывает курсор.
+     *
+     * @return Индекс вектора в буфере.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Перемещение курсора на другой вектор буфера.
+     *
+     * @param position Индекс вектора в буфере
+     * @return Этот же курсор.
+     */
+    public VectorBufferCursor moveTo(int position) {
+        this.position = position;
+        return this;
+    }
+
+    @Override
+    public Vector clone() {
+        return buffer.get(position);
+    }
+
+    @Override
+    public int getSize() {
+        return buffer.getDimension();
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < buffer.getDimension();
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (containsIndex(index)) return buffer.get(position, index);
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        if (containsIndex(index)) return buffer.get(position, index);
+        return 0;
+    }
+
+    @Override
+    public VectorBufferCursor setIndex(int index, double value) {
+        if (!containsIndex(index)) throw new VectorIndexError(index);
+        buffer.set(position, index, value);
+        return this;
+    }
+
+    @Override
+    public VectorBufferCursor addIndex(int index, double summand) {
+        return setIndex(index, getIndex(index) + summand);
+    }
+
+    @Override
+    public VectorBufferCursor subtractIndex(int index, double subtrahend) {
+        return setIndex(index, getIndex(index) - subtrahend);
+    }
+
+    @Override
+    public VectorBufferCursor multipleIndex(int index, double multiplier) {
+        return setIndex(index, getIndex(index) * multiplier);
+    }
+
+    @Override
+    public VectorBufferCursor divideIndex(int index, double divisor) {
+        return setIndex(index, getIndex(index) / divisor);
+    }
+
+    @Override
+    public VectorBufferCursor set(Vector vector) {
+        int dimension = buffer.getDimension();
+        for (int axis = 0; axis < dimension; axis++) {
+            if (vector.containsIndex(axis)) buffer.set(position, axis, vector.getIndex(axis));
+        }
+        return this;
+    }
+
+    @Override
+    public VectorBufferCursor add(Vector summand) {
+        int dimension = buffer.getDimension();
+        for (int axis = 0; axis < dimension; axis++) {
+            buffer.set(position, axis, buffer.get(position, axis) + summand.getIndexOrZero(axis));
+        }
+        return this;
+    }
+
+    @Override
+    public VectorBufferCursor subtract(Vector subtrahend) {
+        int dimension = buffer.getDimension();
+        for (int axis = 0; axis < dimension; axis++) {
+            buffer.set(position, axis, buffer.get(position, axis) - subtrahend.getIndexOrZero(axis));
+        }
+        return this;
+    }
+
+    @Override
+    public VectorBufferCursor multiple(double multiplier) {
+        int dimension = buffer.getDimension();
+        for (int axis = 0; axis < dimension; axis++) {
+            buffer.set(position, axis, buffer.get(position, axis) * multiplier);
+        }
+        return this;
+    }
+
+    @Override
+    public VectorBufferCursor divide(double divisor) {
+        int dimension = buffer.getDimension();
+        for (int axis = 0; axis < dimension; axis++) {
+            buffer.set(position, axis, buffer.get(position, axis) / divisor);
+        }
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    @Override
+    public double lengthSquared() {
+        int dimension = buffer.getDimension();
+        double sumOfSquares = 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            double value = buffer.get(position, axis);
+            sumOfSquares += value * value;
+        }
+        return sumOfSquares;
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        return Math.sqrt(distanceSquared(vector));
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        int dimension = buffer.getDimension();
+        double sumOfSquaresOfDifferences = 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            double difference = buffer.get(position, axis) - vector.getIndexOrZero(axis);
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        int dimension = buffer.getDimension();
+        double dot = 0;
+        for (int axis = 0; axis < dimension; axis++) dot += buffer.get(position, axis) * vector.getIndexOrZero(axis);
+        return dot;
+    }
+
+    @Override
+    public VectorBufferCursor normalize() {
+        return divide(length());
+    }
+
+    @Override
+    public Vector toNormalized() {
+        return buffer.get(position).normalize();
+    }
+
+    @Override
+    public Vector vectorTo(Vector vector) {
+        return buffer.get(position).multiple(-1).add(vector);
+    }
+
+    @Override
+    public Vector directionTo(Vector vector) {
+        return vectorTo(vector).normalize();
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        return buffer.copyTo(position, destination, offset);
+    }
+
+    @Override
+    public VectorBufferCursor copyFrom(double[] source, int offset) {
+        buffer.copyFrom(position, source, offset);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        int dimension = buffer.getDimension();
+        for (int axis = 0; axis < dimension; axis++) {
+            if (!vector.containsIndex(axis)) return false;
+            if (vector.getIndex(axis) != buffer.get(position, axis)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int dimension = buffer.getDimension();
+        int result = 1;
+        for (int axis = 0; axis < dimension; axis++) {
+            result = 31 * result + Double.hashCode(buffer.get(position, axis) + 0.0);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,367 @@
+package ru.vladislav117.vectors.collection;
+
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+
+import java.util.Arrays;
+
+/**
+ * Хеш-таблица с открытой адресацией, отображающая двумерные точки в целые числа.
+ * <p>
+ * Ключи хранятся в таблице значениями по осям подряд в массиве {@code double[]}, значения — в массиве {@code int[]},
+ * коллизии разрешаются линейным пробированием. Запись занимает 21 байт на слот (не больше 28 байт на ключ при
+ * заполненности 3/4) вместо объекта ключа, объекта значения и узла {@link java.util.HashMap}. Методы, принимающие
+ * значения по осям, не создают объектов.
+ * </p>
+ * <p>
+ * При ненулевой точности (epsilon) значения ключей по осям округляются до ближайшего кратного точности, и точки,
+ * округлённые одинаково, считаются одним ключом (например, для объединения совпадающих вершин контура). В таблице
+ * хранится первая добавленная точка. Точки по разные стороны границы округления не объединяются, даже если расстояние
+ * между ними меньше точности. При нулевой точности ключи сравниваются точно, при этом {@code -0.0} равно {@code 0.0}.
+ * </p>
+ */
+public class Vector2DIntMap {
+    /**
+     * Значение, возвращаемое при отсутствии ключа.
+     */
+    public static final int NO_VALUE = -1;
+    /**
+     * Точность сравнения ключей.
+     */
+    protected final double epsilon;
+    /**
+     * Величина, обратная точности, или 0 для точного сравнения.
+     */
+    protected final double inverseEpsilon;
+    /**
+     * Значения ключей по осям (по 2 значения на слот).
+     */
+    protected double[] keys;
+    /**
+     * Значения.
+     */
+    protected int[] values;
+    /**
+     * Занят ли слот.
+     */
+    protected boolean[] used;
+    /**
+     * Количество ключей.
+     */
+    protected int size;
+
+    /**
+     * Обработчик записей таблицы.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Обработка записи.
+         *
+         * @param x     Значение ключа по оси абсцисс (x)
+         * @param y     Значение ключа по оси ординат (y)
+         * @param value Значение
+         */
+        void accept(double x, double y, int value);
+    }
+
+    /**
+     * Создание пустой таблицы с точным сравнением ключей.
+     */
+    public Vector2DIntMap() {
+        this(0, 0);
+    }
+
+    /**
+     * Создание пустой таблицы с точным сравнением ключей.
+     *
+     * @param expectedSize Ожидаемое количество ключей, до которого таблица не будет расширяться
+     */
+    public Vector2DIntMap(int expectedSize) {
+        this(expectedSize, 0);
+    }
+
+    /**
+     * Создание пустой таблицы.
+     *
+     * @param expectedSize Ожидаемое количество ключей, до которого таблица не будет расширяться
+     * @param epsilon      Точность сравнения ключей (0 для точного сравнения)
+     */
+    public Vector2DIntMap(int expectedSize, double epsilon) {
+        this.epsilon = epsilon;
+        inverseEpsilon = VectorHashing.inverseEpsilon(epsilon);
+        allocate(VectorHashing.capacity(expectedSize, VectorHashing.maxCapacity(Vector2D.SIZE)));
+    }
+
+    /**
+     * Получение точности сравнения ключей.
+     *
+     * @return Точность (0 для точного сравнения).
+     */
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Получение количества ключей.
+     *
+     * @return Количество ключей.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Проверка, содержит ли таблица ключ.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @return Содержит ли таблица ключ.
+     */
+    public boolean containsKey(double x, double y) {
+        return indexOf(x, y) >= 0;
+    }
+
+    /**
+     * Проверка, содержит ли таблица ключ.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param key Ключ
+     * @return Содержит ли таблица ключ.
+     */
+    public boolean containsKey(Vector key) {
+        return containsKey(key.getIndexOrZero(Axis.X_INDEX), key.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Получение значения по ключу.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @return Значение или {@link #NO_VALUE}, если ключа нет в таблице.
+     */
+    public int get(double x, double y) {
+        return getOrDefault(x, y, NO_VALUE);
+    }
+
+    /**
+     * Получение значения по ключу.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param key Ключ
+     * @return Значение или {@link #NO_VALUE}, если ключа нет в таблице.
+     */
+    public int get(Vector key) {
+        return get(key.getIndexOrZero(Axis.X_INDEX), key.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Получение значения по ключу.
+     *
+     * @param x            Значение по оси абсцисс (x)
+     * @param y            Значение по оси ординат (y)
+     * @param defaultValue Значение, возвращаемое при отсутствии ключа
+     * @return Значение или defaultValue, если ключа нет в таблице.
+     */
+    public int getOrDefault(double x, double y, int defaultValue) {
+        int slot = indexOf(x, y);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Запись значения по ключу.
+     *
+     * @param x     Значение по оси абсцисс (x)
+     * @param y     Значение по оси ординат (y)
+     * @param value Значение
+     * @return Предыдущее значение или {@link #NO_VALUE}, если ключа не было в таблице.
+     * @throws IllegalStateException Если таблица достигла максимальной вместимости
+     */
+    public int put(double x, double y, int value) {
+        int slot = indexOf(x, y);
+        if (slot >= 0) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(slot, x, y, value);
+        return NO_VALUE;
+    }
+
+    /**
+     * Запись значения по ключу.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param key   Ключ
+     * @param value Значение
+     * @return Предыдущее значение или {@link #NO_VALUE}, если ключа не было в таблице.
+     * @throws IllegalStateException Если таблица достигла максимальной вместимости
+     */
+    public int put(Vector key, int value) {
+        return put(key.getIndexOrZero(Axis.X_INDEX), key.getIndexOrZero(Axis.Y_INDEX), value);
+    }
+
+    /**
+     * Запись значения по ключу, если ключа нет в таблице.
+     * Например, индексы уникальных вершин назначаются вызовом {@code map.putIfAbsent(x, y, map.getSize())}.
+     *
+     * @param x     Значение по оси абсцисс (x)
+     * @param y     Значение по оси ординат (y)
+     * @param value Значение
+     * @return Значение ключа, уже находящегося в таблице, или {@link #NO_VALUE}, если значение было записано.
+     * @throws IllegalStateException Если таблица достигла максимальной вместимости
+     */
+    public int putIfAbsent(double x, double y, int value) {
+        int slot = indexOf(x, y);
+        if (slot >= 0) return values[slot];
+        insert(slot, x, y, value);
+        return NO_VALUE;
+    }
+
+    /**
+     * Запись значения по ключу, если ключа нет в таблице.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param key   Ключ
+     * @param value Значение
+     * @return Значение ключа, уже находящегося в таблице, или {@link #NO_VALUE}, если значение было записано.
+     * @throws IllegalStateException Если таблица достигла максимальной вместимости
+     */
+    public int putIfAbsent(Vector key, int value) {
+        return putIfAbsent(key.getIndexOrZero(Axis.X_INDEX), key.getIndexOrZero(Axis.Y_INDEX), value);
+    }
+
+    /**
+     * Удаление ключа.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @return Значение удалённого ключа или {@link #NO_VALUE}, если ключа не было в таблице.
+     */
+    public int remove(double x, double y) {
+        int slot = indexOf(x, y);
+        if (slot < 0) return NO_VALUE;
+        int value = values[slot];
+        deleteSlot(slot);
+        return value;
+    }
+
+    /**
+     * Удаление ключа.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param key Ключ
+     * @return Значение удалённого ключа или {@link #NO_VALUE}, если ключа не было в таблице.
+     */
+    public int remove(Vector key) {
+        return remove(key.getIndexOrZero(Axis.X_INDEX), key.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Удаление всех ключей. Вместимость таблицы сохраняется.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Обход записей таблицы в порядке слотов. Не создаёт объектов.
+     * Таблицу нельзя изменять во время обхода.
+     *
+     * @param consumer Обработчик записей
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (!used[slot]) continue;
+            int offset = slot * 2;
+            consumer.accept(keys[offset], keys[offset + 1], values[slot]);
+        }
+    }
+
+    private long bits(double value) {
+        return VectorHashing.bits(value, inverseEpsilon);
+    }
+
+    private int hashSlot(long bitsX, long bitsY) {
+        return VectorHashing.slot(VectorHashing.mix(VectorHashing.mix(0, bitsX), bitsY), used.length);
+    }
+
+    private int homeSlot(int slot) {
+        int offset = slot * 2;
+        return hashSlot(bits(keys[offset]), bits(keys[offset + 1]));
+    }
+
+    /**
+     * Поиск слота ключа.
+     *
+     * @return Слот ключа или {@code -(слот для вставки) - 1}, если ключа нет в таблице.
+     */
+    private int indexOf(double x, double y) {
+        long bitsX = bits(x), bitsY = bits(y);
+        int mask = used.length - 1;
+        int slot = hashSlot(bitsX, bitsY);
+        while (used[slot]) {
+            int offset = slot * 2;
+            if (bits(keys[offset]) == bitsX && bits(keys[offset + 1]) == bitsY) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private void insert(int slot, double x, double y, int value) {
+        if (VectorHashing.needsGrow(size, used.length)) {
+            if (used.length >= VectorHashing.maxCapacity(Vector2D.SIZE)) throw new IllegalStateException("Map is full: " + size + " keys");
+            rehash(used.length * 2);
+            slot = indexOf(x, y);
+        }
+        slot = -slot - 1;
+        int offset = slot * 2;
+        keys[offset] = x;
+        keys[offset + 1] = y;
+        values[slot] = value;
+        used[slot] = true;
+        size++;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = used.length - 1;
+        int hole = slot;
+        int current = (slot + 1) & mask;
+        while (used[current]) {
+            int home = homeSlot(current);
+            if (((current - home) & mask) >= ((current - hole) & mask)) {
+                System.arraycopy(keys, current * 2, keys, hole * 2, 2);
+                values[hole] = values[current];
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        used[hole] = false;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        keys = new double[capacity * 2];
+        values = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    private void rehash(int capacity) {
+        double[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int oldSlot = 0; oldSlot < oldUsed.length; oldSlot++) {
+            if (!oldUsed[oldSlot]) continue;
+            int oldOffset = oldSlot * 2;
+            int slot = hashSlot(bits(oldKeys[oldOffset]), bits(oldKeys[oldOffset + 1]));
+            while (used[slot]) slot = (slot + 1) & mask;
+            System.arraycopy(oldKeys, oldOffset, keys, slot * 2, 2);
+            values[slot] = oldValues[oldSlot];
+            used[slot] = true;
+        }
+    }
+}
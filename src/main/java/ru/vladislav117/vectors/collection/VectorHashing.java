@@ -0,0 +1,113 @@
+package ru.vladislav117.vectors.collection;
+
+/**
+ * Общие функции хеш-таблиц с открытой адресацией, ключами которых являются значения векторов по осям.
+ * <p>
+ * Значение по оси сравнивается и хешируется по своему каноническому представлению ({@link #bits(double, double)}):
+ * {@code -0.0} не отличается от {@code 0.0}, все NaN равны друг другу, а при ненулевой точности значение
+ * предварительно округляется до ближайшего кратного точности.
+ * </p>
+ */
+final class VectorHashing {
+    /**
+     * Минимальная вместимость таблицы.
+     */
+    static final int MIN_CAPACITY = 16;
+    /**
+     * Максимальная вместимость таблицы.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+    /**
+     * Максимальная длина массива.
+     */
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    /**
+     * Множитель хеширования Фибоначчи.
+     */
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private VectorHashing() {
+    }
+
+    /**
+     * Вычисление величины, обратной точности.
+     *
+     * @param epsilon Точность (0 для точного сравнения)
+     * @return Величина, обратная точности, или 0 для точного сравнения.
+     */
+    static double inverseEpsilon(double epsilon) {
+        if (!(epsilon >= 0) || epsilon == Double.POSITIVE_INFINITY) throw new IllegalArgumentException("Epsilon must be finite and not negative: " + epsilon);
+        return epsilon == 0 ? 0 : 1 / epsilon;
+    }
+
+    /**
+     * Вычисление канонического представления значения по оси.
+     *
+     * @param value          Значение по оси
+     * @param inverseEpsilon Величина, обратная точности, или 0 для точного сравнения
+     * @return Биты канонического значения.
+     */
+    static long bits(double value, double inverseEpsilon) {
+        if (inverseEpsilon != 0) value = Math.rint(value * inverseEpsilon);
+        return Double.doubleToLongBits(value + 0.0);
+    }
+
+    /**
+     * Добавление канонического значения по оси в хеш.
+     *
+     * @param hash Хеш предыдущих значений (0 для первого значения)
+     * @param bits Биты канонического значения
+     * @return Новый хеш.
+     */
+    static long mix(long hash, long bits) {
+        return (hash ^ bits) * GOLDEN;
+    }
+
+    /**
+     * Вычисление начального слота ключа.
+     *
+     * @param hash     Хеш ключа
+     * @param capacity Вместимость таблицы (степень двойки)
+     * @return Слот.
+     */
+    static int slot(long hash, int capacity) {
+        return (int) (((hash ^ (hash >>> 32)) * GOLDEN) >>> (64 - Integer.numberOfTrailingZeros(capacity)));
+    }
+
+    /**
+     * Вычисление максимальной вместимости таблицы с ключами указанной размерности.
+     *
+     * @param dimension Размерность ключей
+     * @return Максимальная вместимость (степень двойки).
+     */
+    static int maxCapacity(int dimension) {
+        return Math.min(MAX_CAPACITY, Integer.highestOneBit(MAX_ARRAY_LENGTH / dimension));
+    }
+
+    /**
+     * Вычисление вместимости таблицы, достаточной для указанного количества ключей без расширения.
+     *
+     * @param expectedSize Ожидаемое количество ключей
+     * @param maxCapacity  Максимальная вместимость
+     * @return Вместимость (степень двойки).
+     */
+    static int capacity(int expectedSize, int maxCapacity) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        long required = Math.max((long) expectedSize * 4 / 3 + 1, MIN_CAPACITY);
+        if (required > maxCapacity) throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        int capacity = MIN_CAPACITY;
+        while (capacity < required) capacity <<= 1;
+        return capacity;
+    }
+
+    /**
+     * Проверка, нужно ли расширить таблицу перед добавлением ключа (заполненность не больше 3/4).
+     *
+     * @param size     Количество ключей до добавления
+     * @param capacity Вместимость таблицы
+     * @return Нужно ли расширить таблицу.
+     */
+    static boolean needsGrow(int size, int capacity) {
+        return (size + 1L) * 4 > (long) capacity * 3;
+    }
+}
@@ -0,0 +1,362 @@
+package ru.vladislav117.vectors.collection;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Множество векторов одинаковой размерности на хеш-таблице с открытой адресацией.
+ * <p>
+ * Векторы хранятся в таблице значениями по осям подряд в общем массиве {@code double[]}, коллизии разрешаются
+ * линейным пробированием, поэтому множество не хранит объекты векторов. Добавление и поиск не создают объектов.
+ * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0, а значения
+ * по осям с индексом не меньше размерности множества не учитываются.
+ * </p>
+ * <p>
+ * При ненулевой точности (epsilon) значения по осям округляются до ближайшего кратного точности, и векторы,
+ * округлённые одинаково, считаются одним элементом. В множестве хранится первый добавленный вектор. Векторы по разные
+ * стороны границы округления не объединяются, даже если расстояние между ними меньше точности. При нулевой точности
+ * векторы сравниваются точно, при этом {@code -0.0} равно {@code 0.0}.
+ * </p>
+ */
+public class VectorSet {
+    /**
+     * Размерность векторов.
+     */
+    protected final int dimension;
+    /**
+     * Точность сравнения векторов.
+     */
+    protected final double epsilon;
+    /**
+     * Величина, обратная точности, или 0 для точного сравнения.
+     */
+    protected final double inverseEpsilon;
+    /**
+     * Максимальная вместимость таблицы.
+     */
+    protected final int maxCapacity;
+    /**
+     * Значения векторов по осям (по {@link #dimension} значений на слот).
+     */
+    protected double[] keys;
+    /**
+     * Занят ли слот.
+     */
+    protected boolean[] used;
+    /**
+     * Количество векторов.
+     */
+    protected int size;
+
+    /**
+     * Обработчик векторов множества.
+     * Значения вектора находятся в массиве array по индексам от offset до offset + {@link #getDimension()}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer {
+        /**
+         * Обработка вектора. Массив нельзя изменять.
+         *
+         * @param array  Массив, в котором хранится вектор
+         * @param offset Индекс значения вектора по оси 0 в массиве
+         */
+        void accept(double[] array, int offset);
+    }
+
+    /**
+     * Создание пустого множества с точным сравнением векторов.
+     *
+     * @param dimension Размерность векторов
+     */
+    public VectorSet(int dimension) {
+        this(dimension, 0, 0);
+    }
+
+    /**
+     * Создание пустого множества.
+     *
+     * @param dimension    Размерность векторов
+     * @param expectedSize Ожидаемое количество векторов, до которого таблица не будет расширяться
+     * @param epsilon      Точность сравнения векторов (0 для точного сравнения)
+     */
+    public VectorSet(int dimension, int expectedSize, double epsilon) {
+        if (dimension <= 0) throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        this.dimension = dimension;
+        this.epsilon = epsilon;
+        inverseEpsilon = VectorHashing.inverseEpsilon(epsilon);
+        maxCapacity = VectorHashing.maxCapacity(dimension);
+        allocate(VectorHashing.capacity(expectedSize, maxCapacity));
+    }
+
+    /**
+     * Получение размерности векторов.
+     *
+     * @return Размерность векторов.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение точности сравнения векторов.
+     *
+     * @return Точность (0 для точного сравнения).
+     */
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Получение количества векторов.
+     *
+     * @return Количество векторов.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Проверка, содержит ли множество вектор.
+     *
+     * @param vector Вектор
+     * @return Содержит ли множество вектор.
+     */
+    public boolean contains(Vector vector) {
+        return indexOf(vector) >= 0;
+    }
+
+    /**
+     * Проверка, содержит ли множество вектор, значения которого находятся в массиве.
+     *
+     * @param values Массив значений
+     * @param offset Индекс значения по оси 0 в массиве
+     * @return Содержит ли множество вектор.
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     */
+    public boolean contains(double[] values, int offset) {
+        return indexOf(values, offset) >= 0;
+    }
+
+    /**
+     * Добавление вектора. Значения копируются в множество.
+     *
+     * @param vector Вектор
+     * @return Был ли вектор добавлен (false, если множество уже содержало равный вектор).
+     * @throws IllegalStateException Если множество достигло максимальной вместимости
+     */
+    public boolean add(Vector vector) {
+        int slot = indexOf(vector);
+        if (slot >= 0) return false;
+        if (VectorHashing.needsGrow(size, used.length)) {
+            grow();
+            slot = indexOf(vector);
+        }
+        slot = -slot - 1;
+        int offset = slot * dimension;
+        for (int axis = 0; axis < dimension; axis++) keys[offset + axis] = vector.getIndexOrZero(axis);
+        used[slot] = true;
+        size++;
+        return true;
+    }
+
+    /**
+     * Добавление вектора, значения которого находятся в массиве. Значения копируются в множество.
+     *
+     * @param values Массив значений
+     * @param offset Индекс значения по оси 0 в массиве
+     * @return Был ли вектор добавлен (false, если множество уже содержало равный вектор).
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     * @throws IllegalStateException     Если множество достигло максимальной вместимости
+     */
+    public boolean add(double[] values, int offset) {
+        int slot = indexOf(values, offset);
+        if (slot >= 0) return false;
+        if (VectorHashing.needsGrow(size, used.length)) {
+            grow();
+            slot = indexOf(values, offset);
+        }
+        slot = -slot - 1;
+        System.arraycopy(values, offset, keys, slot * dimension, dimension);
+        used[slot] = true;
+        size++;
+        return true;
+    }
+
+    /**
+     * Удаление вектора.
+     *
+     * @param vector Вектор
+     * @return Был ли вектор удалён.
+     */
+    public boolean remove(Vector vector) {
+        int slot = indexOf(vector);
+        if (slot < 0) return false;
+        deleteSlot(slot);
+        return true;
+    }
+
+    /**
+     * Удаление вектора, значения которого находятся в массиве.
+     *
+     * @param values Массив значений
+     * @param offset Индекс значения по оси 0 в массиве
+     * @return Был ли вектор удалён.
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     */
+    public boolean remove(double[] values, int offset) {
+        int slot = indexOf(values, offset);
+        if (slot < 0) return false;
+        deleteSlot(slot);
+        return true;
+    }
+
+    /**
+     * Удаление всех векторов. Вместимость таблицы сохраняется.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Обход векторов множества в порядке слотов. Не создаёт объектов.
+     * Множество нельзя изменять во время обхода.
+     *
+     * @param consumer Обработчик векторов
+     */
+    public void forEach(ElementConsumer consumer) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) consumer.accept(keys, slot * dimension);
+        }
+    }
+
+    /**
+     * Копирование векторов множества в список векторов-массивов.
+     *
+     * @return Список копий векторов в порядке слотов.
+     */
+    public List<ArrayVector> toList() {
+        List<ArrayVector> vectors = new ArrayList<>(size);
+        forEach((array, offset) -> vectors.add(new ArrayVector(Arrays.copyOfRange(array, offset, offset + dimension))));
+        return vectors;
+    }
+
+    /**
+     * Копирование векторов множества в матрицу.
+     *
+     * @return Матрица, строки которой — векторы множества в порядке слотов.
+     */
+    public VectorMatrix toMatrix() {
+        VectorMatrix matrix = new VectorMatrix(size, dimension);
+        long[] row = {0};
+        forEach((array, offset) -> matrix.copyFrom(row[0]++, array, offset));
+        return matrix;
+    }
+
+    private long bits(double value) {
+        return VectorHashing.bits(value, inverseEpsilon);
+    }
+
+    private int homeSlot(int slot) {
+        int offset = slot * dimension;
+        long hash = 0;
+        for (int axis = 0; axis < dimension; axis++) hash = VectorHashing.mix(hash, bits(keys[offset + axis]));
+        return VectorHashing.slot(hash, used.length);
+    }
+
+    /**
+     * Поиск слота вектора.
+     *
+     * @return Слот вектора или {@code -(слот для вставки) - 1}, если вектора нет в множестве.
+     */
+    private int indexOf(Vector vector) {
+        long hash = 0;
+        for (int axis = 0; axis < dimension; axis++) hash = VectorHashing.mix(hash, bits(vector.getIndexOrZero(axis)));
+        int mask = used.length - 1;
+        int slot = VectorHashing.slot(hash, used.length);
+        while (used[slot]) {
+            if (matches(slot, vector)) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private boolean matches(int slot, Vector vector) {
+        int offset = slot * dimension;
+        for (int axis = 0; axis < dimension; axis++) {
+            if (bits(keys[offset + axis]) != bits(vector.getIndexOrZero(axis))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Поиск слота вектора, значения которого находятся в массиве.
+     *
+     * @return Слот вектора или {@code -(слот для вставки) - 1}, если вектора нет в множестве.
+     */
+    private int indexOf(double[] values, int offset) {
+        Objects.checkFromIndexSize(offset, dimension, values.length);
+        long hash = 0;
+        for (int axis = 0; axis < dimension; axis++) hash = VectorHashing.mix(hash, bits(values[offset + axis]));
+        int mask = used.length - 1;
+        int slot = VectorHashing.slot(hash, used.length);
+        while (used[slot]) {
+            if (matches(slot, values, offset)) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private boolean matches(int slot, double[] values, int offset) {
+        int keyOffset = slot * dimension;
+        for (int axis = 0; axis < dimension; axis++) {
+            if (bits(keys[keyOffset + axis]) != bits(values[offset + axis])) return false;
+        }
+        return true;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = used.length - 1;
+        int hole = slot;
+        int current = (slot + 1) & mask;
+        while (used[current]) {
+            int home = homeSlot(current);
+            if (((current - home) & mask) >= ((current - hole) & mask)) {
+                System.arraycopy(keys, current * dimension, keys, hole * dimension, dimension);
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        used[hole] = false;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        keys = new double[capacity * dimension];
+        used = new boolean[capacity];
+    }
+
+    private void grow() {
+        if (used.length >= maxCapacity) throw new IllegalStateException("Set is full: " + size + " vectors");
+        double[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        allocate(used.length * 2);
+        int mask = used.length - 1;
+        for (int oldSlot = 0; oldSlot < oldUsed.length; oldSlot++) {
+            if (!oldUsed[oldSlot]) continue;
+            int oldOffset = oldSlot * dimension;
+            long hash = 0;
+            for (int axis = 0; axis < dimension; axis++) hash = VectorHashing.mix(hash, bits(oldKeys[oldOffset + axis]));
+            int slot = VectorHashing.slot(hash, used.length);
+            while (used[slot]) slot = (slot + 1) & mask;
+            System.arraycopy(oldKeys, oldOffset, keys, slot * dimension, dimension);
+            used[slot] = true;
+        }
+    }
+}
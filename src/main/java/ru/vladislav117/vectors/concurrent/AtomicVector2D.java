@@ -0,0 +1,233 @@
+package ru.vladislav117.vectors.concurrent;
+
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Двумерный вектор, значения которого можно изменять из нескольких потоков.
+ * <p>
+ * Прибавление выполняется атомарными операциями {@link VarHandle} над каждым значением по оси, поэтому одновременные
+ * прибавления из разных потоков не теряются и не ждут друг друга. Каждое изменение отмечается в счётчике изменений:
+ * чтение снимка ({@link #get(Vector2D)}) повторяется, пока во время чтения выполняются изменения, и возвращает значения
+ * по всем осям, соответствующие одному моменту между изменениями. Значения по отдельным осям ({@link #getX()}, {@link #getY()})
+ * читаются без повторов и без ожидания.
+ * </p>
+ * <p>
+ * Изменения не ждут чтения снимка, а чтение снимка ждёт момента, когда не выполняется ни одно изменение: сначала
+ * активно, затем уступая процессор и приостанавливая поток на растущее время. Поэтому при непрерывных изменениях
+ * из многих потоков чтение снимка может задерживаться сколь угодно долго. Если снимки нужно читать под такой нагрузкой,
+ * изменения стоит синхронизировать с чтением снаружи.
+ * </p>
+ * <p>
+ * Установка значений ({@link #set(double, double)}) атомарна только относительно чтения снимка: если
+ * одновременно с ней выполняются прибавления, то часть из них может быть потеряна по некоторым осям.
+ * Устанавливать значения стоит, когда вектор не изменяется другими потоками (например, перед очередным шагом расчёта).
+ * </p>
+ * <p>
+ * При большом количестве потоков, одновременно изменяющих вектор, все они изменяют одни и те же значения, и прибавления
+ * выполняются по очереди. В таком случае лучше подходит {@link VectorAdder}.
+ * </p>
+ */
+public class AtomicVector2D {
+    private static final VarHandle X;
+    private static final VarHandle Y;
+    private static final VarHandle MODIFICATIONS;
+    /**
+     * Прибавка к счётчику изменений при завершении изменения: увеличивает количество завершённых изменений
+     * (старшие 32 бита) и уменьшает количество выполняющихся изменений (младшие 32 бита).
+     */
+    private static final long MODIFICATION_DONE = (1L << 32) - 1;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            X = lookup.findVarHandle(AtomicVector2D.class, "x", double.class);
+            Y = lookup.findVarHandle(AtomicVector2D.class, "y", double.class);
+            MODIFICATIONS = lookup.findVarHandle(AtomicVector2D.class, "modifications", long.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * Значение по оси абсцисс (x).
+     */
+    private volatile double x;
+    /**
+     * Значение по оси ординат (y).
+     */
+    private volatile double y;
+    /**
+     * Счётчик изменений: количество завершённых изменений в старших 32 битах и количество выполняющихся изменений
+     * в младших 32 битах.
+     */
+    private volatile long modifications;
+
+    /**
+     * Создание атомарного двумерного вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     */
+    public AtomicVector2D(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Создание атомарного двумерного вектора на основе другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     */
+    public AtomicVector2D(Vector vector) {
+        this(vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Создание атомарного двумерного вектора с нулевыми значениями.
+     */
+    public AtomicVector2D() {
+    }
+
+    /**
+     * Получение значения по оси абсцисс (x).
+     *
+     * @return Значение по оси абсцисс (x).
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Получение значения по оси ординат (y).
+     *
+     * @return Значение по оси ординат (y).
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Получение согласованного снимка значений. Может ждать завершения изменений.
+     *
+     * @return Новый вектор со значениями этого вектора.
+     */
+    public Vector2D get() {
+        return get(new Vector2D());
+    }
+
+    /**
+     * Получение согласованного снимка значений без создания объектов. Может ждать завершения изменений.
+     *
+     * @param destination Вектор, в который будут записаны значения
+     * @return Вектор destination.
+     */
+    public Vector2D get(Vector2D destination) {
+        for (int attempt = 0; ; attempt++) {
+            long before = modifications;
+            if ((int) before == 0) {
+                double snapshotX = x, snapshotY = y;
+                if (modifications == before) return destination.set(snapshotX, snapshotY);
+            }
+            SnapshotBackoff.backoff(attempt);
+        }
+    }
+
+    /**
+     * Установка значений вектора.
+     *
+     * @param x Значение по оси абсцисс (x)
+     * @param y Значение по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public AtomicVector2D set(double x, double y) {
+        MODIFICATIONS.getAndAdd(this, 1L);
+        this.x = x;
+        this.y = y;
+        MODIFICATIONS.getAndAdd(this, MODIFICATION_DONE);
+        return this;
+    }
+
+    /**
+     * Установка значений вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector Вектор, значения по осям которого будут взяты
+     * @return Этот же вектор.
+     */
+    public AtomicVector2D set(Vector vector) {
+        return set(vector.getIndexOrZero(Axis.X_INDEX), vector.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Атомарное прибавление к значениям вектора.
+     *
+     * @param summandX Слагаемое по оси абсцисс (x)
+     * @param summandY Слагаемое по оси ординат (y)
+     * @return Этот же вектор.
+     */
+    public AtomicVector2D accumulate(double summandX, double summandY) {
+        MODIFICATIONS.getAndAdd(this, 1L);
+        X.getAndAdd(this, summandX);
+        Y.getAndAdd(this, summandY);
+        MODIFICATIONS.getAndAdd(this, MODIFICATION_DONE);
+        return this;
+    }
+
+    /**
+     * Атомарное прибавление вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param summand Вектор-слагаемое
+     * @return Этот же вектор.
+     */
+    public AtomicVector2D accumulate(Vector summand) {
+        return accumulate(summand.getIndexOrZero(Axis.X_INDEX), summand.getIndexOrZero(Axis.Y_INDEX));
+    }
+
+    /**
+     * Атомарное прибавление к значениям вектора с получением новых значений без создания объектов.
+     * Значение по каждой оси — результат прибавления по этой оси; значения по разным осям могут включать
+     * прибавления других потоков, выполненные между прибавлениями по осям.
+     *
+     * @param summandX    Слагаемое по оси абсцисс (x)
+     * @param summandY    Слагаемое по оси ординат (y)
+     * @param destination Вектор, в который будут записаны новые значения
+     * @return Вектор destination.
+     */
+    public Vector2D addAndGet(double summandX, double summandY, Vector2D destination) {
+        MODIFICATIONS.getAndAdd(this, 1L);
+        double resultX = (double) X.getAndAdd(this, summandX) + summandX;
+        double resultY = (double) Y.getAndAdd(this, summandY) + summandY;
+        MODIFICATIONS.getAndAdd(this, MODIFICATION_DONE);
+        return destination.set(resultX, resultY);
+    }
+
+    /**
+     * Атомарное прибавление к значениям вектора с получением новых значений.
+     * Значение по каждой оси — результат прибавления по этой оси.
+     *
+     * @param summandX Слагаемое по оси абсцисс (x)
+     * @param summandY Слагаемое по оси ординат (y)
+     * @return Новый вектор с новыми значениями.
+     */
+    public Vector2D addAndGet(double summandX, double summandY) {
+        return addAndGet(summandX, summandY, new Vector2D());
+    }
+
+    /**
+     * Атомарное прибавление вектора с получением новых значений.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param summand Вектор-слагаемое
+     * @return Новый вектор с новыми значениями.
+     */
+    public Vector2D addAndGet(Vector summand) {
+        return addAndGet(summand.getIndexOrZero(Axis.X_INDEX), summand.getIndexOrZero(Axis.Y_INDEX));
+    }
+}
@@ -0,0 +1,40 @@
+package ru.vladislav117.vectors.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ожидание при повторах чтения согласованного снимка атомарного вектора и занятия ячейки сумматора: сначала активное
+ * ожидание, затем уступка процессора, затем приостановка потока на растущее время.
+ */
+final class SnapshotBackoff {
+    /**
+     * Количество повторов с активным ожиданием.
+     */
+    static final int SPINS = 64;
+    /**
+     * Количество повторов с уступкой процессора после активного ожидания.
+     */
+    static final int YIELDS = 64;
+    /**
+     * Максимальное время приостановки потока в наносекундах.
+     */
+    static final long MAX_PARK_NANOS = 1_000_000;
+
+    private SnapshotBackoff() {
+    }
+
+    /**
+     * Ожидание перед повтором.
+     *
+     * @param attempt Номер повтора, начиная с 0
+     */
+    static void backoff(int attempt) {
+        if (attempt < SPINS) {
+            Thread.onSpinWait();
+        } else if (attempt < SPINS + YIELDS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << Math.min(10, attempt - SPINS - YIELDS)));
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package ru.vladislav117.vectors.concurrent;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Сумматор векторов одинаковой размерности для прибавления из большого количества потоков (например, при вычислении
+ * центра масс в параллельном расчёте).
+ * <p>
+ * Сумма хранится в нескольких ячейках, сумма значений которых равна сумме всех прибавленных векторов. Пока потоки не
+ * мешают друг другу, используется одна ячейка. Поток, обнаруживший, что его ячейка занята другим потоком, переходит
+ * в другую ячейку и продолжает использовать её, поэтому при высокой конкуренции потоки прибавляют в разные ячейки
+ * и не ждут друг друга. Количество ячеек — наименьшая степень двойки, не меньшая количества процессоров; ячейки
+ * создаются при первом обращении. Каждая ячейка — массив {@code double[]}, значения которого отделены от соседних
+ * ячеек {@value #PADDING} значениями с обеих сторон, чтобы ячейки не находились в одной строке кэша.
+ * </p>
+ * <p>
+ * В отличие от {@link java.util.concurrent.atomic.DoubleAdder}, значения ячейки не изменяются атомарными операциями:
+ * каждая ячейка защищена собственной блокировкой с активным ожиданием (флагом занятости), и прибавление занимает
+ * ячейку целиком (одна атомарная операция на прибавление независимо от размерности). Значения вектора-слагаемого
+ * читаются до занятия ячейки. Сумма ({@link #sum(double[], int)}) и сброс ({@link #reset()}) занимают ячейки по одной
+ * и ждут, пока ячейка освободится: сначала активно, затем уступая процессор и приостанавливая поток, поэтому поток,
+ * вытесненный во время прибавления, задерживает сумму, но не занимает процессор ожидающего потока. Каждое прибавление
+ * либо полностью учтено в сумме, либо не учтено совсем, но сумма, вычисленная одновременно с прибавлениями,
+ * не является снимком на один момент времени.
+ * </p>
+ */
+public class VectorAdder {
+    /**
+     * Количество значений, отделяющих значения ячейки от соседних объектов в памяти (128 байт).
+     */
+    public static final int PADDING = 16;
+    /**
+     * Индекс флага занятости ячейки в массиве ячейки.
+     */
+    private static final int LOCK_INDEX = PADDING - 1;
+    private static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(double[][].class);
+    /**
+     * Номер ячейки потока, общий для всех сумматоров. Изначально 0; изменяется при обнаружении конкуренции.
+     */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[1]);
+    /**
+     * Максимальная размерность, значения слагаемых которой читаются во временный массив потока.
+     * Для большей размерности временный массив создаётся на время одного прибавления.
+     */
+    private static final int MAX_CACHED_DIMENSION = 4096;
+    /**
+     * Временный массив потока для значений вектора-слагаемого.
+     */
+    private static final ThreadLocal<double[]> SUMMANDS = ThreadLocal.withInitial(() -> new double[16]);
+
+    /**
+     * Размерность векторов.
+     */
+    protected final int dimension;
+    /**
+     * Ячейки (null для ещё не созданных ячеек).
+     */
+    protected final double[][] cells;
+
+    /**
+     * Создание сумматора с нулевой суммой.
+     *
+     * @param dimension Размерность векторов
+     */
+    public VectorAdder(int dimension) {
+        if (dimension <= 0) throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        this.dimension = dimension;
+        int cellCount = 1;
+        while (cellCount < Runtime.getRuntime().availableProcessors()) cellCount <<= 1;
+        cells = new double[cellCount][];
+        cells[0] = createCell();
+    }
+
+    /**
+     * Получение размерности векторов.
+     *
+     * @return Размерность векторов.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Прибавление вектора, значения которого находятся в массиве.
+     *
+     * @param values Массив значений
+     * @param offset Индекс значения по оси 0 в массиве
+     * @return Этот же сумматор.
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     */
+    public VectorAdder add(double[] values, int offset) {
+        Objects.checkFromIndexSize(offset, dimension, values.length);
+        double[] cell = acquire();
+        try {
+            for (int axis = 0; axis < dimension; axis++) cell[PADDING + axis] += values[offset + axis];
+        } finally {
+            release(cell);
+        }
+        return this;
+    }
+
+    /**
+     * Прибавление вектора, заданного значениями по осям.
+     *
+     * @param values Значения по осям (не меньше размерности сумматора; лишние значения не учитываются)
+     * @return Этот же сумматор.
+     * @throws IndexOutOfBoundsException Если значений меньше размерности
+     */
+    public VectorAdder add(double... values) {
+        return add(values, 0);
+    }
+
+    /**
+     * Прибавление вектора.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param summand Вектор-слагаемое
+     * @return Этот же сумматор.
+     */
+    public VectorAdder add(Vector summand) {
+        double[] values = summandBuffer();
+        for (int axis = 0; axis < dimension; axis++) values[axis] = summand.getIndexOrZero(axis);
+        return add(values, 0);
+    }
+
+    /**
+     * Вычисление суммы в массив без создания объектов.
+     *
+     * @param destination Массив, в который будет записана сумма
+     * @param offset      Индекс значения по оси 0 в массиве
+     * @return Массив destination.
+     * @throws IndexOutOfBoundsException Если значения выходят за пределы массива
+     */
+    public double[] sum(double[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, dimension, destination.length);
+        Arrays.fill(destination, offset, offset + dimension, 0);
+        for (int index = 0; index < cells.length; index++) {
+            double[] cell = (double[]) CELLS.getAcquire(cells, index);
+            if (cell == null) continue;
+            lock(cell);
+            try {
+                for (int axis = 0; axis < dimension; axis++) destination[offset + axis] += cell[PADDING + axis];
+            } finally {
+                release(cell);
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * Вычисление суммы в вектор без создания объектов.
+     *
+     * @param destination Вектор, в который будет записана сумма. Должен содержать индексы от 0 до размерности
+     * @param <V>         Тип вектора
+     * @return Вектор destination.
+     */
+    public <V extends Vector> V sum(V destination) {
+        for (int axis = 0; axis < dimension; axis++) destination.setIndex(axis, 0);
+        for (int index = 0; index < cells.length; index++) {
+            double[] cell = (double[]) CELLS.getAcquire(cells, index);
+            if (cell == null) continue;
+            lock(cell);
+            try {
+                for (int axis = 0; axis < dimension; axis++) destination.addIndex(axis, cell[PADDING + axis]);
+            } finally {
+                release(cell);
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * Вычисление суммы.
+     *
+     * @return Новый вектор-массив с суммой.
+     */
+    public ArrayVector sum() {
+        return new ArrayVector(sum(new double[dimension], 0));
+    }
+
+    /**
+     * Сброс суммы до нуля. Прибавления, выполняемые одновременно со сбросом, могут быть как сброшены,
+     * так и сохранены (каждое целиком).
+     *
+     * @return Этот же сумматор.
+     */
+    public VectorAdder reset() {
+        for (int index = 0; index < cells.length; index++) {
+            double[] cell = (double[]) CELLS.getAcquire(cells, index);
+            if (cell == null) continue;
+            lock(cell);
+            try {
+                Arrays.fill(cell, PADDING, PADDING + dimension, 0);
+            } finally {
+                release(cell);
+            }
+        }
+        return this;
+    }
+
+    private double[] summandBuffer() {
+        if (dimension > MAX_CACHED_DIMENSION) return new double[dimension];
+        double[] buffer = SUMMANDS.get();
+        if (buffer.length < dimension) {
+            buffer = new double[Math.max(dimension, Math.min(MAX_CACHED_DIMENSION, buffer.length * 2))];
+            SUMMANDS.set(buffer);
+        }
+        return buffer;
+    }
+
+    private double[] createCell() {
+        return new double[PADDING + dimension + PADDING];
+    }
+
+    /**
+     * Занятие ячейки потока. Если ячейка занята другим потоком, поток переходит в другую ячейку.
+     * Если заняты все ячейки, поток ждёт с отступлением ({@link SnapshotBackoff}).
+     *
+     * @return Занятая ячейка.
+     */
+    private double[] acquire() {
+        int[] probe = PROBE.get();
+        int mask = cells.length - 1;
+        for (int attempt = 0; ; attempt++) {
+            int index = probe[0] & mask;
+            double[] cell = (double[]) CELLS.getAcquire(cells, index);
+            if (cell == null) {
+                double[] created = createCell();
+                cell = (double[]) CELLS.compareAndExchangeRelease(cells, index, null, created);
+                if (cell == null) cell = created;
+            }
+            if (DOUBLES.compareAndSet(cell, LOCK_INDEX, 0.0, 1.0)) return cell;
+            probe[0] = nextProbe(probe[0]);
+            if (attempt >= mask) SnapshotBackoff.backoff(attempt - mask);
+        }
+    }
+
+    private static int nextProbe(int probe) {
+        if (probe == 0) return (int) Thread.currentThread().threadId() * 0x9E3779B9 | 1;
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        return probe ^ (probe << 5);
+    }
+
+    /**
+     * Занятие ячейки для суммы или сброса с ожиданием её освобождения ({@link SnapshotBackoff}).
+     */
+    private static void lock(double[] cell) {
+        for (int attempt = 0; !DOUBLES.compareAndSet(cell, LOCK_INDEX, 0.0, 1.0); attempt++) SnapshotBackoff.backoff(attempt);
+    }
+
+    private static void release(double[] cell) {
+        DOUBLES.setRelease(cell, LOCK_INDEX, 0.0);
+    }
+}
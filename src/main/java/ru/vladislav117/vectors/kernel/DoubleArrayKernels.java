@@ -0,0 +1,165 @@
+package ru.vladislav117.vectors.kernel;
+
+/**
+ * Вычислительные ядра над участками массивов {@code double[]}.
+ * <p>
+ * По умолчанию используются скалярные циклы. Реализация на Vector API ({@code jdk.incubator.vector})
+ * включается системным свойством {@value #SIMD_PROPERTY}{@code =true} и используется только если модуль
+ * {@value #SIMD_MODULE} доступен (например, JVM запущена с {@code --add-modules jdk.incubator.vector}),
+ * иначе используются скалярные циклы.
+ * </p>
+ * <p>
+ * Ядра, вычисляющие суммы, в SIMD-реализации складывают значения в другом порядке,
+ * поэтому их результаты могут отличаться от скалярных в последних знаках.
+ * </p>
+ */
+public abstract class DoubleArrayKernels {
+    /**
+     * Системное свойство, включающее реализацию на Vector API.
+     */
+    public static final String SIMD_PROPERTY = "ru.vladislav117.vectors.simd";
+    /**
+     * Модуль Vector API.
+     */
+    public static final String SIMD_MODULE = "jdk.incubator.vector";
+    /**
+     * Скалярная реализация.
+     */
+    private static final DoubleArrayKernels SCALAR = new ScalarDoubleArrayKernels();
+    /**
+     * Реализация на Vector API или null, если модуль недоступен.
+     */
+    private static final DoubleArrayKernels SIMD = loadSimd();
+    /**
+     * Используемая реализация.
+     */
+    private static final DoubleArrayKernels INSTANCE = SIMD != null && Boolean.getBoolean(SIMD_PROPERTY) ? SIMD : SCALAR;
+
+    /**
+     * Загрузка реализации на Vector API.
+     *
+     * @return Реализация или null, если модуль недоступен.
+     */
+    private static DoubleArrayKernels loadSimd() {
+        if (ModuleLayer.boot().findModule(SIMD_MODULE).isEmpty()) return null;
+        try {
+            return (DoubleArrayKernels) Class.forName("ru.vladislav117.vectors.kernel.SimdDoubleArrayKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Получение используемой реализации ядер.
+     *
+     * @return Реализация ядер.
+     */
+    public static DoubleArrayKernels get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Получение скалярной реализации ядер.
+     *
+     * @return Скалярная реализация ядер.
+     */
+    public static DoubleArrayKernels scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Проверка, доступна ли реализация на Vector API.
+     *
+     * @return Доступна ли реализация на Vector API.
+     */
+    public static boolean isSimdAvailable() {
+        return SIMD != null;
+    }
+
+    /**
+     * Получение реализации ядер на Vector API независимо от системного свойства.
+     *
+     * @return Реализация ядер на Vector API.
+     * @throws UnsupportedOperationException Если модуль {@value #SIMD_MODULE} недоступен
+     */
+    public static DoubleArrayKernels simd() {
+        if (SIMD == null) throw new UnsupportedOperationException("Module " + SIMD_MODULE + " is not available");
+        return SIMD;
+    }
+
+    /**
+     * Прибавление значений одного участка к значениям другого: {@code target[i] += source[i]}.
+     *
+     * @param target       Массив, к значениям которого прибавляются слагаемые
+     * @param targetOffset Начало участка в массиве target
+     * @param source       Массив слагаемых
+     * @param sourceOffset Начало участка в массиве source
+     * @param length       Длина участков
+     */
+    public abstract void add(double[] target, int targetOffset, double[] source, int sourceOffset, int length);
+
+    /**
+     * Вычитание значений одного участка из значений другого: {@code target[i] -= source[i]}.
+     *
+     * @param target       Массив, из значений которого вычитаются вычитаемые
+     * @param targetOffset Начало участка в массиве target
+     * @param source       Массив вычитаемых
+     * @param sourceOffset Начало участка в массиве source
+     * @param length       Длина участков
+     */
+    public abstract void subtract(double[] target, int targetOffset, double[] source, int sourceOffset, int length);
+
+    /**
+     * Умножение значений участка.
+     *
+     * @param target     Массив
+     * @param offset     Начало участка
+     * @param length     Длина участка
+     * @param multiplier Множитель
+     */
+    public abstract void multiple(double[] target, int offset, int length, double multiplier);
+
+    /**
+     * Деление значений участка.
+     *
+     * @param target  Массив
+     * @param offset  Начало участка
+     * @param length  Длина участка
+     * @param divisor Делитель
+     */
+    public abstract void divide(double[] target, int offset, int length, double divisor);
+
+    /**
+     * Вычисление суммы квадратов значений участка.
+     *
+     * @param array  Массив
+     * @param offset Начало участка
+     * @param length Длина участка
+     * @return Сумма квадратов.
+     */
+    public abstract double sumOfSquares(double[] array, int offset, int length);
+
+    /**
+     * Вычисление суммы квадратов разностей значений двух участков.
+     *
+     * @param first        Первый массив
+     * @param firstOffset  Начало участка в первом массиве
+     * @param second       Второй массив
+     * @param secondOffset Начало участка во втором массиве
+     * @param length       Длина участков
+     * @return Сумма квадратов разностей.
+     */
+    public abstract double sumOfSquaresOfDifferences(double[] first, int firstOffset, double[] second, int secondOffset, int length);
+
+    /**
+     * Вычисление скалярного произведения двух участков.
+     *
+     * @param first        Первый массив
+     * @param firstOffset  Начало участка в первом массиве
+     * @param second       Второй массив
+     * @param secondOffset Начало участка во втором массиве
+     * @param length       Длина участков
+     * @return Скалярное произведение.
+     */
+    public abstract double dot(double[] first, int firstOffset, double[] second, int secondOffset, int length);
+}
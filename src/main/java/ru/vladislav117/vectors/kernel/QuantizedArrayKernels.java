@@ -0,0 +1,128 @@
+package ru.vladislav117.vectors.kernel;
+
+/**
+ * Вычислительные ядра над участками массивов целочисленных кодов {@code byte[]} и {@code short[]}.
+ * <p>
+ * Реализация выбирается так же, как в {@link DoubleArrayKernels}: реализация на Vector API включается системным свойством
+ * {@value DoubleArrayKernels#SIMD_PROPERTY}{@code =true} и используется только если модуль
+ * {@value DoubleArrayKernels#SIMD_MODULE} доступен, а предпочтительная форма векторов платформы не короче 256 бит.
+ * Целочисленные суммы вычисляются точно в обеих реализациях.
+ * </p>
+ */
+public abstract class QuantizedArrayKernels {
+    /**
+     * Скалярная реализация.
+     */
+    private static final QuantizedArrayKernels SCALAR = new ScalarQuantizedArrayKernels();
+    /**
+     * Реализация на Vector API или null, если модуль недоступен или векторы платформы слишком короткие.
+     */
+    private static final QuantizedArrayKernels SIMD = loadSimd();
+    /**
+     * Используемая реализация.
+     */
+    private static final QuantizedArrayKernels INSTANCE = SIMD != null && Boolean.getBoolean(DoubleArrayKernels.SIMD_PROPERTY) ? SIMD : SCALAR;
+
+    /**
+     * Загрузка реализации на Vector API.
+     *
+     * @return Реализация или null, если модуль недоступен или векторы платформы слишком короткие.
+     */
+    private static QuantizedArrayKernels loadSimd() {
+        if (ModuleLayer.boot().findModule(DoubleArrayKernels.SIMD_MODULE).isEmpty()) return null;
+        try {
+            return (QuantizedArrayKernels) Class.forName("ru.vladislav117.vectors.kernel.SimdQuantizedArrayKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Получение используемой реализации ядер.
+     *
+     * @return Реализация ядер.
+     */
+    public static QuantizedArrayKernels get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Получение скалярной реализации ядер.
+     *
+     * @return Скалярная реализация ядер.
+     */
+    public static QuantizedArrayKernels scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Проверка, доступна ли реализация на Vector API.
+     *
+     * @return Доступна ли реализация на Vector API.
+     */
+    public static boolean isSimdAvailable() {
+        return SIMD != null;
+    }
+
+    /**
+     * Получение реализации ядер на Vector API независимо от системного свойства.
+     *
+     * @return Реализация ядер на Vector API.
+     * @throws UnsupportedOperationException Если модуль {@value DoubleArrayKernels#SIMD_MODULE} недоступен
+     *                                       или векторы платформы короче 256 бит
+     */
+    public static QuantizedArrayKernels simd() {
+        if (SIMD == null) throw new UnsupportedOperationException("Module " + DoubleArrayKernels.SIMD_MODULE + " is not available or vectors are shorter than 256 bits");
+        return SIMD;
+    }
+
+    /**
+     * Вычисление скалярного произведения двух участков 8-битных кодов.
+     *
+     * @param first        Первый массив
+     * @param firstOffset  Начало участка в первом массиве
+     * @param second       Второй массив
+     * @param secondOffset Начало участка во втором массиве
+     * @param length       Длина участков
+     * @return Скалярное произведение.
+     */
+    public abstract long dot(byte[] first, int firstOffset, byte[] second, int secondOffset, int length);
+
+    /**
+     * Вычисление скалярного произведения двух участков 16-битных кодов.
+     *
+     * @param first        Первый массив
+     * @param firstOffset  Начало участка в первом массиве
+     * @param second       Второй массив
+     * @param secondOffset Начало участка во втором массиве
+     * @param length       Длина участков
+     * @return Скалярное произведение.
+     */
+    public abstract long dot(short[] first, int firstOffset, short[] second, int secondOffset, int length);
+
+    /**
+     * Восстановление значений из 8-битных кодов: {@code target[i] = base + scale * codes[i]}.
+     *
+     * @param codes        Массив кодов
+     * @param offset       Начало участка в массиве кодов
+     * @param target       Массив, в который будут записаны значения
+     * @param targetOffset Начало участка в массиве target
+     * @param length       Длина участков
+     * @param base         Значение, соответствующее коду 0
+     * @param scale        Шаг квантования
+     */
+    public abstract void dequantize(byte[] codes, int offset, double[] target, int targetOffset, int length, double base, double scale);
+
+    /**
+     * Восстановление значений из 16-битных кодов: {@code target[i] = base + scale * codes[i]}.
+     *
+     * @param codes        Массив кодов
+     * @param offset       Начало участка в массиве кодов
+     * @param target       Массив, в который будут записаны значения
+     * @param targetOffset Начало участка в массиве target
+     * @param length       Длина участков
+     * @param base         Значение, соответствующее коду 0
+     * @param scale        Шаг квантования
+     */
+    public abstract void dequantize(short[] codes, int offset, double[] target, int targetOffset, int length, double base, double scale);
+}
@@ -0,0 +1,50 @@
+package ru.vladislav117.vectors.kernel;
+
+/**
+ * Скалярная реализация вычислительных ядер.
+ */
+final class ScalarDoubleArrayKernels extends DoubleArrayKernels {
+    @Override
+    public void add(double[] target, int targetOffset, double[] source, int sourceOffset, int length) {
+        for (int index = 0; index < length; index++) target[targetOffset + index] += source[sourceOffset + index];
+    }
+
+    @Override
+    public void subtract(double[] target, int targetOffset, double[] source, int sourceOffset, int length) {
+        for (int index = 0; index < length; index++) target[targetOffset + index] -= source[sourceOffset + index];
+    }
+
+    @Override
+    public void multiple(double[] target, int offset, int length, double multiplier) {
+        for (int index = offset; index < offset + length; index++) target[index] *= multiplier;
+    }
+
+    @Override
+    public void divide(double[] target, int offset, int length, double divisor) {
+        for (int index = offset; index < offset + length; index++) target[index] /= divisor;
+    }
+
+    @Override
+    public double sumOfSquares(double[] array, int offset, int length) {
+        double sumOfSquares = 0;
+        for (int index = offset; index < offset + length; index++) sumOfSquares += array[index] * array[index];
+        return sumOfSquares;
+    }
+
+    @Override
+    public double sumOfSquaresOfDifferences(double[] first, int firstOffset, double[] second, int secondOffset, int length) {
+        double sumOfSquaresOfDifferences = 0;
+        for (int index = 0; index < length; index++) {
+            double difference = first[firstOffset + index] - second[secondOffset + index];
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    @Override
+    public double dot(double[] first, int firstOffset, double[] second, int secondOffset, int length) {
+        double dot = 0;
+        for (int index = 0; index < length; index++) dot += first[firstOffset + index] * second[secondOffset + index];
+        return dot;
+    }
+}
@@ -0,0 +1,30 @@
+package ru.vladislav117.vectors.kernel;
+
+/**
+ * Скалярная реализация вычислительных ядер над кодами.
+ */
+final class ScalarQuantizedArrayKernels extends QuantizedArrayKernels {
+    @Override
+    public long dot(byte[] first, int firstOffset, byte[] second, int secondOffset, int length) {
+        long dot = 0;
+        for (int index = 0; index < length; index++) dot += first[firstOffset + index] * second[secondOffset + index];
+        return dot;
+    }
+
+    @Override
+    public long dot(short[] first, int firstOffset, short[] second, int secondOffset, int length) {
+        long dot = 0;
+        for (int index = 0; index < length; index++) dot += first[firstOffset + index] * second[secondOffset + index];
+        return dot;
+    }
+
+    @Override
+    public void dequantize(byte[] codes, int offset, double[] target, int targetOffset, int length, double base, double scale) {
+        for (int index = 0; index < length; index++) target[targetOffset + index] = base + scale * codes[offset + index];
+    }
+
+    @Override
+    public void dequantize(short[] codes, int offset, double[] target, int targetOffset, int length, double base, double scale) {
+        for (int index = 0; index < length; index++) target[targetOffset + index] = base + scale * codes[offset + index];
+    }
+}
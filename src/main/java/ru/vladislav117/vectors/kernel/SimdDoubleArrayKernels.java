@@ -0,0 +1,106 @@
+package ru.vladislav117.vectors.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация вычислительных ядер на Vector API.
+ * Загружается только через {@link DoubleArrayKernels}, когда модуль {@code jdk.incubator.vector} доступен.
+ */
+final class SimdDoubleArrayKernels extends DoubleArrayKernels {
+    /**
+     * Предпочтительная для процессора ширина вектора.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void add(double[] target, int targetOffset, double[] source, int sourceOffset, int length) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, target, targetOffset + index)
+                    .add(DoubleVector.fromArray(SPECIES, source, sourceOffset + index))
+                    .intoArray(target, targetOffset + index);
+        }
+        for (; index < length; index++) target[targetOffset + index] += source[sourceOffset + index];
+    }
+
+    @Override
+    public void subtract(double[] target, int targetOffset, double[] source, int sourceOffset, int length) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, target, targetOffset + index)
+                    .sub(DoubleVector.fromArray(SPECIES, source, sourceOffset + index))
+                    .intoArray(target, targetOffset + index);
+        }
+        for (; index < length; index++) target[targetOffset + index] -= source[sourceOffset + index];
+    }
+
+    @Override
+    public void multiple(double[] target, int offset, int length, double multiplier) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, target, offset + index).mul(multiplier).intoArray(target, offset + index);
+        }
+        for (; index < length; index++) target[offset + index] *= multiplier;
+    }
+
+    @Override
+    public void divide(double[] target, int offset, int length, double divisor) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, target, offset + index).div(divisor).intoArray(target, offset + index);
+        }
+        for (; index < length; index++) target[offset + index] /= divisor;
+    }
+
+    @Override
+    public double sumOfSquares(double[] array, int offset, int length) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector values = DoubleVector.fromArray(SPECIES, array, offset + index);
+            sums = values.fma(values, sums);
+        }
+        double sumOfSquares = sums.reduceLanes(VectorOperators.ADD);
+        for (; index < length; index++) sumOfSquares += array[offset + index] * array[offset + index];
+        return sumOfSquares;
+    }
+
+    @Override
+    public double sumOfSquaresOfDifferences(double[] first, int firstOffset, double[] second, int secondOffset, int length) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        for (; index < bound; index += SPECIES.length()) {
+            DoubleVector differences = DoubleVector.fromArray(SPECIES, first, firstOffset + index)
+                    .sub(DoubleVector.fromArray(SPECIES, second, secondOffset + index));
+            sums = differences.fma(differences, sums);
+        }
+        double sumOfSquaresOfDifferences = sums.reduceLanes(VectorOperators.ADD);
+        for (; index < length; index++) {
+            double difference = first[firstOffset + index] - second[secondOffset + index];
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    @Override
+    public double dot(double[] first, int firstOffset, double[] second, int secondOffset, int length) {
+        int index = 0;
+        int bound = SPECIES.loopBound(length);
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        for (; index < bound; index += SPECIES.length()) {
+            sums = DoubleVector.fromArray(SPECIES, first, firstOffset + index)
+                    .fma(DoubleVector.fromArray(SPECIES, second, secondOffset + index), sums);
+        }
+        double dot = sums.reduceLanes(VectorOperators.ADD);
+        for (; index < length; index++) dot += first[firstOffset + index] * second[secondOffset + index];
+        return dot;
+    }
+}
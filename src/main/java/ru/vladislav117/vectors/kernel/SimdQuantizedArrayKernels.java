@@ -0,0 +1,112 @@
+package ru.vladislav117.vectors.kernel;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация вычислительных ядер над кодами на Vector API.
+ * Загружается только через {@link QuantizedArrayKernels}, когда модуль {@code jdk.incubator.vector} доступен.
+ * <p>
+ * Формы векторов выводятся из предпочтительной формы платформы: коды загружаются векторами в 4 (8-битные) или 2
+ * (16-битные) раза короче предпочтительной формы и расширяются до int предпочтительной формы, произведения
+ * накапливаются в int (8-битные) или long (16-битные). Поэтому предпочтительная форма должна быть не короче
+ * {@value #MIN_VECTOR_BIT_SIZE} бит (8-битные коды загружаются векторами не короче 64 бит); на платформах с более
+ * короткими векторами реализация не создаётся, и используется скалярная реализация.
+ * </p>
+ */
+final class SimdQuantizedArrayKernels extends QuantizedArrayKernels {
+    /**
+     * Минимальный размер предпочтительной формы векторов в битах.
+     */
+    static final int MIN_VECTOR_BIT_SIZE = 256;
+    /**
+     * Размер формы векторов int, long и double в битах (не меньше {@link #MIN_VECTOR_BIT_SIZE}, чтобы формы
+     * можно было вывести и на платформах, где реализация не создаётся).
+     */
+    private static final int BIT_SIZE = Math.max(MIN_VECTOR_BIT_SIZE, VectorShape.preferredShape().vectorBitSize());
+    private static final VectorSpecies<Byte> BYTE_SPECIES = VectorSpecies.of(byte.class, VectorShape.forBitSize(BIT_SIZE / 4));
+    private static final VectorSpecies<Short> SHORT_SPECIES = VectorSpecies.of(short.class, VectorShape.forBitSize(BIT_SIZE / 2));
+    private static final VectorSpecies<Integer> INT_SPECIES = VectorSpecies.of(int.class, VectorShape.forBitSize(BIT_SIZE));
+    private static final VectorSpecies<Long> LONG_SPECIES = VectorSpecies.of(long.class, VectorShape.forBitSize(BIT_SIZE));
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = VectorSpecies.of(double.class, VectorShape.forBitSize(BIT_SIZE));
+    /**
+     * Количество 8-битных кодов, суммы произведений которых накапливаются в int без переполнения (не больше 2^13 слагаемых по 2^14 на дорожку при 8 и более дорожках int).
+     */
+    private static final int BYTE_BLOCK = 1 << 16;
+
+    /**
+     * Создание реализации.
+     *
+     * @throws UnsupportedOperationException Если предпочтительная форма векторов короче {@value #MIN_VECTOR_BIT_SIZE} бит
+     */
+    SimdQuantizedArrayKernels() {
+        VectorShape shape = VectorShape.preferredShape();
+        if (shape.vectorBitSize() < MIN_VECTOR_BIT_SIZE) throw new UnsupportedOperationException("Preferred vector shape is too small: " + shape);
+    }
+
+    @Override
+    public long dot(byte[] first, int firstOffset, byte[] second, int secondOffset, int length) {
+        long dot = 0;
+        int index = 0;
+        int bound = BYTE_SPECIES.loopBound(length);
+        while (index < bound) {
+            int blockBound = Math.min(bound, index + BYTE_BLOCK);
+            IntVector sums = IntVector.zero(INT_SPECIES);
+            for (; index < blockBound; index += BYTE_SPECIES.length()) {
+                IntVector firstValues = (IntVector) ByteVector.fromArray(BYTE_SPECIES, first, firstOffset + index).castShape(INT_SPECIES, 0);
+                IntVector secondValues = (IntVector) ByteVector.fromArray(BYTE_SPECIES, second, secondOffset + index).castShape(INT_SPECIES, 0);
+                sums = firstValues.mul(secondValues).add(sums);
+            }
+            dot += sums.reduceLanesToLong(VectorOperators.ADD);
+        }
+        for (; index < length; index++) dot += first[firstOffset + index] * second[secondOffset + index];
+        return dot;
+    }
+
+    @Override
+    public long dot(short[] first, int firstOffset, short[] second, int secondOffset, int length) {
+        int index = 0;
+        int bound = SHORT_SPECIES.loopBound(length);
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        for (; index < bound; index += SHORT_SPECIES.length()) {
+            IntVector firstValues = (IntVector) ShortVector.fromArray(SHORT_SPECIES, first, firstOffset + index).castShape(INT_SPECIES, 0);
+            IntVector secondValues = (IntVector) ShortVector.fromArray(SHORT_SPECIES, second, secondOffset + index).castShape(INT_SPECIES, 0);
+            // Произведение 16-битных значений помещается в int, сумма накапливается в long.
+            IntVector products = firstValues.mul(secondValues);
+            sums = sums.add(products.castShape(LONG_SPECIES, 0)).add(products.castShape(LONG_SPECIES, 1));
+        }
+        long dot = sums.reduceLanes(VectorOperators.ADD);
+        for (; index < length; index++) dot += first[firstOffset + index] * second[secondOffset + index];
+        return dot;
+    }
+
+    @Override
+    public void dequantize(byte[] codes, int offset, double[] target, int targetOffset, int length, double base, double scale) {
+        int index = 0;
+        int bound = BYTE_SPECIES.loopBound(length);
+        for (; index < bound; index += BYTE_SPECIES.length()) {
+            ByteVector values = ByteVector.fromArray(BYTE_SPECIES, codes, offset + index);
+            ((DoubleVector) values.castShape(DOUBLE_SPECIES, 0)).fma(scale, base).intoArray(target, targetOffset + index);
+            ((DoubleVector) values.castShape(DOUBLE_SPECIES, 1)).fma(scale, base).intoArray(target, targetOffset + index + DOUBLE_SPECIES.length());
+        }
+        for (; index < length; index++) target[targetOffset + index] = base + scale * codes[offset + index];
+    }
+
+    @Override
+    public void dequantize(short[] codes, int offset, double[] target, int targetOffset, int length, double base, double scale) {
+        int index = 0;
+        int bound = SHORT_SPECIES.loopBound(length);
+        for (; index < bound; index += SHORT_SPECIES.length()) {
+            ShortVector values = ShortVector.fromArray(SHORT_SPECIES, codes, offset + index);
+            ((DoubleVector) values.castShape(DOUBLE_SPECIES, 0)).fma(scale, base).intoArray(target, targetOffset + index);
+            ((DoubleVector) values.castShape(DOUBLE_SPECIES, 1)).fma(scale, base).intoArray(target, targetOffset + index + DOUBLE_SPECIES.length());
+        }
+        for (; index < length; index++) target[targetOffset + index] = base + scale * codes[offset + index];
+    }
+}
@@ -0,0 +1,675 @@
+package ru.vladislav117.vectors.search;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Индекс приближённого поиска ближайших соседей на иерархическом графе малого мира (HNSW).
+ * <p>
+ * Векторы хранятся в {@link VectorMatrix} ёмкостью capacity строк, связи нижнего уровня — в одном массиве {@code int[]},
+ * связи верхних уровней — в массиве на вершину (их имеет примерно каждая M-я вершина). Параметр M задаёт количество
+ * связей вершины на верхних уровнях (на нижнем уровне — 2M), efConstruction — ширину поиска соседей при вставке.
+ * Для {@link Metric#COSINE} векторы нормируются при вставке, и сходство вычисляется скалярным произведением.
+ * </p>
+ * <p>
+ * Вставка и поиск потокобезопасны и могут выполняться одновременно. Списки связей защищены полосами блокировок
+ * ({@value #LOCK_STRIPES} блокировок на все вершины), поток никогда не держит больше одной блокировки.
+ * Каждый поток, выполняющий вставку или поиск, использует собственный массив отметок посещения длиной capacity.
+ * </p>
+ */
+public class HnswIndex {
+    /**
+     * Количество связей вершины на верхних уровнях по умолчанию.
+     */
+    public static final int DEFAULT_M = 16;
+    /**
+     * Ширина поиска соседей при вставке по умолчанию.
+     */
+    public static final int DEFAULT_EF_CONSTRUCTION = 200;
+    /**
+     * Ширина поиска по умолчанию.
+     */
+    public static final int DEFAULT_EF_SEARCH = 64;
+    /**
+     * Максимальный уровень вершины.
+     */
+    public static final int MAX_LEVEL = 15;
+    /**
+     * Количество блокировок, защищающих списки связей.
+     */
+    public static final int LOCK_STRIPES = 1024;
+    /**
+     * Количество вершин, начиная с которого вставка коллекции выполняется параллельно.
+     */
+    public static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Мера близости.
+     */
+    protected final Metric metric;
+    /**
+     * Количество связей вершины на верхних уровнях.
+     */
+    protected final int m;
+    /**
+     * Количество связей вершины на нижнем уровне.
+     */
+    protected final int maxM0;
+    /**
+     * Ширина поиска соседей при вставке.
+     */
+    protected final int efConstruction;
+    /**
+     * Множитель распределения уровней вершин.
+     */
+    protected final double levelMultiplier;
+    /**
+     * Векторы вершин.
+     */
+    protected final VectorMatrix vectors;
+    /**
+     * Связи нижнего уровня: для вершины node по индексу node * (maxM0 + 1) хранится количество связей, за ним — связи.
+     */
+    protected final int[] level0;
+    /**
+     * Связи верхних уровней: для уровня level по индексу (level - 1) * (m + 1) хранится количество связей, за ним — связи.
+     */
+    protected final int[][] upperLinks;
+    /**
+     * Уровни вершин.
+     */
+    protected final byte[] levels;
+    /**
+     * Блокировки списков связей: список вершины node защищён блокировкой node % {@value #LOCK_STRIPES}.
+     */
+    protected final ReentrantLock[] locks;
+    /**
+     * Количество вершин, для которых выделены индексы.
+     */
+    protected final AtomicInteger size = new AtomicInteger();
+    /**
+     * Точка входа: уровень в старших 32 битах, вершина — в младших, или -1, если индекс пуст.
+     */
+    protected volatile long entry = -1;
+    /**
+     * Свободные буферы вставки и поиска. Буфер берётся на время одной операции, поэтому буферов создаётся не больше,
+     * чем операций выполнялось одновременно, и они освобождаются вместе с индексом.
+     */
+    private final ConcurrentLinkedQueue<SearchContext> contexts = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Создание пустого индекса с параметрами по умолчанию.
+     *
+     * @param dimension Размерность векторов
+     * @param capacity  Максимальное количество векторов
+     * @param metric    Мера близости
+     */
+    public HnswIndex(int dimension, int capacity, Metric metric) {
+        this(dimension, capacity, metric, DEFAULT_M, DEFAULT_EF_CONSTRUCTION);
+    }
+
+    /**
+     * Создание пустого индекса.
+     *
+     * @param dimension      Размерность векторов
+     * @param capacity       Максимальное количество векторов
+     * @param metric         Мера близости
+     * @param m              Количество связей вершины на верхних уровнях (на нижнем уровне — 2m)
+     * @param efConstruction Ширина поиска соседей при вставке
+     */
+    public HnswIndex(int dimension, int capacity, Metric metric, int m, int efConstruction) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        if (m < 2) throw new IllegalArgumentException("M must be at least 2: " + m);
+        if (efConstruction < 1) throw new IllegalArgumentException("efConstruction must be positive: " + efConstruction);
+        if ((long) capacity * (2L * m + 1) > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        this.metric = Objects.requireNonNull(metric);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        maxM0 = 2 * m;
+        levelMultiplier = 1 / Math.log(m);
+        vectors = new VectorMatrix(capacity, dimension);
+        level0 = new int[capacity * (maxM0 + 1)];
+        upperLinks = new int[capacity][];
+        levels = new byte[capacity];
+        locks = new ReentrantLock[LOCK_STRIPES];
+        for (int stripe = 0; stripe < LOCK_STRIPES; stripe++) locks[stripe] = new ReentrantLock();
+    }
+
+    /**
+     * Получение размерности векторов.
+     *
+     * @return Размерность векторов.
+     */
+    public int getDimension() {
+        return vectors.getDimension();
+    }
+
+    /**
+     * Получение максимального количества векторов.
+     *
+     * @return Ёмкость индекса.
+     */
+    public int getCapacity() {
+        return levels.length;
+    }
+
+    /**
+     * Получение количества добавленных векторов.
+     *
+     * @return Количество векторов.
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * Получение меры близости.
+     *
+     * @return Мера близости.
+     */
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Получение копии вектора вершины. Для {@link Metric#COSINE} вектор нормирован.
+     *
+     * @param id Индекс вершины
+     * @return Вектор-массив со значениями вектора.
+     */
+    public ArrayVector get(int id) {
+        Objects.checkIndex(id, size.get());
+        return vectors.get(id);
+    }
+
+    /**
+     * Добавление вектора. Может вызываться из нескольких потоков одновременно.
+     * Если у вектора нет значений по некоторым осям индекса, то такие значения будут взяты за 0.
+     *
+     * @param vector Вектор
+     * @return Индекс вершины вектора.
+     * @throws IllegalStateException Если индекс заполнен
+     */
+    public int add(Vector vector) {
+        int id = reserve(1);
+        store(id, vector);
+        insert(id);
+        return id;
+    }
+
+    /**
+     * Добавление векторов списка. Вектор с индексом i в списке получает индекс вершины first + i.
+     * Если векторов не меньше {@value #PARALLEL_THRESHOLD}, они вставляются параллельно в {@link ForkJoinPool#commonPool()}.
+     *
+     * @param list Векторы
+     * @return Индекс вершины первого вектора (first).
+     * @throws IllegalStateException Если векторы не помещаются в индекс
+     */
+    public int addAll(List<? extends Vector> list) {
+        int first = reserve(list.size());
+        for (int index = 0; index < list.size(); index++) store(first + index, list.get(index));
+        if (list.size() >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new InsertTask(first, first + list.size()));
+        } else {
+            for (int id = first; id < first + list.size(); id++) insert(id);
+        }
+        return first;
+    }
+
+    /**
+     * Задача параллельной вставки отрезка вершин.
+     */
+    protected class InsertTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        InsertTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD / 4) {
+                for (int id = from; id < to; id++) insert(id);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new InsertTask(from, middle), new InsertTask(middle, to));
+        }
+    }
+
+    private int reserve(int count) {
+        while (true) {
+            int first = size.get();
+            if (first + count > levels.length) throw new IllegalStateException("Index is full: capacity " + levels.length);
+            if (size.compareAndSet(first, first + count)) return first;
+        }
+    }
+
+    private void store(int id, Vector vector) {
+        vectors.set(id, vector);
+        if (metric == Metric.COSINE) {
+            double lengthSquared = vectors.lengthSquared(id);
+            if (lengthSquared > 0) vectors.view(id).divide(Math.sqrt(lengthSquared));
+        }
+        int level = Math.min(MAX_LEVEL, (int) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * levelMultiplier));
+        levels[id] = (byte) level;
+        if (level > 0) upperLinks[id] = new int[level * (m + 1)];
+    }
+
+    /**
+     * Вставка вершины в граф. Вектор и уровень вершины должны быть записаны.
+     *
+     * @param id Индекс вершины
+     */
+    protected void insert(int id) {
+        int level = levels[id];
+        long currentEntry = entry;
+        if (currentEntry < 0) {
+            synchronized (this) {
+                currentEntry = entry;
+                if (currentEntry < 0) {
+                    entry = (long) level << 32 | id;
+                    return;
+                }
+            }
+        }
+        int entryLevel = (int) (currentEntry >>> 32);
+        SearchContext context = borrowContext();
+        try {
+            double[] query = context.query(getDimension());
+            vectors.copyTo(id, query, 0);
+            int current = (int) currentEntry;
+            for (int layer = entryLevel; layer > level; layer--) current = greedy(query, current, layer, context);
+            for (int layer = Math.min(level, entryLevel); layer >= 0; layer--) {
+                TopKHeap found = searchLayer(query, current, efConstruction, layer, context);
+                int foundCount = found.drain(context.foundIds, context.foundKeys);
+                current = (int) context.foundIds[0];
+                int selectedCount = selectNeighbors(context.foundIds, context.foundKeys, foundCount, m, context.selected);
+                setLinks(id, layer, context.selected, selectedCount);
+                for (int position = 0; position < selectedCount; position++) link(context.selected[position], layer, id, context);
+            }
+        } finally {
+            contexts.offer(context);
+        }
+        if (level > entryLevel) {
+            synchronized (this) {
+                if (level > (int) (entry >>> 32)) entry = (long) level << 32 | id;
+            }
+        }
+    }
+
+    /**
+     * Вычисление ключа упорядочивания вершины относительно точки запроса (чем больше, тем ближе).
+     *
+     * @param id    Индекс вершины
+     * @param query Значения точки запроса
+     * @return Ключ.
+     */
+    protected double key(int id, double[] query) {
+        return metric == Metric.L2 ? -vectors.distanceSquared(id, query) : vectors.dot(id, query);
+    }
+
+    /**
+     * Вычисление ключа упорядочивания между двумя вершинами (чем больше, тем ближе).
+     *
+     * @param id      Индекс первой вершины
+     * @param otherId Индекс второй вершины
+     * @return Ключ.
+     */
+    protected double key(int id, int otherId) {
+        return metric == Metric.L2 ? -vectors.distanceSquared(id, otherId) : vectors.dot(id, otherId);
+    }
+
+    private int maxLinks(int layer) {
+        return layer == 0 ? maxM0 : m;
+    }
+
+    private int[] linkArray(int id, int layer) {
+        return layer == 0 ? level0 : upperLinks[id];
+    }
+
+    private int linkOffset(int id, int layer) {
+        return layer == 0 ? id * (maxM0 + 1) : (layer - 1) * (m + 1);
+    }
+
+    private ReentrantLock lock(int id) {
+        return locks[id & (LOCK_STRIPES - 1)];
+    }
+
+    private int readLinks(int id, int layer, int[] destination) {
+        int[] links = linkArray(id, layer);
+        int offset = linkOffset(id, layer);
+        ReentrantLock lock = lock(id);
+        lock.lock();
+        try {
+            int count = links[offset];
+            System.arraycopy(links, offset + 1, destination, 0, count);
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void setLinks(int id, int layer, int[] neighbors, int count) {
+        int[] links = linkArray(id, layer);
+        int offset = linkOffset(id, layer);
+        ReentrantLock lock = lock(id);
+        lock.lock();
+        try {
+            links[offset] = count;
+            System.arraycopy(neighbors, 0, links, offset + 1, count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Добавление связи вершины id с вершиной neighbor. Если связей становится больше допустимого,
+     * список связей вершины id отбирается заново эвристикой выбора соседей.
+     */
+    private void link(int id, int layer, int neighbor, SearchContext context) {
+        int[] links = linkArray(id, layer);
+        int offset = linkOffset(id, layer);
+        int maxLinks = maxLinks(layer);
+        ReentrantLock lock = lock(id);
+        lock.lock();
+        try {
+            int count = links[offset];
+            if (count < maxLinks) {
+                links[offset + 1 + count] = neighbor;
+                links[offset] = count + 1;
+                return;
+            }
+            long[] candidateIds = context.pruneIds;
+            double[] candidateKeys = context.pruneKeys;
+            for (int position = 0; position < count; position++) {
+                int candidate = links[offset + 1 + position];
+                candidateIds[position] = candidate;
+                candidateKeys[position] = key(id, candidate);
+            }
+            candidateIds[count] = neighbor;
+            candidateKeys[count] = key(id, neighbor);
+            sortByKey(candidateIds, candidateKeys, count + 1);
+            int selectedCount = selectNeighbors(candidateIds, candidateKeys, count + 1, maxLinks, context.pruned);
+            links[offset] = selectedCount;
+            System.arraycopy(context.pruned, 0, links, offset + 1, selectedCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Эвристика выбора соседей: кандидат выбирается, если он ближе к базовой вершине, чем к любому уже выбранному соседу.
+     * Кандидаты должны быть упорядочены по убыванию ключа относительно базовой вершины.
+     */
+    private int selectNeighbors(long[] candidateIds, double[] candidateKeys, int count, int limit, int[] selected) {
+        int selectedCount = 0;
+        for (int position = 0; position < count && selectedCount < limit; position++) {
+            int candidate = (int) candidateIds[position];
+            boolean diverse = true;
+            for (int other = 0; other < selectedCount && diverse; other++) {
+                diverse = key(candidate, selected[other]) <= candidateKeys[position];
+            }
+            if (diverse) selected[selectedCount++] = candidate;
+        }
+        return selectedCount;
+    }
+
+    private static void sortByKey(long[] ids, double[] keys, int count) {
+        for (int position = 1; position < count; position++) {
+            long id = ids[position];
+            double key = keys[position];
+            int target = position;
+            while (target > 0 && keys[target - 1] < key) {
+                ids[target] = ids[target - 1];
+                keys[target] = keys[target - 1];
+                target--;
+            }
+            ids[target] = id;
+            keys[target] = key;
+        }
+    }
+
+    private int greedy(double[] query, int entryId, int layer, SearchContext context) {
+        int current = entryId;
+        double currentKey = key(current, query);
+        int[] neighbors = context.neighbors;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int count = readLinks(current, layer, neighbors);
+            for (int position = 0; position < count; position++) {
+                double key = key(neighbors[position], query);
+                if (key > currentKey) {
+                    currentKey = key;
+                    current = neighbors[position];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private TopKHeap searchLayer(double[] query, int entryId, int ef, int layer, SearchContext context) {
+        int[] visited = context.visited(levels.length);
+        int mark = context.nextMark();
+        CandidateQueue candidates = context.candidates;
+        candidates.clear();
+        TopKHeap results = new TopKHeap(ef);
+        double entryKey = key(entryId, query);
+        visited[entryId] = mark;
+        candidates.push(entryId, entryKey);
+        results.offer(entryId, entryKey);
+        int[] neighbors = context.neighbors;
+        while (!candidates.isEmpty()) {
+            if (candidates.peekKey() < results.worstKey()) break;
+            int current = candidates.pop();
+            int count = readLinks(current, layer, neighbors);
+            for (int position = 0; position < count; position++) {
+                int neighbor = neighbors[position];
+                if (visited[neighbor] == mark) continue;
+                visited[neighbor] = mark;
+                double key = key(neighbor, query);
+                if (key > results.worstKey()) {
+                    candidates.push(neighbor, key);
+                    results.offer(neighbor, key);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Поиск k ближайших векторов с шириной поиска {@link #DEFAULT_EF_SEARCH} (но не меньше k).
+     * Если у вектора запроса нет значений по некоторым осям индекса, то такие значения будут взяты за 0.
+     *
+     * @param query   Вектор запроса
+     * @param k       Количество векторов
+     * @param indices Массив длиной не меньше k, в который будут записаны индексы вершин
+     * @param scores  Массив длиной не меньше k, в который будут записаны значения меры
+     * @return Количество найденных векторов.
+     */
+    public int search(Vector query, int k, long[] indices, double[] scores) {
+        return search(query, k, DEFAULT_EF_SEARCH, indices, scores);
+    }
+
+    /**
+     * Поиск k ближайших векторов. Может выполняться одновременно со вставкой и другими поисками.
+     * Если у вектора запроса нет значений по некоторым осям индекса, то такие значения будут взяты за 0.
+     *
+     * @param query   Вектор запроса
+     * @param k       Количество векторов
+     * @param ef      Ширина поиска (используется не меньше k): чем больше, тем выше полнота и медленнее поиск
+     * @param indices Массив длиной не меньше k, в который будут записаны индексы вершин по убыванию близости
+     * @param scores  Массив длиной не меньше k, в который будут записаны значения меры
+     * @return Количество найденных векторов (меньше k, если в индексе меньше k векторов).
+     */
+    public int search(Vector query, int k, int ef, long[] indices, double[] scores) {
+        if (k <= 0) return 0;
+        if (indices.length < k || scores.length < k) throw new IllegalArgumentException("Result arrays are shorter than k");
+        long currentEntry = entry;
+        if (currentEntry < 0) return 0;
+        SearchContext context = borrowContext();
+        try {
+            int dimension = getDimension();
+            double[] values = context.query(dimension);
+            if (query.getSize() == dimension) {
+                query.copyTo(values, 0);
+            } else {
+                for (int axis = 0; axis < dimension; axis++) values[axis] = query.getIndexOrZero(axis);
+            }
+            if (metric == Metric.COSINE) {
+                double length = 0;
+                for (double value : values) length += value * value;
+                length = Math.sqrt(length);
+                if (length > 0) for (int axis = 0; axis < dimension; axis++) values[axis] /= length;
+            }
+            int current = (int) currentEntry;
+            for (int layer = (int) (currentEntry >>> 32); layer > 0; layer--) current = greedy(values, current, layer, context);
+            TopKHeap found = searchLayer(values, current, Math.max(ef, k), 0, context);
+            long[] foundIds = context.foundIds(found.count);
+            double[] foundKeys = context.foundKeys(found.count);
+            int count = Math.min(k, found.drain(foundIds, foundKeys));
+            for (int position = 0; position < count; position++) {
+                indices[position] = foundIds[position];
+                scores[position] = metric.toScore(foundKeys[position]);
+            }
+            return count;
+        } finally {
+            contexts.offer(context);
+        }
+    }
+
+    private SearchContext borrowContext() {
+        SearchContext context = contexts.poll();
+        return context != null ? context : new SearchContext(maxM0, efConstruction);
+    }
+
+    /**
+     * Очередь кандидатов поиска: куча на примитивных массивах, в корне которой находится ближайший кандидат.
+     */
+    private static final class CandidateQueue {
+        private int[] ids = new int[64];
+        private double[] keys = new double[64];
+        private int count;
+
+        void clear() {
+            count = 0;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        double peekKey() {
+            return keys[0];
+        }
+
+        void push(int id, double key) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                keys = Arrays.copyOf(keys, count * 2);
+            }
+            int child = count++;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (keys[parent] >= key) break;
+                ids[child] = ids[parent];
+                keys[child] = keys[parent];
+                child = parent;
+            }
+            ids[child] = id;
+            keys[child] = key;
+        }
+
+        int pop() {
+            int result = ids[0];
+            int lastId = ids[--count];
+            double lastKey = keys[count];
+            int parent = 0;
+            while (true) {
+                int child = 2 * parent + 1;
+                if (child >= count) break;
+                if (child + 1 < count && keys[child + 1] > keys[child]) child++;
+                if (lastKey >= keys[child]) break;
+                ids[parent] = ids[child];
+                keys[parent] = keys[child];
+                parent = child;
+            }
+            ids[parent] = lastId;
+            keys[parent] = lastKey;
+            return result;
+        }
+    }
+
+    /**
+     * Буферы одной операции вставки или поиска.
+     */
+    private static final class SearchContext {
+        private int[] visited = new int[0];
+        private int mark;
+        private double[] query = new double[0];
+        final CandidateQueue candidates = new CandidateQueue();
+        final int[] neighbors;
+        final int[] selected;
+        final int[] pruned;
+        final long[] pruneIds;
+        final double[] pruneKeys;
+        long[] foundIds;
+        double[] foundKeys;
+
+        SearchContext(int maxM0, int efConstruction) {
+            neighbors = new int[maxM0];
+            selected = new int[maxM0];
+            pruned = new int[maxM0];
+            pruneIds = new long[maxM0 + 1];
+            pruneKeys = new double[maxM0 + 1];
+            foundIds = new long[efConstruction];
+            foundKeys = new double[efConstruction];
+        }
+
+        int[] visited(int capacity) {
+            if (visited.length < capacity) {
+                visited = new int[capacity];
+                mark = 0;
+            }
+            return visited;
+        }
+
+        int nextMark() {
+            if (++mark == 0) {
+                Arrays.fill(visited, 0);
+                mark = 1;
+            }
+            return mark;
+        }
+
+        double[] query(int dimension) {
+            if (query.length < dimension) query = new double[dimension];
+            return query;
+        }
+
+        long[] foundIds(int length) {
+            if (foundIds.length < length) foundIds = new long[length];
+            return foundIds;
+        }
+
+        double[] foundKeys(int length) {
+            if (foundKeys.length < length) foundKeys = new double[length];
+            return foundKeys;
+        }
+    }
+}
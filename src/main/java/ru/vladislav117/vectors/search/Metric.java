@@ -0,0 +1,48 @@
+package ru.vladislav117.vectors.search;
+
+/**
+ * Мера близости векторов, используемая при поиске.
+ * <p>
+ * При поиске векторы упорядочиваются по ключу, который тем больше, чем ближе вектор к запросу:
+ * для {@link #COSINE} и {@link #DOT} ключом является само значение меры, для {@link #L2} — квадрат расстояния со знаком минус.
+ * Так квадратный корень вычисляется только для найденных векторов.
+ * </p>
+ */
+public enum Metric {
+    /**
+     * Косинусное сходство: скалярное произведение, делённое на произведение длин. Чем больше, тем ближе.
+     * Если длина одного из векторов равна 0, сходство равно 0.
+     */
+    COSINE,
+    /**
+     * Скалярное произведение. Чем больше, тем ближе.
+     */
+    DOT,
+    /**
+     * Евклидово расстояние. Чем меньше, тем ближе.
+     */
+    L2;
+
+    /**
+     * Вычисление ключа упорядочивания для косинусного сходства.
+     *
+     * @param dot                Скалярное произведение векторов
+     * @param lengthSquared      Квадрат длины первого вектора
+     * @param otherLengthSquared Квадрат длины второго вектора
+     * @return Косинусное сходство или 0, если длина одного из векторов равна 0.
+     */
+    public static double cosine(double dot, double lengthSquared, double otherLengthSquared) {
+        if (lengthSquared == 0 || otherLengthSquared == 0) return 0;
+        return dot / Math.sqrt(lengthSquared * otherLengthSquared);
+    }
+
+    /**
+     * Перевод ключа упорядочивания в значение меры.
+     *
+     * @param key Ключ упорядочивания
+     * @return Значение меры.
+     */
+    public double toScore(double key) {
+        return this == L2 ? Math.sqrt(-key) : key;
+    }
+}
@@ -0,0 +1,215 @@
+package ru.vladislav117.vectors.search;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Поиск k ближайших векторов по их кодам {@link ProductQuantizer}.
+ * <p>
+ * Индекс хранит только коды векторов (subspaces байт на вектор), поэтому в том же объёме памяти помещается
+ * в dimension * 8 / subspaces раз больше векторов, чем в {@link ru.vladislav117.vectors.store.VectorMatrix}.
+ * Поиск перебирает коды с асимметричными расстояниями: для запроса строится таблица значений меры до центроидов,
+ * ключ кода — сумма subspaces значений таблицы. Перебор выполняется параллельно так же, как в {@link TopKSearcher}.
+ * Значения меры в результатах приближённые. Для {@link Metric#COSINE} векторы и запрос нормируются перед кодированием,
+ * поэтому квантователь должен быть обучен на нормированных векторах.
+ * </p>
+ */
+public class ProductQuantizedIndex {
+    /**
+     * Количество векторов, начиная с которого добавление коллекции кодирует векторы параллельно.
+     */
+    public static final int PARALLEL_THRESHOLD = 1024;
+    /**
+     * Квантователь.
+     */
+    protected final ProductQuantizer quantizer;
+    /**
+     * Мера близости.
+     */
+    protected final Metric metric;
+    /**
+     * Поиск, выполняющий перебор кодов.
+     */
+    protected final TopKSearcher searcher;
+    /**
+     * Коды векторов: код вектора id начинается с индекса id * subspaces.
+     */
+    protected final byte[] codes;
+    /**
+     * Количество векторов.
+     */
+    protected int size;
+
+    /**
+     * Создание пустого индекса.
+     *
+     * @param quantizer Обученный квантователь
+     * @param capacity  Максимальное количество векторов
+     * @param metric    Мера близости
+     */
+    public ProductQuantizedIndex(ProductQuantizer quantizer, int capacity, Metric metric) {
+        if (!quantizer.isTrained()) throw new IllegalArgumentException("Product quantizer is not trained");
+        if (capacity < 0 || (long) capacity * quantizer.getSubspaces() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.quantizer = quantizer;
+        this.metric = Objects.requireNonNull(metric);
+        searcher = new TopKSearcher(metric);
+        codes = new byte[capacity * quantizer.getSubspaces()];
+    }
+
+    /**
+     * Получение квантователя.
+     *
+     * @return Квантователь.
+     */
+    public ProductQuantizer getQuantizer() {
+        return quantizer;
+    }
+
+    /**
+     * Получение меры близости.
+     *
+     * @return Мера близости.
+     */
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Получение количества векторов.
+     *
+     * @return Количество векторов.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение максимального количества векторов.
+     *
+     * @return Ёмкость индекса.
+     */
+    public int getCapacity() {
+        return codes.length / quantizer.getSubspaces();
+    }
+
+    /**
+     * Добавление вектора.
+     * Если у вектора нет значений по некоторым осям, то такие значения будут взяты за 0.
+     *
+     * @param vector Вектор
+     * @return Индекс вектора.
+     * @throws IllegalStateException Если индекс заполнен
+     */
+    public int add(Vector vector) {
+        int id = reserve(1);
+        encode(id, vector);
+        return id;
+    }
+
+    /**
+     * Добавление векторов списка. Вектор с индексом i в списке получает индекс first + i.
+     * Если векторов не меньше {@value #PARALLEL_THRESHOLD}, они кодируются параллельно в {@link ForkJoinPool#commonPool()}.
+     *
+     * @param list Векторы
+     * @return Индекс первого вектора (first).
+     * @throws IllegalStateException Если векторы не помещаются в индекс
+     */
+    public int addAll(List<? extends Vector> list) {
+        int first = reserve(list.size());
+        ForkJoinPool.commonPool().invoke(new EncodeTask(list, first, 0, list.size()));
+        return first;
+    }
+
+    /**
+     * Задача параллельного кодирования отрезка списка векторов.
+     */
+    protected class EncodeTask extends RecursiveAction {
+        private final List<? extends Vector> list;
+        private final int first;
+        private final int from;
+        private final int to;
+
+        EncodeTask(List<? extends Vector> list, int first, int from, int to) {
+            this.list = list;
+            this.first = first;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int index = from; index < to; index++) encode(first + index, list.get(index));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EncodeTask(list, first, from, middle), new EncodeTask(list, first, middle, to));
+        }
+    }
+
+    private int reserve(int count) {
+        if (size + count > getCapacity()) throw new IllegalStateException("Index is full: capacity " + getCapacity());
+        int first = size;
+        size += count;
+        return first;
+    }
+
+    private void encode(int id, Vector vector) {
+        quantizer.encode(values(vector), 0, codes, id * quantizer.getSubspaces());
+    }
+
+    private double[] values(Vector vector) {
+        int dimension = quantizer.getDimension();
+        double[] values = new double[dimension];
+        if (vector.getSize() == dimension) {
+            vector.copyTo(values, 0);
+        } else {
+            for (int axis = 0; axis < dimension; axis++) values[axis] = vector.getIndexOrZero(axis);
+        }
+        if (metric == Metric.COSINE) {
+            double lengthSquared = 0;
+            for (double value : values) lengthSquared += value * value;
+            if (lengthSquared > 0) {
+                double length = Math.sqrt(lengthSquared);
+                for (int axis = 0; axis < dimension; axis++) values[axis] /= length;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Восстановление приближённого вектора по коду. Для {@link Metric#COSINE} вектор приближает нормированный вектор.
+     *
+     * @param id Индекс вектора
+     * @return Вектор-массив из центроидов кода.
+     */
+    public ArrayVector decode(int id) {
+        Objects.checkIndex(id, size);
+        return quantizer.decode(codes, id * quantizer.getSubspaces());
+    }
+
+    /**
+     * Поиск k ближайших векторов по асимметричным расстояниям до кодов.
+     * Если у вектора запроса нет значений по некоторым осям, то такие значения будут взяты за 0.
+     *
+     * @param query   Вектор запроса
+     * @param k       Количество векторов
+     * @param indices Массив длиной не меньше k, в который будут записаны индексы векторов
+     * @param scores  Массив длиной не меньше k, в который будут записаны приближённые значения меры
+     * @return Количество найденных векторов (меньше k, если в индексе меньше k векторов).
+     */
+    public int search(Vector query, int k, long[] indices, double[] scores) {
+        int subspaces = quantizer.getSubspaces();
+        double[] table = quantizer.lookupTable(values(query), metric, new double[subspaces * quantizer.getCentroids()]);
+        return searcher.search(size, subspaces, k, indices, scores, (from, to, heap) -> {
+            for (long id = from; id < to; id++) heap.offer(id, quantizer.key(table, codes, (int) id * subspaces));
+        });
+    }
+}
@@ -0,0 +1,366 @@
+package ru.vladislav117.vectors.search;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Произведение квантователей (product quantization): сжатие векторов в байтовые коды.
+ * <p>
+ * Пространство делится на subspaces подпространств одинаковой размерности, для каждого подпространства методом k-средних
+ * обучается словарь из centroids (не больше 256) центроидов. Вектор кодируется subspaces байтами — номерами ближайших центроидов
+ * в каждом подпространстве. Например, вектор размерности 128 из значений double занимает 1024 байта,
+ * а его код из 32 подпространств — 32 байта.
+ * </p>
+ * <p>
+ * Расстояния до закодированных векторов вычисляются асимметрично: для запроса один раз строится таблица
+ * значений меры между частями запроса и всеми центроидами ({@link #lookupTable(double[], Metric, double[])}),
+ * после чего ключ кода равен сумме subspaces значений из таблицы.
+ * </p>
+ */
+public class ProductQuantizer {
+    /**
+     * Максимальное количество центроидов в словаре подпространства.
+     */
+    public static final int MAX_CENTROIDS = 256;
+    /**
+     * Размерность векторов.
+     */
+    protected final int dimension;
+    /**
+     * Количество подпространств (длина кода).
+     */
+    protected final int subspaces;
+    /**
+     * Размерность подпространства.
+     */
+    protected final int subspaceDimension;
+    /**
+     * Количество центроидов в словаре подпространства.
+     */
+    protected final int centroids;
+    /**
+     * Словари: центроид c подпространства s начинается с индекса (s * centroids + c) * subspaceDimension.
+     */
+    protected final double[] codebooks;
+    /**
+     * Обучены ли словари.
+     */
+    protected volatile boolean trained;
+
+    /**
+     * Создание необученного квантователя.
+     *
+     * @param dimension Размерность векторов
+     * @param subspaces Количество подпространств (должно делить размерность)
+     * @param centroids Количество центроидов в словаре подпространства (от 1 до {@value #MAX_CENTROIDS})
+     */
+    public ProductQuantizer(int dimension, int subspaces, int centroids) {
+        if (dimension <= 0 || subspaces <= 0 || dimension % subspaces != 0) {
+            throw new IllegalArgumentException("Dimension " + dimension + " is not divisible into " + subspaces + " subspaces");
+        }
+        if (centroids <= 0 || centroids > MAX_CENTROIDS) throw new IllegalArgumentException("Centroid count must be in [1, 256]: " + centroids);
+        this.dimension = dimension;
+        this.subspaces = subspaces;
+        this.centroids = centroids;
+        subspaceDimension = dimension / subspaces;
+        codebooks = new double[subspaces * centroids * subspaceDimension];
+    }
+
+    /**
+     * Получение размерности векторов.
+     *
+     * @return Размерность векторов.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение количества подпространств, равного длине кода в байтах.
+     *
+     * @return Количество подпространств.
+     */
+    public int getSubspaces() {
+        return subspaces;
+    }
+
+    /**
+     * Получение количества центроидов в словаре подпространства.
+     *
+     * @return Количество центроидов.
+     */
+    public int getCentroids() {
+        return centroids;
+    }
+
+    /**
+     * Проверка, обучены ли словари.
+     *
+     * @return Обучены ли словари.
+     */
+    public boolean isTrained() {
+        return trained;
+    }
+
+    /**
+     * Обучение словарей методом k-средних на выборке векторов. Подпространства обучаются параллельно в {@link ForkJoinPool#commonPool()}.
+     * Если у вектора нет значений по некоторым осям, то такие значения будут взяты за 0.
+     *
+     * @param sample     Выборка векторов (не меньше centroids)
+     * @param iterations Количество итераций k-средних
+     * @param seed       Зерно генератора начальных центроидов
+     * @return Этот квантователь.
+     */
+    public ProductQuantizer train(List<? extends Vector> sample, int iterations, long seed) {
+        if (sample.size() < centroids) throw new IllegalArgumentException("Sample is smaller than centroid count: " + sample.size());
+        double[] values = new double[sample.size() * dimension];
+        for (int index = 0; index < sample.size(); index++) copyValues(sample.get(index), values, index * dimension);
+        ForkJoinPool.commonPool().invoke(new TrainTask(values, sample.size(), iterations, seed, 0, subspaces));
+        trained = true;
+        return this;
+    }
+
+    /**
+     * Задача параллельного обучения словарей отрезка подпространств.
+     */
+    protected class TrainTask extends RecursiveAction {
+        private final double[] values;
+        private final int count;
+        private final int iterations;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        TrainTask(double[] values, int count, int iterations, long seed, int from, int to) {
+            this.values = values;
+            this.count = count;
+            this.iterations = iterations;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                trainSubspace(values, count, iterations, new Random(seed + from), from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TrainTask(values, count, iterations, seed, from, middle), new TrainTask(values, count, iterations, seed, middle, to));
+        }
+    }
+
+    /**
+     * Обучение словаря подпространства методом k-средних (алгоритм Ллойда).
+     * Начальные центроиды выбираются по схеме k-means++; опустевший центроид заменяется случайным вектором выборки.
+     */
+    private void trainSubspace(double[] values, int count, int iterations, Random random, int subspace) {
+        int base = subspace * centroids * subspaceDimension;
+        int valueOffset = subspace * subspaceDimension;
+        double[] distances = new double[count];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        int chosen = random.nextInt(count);
+        for (int centroid = 0; centroid < centroids; centroid++) {
+            int target = base + centroid * subspaceDimension;
+            System.arraycopy(values, chosen * dimension + valueOffset, codebooks, target, subspaceDimension);
+            if (centroid == centroids - 1) break;
+            // Следующий центроид выбирается с вероятностью, пропорциональной квадрату расстояния до ближайшего выбранного.
+            double total = 0;
+            for (int index = 0; index < count; index++) {
+                int offset = index * dimension + valueOffset;
+                double distance = 0;
+                for (int axis = 0; axis < subspaceDimension; axis++) {
+                    double difference = values[offset + axis] - codebooks[target + axis];
+                    distance += difference * difference;
+                }
+                distances[index] = Math.min(distances[index], distance);
+                total += distances[index];
+            }
+            if (total == 0) {
+                chosen = random.nextInt(count);
+                continue;
+            }
+            double threshold = random.nextDouble() * total;
+            chosen = count - 1;
+            for (int index = 0; index < count; index++) {
+                threshold -= distances[index];
+                if (threshold < 0) {
+                    chosen = index;
+                    break;
+                }
+            }
+        }
+        double[] sums = new double[centroids * subspaceDimension];
+        int[] sizes = new int[centroids];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            Arrays.fill(sums, 0);
+            Arrays.fill(sizes, 0);
+            for (int index = 0; index < count; index++) {
+                int offset = index * dimension + valueOffset;
+                int centroid = nearest(values, offset, subspace);
+                sizes[centroid]++;
+                for (int axis = 0; axis < subspaceDimension; axis++) sums[centroid * subspaceDimension + axis] += values[offset + axis];
+            }
+            for (int centroid = 0; centroid < centroids; centroid++) {
+                int target = base + centroid * subspaceDimension;
+                if (sizes[centroid] == 0) {
+                    System.arraycopy(values, random.nextInt(count) * dimension + valueOffset, codebooks, target, subspaceDimension);
+                    continue;
+                }
+                for (int axis = 0; axis < subspaceDimension; axis++) codebooks[target + axis] = sums[centroid * subspaceDimension + axis] / sizes[centroid];
+            }
+        }
+    }
+
+    private int nearest(double[] values, int offset, int subspace) {
+        int best = 0;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        int centroidOffset = subspace * centroids * subspaceDimension;
+        for (int centroid = 0; centroid < centroids; centroid++, centroidOffset += subspaceDimension) {
+            double distance = 0;
+            for (int axis = 0; axis < subspaceDimension; axis++) {
+                double difference = values[offset + axis] - codebooks[centroidOffset + axis];
+                distance += difference * difference;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = centroid;
+            }
+        }
+        return best;
+    }
+
+    private void copyValues(Vector vector, double[] destination, int offset) {
+        if (vector.getSize() == dimension) {
+            vector.copyTo(destination, offset);
+        } else {
+            for (int axis = 0; axis < dimension; axis++) destination[offset + axis] = vector.getIndexOrZero(axis);
+        }
+    }
+
+    private void checkTrained() {
+        if (!trained) throw new IllegalStateException("Product quantizer is not trained");
+    }
+
+    /**
+     * Кодирование вектора.
+     * Если у вектора нет значений по некоторым осям, то такие значения будут взяты за 0.
+     *
+     * @param vector Вектор
+     * @return Код длиной {@link #getSubspaces()} байт.
+     */
+    public byte[] encode(Vector vector) {
+        return encode(vector, new byte[subspaces], 0);
+    }
+
+    /**
+     * Кодирование вектора в массив.
+     * Если у вектора нет значений по некоторым осям, то такие значения будут взяты за 0.
+     *
+     * @param vector Вектор
+     * @param codes  Массив, в который будет записан код
+     * @param offset Индекс начала кода в массиве
+     * @return Массив кодов.
+     */
+    public byte[] encode(Vector vector, byte[] codes, int offset) {
+        double[] values = new double[dimension];
+        copyValues(vector, values, 0);
+        return encode(values, 0, codes, offset);
+    }
+
+    /**
+     * Кодирование значений вектора из массива.
+     *
+     * @param values      Массив значений
+     * @param valueOffset Индекс первого значения вектора
+     * @param codes       Массив, в который будет записан код
+     * @param offset      Индекс начала кода в массиве
+     * @return Массив кодов.
+     */
+    public byte[] encode(double[] values, int valueOffset, byte[] codes, int offset) {
+        checkTrained();
+        Objects.checkFromIndexSize(valueOffset, dimension, values.length);
+        Objects.checkFromIndexSize(offset, subspaces, codes.length);
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            codes[offset + subspace] = (byte) nearest(values, valueOffset + subspace * subspaceDimension, subspace);
+        }
+        return codes;
+    }
+
+    /**
+     * Восстановление приближённого вектора по коду.
+     *
+     * @param codes  Массив кодов
+     * @param offset Индекс начала кода в массиве
+     * @return Вектор-массив из центроидов кода.
+     */
+    public ArrayVector decode(byte[] codes, int offset) {
+        checkTrained();
+        Objects.checkFromIndexSize(offset, subspaces, codes.length);
+        double[] values = new double[dimension];
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int centroid = codes[offset + subspace] & 0xFF;
+            System.arraycopy(codebooks, (subspace * centroids + centroid) * subspaceDimension, values, subspace * subspaceDimension, subspaceDimension);
+        }
+        return new ArrayVector(values);
+    }
+
+    /**
+     * Построение таблицы асимметричных расстояний для запроса. Значение для центроида c подпространства s
+     * находится по индексу s * centroids + c: квадрат расстояния со знаком минус для {@link Metric#L2},
+     * скалярное произведение для {@link Metric#DOT} и {@link Metric#COSINE} (для косинусного сходства запрос
+     * и закодированные векторы должны быть нормированы).
+     * Ключ кода, упорядочивающий коды так же, как {@link Metric}, равен сумме значений таблицы по его байтам.
+     *
+     * @param query  Значения запроса (длиной не меньше размерности)
+     * @param metric Мера близости
+     * @param table  Массив длиной не меньше subspaces * centroids, в который будет записана таблица
+     * @return Таблица.
+     */
+    public double[] lookupTable(double[] query, Metric metric, double[] table) {
+        checkTrained();
+        Objects.checkFromIndexSize(0, dimension, query.length);
+        Objects.checkFromIndexSize(0, subspaces * centroids, table.length);
+        int centroidOffset = 0;
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int queryOffset = subspace * subspaceDimension;
+            for (int centroid = 0; centroid < centroids; centroid++, centroidOffset += subspaceDimension) {
+                double value = 0;
+                if (metric == Metric.L2) {
+                    for (int axis = 0; axis < subspaceDimension; axis++) {
+                        double difference = query[queryOffset + axis] - codebooks[centroidOffset + axis];
+                        value -= difference * difference;
+                    }
+                } else {
+                    for (int axis = 0; axis < subspaceDimension; axis++) value += query[queryOffset + axis] * codebooks[centroidOffset + axis];
+                }
+                table[subspace * centroids + centroid] = value;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Вычисление ключа кода по таблице асимметричных расстояний.
+     *
+     * @param table  Таблица, построенная {@link #lookupTable(double[], Metric, double[])}
+     * @param codes  Массив кодов
+     * @param offset Индекс начала кода в массиве
+     * @return Ключ кода.
+     */
+    public double key(double[] table, byte[] codes, int offset) {
+        double key = 0;
+        for (int subspace = 0, tableOffset = 0; subspace < subspaces; subspace++, tableOffset += centroids) {
+            key += table[tableOffset + (codes[offset + subspace] & 0xFF)];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,130 @@
+package ru.vladislav117.vectors.search;
+
+/**
+ * Ограниченная куча k лучших кандидатов на примитивных массивах.
+ * В корне находится худший из сохранённых кандидатов (с наименьшим ключом), поэтому новый кандидат сравнивается только с ним.
+ */
+final class TopKHeap {
+    /**
+     * Индексы кандидатов.
+     */
+    final long[] indices;
+    /**
+     * Ключи кандидатов (чем больше, тем лучше).
+     */
+    final double[] keys;
+    /**
+     * Количество сохранённых кандидатов.
+     */
+    int count;
+
+    /**
+     * Создание пустой кучи.
+     *
+     * @param k Максимальное количество кандидатов
+     */
+    TopKHeap(int k) {
+        indices = new long[k];
+        keys = new double[k];
+    }
+
+    /**
+     * Проверка, заполнена ли куча.
+     *
+     * @return Заполнена ли куча.
+     */
+    boolean isFull() {
+        return count == keys.length;
+    }
+
+    /**
+     * Получение ключа худшего кандидата.
+     *
+     * @return Ключ худшего кандидата или {@link Double#NEGATIVE_INFINITY}, если куча не заполнена.
+     */
+    double worstKey() {
+        return isFull() ? keys[0] : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Предложение кандидата. Кандидат сохраняется, если куча не заполнена или он лучше худшего сохранённого.
+     *
+     * @param index Индекс кандидата
+     * @param key   Ключ кандидата
+     */
+    void offer(long index, double key) {
+        if (count < keys.length) {
+            int child = count++;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (keys[parent] <= key) break;
+                indices[child] = indices[parent];
+                keys[child] = keys[parent];
+                child = parent;
+            }
+            indices[child] = index;
+            keys[child] = key;
+            return;
+        }
+        if (key > keys[0]) siftDown(index, key, count);
+    }
+
+    /**
+     * Перенос кандидатов другой кучи в эту.
+     *
+     * @param other Другая куча
+     */
+    void merge(TopKHeap other) {
+        for (int position = 0; position < other.count; position++) offer(other.indices[position], other.keys[position]);
+    }
+
+    /**
+     * Запись кандидатов в массивы по убыванию ключа. Куча становится пустой.
+     *
+     * @param resultIndices Массив, в который будут записаны индексы
+     * @param resultKeys    Массив, в который будут записаны ключи
+     * @return Количество записанных кандидатов.
+     */
+    int drain(long[] resultIndices, double[] resultKeys) {
+        int total = count;
+        // Извлечение худшего кандидата в конец массивов упорядочивает их по убыванию ключа.
+        for (int end = total - 1; end >= 0; end--) {
+            long index = indices[0];
+            double key = keys[0];
+            siftDown(indices[end], keys[end], end);
+            resultIndices[end] = index;
+            resultKeys[end] = key;
+        }
+        count = 0;
+        return total;
+    }
+
+    /**
+     * Запись кандидатов в массивы по убыванию ключа с переводом ключей в значения меры. Куча становится пустой.
+     *
+     * @param resultIndices Массив, в который будут записаны индексы
+     * @param resultScores  Массив, в который будут записаны значения меры
+     * @param metric        Мера, в значения которой переводятся ключи
+     * @return Количество записанных кандидатов.
+     */
+    int drain(long[] resultIndices, double[] resultScores, Metric metric) {
+        int total = drain(resultIndices, resultScores);
+        for (int position = 0; position < total; position++) resultScores[position] = metric.toScore(resultScores[position]);
+        return total;
+    }
+
+    private void siftDown(long index, double key, int size) {
+        int parent = 0;
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= size) break;
+            if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+            if (key <= keys[child]) break;
+            indices[parent] = indices[child];
+            keys[parent] = keys[child];
+            parent = child;
+        }
+        indices[parent] = index;
+        keys[parent] = key;
+    }
+}
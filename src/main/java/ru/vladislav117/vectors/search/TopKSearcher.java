@@ -0,0 +1,211 @@
+package ru.vladislav117.vectors.search;
+
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
+import ru.vladislav117.vectors.store.OffHeapVectorStore;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Точный поиск k ближайших к запросу векторов полным перебором.
+ * <p>
+ * Кандидаты отбираются ограниченной кучей на примитивных массивах, поэтому перебор не создаёт объектов для каждого кандидата.
+ * Если количество значений перебираемых векторов не меньше {@value #PARALLEL_THRESHOLD}, перебор делится на отрезки,
+ * которые обрабатываются параллельно в {@link ForkJoinPool}; каждая задача ведёт собственную кучу, кучи объединяются в конце.
+ * </p>
+ * <p>
+ * Результаты записываются в массивы индексов и значений меры по убыванию близости:
+ * по убыванию сходства для {@link Metric#COSINE} и {@link Metric#DOT}, по возрастанию расстояния для {@link Metric#L2}.
+ * </p>
+ */
+public class TopKSearcher {
+    /**
+     * Количество значений, начиная с которого перебор выполняется параллельно.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * Мера близости.
+     */
+    protected final Metric metric;
+    /**
+     * Пул потоков для параллельного перебора.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Создание поиска, выполняющего параллельный перебор в {@link ForkJoinPool#commonPool()}.
+     *
+     * @param metric Мера близости
+     */
+    public TopKSearcher(Metric metric) {
+        this(metric, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создание поиска.
+     *
+     * @param metric Мера близости
+     * @param pool   Пул потоков для параллельного перебора
+     */
+    public TopKSearcher(Metric metric, ForkJoinPool pool) {
+        this.metric = Objects.requireNonNull(metric);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Получение меры близости.
+     *
+     * @return Мера близости.
+     */
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Поиск k ближайших векторов списка.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     * Список не должен изменяться во время поиска и должен поддерживать быстрый доступ по индексу.
+     *
+     * @param query   Вектор запроса
+     * @param vectors Векторы
+     * @param k       Количество векторов
+     * @param indices Массив длиной не меньше k, в который будут записаны индексы векторов в списке
+     * @param scores  Массив длиной не меньше k, в который будут записаны значения меры
+     * @return Количество найденных векторов (меньше k, если в списке меньше k векторов).
+     */
+    public int search(Vector query, List<? extends Vector> vectors, int k, long[] indices, double[] scores) {
+        double queryLengthSquared = query.lengthSquared();
+        return search(vectors.size(), query.getSize(), k, indices, scores, (from, to, heap) -> {
+            for (int index = (int) from; index < to; index++) {
+                Vector vector = vectors.get(index);
+                double key = switch (metric) {
+                    case COSINE -> Metric.cosine(vector.dot(query), vector.lengthSquared(), queryLengthSquared);
+                    case DOT -> vector.dot(query);
+                    case L2 -> -vector.distanceSquared(query);
+                };
+                heap.offer(index, key);
+            }
+        });
+    }
+
+    /**
+     * Поиск k ближайших строк матрицы.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param query   Вектор запроса
+     * @param matrix  Матрица
+     * @param k       Количество строк
+     * @param indices Массив длиной не меньше k, в который будут записаны индексы строк
+     * @param scores  Массив длиной не меньше k, в который будут записаны значения меры
+     * @return Количество найденных строк (меньше k, если в матрице меньше k строк).
+     */
+    public int search(Vector query, VectorMatrix matrix, int k, long[] indices, double[] scores) {
+        int dimension = matrix.getDimension();
+        double[] values = new double[dimension];
+        if (query.getSize() == dimension) {
+            query.copyTo(values, 0);
+        } else {
+            for (int axis = 0; axis < dimension; axis++) values[axis] = query.getIndexOrZero(axis);
+        }
+        DoubleArrayKernels kernels = DoubleArrayKernels.get();
+        double queryLengthSquared = kernels.sumOfSquares(values, 0, dimension);
+        return search(matrix.getRowCount(), dimension, k, indices, scores, (from, to, heap) -> matrix.forEachRow(from, to, (row, array, offset) -> {
+            double key = switch (metric) {
+                case COSINE -> Metric.cosine(kernels.dot(array, offset, values, 0, dimension), kernels.sumOfSquares(array, offset, dimension), queryLengthSquared);
+                case DOT -> kernels.dot(array, offset, values, 0, dimension);
+                case L2 -> -kernels.sumOfSquaresOfDifferences(array, offset, values, 0, dimension);
+            };
+            heap.offer(row, key);
+        }));
+    }
+
+    /**
+     * Поиск k ближайших векторов хранилища вне кучи.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param query   Вектор запроса
+     * @param store   Хранилище
+     * @param k       Количество векторов
+     * @param indices Массив длиной не меньше k, в который будут записаны индексы векторов в хранилище
+     * @param scores  Массив длиной не меньше k, в который будут записаны значения меры
+     * @return Количество найденных векторов (меньше k, если в хранилище меньше k векторов).
+     */
+    public int search(Vector query, OffHeapVectorStore store, int k, long[] indices, double[] scores) {
+        double queryLengthSquared = query.lengthSquared();
+        return search(store.getRowCount(), store.getDimension(), k, indices, scores, (from, to, heap) -> {
+            for (long row = from; row < to; row++) {
+                double key = switch (metric) {
+                    case COSINE -> Metric.cosine(store.dot(row, query), store.lengthSquared(row), queryLengthSquared);
+                    case DOT -> store.dot(row, query);
+                    case L2 -> -store.distanceSquared(row, query);
+                };
+                heap.offer(row, key);
+            }
+        });
+    }
+
+    /**
+     * Перебор отрезка кандидатов с записью их в кучу.
+     */
+    @FunctionalInterface
+    interface RangeScanner {
+        void scan(long from, long to, TopKHeap heap);
+    }
+
+    /**
+     * Перебор кандидатов, параллельный при достаточном объёме работы, с записью k лучших в массивы результатов.
+     *
+     * @param candidateCount Количество кандидатов
+     * @param dimension      Стоимость обработки одного кандидата (обычно размерность векторов)
+     * @param k              Количество кандидатов в результате
+     * @param indices        Массив, в который будут записаны индексы
+     * @param scores         Массив, в который будут записаны значения меры
+     * @param scanner        Перебор отрезка кандидатов
+     * @return Количество найденных кандидатов.
+     */
+    int search(long candidateCount, int dimension, int k, long[] indices, double[] scores, RangeScanner scanner) {
+        if (k <= 0) return 0;
+        if (indices.length < k || scores.length < k) throw new IllegalArgumentException("Result arrays are shorter than k");
+        ScanTask task = new ScanTask(scanner, k, Math.max(1, dimension), 0, candidateCount);
+        TopKHeap heap = candidateCount * dimension >= PARALLEL_THRESHOLD ? pool.invoke(task) : task.compute();
+        return heap.drain(indices, scores, metric);
+    }
+
+    /**
+     * Задача параллельного перебора отрезка кандидатов.
+     */
+    private static class ScanTask extends RecursiveTask<TopKHeap> {
+        private final RangeScanner scanner;
+        private final int k;
+        private final int dimension;
+        private final long from;
+        private final long to;
+
+        ScanTask(RangeScanner scanner, int k, int dimension, long from, long to) {
+            this.scanner = scanner;
+            this.k = k;
+            this.dimension = dimension;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopKHeap compute() {
+            if ((to - from) * dimension < PARALLEL_THRESHOLD) {
+                TopKHeap heap = new TopKHeap(k);
+                scanner.scan(from, to, heap);
+                return heap;
+            }
+            long middle = (from + to) >>> 1;
+            ScanTask right = new ScanTask(scanner, k, dimension, middle, to);
+            right.fork();
+            TopKHeap heap = new ScanTask(scanner, k, dimension, from, middle).compute();
+            heap.merge(right.join());
+            return heap;
+        }
+    }
+}
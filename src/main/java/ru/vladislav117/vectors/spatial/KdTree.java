@@ -0,0 +1,518 @@
+package ru.vladislav117.vectors.spatial;
+
+import ru.vladislav117.vectors.Vector;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * K-мерное дерево для поиска ближайших соседей, поиска в радиусе и поиска в прямоугольной области.
+ * <p>
+ * Дерево строится один раз и не изменяется. Узлы не хранятся отдельными объектами: точки лежат в одном массиве
+ * в порядке дерева, а узлом является середина диапазона массива. Диапазоны длиной не больше {@value #LEAF_SIZE}
+ * являются листьями и просматриваются целиком. Сравнения выполняются по квадратам расстояний,
+ * поэтому при обходе дерева корни не вычисляются.
+ * </p>
+ * <p>
+ * Результаты запросов - индексы точек в исходной коллекции (в порядке её обхода).
+ * Если у вектора запроса совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+ * </p>
+ */
+public class KdTree {
+    /**
+     * Максимальное количество точек в листе.
+     */
+    public static final int LEAF_SIZE = 8;
+    /**
+     * Количество точек, начиная с которого поддеревья строятся параллельно.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+    /**
+     * Размерность точек.
+     */
+    protected final int dimension;
+    /**
+     * Количество точек.
+     */
+    protected final int size;
+    /**
+     * Значения точек в порядке дерева.
+     */
+    protected final double[] points;
+    /**
+     * Индексы точек в исходной коллекции в порядке дерева.
+     */
+    protected final int[] indices;
+    /**
+     * Оси разбиения узлов (по позиции узла в порядке дерева).
+     */
+    protected final byte[] axes;
+
+    /**
+     * Построение дерева по коллекции векторов. Размерность дерева равна размеру первого вектора.
+     *
+     * @param vectors Векторы
+     * @throws IllegalArgumentException Если коллекция пуста
+     */
+    public KdTree(Collection<? extends Vector> vectors) {
+        this(vectors, firstSize(vectors));
+    }
+
+    /**
+     * Построение дерева по коллекции векторов.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vectors   Векторы
+     * @param dimension Размерность дерева
+     */
+    public KdTree(Collection<? extends Vector> vectors, int dimension) {
+        this(toCoordinates(vectors, dimension), dimension);
+    }
+
+    /**
+     * Построение дерева по значениям точек, записанным подряд.
+     * Массив не изменяется и не используется после построения.
+     *
+     * @param coordinates Значения точек: значения точки с индексом i находятся по индексам от i * dimension
+     * @param dimension   Размерность точек
+     */
+    public KdTree(double[] coordinates, int dimension) {
+        if (dimension <= 0 || dimension > Byte.MAX_VALUE) throw new IllegalArgumentException("Unsupported dimension " + dimension);
+        if (coordinates.length % dimension != 0) throw new IllegalArgumentException("Coordinates length is not a multiple of dimension");
+        this.dimension = dimension;
+        size = coordinates.length / dimension;
+        axes = new byte[size];
+        int[] order = new int[size];
+        for (int index = 0; index < size; index++) order[index] = index;
+        if (size >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new BuildTask(coordinates, order, 0, size, 0));
+        } else {
+            build(coordinates, order, 0, size, 0);
+        }
+        points = new double[coordinates.length];
+        for (int position = 0; position < size; position++) {
+            System.arraycopy(coordinates, order[position] * dimension, points, position * dimension, dimension);
+        }
+        indices = order;
+    }
+
+    private static int firstSize(Collection<? extends Vector> vectors) {
+        if (vectors.isEmpty()) throw new IllegalArgumentException("Cannot infer dimension of an empty collection");
+        return vectors.iterator().next().getSize();
+    }
+
+    /**
+     * Запись значений векторов подряд в один массив.
+     *
+     * @param vectors   Векторы
+     * @param dimension Размерность
+     * @return Массив значений.
+     */
+    protected static double[] toCoordinates(Collection<? extends Vector> vectors, int dimension) {
+        double[] coordinates = new double[vectors.size() * dimension];
+        int offset = 0;
+        for (Vector vector : vectors) {
+            copyCoordinates(vector, dimension, coordinates, offset);
+            offset += dimension;
+        }
+        return coordinates;
+    }
+
+    /**
+     * Запись значений вектора в массив.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vector      Вектор
+     * @param dimension   Количество записываемых значений
+     * @param destination Массив
+     * @param offset      Индекс в массиве, начиная с которого будут записаны значения
+     */
+    protected static void copyCoordinates(Vector vector, int dimension, double[] destination, int offset) {
+        if (vector.getSize() == dimension) {
+            vector.copyTo(destination, offset);
+            return;
+        }
+        for (int axis = 0; axis < dimension; axis++) destination[offset + axis] = vector.getIndexOrZero(axis);
+    }
+
+    /**
+     * Построение поддерева на диапазоне.
+     *
+     * @param coordinates Значения точек в исходном порядке
+     * @param order       Индексы точек, переставляемые в порядок дерева
+     * @param from        Начало диапазона (включительно)
+     * @param to          Конец диапазона (не включительно)
+     * @param depth       Глубина узла
+     */
+    protected void build(double[] coordinates, int[] order, int from, int to, int depth) {
+        while (to - from > LEAF_SIZE) {
+            int middle = (from + to) >>> 1;
+            int axis = depth % dimension;
+            select(coordinates, order, from, to, middle, axis);
+            axes[middle] = (byte) axis;
+            build(coordinates, order, from, middle, depth + 1);
+            from = middle + 1;
+            depth++;
+        }
+    }
+
+    /**
+     * Частичная сортировка диапазона: после неё точка с позицией k имеет k-е значение по оси,
+     * точки левее не больше неё, точки правее не меньше.
+     *
+     * @param coordinates Значения точек
+     * @param order       Индексы точек
+     * @param from        Начало диапазона (включительно)
+     * @param to          Конец диапазона (не включительно)
+     * @param k           Позиция
+     * @param axis        Ось
+     */
+    protected void select(double[] coordinates, int[] order, int from, int to, int k, int axis) {
+        int left = from;
+        int right = to - 1;
+        while (right > left) {
+            int middle = (left + right) >>> 1;
+            double pivot = medianOfThree(
+                    coordinates[order[left] * dimension + axis],
+                    coordinates[order[middle] * dimension + axis],
+                    coordinates[order[right] * dimension + axis]);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[order[i] * dimension + axis] < pivot) i++;
+                while (coordinates[order[j] * dimension + axis] > pivot) j--;
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (a < b) {
+            if (b < c) return b;
+            return Math.max(a, c);
+        }
+        if (a < c) return a;
+        return Math.max(b, c);
+    }
+
+    /**
+     * Задача параллельного построения поддерева.
+     */
+    protected class BuildTask extends RecursiveAction {
+        private final double[] coordinates;
+        private final int[] order;
+        private final int from;
+        private final int to;
+        private final int depth;
+
+        BuildTask(double[] coordinates, int[] order, int from, int to, int depth) {
+            this.coordinates = coordinates;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                build(coordinates, order, from, to, depth);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            int axis = depth % dimension;
+            select(coordinates, order, from, to, middle, axis);
+            axes[middle] = (byte) axis;
+            invokeAll(new BuildTask(coordinates, order, from, middle, depth + 1), new BuildTask(coordinates, order, middle + 1, to, depth + 1));
+        }
+    }
+
+    /**
+     * Получение размерности дерева.
+     *
+     * @return Размерность.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение количества точек.
+     *
+     * @return Количество точек.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение значений вектора в виде массива размерности дерева.
+     *
+     * @param vector Вектор
+     * @return Массив значений.
+     */
+    protected double[] toQuery(Vector vector) {
+        double[] query = new double[dimension];
+        copyCoordinates(vector, dimension, query, 0);
+        return query;
+    }
+
+    /**
+     * Вычисление квадрата расстояния от точки дерева до точки запроса.
+     *
+     * @param position Позиция точки в порядке дерева
+     * @param query    Точка запроса
+     * @return Квадрат расстояния.
+     */
+    protected double distanceSquared(int position, double[] query) {
+        int offset = position * dimension;
+        double sumOfSquaresOfDifferences = 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            double difference = points[offset + axis] - query[axis];
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    /**
+     * Поиск ближайшей точки.
+     *
+     * @param query Вектор запроса
+     * @return Индекс ближайшей точки или -1, если дерево пусто.
+     */
+    public int nearest(Vector query) {
+        int[] result = new int[1];
+        return nearest(toQuery(query), 1, result, new double[1]) == 0 ? -1 : result[0];
+    }
+
+    /**
+     * Поиск k ближайших точек.
+     *
+     * @param query     Вектор запроса
+     * @param k         Количество точек
+     * @param indices   Массив длиной не меньше k, в который будут записаны индексы точек по возрастанию расстояния
+     * @param distances Массив длиной не меньше k, в который будут записаны расстояния до точек
+     * @return Количество найденных точек (меньше k, если в дереве меньше k точек).
+     */
+    public int nearest(Vector query, int k, int[] indices, double[] distances) {
+        return nearest(toQuery(query), k, indices, distances);
+    }
+
+    /**
+     * Поиск k ближайших точек. Не создаёт объектов.
+     *
+     * @param query     Значения точки запроса (длиной не меньше размерности дерева)
+     * @param k         Количество точек
+     * @param indices   Массив длиной не меньше k, в который будут записаны индексы точек по возрастанию расстояния
+     * @param distances Массив длиной не меньше k, в который будут записаны расстояния до точек
+     * @return Количество найденных точек (меньше k, если в дереве меньше k точек).
+     */
+    public int nearest(double[] query, int k, int[] indices, double[] distances) {
+        if (k <= 0) return 0;
+        if (indices.length < k || distances.length < k) throw new IllegalArgumentException("Result arrays are shorter than k");
+        int count = nearest(query, k, indices, distances, 0, size, 0);
+        // Массивы содержат max-кучу по квадратам расстояний, пирамидальная сортировка упорядочивает их по возрастанию.
+        for (int end = count - 1; end > 0; end--) {
+            swap(indices, distances, 0, end);
+            siftDown(indices, distances, 0, end);
+        }
+        for (int index = 0; index < count; index++) distances[index] = Math.sqrt(distances[index]);
+        return count;
+    }
+
+    private int nearest(double[] query, int k, int[] heapIndices, double[] heapDistances, int from, int to, int count) {
+        while (to - from > LEAF_SIZE) {
+            int middle = (from + to) >>> 1;
+            int axis = axes[middle];
+            count = offer(heapIndices, heapDistances, count, k, middle, distanceSquared(middle, query));
+            double difference = query[axis] - points[middle * dimension + axis];
+            if (difference < 0) {
+                count = nearest(query, k, heapIndices, heapDistances, from, middle, count);
+                if (count == k && difference * difference >= heapDistances[0]) return count;
+                from = middle + 1;
+            } else {
+                count = nearest(query, k, heapIndices, heapDistances, middle + 1, to, count);
+                if (count == k && difference * difference >= heapDistances[0]) return count;
+                to = middle;
+            }
+        }
+        for (int position = from; position < to; position++) {
+            count = offer(heapIndices, heapDistances, count, k, position, distanceSquared(position, query));
+        }
+        return count;
+    }
+
+    private int offer(int[] heapIndices, double[] heapDistances, int count, int k, int position, double distanceSquared) {
+        if (count < k) {
+            int child = count;
+            heapIndices[child] = indices[position];
+            heapDistances[child] = distanceSquared;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (heapDistances[parent] >= heapDistances[child]) break;
+                swap(heapIndices, heapDistances, parent, child);
+                child = parent;
+            }
+            return count + 1;
+        }
+        if (distanceSquared < heapDistances[0]) {
+            heapIndices[0] = indices[position];
+            heapDistances[0] = distanceSquared;
+            siftDown(heapIndices, heapDistances, 0, count);
+        }
+        return count;
+    }
+
+    private static void siftDown(int[] heapIndices, double[] heapDistances, int parent, int count) {
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= count) return;
+            if (child + 1 < count && heapDistances[child + 1] > heapDistances[child]) child++;
+            if (heapDistances[parent] >= heapDistances[child]) return;
+            swap(heapIndices, heapDistances, parent, child);
+            parent = child;
+        }
+    }
+
+    private static void swap(int[] heapIndices, double[] heapDistances, int first, int second) {
+        int index = heapIndices[first];
+        heapIndices[first] = heapIndices[second];
+        heapIndices[second] = index;
+        double distance = heapDistances[first];
+        heapDistances[first] = heapDistances[second];
+        heapDistances[second] = distance;
+    }
+
+    /**
+     * Поиск точек на расстоянии не больше радиуса.
+     *
+     * @param query  Вектор запроса
+     * @param radius Радиус
+     * @return Индексы найденных точек (в произвольном порядке).
+     */
+    public int[] withinRadius(Vector query, double radius) {
+        double[] queryArray = toQuery(query);
+        int count = withinRadius(queryArray, radius, new int[0]);
+        int[] result = new int[count];
+        withinRadius(queryArray, radius, result);
+        return result;
+    }
+
+    /**
+     * Поиск точек на расстоянии не больше радиуса. Не создаёт объектов.
+     *
+     * @param query  Значения точки запроса (длиной не меньше размерности дерева)
+     * @param radius Радиус
+     * @param result Массив, в который будут записаны индексы найденных точек (в произвольном порядке).
+     *               Если массив короче количества найденных точек, то лишние точки не записываются
+     * @return Количество найденных точек.
+     */
+    public int withinRadius(double[] query, double radius, int[] result) {
+        return withinRadius(query, radius * radius, result, 0, size, 0);
+    }
+
+    private int withinRadius(double[] query, double radiusSquared, int[] result, int from, int to, int count) {
+        while (to - from > LEAF_SIZE) {
+            int middle = (from + to) >>> 1;
+            int axis = axes[middle];
+            if (distanceSquared(middle, query) <= radiusSquared) count = add(result, count, indices[middle]);
+            double difference = query[axis] - points[middle * dimension + axis];
+            boolean visitLeft = difference <= 0 || difference * difference <= radiusSquared;
+            boolean visitRight = difference >= 0 || difference * difference <= radiusSquared;
+            if (visitLeft && visitRight) {
+                count = withinRadius(query, radiusSquared, result, from, middle, count);
+                from = middle + 1;
+            } else if (visitLeft) {
+                to = middle;
+            } else {
+                from = middle + 1;
+            }
+        }
+        for (int position = from; position < to; position++) {
+            if (distanceSquared(position, query) <= radiusSquared) count = add(result, count, indices[position]);
+        }
+        return count;
+    }
+
+    /**
+     * Поиск точек внутри прямоугольной области (границы включаются).
+     *
+     * @param min Вектор минимальных значений области
+     * @param max Вектор максимальных значений области
+     * @return Индексы найденных точек (в произвольном порядке).
+     */
+    public int[] withinBox(Vector min, Vector max) {
+        double[] minArray = toQuery(min);
+        double[] maxArray = toQuery(max);
+        int count = withinBox(minArray, maxArray, new int[0]);
+        int[] result = new int[count];
+        withinBox(minArray, maxArray, result);
+        return result;
+    }
+
+    /**
+     * Поиск точек внутри прямоугольной области (границы включаются). Не создаёт объектов.
+     *
+     * @param min    Минимальные значения области по осям
+     * @param max    Максимальные значения области по осям
+     * @param result Массив, в который будут записаны индексы найденных точек (в произвольном порядке).
+     *               Если массив короче количества найденных точек, то лишние точки не записываются
+     * @return Количество найденных точек.
+     */
+    public int withinBox(double[] min, double[] max, int[] result) {
+        return withinBox(min, max, result, 0, size, 0);
+    }
+
+    private int withinBox(double[] min, double[] max, int[] result, int from, int to, int count) {
+        while (to - from > LEAF_SIZE) {
+            int middle = (from + to) >>> 1;
+            int axis = axes[middle];
+            if (insideBox(middle, min, max)) count = add(result, count, indices[middle]);
+            double value = points[middle * dimension + axis];
+            boolean visitLeft = min[axis] <= value;
+            boolean visitRight = max[axis] >= value;
+            if (visitLeft && visitRight) {
+                count = withinBox(min, max, result, from, middle, count);
+                from = middle + 1;
+            } else if (visitLeft) {
+                to = middle;
+            } else if (visitRight) {
+                from = middle + 1;
+            } else {
+                return count;
+            }
+        }
+        for (int position = from; position < to; position++) {
+            if (insideBox(position, min, max)) count = add(result, count, indices[position]);
+        }
+        return count;
+    }
+
+    private boolean insideBox(int position, double[] min, double[] max) {
+        int offset = position * dimension;
+        for (int axis = 0; axis < dimension; axis++) {
+            double value = points[offset + axis];
+            if (value < min[axis] || value > max[axis]) return false;
+        }
+        return true;
+    }
+
+    private static int add(int[] result, int count, int index) {
+        if (count < result.length) result[count] = index;
+        return count + 1;
+    }
+}
@@ -0,0 +1,523 @@
+package ru.vladislav117.vectors.spatial;
+
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector3D;
+
+import java.util.Arrays;
+
+/**
+ * Свободное (loose) октодерево для движущихся трёхмерных точек.
+ * <p>
+ * Точки идентифицируются неотрицательными целыми идентификаторами, которые выбирает вызывающий код.
+ * Каждый узел отвечает за куб, расширенный в {@value #LOOSENESS} раза (свободные границы), поэтому точка,
+ * сдвинувшаяся на небольшое расстояние, как правило остаётся в пределах свободных границ своего узла
+ * и перемещается за O(1) без изменения дерева. Точки вне границ дерева хранятся в корне.
+ * </p>
+ * <p>
+ * Узлы не являются отдельными объектами: их данные хранятся в массивах, а блоки из восьми дочерних узлов
+ * переиспользуются после слияния. Запросы записывают идентификаторы найденных точек в массив вызывающего кода
+ * и не создают объектов.
+ * </p>
+ */
+public class Octree {
+    /**
+     * Во сколько раз свободные границы узла больше его куба.
+     */
+    public static final double LOOSENESS = 2;
+    /**
+     * Значение, обозначающее отсутствие точки или узла.
+     */
+    protected static final int NONE = -1;
+    /**
+     * Корневой узел.
+     */
+    protected static final int ROOT = 0;
+    /**
+     * Количество точек в листе, при превышении которого лист разбивается.
+     */
+    protected final int leafCapacity;
+    /**
+     * Максимальная глубина дерева.
+     */
+    protected final int maxDepth;
+
+    /**
+     * Центры узлов по оси абсцисс (x).
+     */
+    protected double[] nodeCenterX;
+    /**
+     * Центры узлов по оси ординат (y).
+     */
+    protected double[] nodeCenterY;
+    /**
+     * Центры узлов по оси аппликат (z).
+     */
+    protected double[] nodeCenterZ;
+    /**
+     * Половины сторон кубов узлов.
+     */
+    protected double[] nodeHalfSize;
+    /**
+     * Родительские узлы.
+     */
+    protected int[] nodeParent;
+    /**
+     * Первые из восьми дочерних узлов ({@link #NONE} для листьев).
+     */
+    protected int[] nodeFirstChild;
+    /**
+     * Первые точки узлов.
+     */
+    protected int[] nodeHead;
+    /**
+     * Количество точек, хранящихся непосредственно в узлах.
+     */
+    protected int[] nodeCount;
+    /**
+     * Глубины узлов.
+     */
+    protected int[] nodeDepth;
+    /**
+     * Количество выделенных узлов (включая освобождённые блоки).
+     */
+    protected int nodeLimit;
+    /**
+     * Первый узел первого свободного блока ({@link #NONE}, если свободных блоков нет).
+     */
+    protected int freeBlock = NONE;
+
+    /**
+     * Значения точек по оси абсцисс (x).
+     */
+    protected double[] pointX;
+    /**
+     * Значения точек по оси ординат (y).
+     */
+    protected double[] pointY;
+    /**
+     * Значения точек по оси аппликат (z).
+     */
+    protected double[] pointZ;
+    /**
+     * Узлы точек ({@link #NONE} для отсутствующих точек).
+     */
+    protected int[] pointNode;
+    /**
+     * Следующие точки в узлах.
+     */
+    protected int[] pointNext;
+    /**
+     * Предыдущие точки в узлах.
+     */
+    protected int[] pointPrevious;
+    /**
+     * Количество точек.
+     */
+    protected int size;
+
+    /**
+     * Создание октодерева.
+     *
+     * @param center       Центр области дерева
+     * @param halfSize     Половина стороны куба области дерева
+     * @param leafCapacity Количество точек в листе, при превышении которого лист разбивается
+     * @param maxDepth     Максимальная глубина дерева
+     */
+    public Octree(Vector3D center, double halfSize, int leafCapacity, int maxDepth) {
+        if (!(halfSize > 0)) throw new IllegalArgumentException("Half size must be positive: " + halfSize);
+        if (leafCapacity <= 0) throw new IllegalArgumentException("Leaf capacity must be positive: " + leafCapacity);
+        this.leafCapacity = leafCapacity;
+        this.maxDepth = maxDepth;
+        nodeCenterX = new double[64];
+        nodeCenterY = new double[64];
+        nodeCenterZ = new double[64];
+        nodeHalfSize = new double[64];
+        nodeParent = new int[64];
+        nodeFirstChild = new int[64];
+        nodeHead = new int[64];
+        nodeCount = new int[64];
+        nodeDepth = new int[64];
+        nodeLimit = 1;
+        initNode(ROOT, NONE, center.getX(), center.getY(), center.getZ(), halfSize, 0);
+        pointX = new double[16];
+        pointY = new double[16];
+        pointZ = new double[16];
+        pointNode = new int[16];
+        pointNext = new int[16];
+        pointPrevious = new int[16];
+        Arrays.fill(pointNode, NONE);
+    }
+
+    /**
+     * Создание октодерева с 16 точками в листе и максимальной глубиной 16.
+     *
+     * @param center   Центр области дерева
+     * @param halfSize Половина стороны куба области дерева
+     */
+    public Octree(Vector3D center, double halfSize) {
+        this(center, halfSize, 16, 16);
+    }
+
+    /**
+     * Получение количества точек.
+     *
+     * @return Количество точек.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Проверка, находится ли точка в дереве.
+     *
+     * @param id Идентификатор точки
+     * @return Находится ли точка в дереве.
+     */
+    public boolean contains(int id) {
+        return 0 <= id && id < pointNode.length && pointNode[id] != NONE;
+    }
+
+    /**
+     * Получение положения точки.
+     *
+     * @param id          Идентификатор точки
+     * @param destination Вектор, в который будет записано положение
+     * @return Вектор destination.
+     */
+    public Vector3D get(int id, Vector3D destination) {
+        if (!contains(id)) throw new IllegalArgumentException("Point " + id + " is not in the tree");
+        return destination.set(pointX[id], pointY[id], pointZ[id]);
+    }
+
+    /**
+     * Добавление точки или перемещение уже добавленной точки.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param id       Идентификатор точки
+     * @param position Положение точки
+     */
+    public void put(int id, Vector position) {
+        if (position instanceof Vector3D position3D) {
+            put(id, position3D.getX(), position3D.getY(), position3D.getZ());
+            return;
+        }
+        put(id, position.getIndexOrZero(Axis.X_INDEX), position.getIndexOrZero(Axis.Y_INDEX), position.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    /**
+     * Добавление точки или перемещение уже добавленной точки.
+     * Если точка остаётся в свободных границах своего узла, то обновляется только её положение.
+     *
+     * @param id Идентификатор точки
+     * @param x  Значение по оси абсцисс (x)
+     * @param y  Значение по оси ординат (y)
+     * @param z  Значение по оси аппликат (z)
+     */
+    public void put(int id, double x, double y, double z) {
+        if (id < 0) throw new IllegalArgumentException("Id must not be negative: " + id);
+        ensurePointCapacity(id);
+        pointX[id] = x;
+        pointY[id] = y;
+        pointZ[id] = z;
+        int node = pointNode[id];
+        if (node == NONE) {
+            size++;
+            insert(id, ROOT);
+            return;
+        }
+        if (node == ROOT ? !looseContains(ROOT, x, y, z) : looseContains(node, x, y, z)) return;
+        int oldNode = node;
+        unlink(id);
+        while (node != ROOT && !looseContains(node, x, y, z)) node = nodeParent[node];
+        insert(id, node);
+        if (pointNode[id] != oldNode) tryMerge(nodeParent[oldNode]);
+    }
+
+    /**
+     * Удаление точки.
+     *
+     * @param id Идентификатор точки
+     * @return Была ли точка в дереве.
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) return false;
+        int node = pointNode[id];
+        unlink(id);
+        pointNode[id] = NONE;
+        size--;
+        tryMerge(nodeParent[node]);
+        return true;
+    }
+
+    /**
+     * Поиск точек внутри прямоугольной области (границы включаются).
+     *
+     * @param minX   Минимальное значение по оси абсцисс (x)
+     * @param minY   Минимальное значение по оси ординат (y)
+     * @param minZ   Минимальное значение по оси аппликат (z)
+     * @param maxX   Максимальное значение по оси абсцисс (x)
+     * @param maxY   Максимальное значение по оси ординат (y)
+     * @param maxZ   Максимальное значение по оси аппликат (z)
+     * @param result Массив, в который будут записаны идентификаторы найденных точек.
+     *               Если массив короче количества найденных точек, то лишние точки не записываются
+     * @return Количество найденных точек.
+     */
+    public int queryBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int[] result) {
+        return queryBox(ROOT, minX, minY, minZ, maxX, maxY, maxZ, result, 0);
+    }
+
+    private int queryBox(int node, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int[] result, int count) {
+        for (int id = nodeHead[node]; id != NONE; id = pointNext[id]) {
+            if (pointX[id] >= minX && pointX[id] <= maxX && pointY[id] >= minY && pointY[id] <= maxY && pointZ[id] >= minZ && pointZ[id] <= maxZ) {
+                count = add(result, count, id);
+            }
+        }
+        int firstChild = nodeFirstChild[node];
+        if (firstChild == NONE) return count;
+        for (int child = firstChild; child < firstChild + 8; child++) {
+            double looseHalfSize = nodeHalfSize[child] * LOOSENESS;
+            if (nodeCenterX[child] + looseHalfSize < minX || nodeCenterX[child] - looseHalfSize > maxX) continue;
+            if (nodeCenterY[child] + looseHalfSize < minY || nodeCenterY[child] - looseHalfSize > maxY) continue;
+            if (nodeCenterZ[child] + looseHalfSize < minZ || nodeCenterZ[child] - looseHalfSize > maxZ) continue;
+            count = queryBox(child, minX, minY, minZ, maxX, maxY, maxZ, result, count);
+        }
+        return count;
+    }
+
+    /**
+     * Поиск точек на расстоянии не больше радиуса от точки.
+     *
+     * @param x      Значение центра по оси абсцисс (x)
+     * @param y      Значение центра по оси ординат (y)
+     * @param z      Значение центра по оси аппликат (z)
+     * @param radius Радиус
+     * @param result Массив, в который будут записаны идентификаторы найденных точек.
+     *               Если массив короче количества найденных точек, то лишние точки не записываются
+     * @return Количество найденных точек.
+     */
+    public int querySphere(double x, double y, double z, double radius, int[] result) {
+        return querySphere(ROOT, x, y, z, radius, radius * radius, result, 0);
+    }
+
+    private int querySphere(int node, double x, double y, double z, double radius, double radiusSquared, int[] result, int count) {
+        for (int id = nodeHead[node]; id != NONE; id = pointNext[id]) {
+            double differenceX = pointX[id] - x;
+            double differenceY = pointY[id] - y;
+            double differenceZ = pointZ[id] - z;
+            if (differenceX * differenceX + differenceY * differenceY + differenceZ * differenceZ <= radiusSquared) {
+                count = add(result, count, id);
+            }
+        }
+        int firstChild = nodeFirstChild[node];
+        if (firstChild == NONE) return count;
+        for (int child = firstChild; child < firstChild + 8; child++) {
+            double reach = nodeHalfSize[child] * LOOSENESS + radius;
+            if (Math.abs(nodeCenterX[child] - x) > reach || Math.abs(nodeCenterY[child] - y) > reach || Math.abs(nodeCenterZ[child] - z) > reach) continue;
+            count = querySphere(child, x, y, z, radius, radiusSquared, result, count);
+        }
+        return count;
+    }
+
+    /**
+     * Поиск точек внутри пирамиды видимости (или любого выпуклого многогранника).
+     * Многогранник задаётся плоскостями: точка находится внутри, если для каждой плоскости
+     * {@code a * x + b * y + c * z + d >= 0}.
+     *
+     * @param planes Коэффициенты плоскостей подряд: a, b, c, d для каждой плоскости
+     * @param result Массив, в который будут записаны идентификаторы найденных точек.
+     *               Если массив короче количества найденных точек, то лишние точки не записываются
+     * @return Количество найденных точек.
+     */
+    public int queryFrustum(double[] planes, int[] result) {
+        if (planes.length % 4 != 0) throw new IllegalArgumentException("Planes length must be a multiple of 4");
+        return queryFrustum(ROOT, planes, result, 0, true);
+    }
+
+    private int queryFrustum(int node, double[] planes, int[] result, int count, boolean test) {
+        if (test) {
+            double looseHalfSize = nodeHalfSize[node] * LOOSENESS;
+            boolean inside = true;
+            for (int plane = 0; plane < planes.length; plane += 4) {
+                double a = planes[plane], b = planes[plane + 1], c = planes[plane + 2];
+                double distance = a * nodeCenterX[node] + b * nodeCenterY[node] + c * nodeCenterZ[node] + planes[plane + 3];
+                double extent = looseHalfSize * (Math.abs(a) + Math.abs(b) + Math.abs(c));
+                if (node != ROOT && distance + extent < 0) return count;
+                if (distance - extent < 0) inside = false;
+            }
+            // Если свободные границы целиком внутри, то плоскости не проверяются ни для узлов поддерева, ни для их точек.
+            test = !inside || node == ROOT;
+        }
+        for (int id = nodeHead[node]; id != NONE; id = pointNext[id]) {
+            if (!test || insideFrustum(planes, pointX[id], pointY[id], pointZ[id])) count = add(result, count, id);
+        }
+        int firstChild = nodeFirstChild[node];
+        if (firstChild == NONE) return count;
+        for (int child = firstChild; child < firstChild + 8; child++) count = queryFrustum(child, planes, result, count, test);
+        return count;
+    }
+
+    private static boolean insideFrustum(double[] planes, double x, double y, double z) {
+        for (int plane = 0; plane < planes.length; plane += 4) {
+            if (planes[plane] * x + planes[plane + 1] * y + planes[plane + 2] * z + planes[plane + 3] < 0) return false;
+        }
+        return true;
+    }
+
+    private static int add(int[] result, int count, int id) {
+        if (count < result.length) result[count] = id;
+        return count + 1;
+    }
+
+    /**
+     * Проверка, находится ли точка в свободных границах узла.
+     *
+     * @param node Узел
+     * @param x    Значение по оси абсцисс (x)
+     * @param y    Значение по оси ординат (y)
+     * @param z    Значение по оси аппликат (z)
+     * @return Находится ли точка в свободных границах узла.
+     */
+    protected boolean looseContains(int node, double x, double y, double z) {
+        double looseHalfSize = nodeHalfSize[node] * LOOSENESS;
+        return Math.abs(x - nodeCenterX[node]) <= looseHalfSize
+                && Math.abs(y - nodeCenterY[node]) <= looseHalfSize
+                && Math.abs(z - nodeCenterZ[node]) <= looseHalfSize;
+    }
+
+    private int childFor(int node, double x, double y, double z) {
+        int octant = (x >= nodeCenterX[node] ? 1 : 0) | (y >= nodeCenterY[node] ? 2 : 0) | (z >= nodeCenterZ[node] ? 4 : 0);
+        return nodeFirstChild[node] + octant;
+    }
+
+    private void insert(int id, int node) {
+        double x = pointX[id], y = pointY[id], z = pointZ[id];
+        while (nodeFirstChild[node] != NONE) {
+            int child = childFor(node, x, y, z);
+            if (!looseContains(child, x, y, z)) break;
+            node = child;
+        }
+        link(id, node);
+        if (nodeFirstChild[node] == NONE && nodeCount[node] > leafCapacity && nodeDepth[node] < maxDepth) split(node);
+    }
+
+    private void split(int node) {
+        int firstChild = allocateBlock();
+        double childHalfSize = nodeHalfSize[node] / 2;
+        for (int octant = 0; octant < 8; octant++) {
+            initNode(firstChild + octant, node,
+                    nodeCenterX[node] + ((octant & 1) != 0 ? childHalfSize : -childHalfSize),
+                    nodeCenterY[node] + ((octant & 2) != 0 ? childHalfSize : -childHalfSize),
+                    nodeCenterZ[node] + ((octant & 4) != 0 ? childHalfSize : -childHalfSize),
+                    childHalfSize, nodeDepth[node] + 1);
+        }
+        nodeFirstChild[node] = firstChild;
+        int id = nodeHead[node];
+        while (id != NONE) {
+            int nextId = pointNext[id];
+            int child = childFor(node, pointX[id], pointY[id], pointZ[id]);
+            if (looseContains(child, pointX[id], pointY[id], pointZ[id])) {
+                unlink(id);
+                link(id, child);
+            }
+            id = nextId;
+        }
+    }
+
+    private void tryMerge(int node) {
+        while (node != NONE) {
+            int firstChild = nodeFirstChild[node];
+            if (firstChild == NONE) return;
+            int total = nodeCount[node];
+            for (int child = firstChild; child < firstChild + 8; child++) {
+                if (nodeFirstChild[child] != NONE) return;
+                total += nodeCount[child];
+            }
+            if (total > leafCapacity / 2) return;
+            for (int child = firstChild; child < firstChild + 8; child++) {
+                int id = nodeHead[child];
+                while (id != NONE) {
+                    int nextId = pointNext[id];
+                    unlink(id);
+                    link(id, node);
+                    id = nextId;
+                }
+            }
+            nodeFirstChild[node] = NONE;
+            nodeFirstChild[firstChild] = freeBlock;
+            freeBlock = firstChild;
+            node = nodeParent[node];
+        }
+    }
+
+    private void link(int id, int node) {
+        pointNode[id] = node;
+        pointPrevious[id] = NONE;
+        int head = nodeHead[node];
+        pointNext[id] = head;
+        if (head != NONE) pointPrevious[head] = id;
+        nodeHead[node] = id;
+        nodeCount[node]++;
+    }
+
+    private void unlink(int id) {
+        int node = pointNode[id];
+        int nextId = pointNext[id];
+        int previousId = pointPrevious[id];
+        if (nextId != NONE) pointPrevious[nextId] = previousId;
+        if (previousId != NONE) {
+            pointNext[previousId] = nextId;
+        } else {
+            nodeHead[node] = nextId;
+        }
+        nodeCount[node]--;
+    }
+
+    private void initNode(int node, int parent, double centerX, double centerY, double centerZ, double halfSize, int depth) {
+        nodeCenterX[node] = centerX;
+        nodeCenterY[node] = centerY;
+        nodeCenterZ[node] = centerZ;
+        nodeHalfSize[node] = halfSize;
+        nodeParent[node] = parent;
+        nodeFirstChild[node] = NONE;
+        nodeHead[node] = NONE;
+        nodeCount[node] = 0;
+        nodeDepth[node] = depth;
+    }
+
+    private int allocateBlock() {
+        if (freeBlock != NONE) {
+            int block = freeBlock;
+            freeBlock = nodeFirstChild[block];
+            return block;
+        }
+        if (nodeLimit + 8 > nodeCenterX.length) {
+            int capacity = nodeCenterX.length * 2;
+            nodeCenterX = Arrays.copyOf(nodeCenterX, capacity);
+            nodeCenterY = Arrays.copyOf(nodeCenterY, capacity);
+            nodeCenterZ = Arrays.copyOf(nodeCenterZ, capacity);
+            nodeHalfSize = Arrays.copyOf(nodeHalfSize, capacity);
+            nodeParent = Arrays.copyOf(nodeParent, capacity);
+            nodeFirstChild = Arrays.copyOf(nodeFirstChild, capacity);
+            nodeHead = Arrays.copyOf(nodeHead, capacity);
+            nodeCount = Arrays.copyOf(nodeCount, capacity);
+            nodeDepth = Arrays.copyOf(nodeDepth, capacity);
+        }
+        int block = nodeLimit;
+        nodeLimit += 8;
+        return block;
+    }
+
+    private void ensurePointCapacity(int id) {
+        if (id < pointNode.length) return;
+        int oldCapacity = pointNode.length;
+        int capacity = Math.max(id + 1, oldCapacity + (oldCapacity >> 1));
+        pointX = Arrays.copyOf(pointX, capacity);
+        pointY = Arrays.copyOf(pointY, capacity);
+        pointZ = Arrays.copyOf(pointZ, capacity);
+        pointNode = Arrays.copyOf(pointNode, capacity);
+        pointNext = Arrays.copyOf(pointNext, capacity);
+        pointPrevious = Arrays.copyOf(pointPrevious, capacity);
+        Arrays.fill(pointNode, oldCapacity, capacity, NONE);
+    }
+}
@@ -0,0 +1,418 @@
+package ru.vladislav117.vectors.spatial;
+
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Равномерная сетка для поиска соседей среди движущихся двумерных или трёхмерных точек.
+ * <p>
+ * Точки идентифицируются неотрицательными целыми идентификаторами, которые выбирает вызывающий код
+ * (например, индекс агента в массиве). Пространство разбито на кубические ячейки одинакового размера,
+ * точки одной ячейки связаны в двусвязный список, а ячейки хранятся в хеш-таблице с открытой адресацией,
+ * ключом которой являются координаты ячейки. Все данные хранятся в массивах примитивов, поэтому добавление,
+ * перемещение и удаление точки выполняются за O(1) без создания объектов, а обход соседей не создаёт объектов.
+ * </p>
+ * <p>
+ * Для двумерной сетки значение по оси аппликат (z) не используется.
+ * </p>
+ */
+public class SpatialHashGrid {
+    /**
+     * Значение, обозначающее отсутствие точки.
+     */
+    protected static final int NONE = -1;
+    /**
+     * Маска координаты ячейки в ключе.
+     */
+    protected static final long CELL_MASK = (1L << 21) - 1;
+    /**
+     * Размерность сетки (2 или 3).
+     */
+    protected final int dimension;
+    /**
+     * Размер ячейки.
+     */
+    protected final double cellSize;
+    /**
+     * Величина, обратная размеру ячейки.
+     */
+    protected final double inverseCellSize;
+    /**
+     * Значения точек по осям (по 3 значения на идентификатор).
+     */
+    protected double[] positions;
+    /**
+     * Ключи ячеек точек.
+     */
+    protected long[] cells;
+    /**
+     * Следующая точка в ячейке.
+     */
+    protected int[] next;
+    /**
+     * Предыдущая точка в ячейке.
+     */
+    protected int[] previous;
+    /**
+     * Находится ли точка в сетке.
+     */
+    protected boolean[] present;
+    /**
+     * Ключи хеш-таблицы ячеек.
+     */
+    protected long[] tableKeys;
+    /**
+     * Первые точки ячеек хеш-таблицы ({@link #NONE} для пустых слотов).
+     */
+    protected int[] tableHeads;
+    /**
+     * Количество занятых слотов хеш-таблицы.
+     */
+    protected int cellCount;
+    /**
+     * Количество точек в сетке.
+     */
+    protected int size;
+
+    /**
+     * Создание сетки.
+     *
+     * @param dimension Размерность сетки (2 или 3)
+     * @param cellSize  Размер ячейки. Лучше всего выбирать его равным радиусу типичного запроса
+     */
+    public SpatialHashGrid(int dimension, double cellSize) {
+        if (dimension != Vector2D.SIZE && dimension != Vector3D.SIZE) throw new IllegalArgumentException("Unsupported dimension " + dimension);
+        if (!(cellSize > 0)) throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        this.dimension = dimension;
+        this.cellSize = cellSize;
+        inverseCellSize = 1 / cellSize;
+        positions = new double[16 * 3];
+        cells = new long[16];
+        next = new int[16];
+        previous = new int[16];
+        present = new boolean[16];
+        tableKeys = new long[64];
+        tableHeads = new int[64];
+        Arrays.fill(tableHeads, NONE);
+    }
+
+    /**
+     * Получение размерности сетки.
+     *
+     * @return Размерность сетки.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение размера ячейки.
+     *
+     * @return Размер ячейки.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Получение количества точек в сетке.
+     *
+     * @return Количество точек.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Проверка, находится ли точка в сетке.
+     *
+     * @param id Идентификатор точки
+     * @return Находится ли точка в сетке.
+     */
+    public boolean contains(int id) {
+        return 0 <= id && id < present.length && present[id];
+    }
+
+    /**
+     * Получение значения точки по оси.
+     *
+     * @param id   Идентификатор точки
+     * @param axis Индекс оси
+     * @return Значение по оси.
+     */
+    public double get(int id, int axis) {
+        checkPresent(id);
+        return positions[id * 3 + axis];
+    }
+
+    /**
+     * Добавление точки или перемещение уже добавленной точки.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param id       Идентификатор точки
+     * @param position Положение точки
+     */
+    public void put(int id, Vector position) {
+        if (position instanceof Vector2D position2D) {
+            put(id, position2D.getX(), position2D.getY(), 0);
+            return;
+        }
+        if (position instanceof Vector3D position3D) {
+            put(id, position3D.getX(), position3D.getY(), position3D.getZ());
+            return;
+        }
+        put(id, position.getIndexOrZero(Axis.X_INDEX), position.getIndexOrZero(Axis.Y_INDEX), position.getIndexOrZero(Axis.Z_INDEX));
+    }
+
+    /**
+     * Добавление точки или перемещение уже добавленной точки в двумерной сетке.
+     *
+     * @param id Идентификатор точки
+     * @param x  Значение по оси абсцисс (x)
+     * @param y  Значение по оси ординат (y)
+     */
+    public void put(int id, double x, double y) {
+        put(id, x, y, 0);
+    }
+
+    /**
+     * Добавление точки или перемещение уже добавленной точки.
+     * Если точка остаётся в той же ячейке, то обновляется только её положение.
+     *
+     * @param id Идентификатор точки
+     * @param x  Значение по оси абсцисс (x)
+     * @param y  Значение по оси ординат (y)
+     * @param z  Значение по оси аппликат (z), не используется в двумерной сетке
+     */
+    public void put(int id, double x, double y, double z) {
+        if (id < 0) throw new IllegalArgumentException("Id must not be negative: " + id);
+        if (dimension == Vector2D.SIZE) z = 0;
+        ensureIdCapacity(id);
+        int offset = id * 3;
+        positions[offset] = x;
+        positions[offset + 1] = y;
+        positions[offset + 2] = z;
+        long cell = cellKey(cellCoordinate(x), cellCoordinate(y), cellCoordinate(z));
+        if (present[id]) {
+            if (cells[id] == cell) return;
+            unlink(id);
+        } else {
+            present[id] = true;
+            size++;
+        }
+        link(id, cell);
+    }
+
+    /**
+     * Удаление точки из сетки.
+     *
+     * @param id Идентификатор точки
+     * @return Была ли точка в сетке.
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) return false;
+        unlink(id);
+        present[id] = false;
+        size--;
+        return true;
+    }
+
+    /**
+     * Удаление всех точек из сетки.
+     */
+    public void clear() {
+        Arrays.fill(present, false);
+        Arrays.fill(tableHeads, NONE);
+        cellCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Обход точек на расстоянии не больше радиуса от вектора. Не создаёт объектов.
+     * Если у вектора совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param center   Центр области поиска
+     * @param radius   Радиус
+     * @param consumer Обработчик идентификаторов найденных точек
+     */
+    public void forEachWithin(Vector center, double radius, IntConsumer consumer) {
+        if (center instanceof Vector2D center2D) {
+            forEachWithin(center2D.getX(), center2D.getY(), 0, radius, consumer);
+            return;
+        }
+        if (center instanceof Vector3D center3D) {
+            forEachWithin(center3D.getX(), center3D.getY(), center3D.getZ(), radius, consumer);
+            return;
+        }
+        forEachWithin(center.getIndexOrZero(Axis.X_INDEX), center.getIndexOrZero(Axis.Y_INDEX), center.getIndexOrZero(Axis.Z_INDEX), radius, consumer);
+    }
+
+    /**
+     * Обход точек двумерной сетки на расстоянии не больше радиуса от точки. Не создаёт объектов.
+     *
+     * @param x        Значение центра по оси абсцисс (x)
+     * @param y        Значение центра по оси ординат (y)
+     * @param radius   Радиус
+     * @param consumer Обработчик идентификаторов найденных точек
+     */
+    public void forEachWithin(double x, double y, double radius, IntConsumer consumer) {
+        forEachWithin(x, y, 0, radius, consumer);
+    }
+
+    /**
+     * Обход точек на расстоянии не больше радиуса от точки. Не создаёт объектов.
+     *
+     * @param x        Значение центра по оси абсцисс (x)
+     * @param y        Значение центра по оси ординат (y)
+     * @param z        Значение центра по оси аппликат (z), не используется в двумерной сетке
+     * @param radius   Радиус
+     * @param consumer Обработчик идентификаторов найденных точек
+     */
+    public void forEachWithin(double x, double y, double z, double radius, IntConsumer consumer) {
+        if (dimension == Vector2D.SIZE) z = 0;
+        double radiusSquared = radius * radius;
+        int minX = cellCoordinate(x - radius), maxX = cellCoordinate(x + radius);
+        int minY = cellCoordinate(y - radius), maxY = cellCoordinate(y + radius);
+        int minZ = dimension == Vector2D.SIZE ? 0 : cellCoordinate(z - radius);
+        int maxZ = dimension == Vector2D.SIZE ? 0 : cellCoordinate(z + radius);
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                    int slot = findSlot(cellKey(cellX, cellY, cellZ));
+                    if (slot < 0) continue;
+                    for (int id = tableHeads[slot]; id != NONE; id = next[id]) {
+                        int offset = id * 3;
+                        double differenceX = positions[offset] - x;
+                        double differenceY = positions[offset + 1] - y;
+                        double differenceZ = positions[offset + 2] - z;
+                        if (differenceX * differenceX + differenceY * differenceY + differenceZ * differenceZ <= radiusSquared) {
+                            consumer.accept(id);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Вычисление координаты ячейки по значению на оси.
+     *
+     * @param value Значение на оси
+     * @return Координата ячейки.
+     */
+    protected int cellCoordinate(double value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    /**
+     * Вычисление ключа ячейки. Координаты берутся по модулю 2^21, поэтому далёкие ячейки могут иметь
+     * одинаковый ключ, что не влияет на результаты запросов, так как расстояния проверяются точно.
+     *
+     * @param cellX Координата ячейки по оси абсцисс (x)
+     * @param cellY Координата ячейки по оси ординат (y)
+     * @param cellZ Координата ячейки по оси аппликат (z)
+     * @return Ключ ячейки.
+     */
+    protected static long cellKey(int cellX, int cellY, int cellZ) {
+        return ((cellX & CELL_MASK) << 42) | ((cellY & CELL_MASK) << 21) | (cellZ & CELL_MASK);
+    }
+
+    private int hashSlot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(tableKeys.length)));
+    }
+
+    private int findSlot(long key) {
+        int mask = tableKeys.length - 1;
+        for (int slot = hashSlot(key); tableHeads[slot] != NONE; slot = (slot + 1) & mask) {
+            if (tableKeys[slot] == key) return slot;
+        }
+        return -1;
+    }
+
+    private void link(int id, long cell) {
+        cells[id] = cell;
+        previous[id] = NONE;
+        int mask = tableKeys.length - 1;
+        int slot = hashSlot(cell);
+        while (tableHeads[slot] != NONE && tableKeys[slot] != cell) slot = (slot + 1) & mask;
+        if (tableHeads[slot] == NONE) {
+            tableKeys[slot] = cell;
+            next[id] = NONE;
+            tableHeads[slot] = id;
+            if (++cellCount * 2 > tableKeys.length) rehash(tableKeys.length * 2);
+            return;
+        }
+        int head = tableHeads[slot];
+        next[id] = head;
+        previous[head] = id;
+        tableHeads[slot] = id;
+    }
+
+    private void unlink(int id) {
+        int nextId = next[id];
+        int previousId = previous[id];
+        if (nextId != NONE) previous[nextId] = previousId;
+        if (previousId != NONE) {
+            next[previousId] = nextId;
+            return;
+        }
+        int slot = findSlot(cells[id]);
+        if (nextId != NONE) {
+            tableHeads[slot] = nextId;
+            return;
+        }
+        deleteSlot(slot);
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = tableKeys.length - 1;
+        int hole = slot;
+        int current = (slot + 1) & mask;
+        while (tableHeads[current] != NONE) {
+            int home = hashSlot(tableKeys[current]);
+            if (((current - home) & mask) >= ((current - hole) & mask)) {
+                tableKeys[hole] = tableKeys[current];
+                tableHeads[hole] = tableHeads[current];
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        tableHeads[hole] = NONE;
+        cellCount--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = tableKeys;
+        int[] oldHeads = tableHeads;
+        tableKeys = new long[capacity];
+        tableHeads = new int[capacity];
+        Arrays.fill(tableHeads, NONE);
+        int mask = capacity - 1;
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldHeads[oldSlot] == NONE) continue;
+            int slot = hashSlot(oldKeys[oldSlot]);
+            while (tableHeads[slot] != NONE) slot = (slot + 1) & mask;
+            tableKeys[slot] = oldKeys[oldSlot];
+            tableHeads[slot] = oldHeads[oldSlot];
+        }
+    }
+
+    private void ensureIdCapacity(int id) {
+        if (id < present.length) return;
+        int capacity = Math.max(id + 1, present.length + (present.length >> 1));
+        positions = Arrays.copyOf(positions, capacity * 3);
+        cells = Arrays.copyOf(cells, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        present = Arrays.copyOf(present, capacity);
+    }
+
+    private void checkPresent(int id) {
+        if (!contains(id)) throw new IllegalArgumentException("Point " + id + " is not in the grid");
+    }
+}
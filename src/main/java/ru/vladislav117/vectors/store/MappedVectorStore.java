@@ -0,0 +1,132 @@
+package ru.vladislav117.vectors.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Хранилище векторов, отображённое в память из файла формата {@link VectorFile}.
+ * <p>
+ * Значения не копируются и не разбираются: блоки хранилища — буферы над отображённым файлом, поэтому открытие файла
+ * не зависит от количества векторов, а страницы файла загружаются операционной системой при первом обращении.
+ * Представления {@link #view(long)} читают значения прямо из файла.
+ * </p>
+ * <p>
+ * При открытии проверяются только заголовок и размер файла. Контрольная сумма значений проверяется отдельно методом
+ * {@link #verify()} или при открытии с проверкой ({@link #open(Path, boolean)}); проверка читает весь файл.
+ * </p>
+ * <p>
+ * Хранилище доступно только для чтения: методы изменения векторов выбрасывают {@link java.nio.ReadOnlyBufferException}.
+ * </p>
+ */
+public class MappedVectorStore extends OffHeapVectorStore {
+    /**
+     * Путь к файлу.
+     */
+    protected final Path path;
+    /**
+     * Отображённые блоки файла в байтах (для проверки контрольной суммы).
+     */
+    protected final ByteBuffer[] mappings;
+    /**
+     * Контрольная сумма значений из заголовка файла.
+     */
+    protected final long checksum;
+
+    /**
+     * Создание хранилища над отображёнными блоками файла.
+     *
+     * @param path         Путь к файлу
+     * @param mappings     Отображённые блоки файла в байтах
+     * @param checksum     Контрольная сумма значений из заголовка файла
+     * @param chunks       Блоки
+     * @param rowsPerChunk Количество векторов в одном блоке
+     * @param rowCount     Количество векторов
+     * @param dimension    Размерность векторов
+     */
+    protected MappedVectorStore(Path path, ByteBuffer[] mappings, long checksum, DoubleBuffer[] chunks, int rowsPerChunk, long rowCount, int dimension) {
+        super(chunks, rowsPerChunk, rowCount, dimension);
+        this.path = path;
+        this.mappings = mappings;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Получение пути к файлу.
+     *
+     * @return Путь к файлу.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Проверка контрольной суммы значений. Читает весь файл.
+     *
+     * @return Это же хранилище.
+     * @throws IOException При несовпадении контрольной суммы
+     */
+    public MappedVectorStore verify() throws IOException {
+        CRC32C actual = new CRC32C();
+        for (ByteBuffer mapping : mappings) actual.update(mapping.duplicate());
+        if (actual.getValue() != checksum) throw new IOException("Vector file checksum mismatch: " + path);
+        return this;
+    }
+
+    /**
+     * Отображение файла в память без проверки контрольной суммы: файл не читается при открытии.
+     *
+     * @param path Путь к файлу
+     * @return Хранилище.
+     * @throws IOException При ошибке чтения или неверном формате
+     * @see #verify()
+     */
+    public static MappedVectorStore open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Отображение файла в память. С проверкой контрольной суммы при открытии читается весь файл.
+     *
+     * @param path           Путь к файлу
+     * @param verifyChecksum Проверять ли контрольную сумму значений
+     * @return Хранилище.
+     * @throws IOException При ошибке чтения, несовпадении контрольной суммы или неверном формате
+     */
+    public static MappedVectorStore open(Path path, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < VectorFile.HEADER_BYTES) throw new IOException("File is too short for a vector file header: " + path);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, VectorFile.HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != VectorFile.MAGIC) throw new IOException("Not a vector file: " + path);
+            int version = header.getInt(4);
+            if (version != VectorFile.VERSION) throw new IOException("Unsupported vector file version " + version + ": " + path);
+            int dimension = header.getInt(8);
+            long rowCount = header.getLong(16);
+            long checksum = header.getLong(24);
+            if (dimension <= 0 || (long) dimension * Double.BYTES > MAX_CHUNK_BYTES || rowCount < 0) {
+                throw new IOException("Corrupted vector file header: " + path);
+            }
+            long rowBytes = (long) dimension * Double.BYTES;
+            if (channel.size() != VectorFile.HEADER_BYTES + rowCount * rowBytes) throw new IOException("Vector file size does not match its header: " + path);
+
+            int rowsPerChunk = (int) (MAX_CHUNK_BYTES / rowBytes);
+            int chunkCount = (int) ((rowCount + rowsPerChunk - 1) / rowsPerChunk);
+            ByteBuffer[] mappings = new ByteBuffer[chunkCount];
+            DoubleBuffer[] chunks = new DoubleBuffer[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                long rows = Math.min(rowsPerChunk, rowCount - (long) chunk * rowsPerChunk);
+                mappings[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, VectorFile.HEADER_BYTES + (long) chunk * rowsPerChunk * rowBytes, rows * rowBytes);
+                chunks[chunk] = mappings[chunk].duplicate().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+            MappedVectorStore store = new MappedVectorStore(path, mappings, checksum, chunks, rowsPerChunk, rowCount, dimension);
+            return verifyChecksum ? store.verify() : store;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package ru.vladislav117.vectors.store;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * Хранилище векторов одинаковой размерности вне кучи.
+ * Векторы хранятся подряд в прямых (direct) буферах, поэтому не создают нагрузки на сборщик мусора.
+ * Хранилище разбито на блоки не более {@value #MAX_CHUNK_BYTES} байт, вектор никогда не пересекает границу блока,
+ * поэтому общий объём хранилища не ограничен размером одного буфера.
+ * <p>
+ * Память хранилища освобождается, когда хранилище становится недостижимым.
+ * </p>
+ */
+public class OffHeapVectorStore {
+    /**
+     * Максимальный размер одного блока в байтах.
+     */
+    public static final int MAX_CHUNK_BYTES = 1 << 30;
+    /**
+     * Блоки хранилища.
+     */
+    protected final DoubleBuffer[] chunks;
+    /**
+     * Количество векторов в одном блоке.
+     */
+    protected final int rowsPerChunk;
+    /**
+     * Количество векторов.
+     */
+    protected final long rowCount;
+    /**
+     * Размерность векторов.
+     */
+    protected final int dimension;
+
+    /**
+     * Создание хранилища с нулевыми векторами.
+     *
+     * @param rowCount  Количество векторов
+     * @param dimension Размерность векторов
+     */
+    public OffHeapVectorStore(long rowCount, int dimension) {
+        if (rowCount < 0) throw new IllegalArgumentException("Row count must not be negative: " + rowCount);
+        if (dimension <= 0) throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        if ((long) dimension * Double.BYTES > MAX_CHUNK_BYTES) throw new IllegalArgumentException("Dimension is too large: " + dimension);
+        this.rowCount = rowCount;
+        this.dimension = dimension;
+        rowsPerChunk = MAX_CHUNK_BYTES / (dimension * Double.BYTES);
+        int chunkCount = (int) ((rowCount + rowsPerChunk - 1) / rowsPerChunk);
+        chunks = new DoubleBuffer[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long rows = Math.min(rowsPerChunk, rowCount - (long) chunk * rowsPerChunk);
+            chunks[chunk] = ByteBuffer.allocateDirect((int) (rows * dimension * Double.BYTES)).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Создание хранилища над готовыми блоками.
+     * Все блоки, кроме последнего, должны содержать ровно rowsPerChunk векторов.
+     *
+     * @param chunks       Блоки
+     * @param rowsPerChunk Количество векторов в одном блоке
+     * @param rowCount     Количество векторов
+     * @param dimension    Размерность векторов
+     */
+    protected OffHeapVectorStore(DoubleBuffer[] chunks, int rowsPerChunk, long rowCount, int dimension) {
+        this.chunks = chunks;
+        this.rowsPerChunk = rowsPerChunk;
+        this.rowCount = rowCount;
+        this.dimension = dimension;
+    }
+
+    /**
+     * Получение количества векторов.
+     *
+     * @return Количество векторов.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Получение размерности векторов.
+     *
+     * @return Размерность векторов.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение блока, в котором находится вектор.
+     *
+     * @param row Индекс вектора
+     * @return Блок.
+     */
+    protected DoubleBuffer chunk(long row) {
+        Objects.checkIndex(row, rowCount);
+        return chunks[(int) (row / rowsPerChunk)];
+    }
+
+    /**
+     * Получение позиции первого значения вектора в его блоке.
+     *
+     * @param row Индекс вектора
+     * @return Позиция в блоке.
+     */
+    protected int offset(long row) {
+        return (int) (row % rowsPerChunk) * dimension;
+    }
+
+    /**
+     * Проверка индекса оси.
+     *
+     * @param axis Индекс оси
+     */
+    protected void checkAxis(int axis) {
+        if (axis < 0 || axis >= dimension) throw new VectorIndexError(axis);
+    }
+
+    /**
+     * Получение значения вектора по индексу оси.
+     *
+     * @param row  Индекс вектора
+     * @param axis Индекс оси
+     * @return Значение по оси.
+     */
+    public double get(long row, int axis) {
+        checkAxis(axis);
+        return chunk(row).get(offset(row) + axis);
+    }
+
+    /**
+     * Установка значения вектора по индексу оси.
+     *
+     * @param row   Индекс вектора
+     * @param axis  Индекс оси
+     * @param value Значение
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore set(long row, int axis, double value) {
+        checkAxis(axis);
+        chunk(row).put(offset(row) + axis, value);
+        return this;
+    }
+
+    /**
+     * Установка значений вектора в значения другого вектора.
+     * Если у векторов совпадают не все индексы значений, то такие индексы будут проигнорированы.
+     *
+     * @param row    Индекс вектора
+     * @param vector Вектор, значения которого будут присвоены
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore set(long row, Vector vector) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        for (int axis = 0; axis < dimension; axis++) {
+            if (vector.containsIndex(axis)) chunk.put(offset + axis, vector.getIndex(axis));
+        }
+        return this;
+    }
+
+    /**
+     * Копирование значений вектора в массив.
+     *
+     * @param row         Индекс вектора
+     * @param destination Массив, в который будут записаны {@link #getDimension()} значений
+     * @param offset      Позиция в массиве, с которой будут записаны значения
+     * @return Массив destination.
+     */
+    public double[] copyTo(long row, double[] destination, int offset) {
+        chunk(row).get(offset(row), destination, offset, dimension);
+        return destination;
+    }
+
+    /**
+     * Установка значений вектора из массива.
+     *
+     * @param row    Индекс вектора
+     * @param source Массив, из которого будут прочитаны {@link #getDimension()} значений
+     * @param offset Позиция в массиве, с которой будут прочитаны значения
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore copyFrom(long row, double[] source, int offset) {
+        chunk(row).put(offset(row), source, offset, dimension);
+        return this;
+    }
+
+    /**
+     * Получение копии вектора в куче.
+     *
+     * @param row Индекс вектора
+     * @return Вектор-массив со значениями вектора.
+     */
+    public ArrayVector get(long row) {
+        DoubleBuffer chunk = chunk(row);
+        double[] array = new double[dimension];
+        chunk.get(offset(row), array);
+        return new ArrayVector(array);
+    }
+
+    /**
+     * Получение представления вектора хранилища в виде {@link Vector} без копирования значений.
+     *
+     * @param row Индекс вектора
+     * @return Представление вектора.
+     */
+    public OffHeapVectorView view(long row) {
+        Objects.checkIndex(row, rowCount);
+        return new OffHeapVectorView(this, row);
+    }
+
+    /**
+     * Прибавление к значениям вектора значений другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param row     Индекс вектора
+     * @param summand Вектор, значения которого будут взяты как слагаемые
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore add(long row, Vector summand) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        if (summand instanceof OffHeapVectorView view && view.store.dimension == dimension) {
+            DoubleBuffer summandChunk = view.store.chunk(view.row);
+            int summandOffset = view.store.offset(view.row);
+            for (int axis = 0; axis < dimension; axis++) {
+                chunk.put(offset + axis, chunk.get(offset + axis) + summandChunk.get(summandOffset + axis));
+            }
+            return this;
+        }
+        for (int axis = 0; axis < dimension; axis++) {
+            chunk.put(offset + axis, chunk.get(offset + axis) + summand.getIndexOrZero(axis));
+        }
+        return this;
+    }
+
+    /**
+     * Вычитание из значений вектора значений другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param row        Индекс вектора
+     * @param subtrahend Вектор, значения которого будут взяты как вычитаемые
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore subtract(long row, Vector subtrahend) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        if (subtrahend instanceof OffHeapVectorView view && view.store.dimension == dimension) {
+            DoubleBuffer subtrahendChunk = view.store.chunk(view.row);
+            int subtrahendOffset = view.store.offset(view.row);
+            for (int axis = 0; axis < dimension; axis++) {
+                chunk.put(offset + axis, chunk.get(offset + axis) - subtrahendChunk.get(subtrahendOffset + axis));
+            }
+            return this;
+        }
+        for (int axis = 0; axis < dimension; axis++) {
+            chunk.put(offset + axis, chunk.get(offset + axis) - subtrahend.getIndexOrZero(axis));
+        }
+        return this;
+    }
+
+    /**
+     * Умножение всех значений вектора.
+     *
+     * @param row        Индекс вектора
+     * @param multiplier Множитель
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore multiple(long row, double multiplier) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        for (int index = offset; index < offset + dimension; index++) chunk.put(index, chunk.get(index) * multiplier);
+        return this;
+    }
+
+    /**
+     * Деление всех значений вектора.
+     *
+     * @param row     Индекс вектора
+     * @param divisor Делитель
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore divide(long row, double divisor) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        for (int index = offset; index < offset + dimension; index++) chunk.put(index, chunk.get(index) / divisor);
+        return this;
+    }
+
+    /**
+     * Вычисление длины вектора.
+     *
+     * @param row Индекс вектора
+     * @return Длина вектора.
+     */
+    public double length(long row) {
+        return Math.sqrt(lengthSquared(row));
+    }
+
+    /**
+     * Вычисление квадрата длины вектора.
+     *
+     * @param row Индекс вектора
+     * @return Квадрат длины вектора.
+     */
+    public double lengthSquared(long row) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        double sumOfSquares = 0;
+        for (int index = offset; index < offset + dimension; index++) {
+            double value = chunk.get(index);
+            sumOfSquares += value * value;
+        }
+        return sumOfSquares;
+    }
+
+    /**
+     * Вычисление расстояния от вектора до другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param row    Индекс вектора
+     * @param vector Вектор, расстояние до которого будет вычислено
+     * @return Расстояние до вектора.
+     */
+    public double distance(long row, Vector vector) {
+        return Math.sqrt(distanceSquared(row, vector));
+    }
+
+    /**
+     * Вычисление квадрата расстояния от вектора до другого вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param row    Индекс вектора
+     * @param vector Вектор, квадрат расстояния до которого будет вычислен
+     * @return Квадрат расстояния до вектора.
+     */
+    public double distanceSquared(long row, Vector vector) {
+        if (vector instanceof OffHeapVectorView view && view.store == this) return distanceSquared(row, view.row);
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        double sumOfSquaresOfDifferences = 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            double difference = chunk.get(offset + axis) - vector.getIndexOrZero(axis);
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    /**
+     * Вычисление скалярного произведения вектора на другой вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param row    Индекс вектора
+     * @param vector Второй множитель
+     * @return Скалярное произведение векторов.
+     */
+    public double dot(long row, Vector vector) {
+        DoubleBuffer chunk = chunk(row);
+        int offset = offset(row);
+        double dot = 0;
+        if (vector instanceof OffHeapVectorView view && view.store.dimension == dimension) {
+            DoubleBuffer vectorChunk = view.store.chunk(view.row);
+            int vectorOffset = view.store.offset(view.row);
+            for (int axis = 0; axis < dimension; axis++) dot += chunk.get(offset + axis) * vectorChunk.get(vectorOffset + axis);
+            return dot;
+        }
+        for (int axis = 0; axis < dimension; axis++) dot += chunk.get(offset + axis) * vector.getIndexOrZero(axis);
+        return dot;
+    }
+
+    /**
+     * Вычисление расстояния между двумя векторами хранилища.
+     *
+     * @param row      Индекс первого вектора
+     * @param otherRow Индекс второго вектора
+     * @return Расстояние между векторами.
+     */
+    public double distance(long row, long otherRow) {
+        return Math.sqrt(distanceSquared(row, otherRow));
+    }
+
+    /**
+     * Вычисление квадрата расстояния между двумя векторами хранилища.
+     *
+     * @param row      Индекс первого вектора
+     * @param otherRow Индекс второго вектора
+     * @return Квадрат расстояния между векторами.
+     */
+    public double distanceSquared(long row, long otherRow) {
+        DoubleBuffer chunk = chunk(row);
+        DoubleBuffer otherChunk = chunk(otherRow);
+        int offset = offset(row);
+        int otherOffset = offset(otherRow);
+        double sumOfSquaresOfDifferences = 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            double difference = chunk.get(offset + axis) - otherChunk.get(otherOffset + axis);
+            sumOfSquaresOfDifferences += difference * difference;
+        }
+        return sumOfSquaresOfDifferences;
+    }
+
+    /**
+     * Приведение вектора к нормальной форме.
+     *
+     * @param row Индекс вектора
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore normalize(long row) {
+        return divide(row, length(row));
+    }
+
+    /**
+     * Приведение всех векторов хранилища к нормальной форме.
+     *
+     * @return Это же хранилище.
+     */
+    public OffHeapVectorStore normalizeAll() {
+        for (long row = 0; row < rowCount; row++) normalize(row);
+        return this;
+    }
+}
@@ -0,0 +1,223 @@
+package ru.vladislav117.vectors.store;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+/**
+ * Представление вектора хранилища {@link OffHeapVectorStore} в виде {@link Vector}.
+ * Значения не копируются: чтение и изменение представления читает и изменяет память хранилища.
+ * Представление можно перемещать между векторами хранилища.
+ * <p>
+ * Методы, возвращающие новый вектор ({@link #clone()}, {@link #toNormalized()}, {@link #vectorTo(Vector)},
+ * {@link #directionTo(Vector)}), возвращают вектор-массив в куче, не связанный с хранилищем.
+ * </p>
+ */
+public class OffHeapVectorView implements Vector {
+    /**
+     * Хранилище.
+     */
+    protected final OffHeapVectorStore store;
+    /**
+     * Индекс вектора в хранилище.
+     */
+    protected long row;
+
+    /**
+     * Создание представления вектора хранилища.
+     *
+     * @param store Хранилище
+     * @param row   Индекс вектора в хранилище
+     */
+    public OffHeapVectorView(OffHeapVectorStore store, long row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    /**
+     * Получение хранилища.
+     *
+     * @return Хранилище.
+     */
+    public OffHeapVectorStore getStore() {
+        return store;
+    }
+
+    /**
+     * Получение индекса вектора в хранилище.
+     *
+     * @return Индекс вектора в хранилище.
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Перемещение представления на другой вектор хранилища.
+     *
+     * @param row Индекс вектора в хранилище
+     * @return Это же представление.
+     */
+    public OffHeapVectorView moveTo(long row) {
+        this.row = row;
+        return this;
+    }
+
+    @Override
+    public ArrayVector clone() {
+        return store.get(row);
+    }
+
+    @Override
+    public int getSize() {
+        return store.dimension;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < store.dimension;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (containsIndex(index)) return store.get(row, index);
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        if (containsIndex(index)) return store.get(row, index);
+        return 0;
+    }
+
+    @Override
+    public OffHeapVectorView setIndex(int index, double value) {
+        if (!containsIndex(index)) throw new VectorIndexError(index);
+        store.set(row, index, value);
+        return this;
+    }
+
+    @Override
+    public OffHeapVectorView addIndex(int index, double summand) {
+        return setIndex(index, getIndex(index) + summand);
+    }
+
+    @Override
+    public OffHeapVectorView subtractIndex(int index, double subtrahend) {
+        return setIndex(index, getIndex(index) - subtrahend);
+    }
+
+    @Override
+    public OffHeapVectorView multipleIndex(int index, double multiplier) {
+        return setIndex(index, getIndex(index) * multiplier);
+    }
+
+    @Override
+    public OffHeapVectorView divideIndex(int index, double divisor) {
+        return setIndex(index, getIndex(index) / divisor);
+    }
+
+    @Override
+    public OffHeapVectorView set(Vector vector) {
+        store.set(row, vector);
+        return this;
+    }
+
+    @Override
+    public OffHeapVectorView add(Vector summand) {
+        store.add(row, summand);
+        return this;
+    }
+
+    @Override
+    public OffHeapVectorView subtract(Vector subtrahend) {
+        store.subtract(row, subtrahend);
+        return this;
+    }
+
+    @Override
+    public OffHeapVectorView multiple(double multiplier) {
+        store.multiple(row, multiplier);
+        return this;
+    }
+
+    @Override
+    public OffHeapVectorView divide(double divisor) {
+        store.divide(row, divisor);
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return store.length(row);
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        return store.distance(row, vector);
+    }
+
+    @Override
+    public double lengthSquared() {
+        return store.lengthSquared(row);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        return store.distanceSquared(row, vector);
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        return store.dot(row, vector);
+    }
+
+    @Override
+    public OffHeapVectorView normalize() {
+        store.normalize(row);
+        return this;
+    }
+
+    @Override
+    public ArrayVector toNormalized() {
+        return store.get(row).normalize();
+    }
+
+    @Override
+    public ArrayVector vectorTo(Vector vector) {
+        return store.get(row).vectorTo(vector);
+    }
+
+    @Override
+    public ArrayVector directionTo(Vector vector) {
+        return store.get(row).directionTo(vector);
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        return store.copyTo(row, destination, offset);
+    }
+
+    @Override
+    public OffHeapVectorView copyFrom(double[] source, int offset) {
+        store.copyFrom(row, source, offset);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        for (int axis = 0; axis < store.dimension; axis++) {
+            if (!vector.containsIndex(axis)) return false;
+            if (vector.getIndex(axis) != store.get(row, axis)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int axis = 0; axis < store.dimension; axis++) result = 31 * result + Double.hashCode(store.get(row, axis) + 0.0);
+        return result;
+    }
+}
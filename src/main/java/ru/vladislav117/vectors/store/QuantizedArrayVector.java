@@ -0,0 +1,297 @@
+package ru.vladislav117.vectors.store;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.ValueType;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Вектор, хранящий значения в виде 8- или 16-битных кодов: представление вектора хранилища {@link QuantizedVectorStore}.
+ * <p>
+ * Значения по индексу восстанавливаются из кодов, поэтому отличаются от записанных не больше чем на половину шага квантования.
+ * Изменение вектора квантует его заново. Скалярное произведение и расстояние с другим квантованным вектором той же точности
+ * вычисляются по кодам целочисленными ядрами.
+ * </p>
+ * <p>
+ * Методы, возвращающие новый вектор ({@link #toNormalized()}, {@link #vectorTo(Vector)}, {@link #directionTo(Vector)}),
+ * возвращают вектор-массив в куче с восстановленными значениями.
+ * </p>
+ */
+public class QuantizedArrayVector implements Vector {
+    /**
+     * Хранилище.
+     */
+    protected final QuantizedVectorStore store;
+    /**
+     * Индекс вектора в хранилище.
+     */
+    protected int row;
+
+    /**
+     * Создание квантованного вектора в собственном хранилище.
+     *
+     * @param vector    Вектор, значения по осям которого будут квантованы
+     * @param precision Точность кодов
+     */
+    public QuantizedArrayVector(Vector vector, QuantizedVectorStore.Precision precision) {
+        this(new QuantizedVectorStore(1, vector.getSize(), precision).set(0, vector), 0);
+    }
+
+    /**
+     * Создание представления вектора хранилища.
+     *
+     * @param store Хранилище
+     * @param row   Индекс вектора в хранилище
+     */
+    public QuantizedArrayVector(QuantizedVectorStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    /**
+     * Получение хранилища.
+     *
+     * @return Хранилище.
+     */
+    public QuantizedVectorStore getStore() {
+        return store;
+    }
+
+    /**
+     * Получение индекса вектора в хранилище.
+     *
+     * @return Индекс вектора в хранилище.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Перемещение представления на другой вектор хранилища.
+     *
+     * @param row Индекс вектора в хранилище
+     * @return Это же представление.
+     */
+    public QuantizedArrayVector moveTo(int row) {
+        this.row = row;
+        return this;
+    }
+
+    /**
+     * Копирование вектора с кодами в собственное хранилище.
+     *
+     * @return Квантованный вектор, не связанный с хранилищем этого вектора.
+     */
+    @Override
+    public QuantizedArrayVector clone() {
+        QuantizedVectorStore copy = new QuantizedVectorStore(1, store.dimension, store.precision);
+        int from = row * store.dimension;
+        if (store.bytes != null) System.arraycopy(store.bytes, from, copy.bytes, 0, store.dimension);
+        if (store.shorts != null) System.arraycopy(store.shorts, from, copy.shorts, 0, store.dimension);
+        copy.bases[0] = store.bases[row];
+        copy.scales[0] = store.scales[row];
+        copy.codeSums[0] = store.codeSums[row];
+        copy.lengthsSquared[0] = store.lengthsSquared[row];
+        return new QuantizedArrayVector(copy, 0);
+    }
+
+    @Override
+    public int getSize() {
+        return store.dimension;
+    }
+
+    @Override
+    public boolean containsIndex(int index) {
+        return 0 <= index && index < store.dimension;
+    }
+
+    @Override
+    public double getIndex(int index) {
+        if (containsIndex(index)) return store.get(row, index);
+        throw new VectorIndexError(index);
+    }
+
+    @Override
+    public double getIndexOrZero(int index) {
+        if (containsIndex(index)) return store.get(row, index);
+        return 0;
+    }
+
+    @Override
+    public QuantizedArrayVector setIndex(int index, double value) {
+        if (!containsIndex(index)) throw new VectorIndexError(index);
+        store.set(row, index, value);
+        return this;
+    }
+
+    @Override
+    public QuantizedArrayVector addIndex(int index, double summand) {
+        return setIndex(index, getIndex(index) + summand);
+    }
+
+    @Override
+    public QuantizedArrayVector subtractIndex(int index, double subtrahend) {
+        return setIndex(index, getIndex(index) - subtrahend);
+    }
+
+    @Override
+    public QuantizedArrayVector multipleIndex(int index, double multiplier) {
+        return setIndex(index, getIndex(index) * multiplier);
+    }
+
+    @Override
+    public QuantizedArrayVector divideIndex(int index, double divisor) {
+        return setIndex(index, getIndex(index) / divisor);
+    }
+
+    @Override
+    public QuantizedArrayVector set(Vector vector) {
+        store.set(row, vector);
+        return this;
+    }
+
+    @Override
+    public QuantizedArrayVector add(Vector summand) {
+        store.set(row, store.get(row).add(summand));
+        return this;
+    }
+
+    @Override
+    public QuantizedArrayVector subtract(Vector subtrahend) {
+        store.set(row, store.get(row).subtract(subtrahend));
+        return this;
+    }
+
+    @Override
+    public QuantizedArrayVector multiple(double multiplier) {
+        store.set(row, store.get(row).multiple(multiplier));
+        return this;
+    }
+
+    @Override
+    public QuantizedArrayVector divide(double divisor) {
+        store.set(row, store.get(row).divide(divisor));
+        return this;
+    }
+
+    @Override
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    @Override
+    public double distance(Vector vector) {
+        return Math.sqrt(distanceSquared(vector));
+    }
+
+    @Override
+    public double lengthSquared() {
+        return store.lengthSquared(row);
+    }
+
+    @Override
+    public double distanceSquared(Vector vector) {
+        if (isCompatible(vector)) {
+            QuantizedArrayVector other = (QuantizedArrayVector) vector;
+            return store.distanceSquared(row, other.store, other.row);
+        }
+        return store.get(row).distanceSquared(vector);
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        if (isCompatible(vector)) {
+            QuantizedArrayVector other = (QuantizedArrayVector) vector;
+            return store.dot(row, other.store, other.row);
+        }
+        return store.get(row).dot(vector);
+    }
+
+    private boolean isCompatible(Vector vector) {
+        return vector instanceof QuantizedArrayVector other && other.store.precision == store.precision && other.store.dimension == store.dimension;
+    }
+
+    @Override
+    public QuantizedArrayVector normalize() {
+        store.set(row, store.get(row).normalize());
+        return this;
+    }
+
+    @Override
+    public ArrayVector toNormalized() {
+        return store.get(row).normalize();
+    }
+
+    @Override
+    public ArrayVector vectorTo(Vector vector) {
+        return store.get(row).vectorTo(vector);
+    }
+
+    @Override
+    public ArrayVector directionTo(Vector vector) {
+        return store.get(row).directionTo(vector);
+    }
+
+    @Override
+    public double[] copyTo(double[] destination, int offset) {
+        return store.copyTo(row, destination, offset);
+    }
+
+    @Override
+    public QuantizedArrayVector copyFrom(double[] source, int offset) {
+        store.copyFrom(row, source, offset);
+        return this;
+    }
+
+    @Override
+    public ByteBuffer writeTo(ByteBuffer buffer, ValueType type) {
+        if (buffer.remaining() < (long) store.dimension * type.getBytes()) throw new BufferOverflowException();
+        double[] values = store.copyTo(row, new double[store.dimension], 0);
+        for (double value : values) type.put(buffer, value);
+        return buffer;
+    }
+
+    @Override
+    public QuantizedArrayVector readFrom(ByteBuffer buffer) {
+        return readFrom(buffer, ValueType.DOUBLE);
+    }
+
+    /**
+     * Установка значений вектора из буфера.
+     * Значения читаются целиком и квантуются один раз, поэтому погрешность не превышает половины шага квантования.
+     *
+     * @param buffer Буфер, из которого будут прочитаны {@link #getSize()} значений
+     * @param type   Тип значений в буфере
+     * @return Этот же вектор.
+     * @throws BufferUnderflowException Если в буфере недостаточно значений (тогда вектор и буфер не изменяются)
+     */
+    @Override
+    public QuantizedArrayVector readFrom(ByteBuffer buffer, ValueType type) {
+        if (buffer.remaining() < (long) store.dimension * type.getBytes()) throw new BufferUnderflowException();
+        double[] values = new double[store.dimension];
+        for (int axis = 0; axis < store.dimension; axis++) values[axis] = type.get(buffer);
+        store.copyFrom(row, values, 0);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Vector vector)) return false;
+        for (int axis = 0; axis < store.dimension; axis++) {
+            if (!vector.containsIndex(axis)) return false;
+            if (vector.getIndex(axis) != store.get(row, axis)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int axis = 0; axis < store.dimension; axis++) result = 31 * result + Double.hashCode(store.get(row, axis) + 0.0);
+        return result;
+    }
+}
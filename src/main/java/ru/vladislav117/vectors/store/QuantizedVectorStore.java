@@ -0,0 +1,388 @@
+package ru.vladislav117.vectors.store;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+import ru.vladislav117.vectors.kernel.QuantizedArrayKernels;
+
+import java.util.Objects;
+
+/**
+ * Хранилище векторов одинаковой размерности в виде 8- или 16-битных целочисленных кодов.
+ * <p>
+ * Для каждого вектора хранятся середина base и шаг scale отрезка его значений: значение по оси равно base + scale * code,
+ * где code лежит в [-{@link Precision#getMaxCode()}, {@link Precision#getMaxCode()}].
+ * Вектор размерности 768 занимает 768 или 1536 байт кодов вместо 6144 байт значений double.
+ * </p>
+ * <p>
+ * Скалярные произведения и расстояния между векторами хранилищ одинаковой точности вычисляются по кодам целочисленными ядрами
+ * {@link QuantizedArrayKernels}: произведение двух векторов раскладывается на целочисленное произведение кодов
+ * и суммы кодов, которые хранятся для каждого вектора вместе с квадратом длины.
+ * Запрос для массовых операций ({@link #rowDots(Vector, double[])}, {@link #rowDistancesSquared(Vector, double[])})
+ * квантуется один раз. Изменение значения по оси квантует вектор заново.
+ * </p>
+ */
+public class QuantizedVectorStore {
+    /**
+     * Точность кодов.
+     */
+    public enum Precision {
+        /**
+         * 8-битные коды.
+         */
+        INT8(Byte.MAX_VALUE),
+        /**
+         * 16-битные коды.
+         */
+        INT16(Short.MAX_VALUE);
+
+        private final int maxCode;
+
+        Precision(int maxCode) {
+            this.maxCode = maxCode;
+        }
+
+        /**
+         * Получение максимального по модулю кода.
+         *
+         * @return Максимальный по модулю код.
+         */
+        public int getMaxCode() {
+            return maxCode;
+        }
+    }
+
+    /**
+     * Точность кодов.
+     */
+    protected final Precision precision;
+    /**
+     * Количество векторов.
+     */
+    protected final int rowCount;
+    /**
+     * Размерность векторов.
+     */
+    protected final int dimension;
+    /**
+     * 8-битные коды (null для {@link Precision#INT16}): код оси axis вектора row находится по индексу row * dimension + axis.
+     */
+    protected final byte[] bytes;
+    /**
+     * 16-битные коды (null для {@link Precision#INT8}).
+     */
+    protected final short[] shorts;
+    /**
+     * Середины отрезков значений векторов (значения, соответствующие коду 0).
+     */
+    protected final double[] bases;
+    /**
+     * Шаги квантования векторов.
+     */
+    protected final double[] scales;
+    /**
+     * Суммы кодов векторов.
+     */
+    protected final long[] codeSums;
+    /**
+     * Квадраты длин восстановленных векторов.
+     */
+    protected final double[] lengthsSquared;
+
+    /**
+     * Создание хранилища с нулевыми векторами.
+     *
+     * @param rowCount  Количество векторов
+     * @param dimension Размерность векторов
+     * @param precision Точность кодов
+     */
+    public QuantizedVectorStore(int rowCount, int dimension, Precision precision) {
+        if (rowCount < 0 || dimension < 0) throw new IllegalArgumentException("Row count and dimension must not be negative");
+        if ((long) rowCount * dimension > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Store is too large: " + rowCount + " x " + dimension);
+        this.precision = Objects.requireNonNull(precision);
+        this.rowCount = rowCount;
+        this.dimension = dimension;
+        bytes = precision == Precision.INT8 ? new byte[rowCount * dimension] : null;
+        shorts = precision == Precision.INT16 ? new short[rowCount * dimension] : null;
+        bases = new double[rowCount];
+        scales = new double[rowCount];
+        codeSums = new long[rowCount];
+        lengthsSquared = new double[rowCount];
+    }
+
+    /**
+     * Получение количества векторов.
+     *
+     * @return Количество векторов.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Получение размерности векторов.
+     *
+     * @return Размерность векторов.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение точности кодов.
+     *
+     * @return Точность кодов.
+     */
+    public Precision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Получение шага квантования вектора: наибольшая ошибка восстановления значения равна половине шага.
+     *
+     * @param row Индекс вектора
+     * @return Шаг квантования.
+     */
+    public double getScale(int row) {
+        return scales[row];
+    }
+
+    /**
+     * Проверка индекса оси.
+     *
+     * @param axis Индекс оси
+     */
+    protected void checkAxis(int axis) {
+        if (axis < 0 || axis >= dimension) throw new VectorIndexError(axis);
+    }
+
+    /**
+     * Получение восстановленного значения вектора по оси.
+     *
+     * @param row  Индекс вектора
+     * @param axis Индекс оси
+     * @return Значение.
+     */
+    public double get(int row, int axis) {
+        checkAxis(axis);
+        int index = row * dimension + axis;
+        return bases[row] + scales[row] * (precision == Precision.INT8 ? bytes[index] : shorts[index]);
+    }
+
+    /**
+     * Установка значения вектора по оси. Вектор квантуется заново.
+     *
+     * @param row   Индекс вектора
+     * @param axis  Индекс оси
+     * @param value Значение
+     * @return Это хранилище.
+     */
+    public QuantizedVectorStore set(int row, int axis, double value) {
+        checkAxis(axis);
+        double[] values = copyTo(row, new double[dimension], 0);
+        values[axis] = value;
+        return copyFrom(row, values, 0);
+    }
+
+    /**
+     * Квантование вектора в хранилище.
+     * Если у вектора нет значений по некоторым осям хранилища, то такие значения будут взяты за 0.
+     *
+     * @param row    Индекс вектора
+     * @param vector Вектор
+     * @return Это хранилище.
+     */
+    public QuantizedVectorStore set(int row, Vector vector) {
+        Objects.checkIndex(row, rowCount);
+        double[] values = new double[dimension];
+        if (vector.getSize() == dimension) {
+            vector.copyTo(values, 0);
+        } else {
+            for (int axis = 0; axis < dimension; axis++) values[axis] = vector.getIndexOrZero(axis);
+        }
+        return copyFrom(row, values, 0);
+    }
+
+    /**
+     * Квантование значений массива в вектор хранилища.
+     *
+     * @param row    Индекс вектора
+     * @param source Массив значений
+     * @param offset Индекс первого значения в массиве
+     * @return Это хранилище.
+     */
+    public QuantizedVectorStore copyFrom(int row, double[] source, int offset) {
+        Objects.checkIndex(row, rowCount);
+        Objects.checkFromIndexSize(offset, dimension, source.length);
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        for (int axis = 0; axis < dimension; axis++) {
+            min = Math.min(min, source[offset + axis]);
+            max = Math.max(max, source[offset + axis]);
+        }
+        int maxCode = precision.getMaxCode();
+        double base = dimension == 0 ? 0 : (min + max) / 2;
+        double scale = dimension == 0 ? 0 : (max - min) / (2.0 * maxCode);
+        long codeSum = 0;
+        for (int axis = 0; axis < dimension; axis++) {
+            int code = scale == 0 ? 0 : (int) Math.max(-maxCode, Math.min(maxCode, Math.round((source[offset + axis] - base) / scale)));
+            if (precision == Precision.INT8) {
+                bytes[row * dimension + axis] = (byte) code;
+            } else {
+                shorts[row * dimension + axis] = (short) code;
+            }
+            codeSum += code;
+        }
+        bases[row] = base;
+        scales[row] = scale;
+        codeSums[row] = codeSum;
+        lengthsSquared[row] = dimension * base * base + 2 * base * scale * codeSum + scale * scale * codeDot(row, this, row);
+        return this;
+    }
+
+    /**
+     * Запись восстановленных значений вектора в массив.
+     *
+     * @param row         Индекс вектора
+     * @param destination Массив, в который будут записаны значения
+     * @param offset      Индекс, с которого будут записаны значения
+     * @return Массив destination.
+     */
+    public double[] copyTo(int row, double[] destination, int offset) {
+        Objects.checkIndex(row, rowCount);
+        Objects.checkFromIndexSize(offset, dimension, destination.length);
+        QuantizedArrayKernels kernels = QuantizedArrayKernels.get();
+        if (precision == Precision.INT8) {
+            kernels.dequantize(bytes, row * dimension, destination, offset, dimension, bases[row], scales[row]);
+        } else {
+            kernels.dequantize(shorts, row * dimension, destination, offset, dimension, bases[row], scales[row]);
+        }
+        return destination;
+    }
+
+    /**
+     * Получение копии восстановленного вектора.
+     *
+     * @param row Индекс вектора
+     * @return Вектор-массив с восстановленными значениями.
+     */
+    public ArrayVector get(int row) {
+        return ArrayVector.wrap(copyTo(row, new double[dimension], 0));
+    }
+
+    /**
+     * Получение представления вектора хранилища в виде {@link Vector}.
+     *
+     * @param row Индекс вектора
+     * @return Представление вектора.
+     */
+    public QuantizedArrayVector view(int row) {
+        Objects.checkIndex(row, rowCount);
+        return new QuantizedArrayVector(this, row);
+    }
+
+    private long codeDot(int row, QuantizedVectorStore other, int otherRow) {
+        QuantizedArrayKernels kernels = QuantizedArrayKernels.get();
+        if (precision == Precision.INT8) return kernels.dot(bytes, row * dimension, other.bytes, otherRow * dimension, dimension);
+        return kernels.dot(shorts, row * dimension, other.shorts, otherRow * dimension, dimension);
+    }
+
+    /**
+     * Вычисление квадрата длины восстановленного вектора.
+     *
+     * @param row Индекс вектора
+     * @return Квадрат длины.
+     */
+    public double lengthSquared(int row) {
+        return lengthsSquared[row];
+    }
+
+    /**
+     * Вычисление скалярного произведения восстановленных векторов этого и другого хранилища по кодам.
+     *
+     * @param row      Индекс вектора в этом хранилище
+     * @param other    Другое хранилище той же точности и размерности
+     * @param otherRow Индекс вектора в другом хранилище
+     * @return Скалярное произведение.
+     */
+    public double dot(int row, QuantizedVectorStore other, int otherRow) {
+        checkCompatible(other);
+        Objects.checkIndex(row, rowCount);
+        Objects.checkIndex(otherRow, other.rowCount);
+        double base = bases[row], scale = scales[row];
+        double otherBase = other.bases[otherRow], otherScale = other.scales[otherRow];
+        return dimension * base * otherBase + base * otherScale * other.codeSums[otherRow] + otherBase * scale * codeSums[row]
+                + scale * otherScale * codeDot(row, other, otherRow);
+    }
+
+    /**
+     * Вычисление квадрата расстояния между восстановленными векторами этого и другого хранилища по кодам.
+     *
+     * @param row      Индекс вектора в этом хранилище
+     * @param other    Другое хранилище той же точности и размерности
+     * @param otherRow Индекс вектора в другом хранилище
+     * @return Квадрат расстояния.
+     */
+    public double distanceSquared(int row, QuantizedVectorStore other, int otherRow) {
+        return Math.max(0, lengthsSquared[row] + other.lengthsSquared[otherRow] - 2 * dot(row, other, otherRow));
+    }
+
+    /**
+     * Вычисление скалярного произведения восстановленных векторов хранилища по кодам.
+     *
+     * @param row      Индекс первого вектора
+     * @param otherRow Индекс второго вектора
+     * @return Скалярное произведение.
+     */
+    public double dot(int row, int otherRow) {
+        return dot(row, this, otherRow);
+    }
+
+    /**
+     * Вычисление квадрата расстояния между восстановленными векторами хранилища по кодам.
+     *
+     * @param row      Индекс первого вектора
+     * @param otherRow Индекс второго вектора
+     * @return Квадрат расстояния.
+     */
+    public double distanceSquared(int row, int otherRow) {
+        return distanceSquared(row, this, otherRow);
+    }
+
+    /**
+     * Вычисление скалярных произведений всех векторов хранилища с запросом, квантованным с точностью хранилища.
+     *
+     * @param query  Вектор запроса
+     * @param result Массив длиной не меньше количества векторов, в который будут записаны произведения
+     * @return Массив result.
+     */
+    public double[] rowDots(Vector query, double[] result) {
+        QuantizedVectorStore quantized = quantize(query);
+        Objects.checkFromIndexSize(0, rowCount, result.length);
+        for (int row = 0; row < rowCount; row++) result[row] = dot(row, quantized, 0);
+        return result;
+    }
+
+    /**
+     * Вычисление квадратов расстояний от всех векторов хранилища до запроса, квантованного с точностью хранилища.
+     *
+     * @param query  Вектор запроса
+     * @param result Массив длиной не меньше количества векторов, в который будут записаны квадраты расстояний
+     * @return Массив result.
+     */
+    public double[] rowDistancesSquared(Vector query, double[] result) {
+        QuantizedVectorStore quantized = quantize(query);
+        Objects.checkFromIndexSize(0, rowCount, result.length);
+        for (int row = 0; row < rowCount; row++) result[row] = distanceSquared(row, quantized, 0);
+        return result;
+    }
+
+    private QuantizedVectorStore quantize(Vector query) {
+        return new QuantizedVectorStore(1, dimension, precision).set(0, query);
+    }
+
+    private void checkCompatible(QuantizedVectorStore other) {
+        if (other.precision != precision || other.dimension != dimension) {
+            throw new IllegalArgumentException("Stores differ in precision or dimension: " + precision + " x " + dimension + " and " + other.precision + " x " + other.dimension);
+        }
+    }
+}
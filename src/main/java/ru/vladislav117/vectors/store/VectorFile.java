@@ -0,0 +1,172 @@
+package ru.vladislav117.vectors.store;
+
+import ru.vladislav117.vectors.Vector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Двоичный формат файла векторов одинаковой размерности.
+ * <p>
+ * Все числа записываются в порядке little-endian. Файл начинается с заголовка длиной {@value #HEADER_BYTES} байт:
+ * </p>
+ * <ul>
+ *     <li>0: сигнатура {@code VECS} (4 байта);</li>
+ *     <li>4: версия формата, int ({@value #VERSION});</li>
+ *     <li>8: размерность векторов, int;</li>
+ *     <li>12: зарезервировано, int (0);</li>
+ *     <li>16: количество векторов, long;</li>
+ *     <li>24: контрольная сумма CRC32C значений, long;</li>
+ *     <li>32–63: зарезервировано (нули).</li>
+ * </ul>
+ * <p>
+ * За заголовком подряд записаны значения векторов в типе double: сначала все значения первого вектора, затем второго и т.д.
+ * Значения выровнены по 8 байт, поэтому файл можно отобразить в память и читать без копирования ({@link MappedVectorStore}).
+ * </p>
+ */
+public final class VectorFile {
+    /**
+     * Сигнатура файла: байты {@code VECS}, прочитанные как little-endian int.
+     */
+    public static final int MAGIC = 0x53434556;
+    /**
+     * Версия формата.
+     */
+    public static final int VERSION = 1;
+    /**
+     * Длина заголовка в байтах.
+     */
+    public static final int HEADER_BYTES = 64;
+    /**
+     * Размер буфера записи в байтах.
+     */
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private VectorFile() {
+    }
+
+    /**
+     * Источник значений векторов для записи.
+     */
+    @FunctionalInterface
+    private interface RowSource {
+        void copyTo(long row, double[] destination);
+    }
+
+    /**
+     * Запись векторов списка в файл. Файл будет создан или перезаписан.
+     * Если у вектора нет значений по некоторым осям, то такие значения будут взяты за 0.
+     *
+     * @param path      Путь к файлу
+     * @param vectors   Векторы
+     * @param dimension Размерность векторов
+     * @throws IOException При ошибке записи
+     */
+    public static void write(Path path, List<? extends Vector> vectors, int dimension) throws IOException {
+        write(path, vectors.size(), dimension, (row, destination) -> {
+            Vector vector = vectors.get((int) row);
+            if (vector.getSize() == dimension) {
+                vector.copyTo(destination, 0);
+            } else {
+                for (int axis = 0; axis < dimension; axis++) destination[axis] = vector.getIndexOrZero(axis);
+            }
+        });
+    }
+
+    /**
+     * Запись строк матрицы в файл. Файл будет создан или перезаписан.
+     *
+     * @param path   Путь к файлу
+     * @param matrix Матрица
+     * @throws IOException При ошибке записи
+     */
+    public static void write(Path path, VectorMatrix matrix) throws IOException {
+        write(path, matrix.getRowCount(), matrix.getDimension(), (row, destination) -> matrix.copyTo(row, destination, 0));
+    }
+
+    /**
+     * Запись векторов хранилища вне кучи в файл. Файл будет создан или перезаписан.
+     *
+     * @param path  Путь к файлу
+     * @param store Хранилище
+     * @throws IOException При ошибке записи
+     */
+    public static void write(Path path, OffHeapVectorStore store) throws IOException {
+        write(path, store.getRowCount(), store.getDimension(), (row, destination) -> store.copyTo(row, destination, 0));
+    }
+
+    private static void write(Path path, long rowCount, int dimension, RowSource source) throws IOException {
+        if (dimension <= 0) throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int rowBytes = dimension * Double.BYTES;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(WRITE_BUFFER_BYTES, rowBytes)).order(ByteOrder.LITTLE_ENDIAN);
+            double[] values = new double[dimension];
+            CRC32C checksum = new CRC32C();
+            channel.position(HEADER_BYTES);
+            for (long row = 0; row < rowCount; row++) {
+                if (buffer.remaining() < rowBytes) flush(channel, buffer, checksum);
+                source.copyTo(row, values);
+                buffer.asDoubleBuffer().put(values);
+                buffer.position(buffer.position() + rowBytes);
+            }
+            flush(channel, buffer, checksum);
+            buffer.clear();
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(dimension).putInt(0).putLong(rowCount).putLong(checksum.getValue());
+            while (buffer.position() < HEADER_BYTES) buffer.put((byte) 0);
+            buffer.flip();
+            channel.position(0);
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Чтение всех векторов файла в кучу. Каждый вектор создаётся фабрикой из представления строки отображённого файла,
+     * например {@code VectorFile.read(path, Vector3D::new)} или {@code VectorFile.read(path, OffHeapVectorView::clone)}.
+     * Фабрика должна копировать значения: представление перемещается на следующую строку после её вызова.
+     * Контрольная сумма не проверяется.
+     *
+     * @param path    Путь к файлу
+     * @param factory Фабрика векторов
+     * @param <V>     Тип векторов
+     * @return Список векторов.
+     * @throws IOException При ошибке чтения или неверном формате
+     */
+    public static <V extends Vector> List<V> read(Path path, Function<? super OffHeapVectorView, V> factory) throws IOException {
+        return read(path, factory, false);
+    }
+
+    /**
+     * Чтение всех векторов файла в кучу.
+     *
+     * @param path           Путь к файлу
+     * @param factory        Фабрика векторов
+     * @param verifyChecksum Проверять ли контрольную сумму значений перед чтением
+     * @param <V>            Тип векторов
+     * @return Список векторов.
+     * @throws IOException При ошибке чтения, несовпадении контрольной суммы или неверном формате
+     * @see #read(Path, Function)
+     */
+    public static <V extends Vector> List<V> read(Path path, Function<? super OffHeapVectorView, V> factory, boolean verifyChecksum) throws IOException {
+        MappedVectorStore store = MappedVectorStore.open(path, verifyChecksum);
+        if (store.getRowCount() > Integer.MAX_VALUE - 8) throw new IOException("Too many vectors for a list: " + store.getRowCount());
+        List<V> vectors = new ArrayList<>((int) store.getRowCount());
+        OffHeapVectorView view = new OffHeapVectorView(store, 0);
+        for (long row = 0; row < store.getRowCount(); row++) vectors.add(factory.apply(view.moveTo(row)));
+        return vectors;
+    }
+}
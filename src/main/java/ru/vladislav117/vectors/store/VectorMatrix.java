@@ -0,0 +1,503 @@
+package ru.vladislav117.vectors.store;
+
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.error.VectorIndexError;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Матрица векторов одинаковой размерности в куче.
+ * Векторы (строки матрицы) хранятся подряд в массивах {@code double[]} не более {@value #MAX_CHUNK_LENGTH} значений,
+ * строка никогда не пересекает границу массива, поэтому количество значений матрицы не ограничено длиной одного массива.
+ * <p>
+ * В отличие от множества отдельных {@link ArrayVector}, матрица не хранит заголовок объекта и массива для каждого вектора,
+ * а соседние векторы находятся рядом в памяти. Представления строк ({@link #view(long)}) являются векторами-массивами
+ * над отрезками массивов матрицы и не копируют значения.
+ * </p>
+ * <p>
+ * Массовые операции ({@link #normalizeRows()}, {@link #rowDistances(Vector, long, double[])},
+ * {@link #rowDots(Vector, long, double[])}, {@link #forEachRow(RowAction)}) выполняются параллельно в
+ * {@link ForkJoinPool#commonPool()}, если матрица содержит не менее {@value #PARALLEL_THRESHOLD} значений.
+ * </p>
+ */
+public class VectorMatrix {
+    /**
+     * Максимальное количество значений в одном массиве.
+     */
+    public static final int MAX_CHUNK_LENGTH = 1 << 30;
+    /**
+     * Количество значений, начиная с которого массовые операции выполняются параллельно.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * Массивы значений строк.
+     */
+    protected final double[][] chunks;
+    /**
+     * Количество строк в одном массиве.
+     */
+    protected final int rowsPerChunk;
+    /**
+     * Количество строк.
+     */
+    protected final long rowCount;
+    /**
+     * Размерность строк.
+     */
+    protected final int dimension;
+
+    /**
+     * Действие над строкой матрицы.
+     * Значения строки находятся в массиве array по индексам от offset до offset + {@link #getDimension()}.
+     */
+    @FunctionalInterface
+    public interface RowAction {
+        /**
+         * Выполнение действия над строкой.
+         *
+         * @param row    Индекс строки
+         * @param array  Массив, в котором хранится строка
+         * @param offset Индекс значения строки по оси 0 в массиве
+         */
+        void apply(long row, double[] array, int offset);
+    }
+
+    /**
+     * Создание матрицы с нулевыми строками.
+     *
+     * @param rowCount  Количество строк
+     * @param dimension Размерность строк
+     */
+    public VectorMatrix(long rowCount, int dimension) {
+        this(rowCount, dimension, dimension > 0 ? MAX_CHUNK_LENGTH / dimension : 0);
+    }
+
+    /**
+     * Создание матрицы с нулевыми строками и заданным количеством строк в одном массиве.
+     *
+     * @param rowCount     Количество строк
+     * @param dimension    Размерность строк
+     * @param rowsPerChunk Количество строк в одном массиве
+     */
+    protected VectorMatrix(long rowCount, int dimension, int rowsPerChunk) {
+        if (rowCount < 0) throw new IllegalArgumentException("Row count must not be negative: " + rowCount);
+        if (dimension <= 0) throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        if (dimension > MAX_CHUNK_LENGTH) throw new IllegalArgumentException("Dimension is too large: " + dimension);
+        if (rowsPerChunk <= 0 || (long) rowsPerChunk * dimension > MAX_CHUNK_LENGTH) {
+            throw new IllegalArgumentException("Invalid rows per chunk: " + rowsPerChunk);
+        }
+        this.rowCount = rowCount;
+        this.dimension = dimension;
+        this.rowsPerChunk = rowsPerChunk;
+        int chunkCount = (int) ((rowCount + rowsPerChunk - 1) / rowsPerChunk);
+        chunks = new double[chunkCount][];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long rows = Math.min(rowsPerChunk, rowCount - (long) chunk * rowsPerChunk);
+            chunks[chunk] = new double[(int) rows * dimension];
+        }
+    }
+
+    /**
+     * Создание матрицы из коллекции векторов.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param vectors   Векторы
+     * @param dimension Размерность строк
+     */
+    public VectorMatrix(Collection<? extends Vector> vectors, int dimension) {
+        this(vectors.size(), dimension);
+        long row = 0;
+        for (Vector vector : vectors) set(row++, vector);
+    }
+
+    /**
+     * Получение количества строк.
+     *
+     * @return Количество строк.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Получение размерности строк.
+     *
+     * @return Размерность строк.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Получение массива, в котором находится строка.
+     *
+     * @param row Индекс строки
+     * @return Массив значений.
+     */
+    protected double[] chunk(long row) {
+        Objects.checkIndex(row, rowCount);
+        return chunks[(int) (row / rowsPerChunk)];
+    }
+
+    /**
+     * Получение позиции значения строки по оси 0 в её массиве.
+     *
+     * @param row Индекс строки
+     * @return Позиция в массиве.
+     */
+    protected int offset(long row) {
+        return (int) (row % rowsPerChunk) * dimension;
+    }
+
+    /**
+     * Проверка индекса оси.
+     *
+     * @param axis Индекс оси
+     */
+    protected void checkAxis(int axis) {
+        if (axis < 0 || axis >= dimension) throw new VectorIndexError(axis);
+    }
+
+    /**
+     * Получение значения строки по индексу оси.
+     *
+     * @param row  Индекс строки
+     * @param axis Индекс оси
+     * @return Значение по оси.
+     */
+    public double get(long row, int axis) {
+        checkAxis(axis);
+        return chunk(row)[offset(row) + axis];
+    }
+
+    /**
+     * Установка значения строки по индексу оси.
+     *
+     * @param row   Индекс строки
+     * @param axis  Индекс оси
+     * @param value Значение
+     * @return Эта же матрица.
+     */
+    public VectorMatrix set(long row, int axis, double value) {
+        checkAxis(axis);
+        chunk(row)[offset(row) + axis] = value;
+        return this;
+    }
+
+    /**
+     * Установка значений строки в значения вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param row    Индекс строки
+     * @param vector Вектор, значения которого будут присвоены
+     * @return Эта же матрица.
+     */
+    public VectorMatrix set(long row, Vector vector) {
+        double[] chunk = chunk(row);
+        int offset = offset(row);
+        if (vector.getSize() == dimension) {
+            vector.copyTo(chunk, offset);
+            return this;
+        }
+        for (int axis = 0; axis < dimension; axis++) chunk[offset + axis] = vector.getIndexOrZero(axis);
+        return this;
+    }
+
+    /**
+     * Копирование значений строки в массив.
+     *
+     * @param row         Индекс строки
+     * @param destination Массив, в который будут записаны {@link #getDimension()} значений
+     * @param offset      Позиция в массиве, с которой будут записаны значения
+     * @return Массив destination.
+     */
+    public double[] copyTo(long row, double[] destination, int offset) {
+        System.arraycopy(chunk(row), offset(row), destination, offset, dimension);
+        return destination;
+    }
+
+    /**
+     * Установка значений строки из массива.
+     *
+     * @param row    Индекс строки
+     * @param source Массив, из которого будут прочитаны {@link #getDimension()} значений
+     * @param offset Позиция в массиве, с которой будут прочитаны значения
+     * @return Эта же матрица.
+     */
+    public VectorMatrix copyFrom(long row, double[] source, int offset) {
+        System.arraycopy(source, offset, chunk(row), offset(row), dimension);
+        return this;
+    }
+
+    /**
+     * Получение копии строки.
+     *
+     * @param row Индекс строки
+     * @return Вектор-массив со значениями строки.
+     */
+    public ArrayVector get(long row) {
+        return view(row).clone();
+    }
+
+    /**
+     * Получение представления строки в виде вектора-массива без копирования значений.
+     * Изменения представления видны в матрице и наоборот.
+     *
+     * @param row Индекс строки
+     * @return Представление строки.
+     */
+    public ArrayVector view(long row) {
+        return ArrayVector.wrap(chunk(row), offset(row), dimension);
+    }
+
+    /**
+     * Вычисление квадрата длины строки.
+     *
+     * @param row Индекс строки
+     * @return Квадрат длины строки.
+     */
+    public double lengthSquared(long row) {
+        return DoubleArrayKernels.get().sumOfSquares(chunk(row), offset(row), dimension);
+    }
+
+    /**
+     * Вычисление скалярного произведения строки на значения массива.
+     *
+     * @param row    Индекс строки
+     * @param values Массив длиной не меньше {@link #getDimension()}
+     * @return Скалярное произведение.
+     */
+    public double dot(long row, double[] values) {
+        return DoubleArrayKernels.get().dot(chunk(row), offset(row), values, 0, dimension);
+    }
+
+    /**
+     * Вычисление скалярного произведения двух строк.
+     *
+     * @param row      Индекс первой строки
+     * @param otherRow Индекс второй строки
+     * @return Скалярное произведение.
+     */
+    public double dot(long row, long otherRow) {
+        return DoubleArrayKernels.get().dot(chunk(row), offset(row), chunk(otherRow), offset(otherRow), dimension);
+    }
+
+    /**
+     * Вычисление квадрата расстояния от строки до точки, заданной значениями массива.
+     *
+     * @param row    Индекс строки
+     * @param values Массив длиной не меньше {@link #getDimension()}
+     * @return Квадрат расстояния.
+     */
+    public double distanceSquared(long row, double[] values) {
+        return DoubleArrayKernels.get().sumOfSquaresOfDifferences(chunk(row), offset(row), values, 0, dimension);
+    }
+
+    /**
+     * Вычисление квадрата расстояния между двумя строками.
+     *
+     * @param row      Индекс первой строки
+     * @param otherRow Индекс второй строки
+     * @return Квадрат расстояния.
+     */
+    public double distanceSquared(long row, long otherRow) {
+        return DoubleArrayKernels.get().sumOfSquaresOfDifferences(chunk(row), offset(row), chunk(otherRow), offset(otherRow), dimension);
+    }
+
+    /**
+     * Выполнение действия над каждой строкой матрицы.
+     * Если матрица содержит не менее {@value #PARALLEL_THRESHOLD} значений, строки обрабатываются параллельно,
+     * поэтому действие над разными строками должно быть независимым.
+     *
+     * @param action Действие
+     * @return Эта же матрица.
+     */
+    public VectorMatrix forEachRow(RowAction action) {
+        execute(action, 0, rowCount);
+        return this;
+    }
+
+    /**
+     * Выполнение действия над строками из отрезка, параллельное для отрезков не менее {@value #PARALLEL_THRESHOLD} значений.
+     *
+     * @param action Действие
+     * @param from   Индекс первой строки
+     * @param to     Индекс строки после последней
+     */
+    protected void execute(RowAction action, long from, long to) {
+        if ((to - from) * dimension >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new RowTask(action, from, to));
+        } else {
+            forEachRow(action, from, to);
+        }
+    }
+
+    /**
+     * Последовательное выполнение действия над строками из отрезка в текущем потоке.
+     * Позволяет распределять строки между задачами самостоятельно.
+     *
+     * @param from   Индекс первой строки
+     * @param to     Индекс строки после последней
+     * @param action Действие
+     * @return Эта же матрица.
+     * @throws IndexOutOfBoundsException Если отрезок выходит за пределы матрицы
+     */
+    public VectorMatrix forEachRow(long from, long to, RowAction action) {
+        Objects.checkFromToIndex(from, to, rowCount);
+        forEachRow(action, from, to);
+        return this;
+    }
+
+    /**
+     * Последовательное выполнение действия над строками из отрезка.
+     *
+     * @param action Действие
+     * @param from   Индекс первой строки
+     * @param to     Индекс строки после последней
+     */
+    protected void forEachRow(RowAction action, long from, long to) {
+        long row = from;
+        while (row < to) {
+            int chunkIndex = (int) (row / rowsPerChunk);
+            double[] chunk = chunks[chunkIndex];
+            long chunkEnd = Math.min(to, (long) (chunkIndex + 1) * rowsPerChunk);
+            for (int offset = offset(row); row < chunkEnd; row++, offset += dimension) action.apply(row, chunk, offset);
+        }
+    }
+
+    /**
+     * Задача параллельной обработки отрезка строк.
+     */
+    protected class RowTask extends RecursiveAction {
+        private final RowAction action;
+        private final long from;
+        private final long to;
+
+        RowTask(RowAction action, long from, long to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from) * dimension < PARALLEL_THRESHOLD) {
+                forEachRow(action, from, to);
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new RowTask(action, from, middle), new RowTask(action, middle, to));
+        }
+    }
+
+    /**
+     * Приведение всех строк матрицы к нормальной форме.
+     *
+     * @return Эта же матрица.
+     */
+    public VectorMatrix normalizeRows() {
+        DoubleArrayKernels kernels = DoubleArrayKernels.get();
+        return forEachRow((row, array, offset) -> kernels.divide(array, offset, dimension, Math.sqrt(kernels.sumOfSquares(array, offset, dimension))));
+    }
+
+    /**
+     * Вычисление расстояний от строк матрицы до вектора.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param query Вектор, расстояния до которого будут вычислены
+     * @return Массив расстояний, значение с индексом i — расстояние от строки i.
+     * @throws IllegalStateException Если строк больше, чем помещается в массив
+     */
+    public double[] rowDistances(Vector query) {
+        return rowDistances(query, 0, new double[resultLength()]);
+    }
+
+    /**
+     * Вычисление расстояний от строк матрицы, начиная с fromRow, до вектора.
+     * Вычисляется не более result.length расстояний.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param query   Вектор, расстояния до которого будут вычислены
+     * @param fromRow Индекс первой строки
+     * @param result  Массив, значение с индексом i которого будет расстоянием от строки fromRow + i
+     * @return Массив result.
+     */
+    public double[] rowDistances(Vector query, long fromRow, double[] result) {
+        double[] values = queryValues(query);
+        DoubleArrayKernels kernels = DoubleArrayKernels.get();
+        return forRows(fromRow, result, (row, array, offset) -> result[(int) (row - fromRow)] =
+                Math.sqrt(kernels.sumOfSquaresOfDifferences(array, offset, values, 0, dimension)));
+    }
+
+    /**
+     * Вычисление скалярных произведений строк матрицы на вектор.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param query Вектор, на который будут умножены строки
+     * @return Массив скалярных произведений, значение с индексом i — произведение строки i.
+     * @throws IllegalStateException Если строк больше, чем помещается в массив
+     */
+    public double[] rowDots(Vector query) {
+        return rowDots(query, 0, new double[resultLength()]);
+    }
+
+    /**
+     * Вычисление скалярных произведений строк матрицы, начиная с fromRow, на вектор.
+     * Вычисляется не более result.length произведений.
+     * Если у векторов совпадают не все индексы значений, то значения по таким индексам будут взяты за 0.
+     *
+     * @param query   Вектор, на который будут умножены строки
+     * @param fromRow Индекс первой строки
+     * @param result  Массив, значение с индексом i которого будет произведением строки fromRow + i
+     * @return Массив result.
+     */
+    public double[] rowDots(Vector query, long fromRow, double[] result) {
+        double[] values = queryValues(query);
+        DoubleArrayKernels kernels = DoubleArrayKernels.get();
+        return forRows(fromRow, result, (row, array, offset) -> result[(int) (row - fromRow)] =
+                kernels.dot(array, offset, values, 0, dimension));
+    }
+
+    /**
+     * Выполнение действия над строками, результаты для которых помещаются в массив.
+     *
+     * @param fromRow Индекс первой строки
+     * @param result  Массив результатов
+     * @param action  Действие
+     * @return Массив result.
+     */
+    protected double[] forRows(long fromRow, double[] result, RowAction action) {
+        Objects.checkIndex(fromRow, rowCount + 1);
+        execute(action, fromRow, fromRow + Math.min(result.length, rowCount - fromRow));
+        return result;
+    }
+
+    /**
+     * Получение длины массива результатов для всех строк.
+     *
+     * @return Количество строк.
+     * @throws IllegalStateException Если строк больше, чем помещается в массив
+     */
+    protected int resultLength() {
+        if (rowCount > Integer.MAX_VALUE - 8) throw new IllegalStateException("Too many rows for one array: " + rowCount);
+        return (int) rowCount;
+    }
+
+    /**
+     * Запись значений вектора-запроса в массив размерности матрицы.
+     *
+     * @param query Вектор
+     * @return Массив значений.
+     */
+    protected double[] queryValues(Vector query) {
+        double[] values = new double[dimension];
+        if (query.getSize() == dimension) return query.copyTo(values, 0);
+        for (int axis = 0; axis < dimension; axis++) values[axis] = query.getIndexOrZero(axis);
+        return values;
+    }
+}
@@ -4,6 +4,21 @@ import org.junit.jupiter.api.Test;
 import ru.vladislav117.vectors.Axis;
 import ru.vladislav117.vectors.Vector1D;
 import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.FloatArrayVector;
+import ru.vladislav117.vectors.SparseVector;
+import ru.vladislav117.vectors.StridedArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector2F;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector3F;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector4F;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.HashSet;
+import java.util.List;
 
 public class ArrayVectorTests {
     public static final double zeroApprox = 1E-15;
@@ -153,6 +168,26 @@ public class ArrayVectorTests {
         assertVector(directionTo, -1 / Math.sqrt(3), -1 / Math.sqrt(3), -1 / Math.sqrt(3));
     }
 
+    @Test
+    public void testDifferentSizes() {
+        ArrayVector vector;
+
+        vector = new ArrayVector(new double[]{1, 2, 3});
+        vector.add(new ArrayVector(new double[]{1, 2}));
+        assertVector(vector, 2, 4, 3);
+
+        vector = new ArrayVector(new double[]{1, 2, 3});
+        vector.subtract(new ArrayVector(new double[]{1, 2, 3, 4}));
+        assertVector(vector, 0, 0, 0);
+
+        vector = new ArrayVector(new double[]{1, 2, 3});
+        Assertions.assertEquals(3, vector.distance(new ArrayVector(new double[]{1, 2})));
+        Assertions.assertEquals(Math.sqrt(14), vector.distance(new ArrayVector(0)));
+
+        vector = new ArrayVector(new double[]{1, 2, 3});
+        assertVector(vector.vectorTo(new ArrayVector(new double[]{2, 4})), 1, 2, -3);
+    }
+
     @Test
     public void testNormalization() {
         ArrayVector vector;
@@ -181,4 +216,101 @@ public class ArrayVectorTests {
         Assertions.assertNotEquals(vector, other2);
         Assertions.assertNotEquals(vector, other1D);
     }
+
+    @Test
+    public void testWrap() {
+        double[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        ArrayVector row = ArrayVector.wrap(data, 3, 3);
+        assertVector(row, 4, 5, 6);
+        Assertions.assertEquals(3, row.getSize());
+        Assertions.assertThrows(VectorIndexError.class, () -> row.getIndex(3));
+
+        row.multiple(2);
+        Assertions.assertEquals(3, data[2]);
+        Assertions.assertEquals(8, data[3]);
+        Assertions.assertEquals(12, data[5]);
+        Assertions.assertEquals(7, data[6]);
+        data[4] = 0;
+        assertVector(row, 8, 0, 12);
+
+        ArrayVector copy = row.clone();
+        copy.setIndex(0, 100);
+        Assertions.assertEquals(8, data[3]);
+        Assertions.assertEquals(new Vector3D(8, 0, 12), copy.setIndex(0, 8));
+
+        ArrayVector first = ArrayVector.wrap(data, 0, 3);
+        first.add(row);
+        assertVector(first, 9, 2, 15);
+        Assertions.assertEquals(Math.sqrt(1 + 4 + 9), first.distance(ArrayVector.wrap(data, 0, 3).clone().subtract(new Vector3D(1, 2, 3))));
+        Assertions.assertEquals(new ArrayVector(new double[]{8, 0, 12}), row);
+        Assertions.assertEquals(new ArrayVector(new double[]{8, 0, 12}).hashCode(), row.hashCode());
+        Assertions.assertEquals(new Vector3D(8, 0, 12).hashCode(), row.hashCode());
+
+        ArrayVector direction = ArrayVector.wrap(data, 6, 3);
+        row.vectorTo(ArrayVector.wrap(data, 0, 3), direction);
+        assertVector(direction, 1, 2, 3);
+        assertVector(row, 8, 0, 12);
+
+        SparseVector sparse = new SparseVector(3).setIndex(1, 2);
+        row.add(sparse);
+        assertVector(row, 8, 2, 12);
+        Assertions.assertEquals(new SparseVector(3).set(row), row);
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ArrayVector.wrap(data, 7, 3));
+        Assertions.assertArrayEquals(new double[]{0, 8, 2, 12}, row.copyTo(new double[4], 1));
+    }
+
+    @Test
+    public void testStridedWrap() {
+        double[] data = {1, 2, 3, 4, 5, 6};
+        StridedArrayVector column = ArrayVector.wrap(data, 1, 3, 2);
+        Assertions.assertEquals(3, column.getSize());
+        Assertions.assertEquals(2, column.getIndex(0));
+        Assertions.assertEquals(6, column.getIndex(2));
+
+        column.add(new Vector3D(10, 20, 30));
+        Assertions.assertArrayEquals(new double[]{1, 12, 3, 24, 5, 36}, data);
+        Assertions.assertEquals(new Vector3D(12, 24, 36), column);
+        Assertions.assertEquals(new Vector3D(12, 24, 36).hashCode(), column.hashCode());
+        Assertions.assertEquals(column, new ArrayVector(new double[]{12, 24, 36}));
+
+        StridedArrayVector copy = column.clone();
+        copy.multiple(0);
+        Assertions.assertEquals(12, data[1]);
+        Assertions.assertEquals(1, copy.getStride());
+
+        ArrayVector.wrap(data, 0, 3, 2).set(ArrayVector.wrap(data, 1, 3, 2));
+        Assertions.assertArrayEquals(new double[]{12, 12, 24, 24, 36, 36}, data);
+        Assertions.assertEquals(0, column.distance(ArrayVector.wrap(data, 0, 3, 2)));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ArrayVector.wrap(data, 1, 4, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArrayVector.wrap(data, 0, 3, 0));
+    }
+
+    @Test
+    public void testHashCodeConsistency() {
+        Assertions.assertEquals(new ArrayVector(new double[]{-0.5}).hashCode(), new Vector1D(-0.5).hashCode());
+        Assertions.assertEquals(new ArrayVector(new double[]{1, -2}).hashCode(), new Vector2D(1, -2).hashCode());
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2.5, 3}).hashCode(), new Vector3D(1, 2.5, 3).hashCode());
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2.5, 3}).hashCode(), new Vector3F(1, 2.5f, 3).hashCode());
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 3, 4}).hashCode(), new Vector4D(1, 2, 3, 4).hashCode());
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 3, 4, 1e9}).hashCode(), new Vector5D(1, 2, 3, 4, 1e9).hashCode());
+        Assertions.assertNotEquals(new Vector3D(1, 2, 3).hashCode(), new Vector3D(3, 2, 1).hashCode());
+
+        List<Vector> negativeZeros = List.of(
+                new Vector1D(-0.0), new Vector2D(-0.0, 1), new Vector3D(1, -0.0, 2), new Vector4D(-0.0, -0.0, 1, 2),
+                new Vector5D(1, 2, 3, 4, -0.0), new Vector2F(-0.0f, 1), new Vector3F(1, -0.0f, 2), new Vector4F(-0.0f, -0.0f, 1, 2),
+                new ArrayVector(new double[]{-0.0, 1}), ArrayVector.wrap(new double[]{-0.0, 5, 1, 5}, 0, 2, 2),
+                new FloatArrayVector(new float[]{-0.0f, 1}), new SparseVector(2, new int[]{0, 1}, new double[]{-0.0, 1}));
+        for (Vector vector : negativeZeros) {
+            double[] values = vector.copyTo(new double[vector.getSize()], 0);
+            for (int axis = 0; axis < values.length; axis++) values[axis] += 0.0;
+            ArrayVector positiveZeros = new ArrayVector(values);
+            String name = vector.getClass().getSimpleName();
+            Assertions.assertEquals(positiveZeros, vector, name);
+            Assertions.assertEquals(positiveZeros.hashCode(), vector.hashCode(), name);
+            Assertions.assertEquals(1, new HashSet<>(List.of(vector, positiveZeros)).size(), name);
+        }
+        Assertions.assertEquals(new SparseVector(2, new int[]{1}, new double[]{1}).hashCode(), new SparseVector(2, new int[]{0, 1}, new double[]{-0.0, 1}).hashCode());
+    }
 }
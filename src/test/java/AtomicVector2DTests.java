@@ -0,0 +1,33 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.concurrent.AtomicVector2D;
+
+public class AtomicVector2DTests {
+    @Test
+    public void testOperations() {
+        AtomicVector2D vector = new AtomicVector2D(new Vector3D(1, 2, 3));
+        Assertions.assertEquals(new Vector2D(1, 2), vector.get());
+        Assertions.assertEquals(new Vector2D(0, 4), vector.addAndGet(-1, 2));
+        Vector2D destination = new Vector2D();
+        Assertions.assertSame(destination, vector.addAndGet(1, 1, destination));
+        Assertions.assertEquals(new Vector2D(1, 5), destination);
+        Assertions.assertEquals(new Vector2D(0, 0), vector.set(new Vector2D()).get());
+    }
+
+    @Test
+    public void testConcurrentAccumulation() throws InterruptedException {
+        AtomicVector2D vector = new AtomicVector2D();
+        Thread[] threads = new Thread[4];
+        for (int thread = 0; thread < threads.length; thread++) {
+            threads[thread] = new Thread(() -> {
+                Vector2D summand = new Vector2D(1, -1);
+                for (int addition = 0; addition < 100_000; addition++) vector.accumulate(summand);
+            });
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        Assertions.assertEquals(new Vector2D(400_000, -400_000), vector.get());
+    }
+}
@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.concurrent.AtomicVector3D;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AtomicVector3DTests {
+    @Test
+    public void testOperations() {
+        AtomicVector3D vector = new AtomicVector3D(new Vector2D(1, 2));
+        Assertions.assertEquals(new Vector3D(1, 2, 0), vector.get());
+        Assertions.assertEquals(new Vector3D(2, 4, 3), vector.addAndGet(1, 2, 3));
+        vector.accumulate(new Vector3D(1, 1, 1));
+        Assertions.assertEquals(3, vector.getX());
+        Assertions.assertEquals(5, vector.getY());
+        Assertions.assertEquals(4, vector.getZ());
+        Vector3D destination = new Vector3D();
+        Assertions.assertSame(destination, vector.get(destination));
+        Assertions.assertEquals(new Vector3D(3, 5, 4), destination);
+        Assertions.assertEquals(new Vector3D(-1, -2, -3), vector.set(-1, -2, -3).get());
+        Assertions.assertEquals(new Vector3D(0, 0, 0), vector.addAndGet(new Vector3D(1, 2, 3)));
+    }
+
+    @Test
+    public void testConcurrentAccumulation() throws InterruptedException {
+        AtomicVector3D vector = new AtomicVector3D();
+        int threadCount = 4, additions = 100_000;
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        Thread[] threads = new Thread[threadCount + 1];
+        for (int thread = 0; thread < threadCount; thread++) {
+            threads[thread] = new Thread(() -> {
+                for (int addition = 0; addition < additions; addition++) vector.accumulate(1, 2, 3);
+            });
+        }
+        threads[threadCount] = new Thread(() -> {
+            Vector3D snapshot = new Vector3D();
+            for (int read = 0; read < 10_000; read++) {
+                vector.get(snapshot);
+                if (snapshot.getY() != snapshot.getX() * 2 || snapshot.getZ() != snapshot.getX() * 3) consistent.set(false);
+            }
+        });
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        Assertions.assertTrue(consistent.get());
+        Assertions.assertEquals(new Vector3D(threadCount * additions, threadCount * additions * 2.0, threadCount * additions * 3.0), vector.get());
+    }
+
+    @Test
+    @Timeout(60)
+    public void testSnapshotProgressUnderContention() throws InterruptedException {
+        AtomicVector3D vector = new AtomicVector3D();
+        int writerCount = 16, additions = 50_000;
+        Thread[] writers = new Thread[writerCount];
+        for (int thread = 0; thread < writerCount; thread++) {
+            writers[thread] = new Thread(() -> {
+                for (int addition = 0; addition < additions; addition++) vector.accumulate(1, 2, 3);
+            });
+            writers[thread].start();
+        }
+        Vector3D snapshot = new Vector3D();
+        try {
+            for (int read = 0; read < 200; read++) {
+                vector.get(snapshot);
+                Assertions.assertEquals(snapshot.getX() * 2, snapshot.getY());
+                Assertions.assertEquals(snapshot.getX() * 3, snapshot.getZ());
+            }
+        } finally {
+            for (Thread writer : writers) writer.join();
+        }
+        Assertions.assertEquals(new Vector3D(writerCount * additions, writerCount * additions * 2.0, writerCount * additions * 3.0), vector.get());
+    }
+}
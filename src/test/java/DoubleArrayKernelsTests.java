@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.kernel.DoubleArrayKernels;
+
+import java.util.Random;
+
+public class DoubleArrayKernelsTests {
+    public static final double accuracy = 1E-9;
+
+    protected double[] randomArray(int size, long seed) {
+        Random random = new Random(seed);
+        double[] array = new double[size];
+        for (int index = 0; index < size; index++) array[index] = random.nextDouble() * 2 - 1;
+        return array;
+    }
+
+    protected void assertKernels(DoubleArrayKernels kernels) {
+        for (int size : new int[]{0, 1, 3, 7, 8, 17, 768, 1029}) {
+            double[] first = randomArray(size + 2, size);
+            double[] second = randomArray(size + 1, size + 1);
+
+            double[] expected = first.clone();
+            for (int index = 0; index < size; index++) expected[index + 2] += second[index + 1];
+            double[] actual = first.clone();
+            kernels.add(actual, 2, second, 1, size);
+            Assertions.assertArrayEquals(expected, actual);
+
+            expected = first.clone();
+            for (int index = 0; index < size; index++) expected[index + 2] -= second[index + 1];
+            actual = first.clone();
+            kernels.subtract(actual, 2, second, 1, size);
+            Assertions.assertArrayEquals(expected, actual);
+
+            expected = first.clone();
+            for (int index = 0; index < size; index++) expected[index + 1] *= 3;
+            actual = first.clone();
+            kernels.multiple(actual, 1, size, 3);
+            Assertions.assertArrayEquals(expected, actual);
+
+            expected = first.clone();
+            for (int index = 0; index < size; index++) expected[index + 1] /= 3;
+            actual = first.clone();
+            kernels.divide(actual, 1, size, 3);
+            Assertions.assertArrayEquals(expected, actual);
+
+            double sumOfSquares = 0;
+            double sumOfSquaresOfDifferences = 0;
+            double dot = 0;
+            for (int index = 0; index < size; index++) {
+                sumOfSquares += first[index + 2] * first[index + 2];
+                sumOfSquaresOfDifferences += (first[index + 2] - second[index + 1]) * (first[index + 2] - second[index + 1]);
+                dot += first[index + 2] * second[index + 1];
+            }
+            Assertions.assertEquals(sumOfSquares, kernels.sumOfSquares(first, 2, size), accuracy);
+            Assertions.assertEquals(sumOfSquaresOfDifferences, kernels.sumOfSquaresOfDifferences(first, 2, second, 1, size), accuracy);
+            Assertions.assertEquals(dot, kernels.dot(first, 2, second, 1, size), accuracy);
+        }
+    }
+
+    @Test
+    public void testScalar() {
+        assertKernels(DoubleArrayKernels.scalar());
+    }
+
+    @Test
+    public void testSimd() {
+        if (!DoubleArrayKernels.isSimdAvailable()) return;
+        assertKernels(DoubleArrayKernels.simd());
+    }
+
+    @Test
+    public void testSelection() {
+        Assertions.assertNotNull(DoubleArrayKernels.get());
+        if (!Boolean.getBoolean(DoubleArrayKernels.SIMD_PROPERTY)) {
+            Assertions.assertSame(DoubleArrayKernels.scalar(), DoubleArrayKernels.get());
+        }
+    }
+}
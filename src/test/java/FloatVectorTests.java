@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.FloatArrayVector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector2F;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector3F;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector4F;
+
+public class FloatVectorTests {
+    public static final double delta = 1E-6;
+
+    @Test
+    public void testVector3F() {
+        Vector3F vector = new Vector3F(1, 2, 3);
+        Assertions.assertEquals(3, vector.getSize());
+        Assertions.assertEquals(2f, vector.getY());
+        vector.add(new Vector3F(1, 1, 1)).subtract(new Vector3D(0.5, 0.5, 0.5)).multiple(2);
+        Assertions.assertEquals(new Vector3F(3, 5, 7), vector);
+        vector.setIndex(0, 0.1);
+        Assertions.assertEquals(0.1f, vector.getX());
+        Assertions.assertEquals(Math.sqrt(2), new Vector3F(1, 1, 0).distance(new Vector3D(0, 0, 0)), delta);
+        Assertions.assertEquals(5, new Vector3F(0, 3, 4).length(), delta);
+        Assertions.assertEquals(new Vector3F(0, 0.6f, 0.8f), new Vector3F(0, 3, 4).toNormalized());
+        Assertions.assertEquals(new Vector3F(1, 1, 1), new Vector3F(1, 2, 3).vectorTo(new Vector3D(2, 3, 4)));
+        Vector3F destination = new Vector3F();
+        Assertions.assertSame(destination, new Vector3F(1, 1, 1).directionTo(new Vector3F(1, 1, 3), destination));
+        Assertions.assertEquals(new Vector3F(0, 0, 1), destination);
+    }
+
+    @Test
+    public void testFloatDoubleInterop() {
+        Vector3D vector3D = new Vector3D(new Vector3F(1, 2, 3));
+        Assertions.assertEquals(new Vector3D(1, 2, 3), vector3D);
+        vector3D.add(new Vector3F(1, 1, 1));
+        Assertions.assertEquals(new Vector3D(2, 3, 4), vector3D);
+        Assertions.assertEquals(new Vector3D(2, 3, 4), new Vector3F(2, 3, 4));
+        Assertions.assertEquals(new Vector3F(2, 3, 4), new Vector3D(2, 3, 4));
+        Assertions.assertEquals(new Vector3D(2, 3, 4).hashCode(), new Vector3F(2, 3, 4).hashCode());
+        Assertions.assertEquals(1, new Vector3D(1, 2, 3).distance(new Vector3F(1, 2, 4)), delta);
+
+        Assertions.assertEquals(new Vector2F(1.5f, 2), new Vector2F(new Vector2D(1.5, 2)));
+        Assertions.assertEquals(new Vector2D(3, 4), new Vector2D(2, 3).add(new Vector2F(1, 1)));
+        Assertions.assertEquals(new Vector4D(0, 1, 2, 3), new Vector4D(1, 2, 3, 4).subtract(new Vector4F(1, 1, 1, 1)));
+        Assertions.assertEquals(new Vector4F(1, 2, 3, 4), new Vector4F().set(new Vector4D(1, 2, 3, 4)));
+    }
+
+    @Test
+    public void testVector2FAngles() {
+        Assertions.assertEquals(Math.PI / 2, new Vector2F(0, 1).angle(), delta);
+        Assertions.assertEquals(new Vector2D(0, 1).angleTo(new Vector2D(1, 0)), new Vector2F(0, 1).angleTo(new Vector2F(1, 0)), delta);
+    }
+
+    @Test
+    public void testFloatArrayVector() {
+        FloatArrayVector vector = new FloatArrayVector(new float[]{1, 2, 3});
+        vector.add(new FloatArrayVector(new float[]{1, 1})).add(new ArrayVector(new double[]{0, 0, 1})).multiple(0.5);
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 1.5, 2}), vector);
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 1.5, 2}).hashCode(), vector.hashCode());
+        Assertions.assertEquals(new FloatArrayVector(new float[]{0, 0.5f, 1}), vector.vectorTo(new ArrayVector(new double[]{1, 2, 3})));
+        Assertions.assertEquals(new FloatArrayVector(new float[]{-1, -0.5f, -2}), vector.vectorTo(new FloatArrayVector(new float[]{0, 1})));
+        Assertions.assertEquals(5, new FloatArrayVector(new float[]{3, 4}).length(), delta);
+        Assertions.assertEquals(5, new FloatArrayVector(new float[]{3, 4}).distance(new FloatArrayVector(new float[]{0})), delta);
+        Assertions.assertEquals(5, new ArrayVector(new double[]{3, 4}).distance(new FloatArrayVector(new float[]{0, 0, 0})), delta);
+        Assertions.assertEquals(new FloatArrayVector(new float[]{0.6f, 0.8f}), new FloatArrayVector(new float[]{3, 4}).toNormalized());
+
+        ArrayVector arrayVector = new ArrayVector(3).set(new FloatArrayVector(new float[]{1, 2}));
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 0}), arrayVector);
+        arrayVector.subtract(new FloatArrayVector(new float[]{1, 1, 1}));
+        Assertions.assertEquals(new ArrayVector(new double[]{0, 1, -1}), arrayVector);
+        Assertions.assertEquals(new FloatArrayVector(new float[]{0, 1, -1}), new FloatArrayVector(arrayVector));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> vector.toNormalized(new FloatArrayVector(2)));
+    }
+}
@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.search.HnswIndex;
+import ru.vladislav117.vectors.search.Metric;
+import ru.vladislav117.vectors.search.TopKSearcher;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class HnswIndexTests {
+    protected List<ArrayVector> randomVectors(int count, int dimension, long seed) {
+        Random random = new Random(seed);
+        List<ArrayVector> vectors = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            double[] values = new double[dimension];
+            for (int axis = 0; axis < dimension; axis++) values[axis] = random.nextGaussian();
+            vectors.add(new ArrayVector(values));
+        }
+        return vectors;
+    }
+
+    protected double recall(HnswIndex index, List<ArrayVector> vectors, List<ArrayVector> queries, int k) {
+        TopKSearcher searcher = new TopKSearcher(index.getMetric());
+        long[] expected = new long[k], actual = new long[k];
+        double[] scores = new double[k];
+        int found = 0;
+        for (ArrayVector query : queries) {
+            searcher.search(query, vectors, k, expected, scores);
+            int count = index.search(query, k, actual, scores);
+            for (int position = 0; position < count; position++) {
+                for (long id : expected) {
+                    if (id == actual[position]) found++;
+                }
+            }
+        }
+        return (double) found / (queries.size() * k);
+    }
+
+    @Test
+    public void testRecall() {
+        int dimension = 16, k = 10;
+        List<ArrayVector> vectors = randomVectors(3000, dimension, 1);
+        List<ArrayVector> queries = randomVectors(50, dimension, 2);
+        for (Metric metric : new Metric[]{Metric.L2, Metric.COSINE}) {
+            HnswIndex index = new HnswIndex(dimension, vectors.size(), metric, 12, 100);
+            Assertions.assertEquals(0, index.addAll(vectors));
+            Assertions.assertEquals(vectors.size(), index.getSize());
+            Assertions.assertTrue(recall(index, vectors, queries, k) >= 0.9);
+        }
+    }
+
+    @Test
+    public void testConcurrentAddAndSearch() throws Exception {
+        int dimension = 8, k = 5, threads = 4, perThread = 500;
+        List<ArrayVector> vectors = randomVectors(threads * perThread, dimension, 3);
+        HnswIndex index = new HnswIndex(dimension, vectors.size(), Metric.L2);
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int from = thread * perThread;
+                futures.add(executor.submit(() -> {
+                    for (int position = from; position < from + perThread; position++) index.add(vectors.get(position));
+                }));
+                futures.add(executor.submit(() -> {
+                    long[] indices = new long[k];
+                    double[] scores = new double[k];
+                    for (int query = 0; query < perThread; query++) {
+                        int count = index.search(vectors.get(query), k, indices, scores);
+                        for (int position = 1; position < count; position++) Assertions.assertTrue(scores[position - 1] <= scores[position]);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(vectors.size(), index.getSize());
+        List<ArrayVector> stored = new ArrayList<>();
+        for (int id = 0; id < index.getSize(); id++) stored.add(index.get(id));
+        Assertions.assertTrue(recall(index, stored, randomVectors(50, dimension, 4), k) >= 0.9);
+    }
+
+    @Test
+    public void testEdgeCases() {
+        HnswIndex index = new HnswIndex(2, 2, Metric.COSINE);
+        long[] indices = new long[3];
+        double[] scores = new double[3];
+        Assertions.assertEquals(0, index.search(new Vector2D(1, 0), 3, indices, scores));
+        Assertions.assertEquals(0, index.add(new Vector2D(2, 0)));
+        Assertions.assertEquals(1, index.add(new Vector2D(0, 3)));
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 0}), index.get(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> index.add(new Vector2D(1, 1)));
+        Assertions.assertEquals(2, index.search(new Vector2D(0, 5), 3, indices, scores));
+        Assertions.assertEquals(1, indices[0]);
+        Assertions.assertEquals(1, scores[0], 1E-9);
+        Assertions.assertEquals(0, scores[1], 1E-9);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HnswIndex(2, 10, Metric.L2, 1, 10));
+    }
+
+    protected WeakReference<HnswIndex> usedIndex(List<ArrayVector> vectors) {
+        HnswIndex index = new HnswIndex(8, vectors.size() + 1, Metric.L2);
+        index.addAll(vectors);
+        index.add(vectors.get(0));
+        index.search(vectors.get(1), 5, new long[5], new double[5]);
+        return new WeakReference<>(index);
+    }
+
+    @Test
+    public void testDroppedIndexIsCollectable() throws InterruptedException {
+        WeakReference<HnswIndex> reference = usedIndex(randomVectors(1000, 8, 5));
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(reference.get());
+    }
+}
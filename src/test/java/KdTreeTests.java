@@ -0,0 +1,106 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.spatial.KdTree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class KdTreeTests {
+    protected List<Vector3D> randomPoints(int count, long seed) {
+        Random random = new Random(seed);
+        List<Vector3D> points = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            points.add(new Vector3D(random.nextInt(100), random.nextInt(100), random.nextDouble() * 100));
+        }
+        return points;
+    }
+
+    @Test
+    public void testNearest() {
+        List<Vector3D> points = randomPoints(2000, 1);
+        KdTree tree = new KdTree(points);
+        Assertions.assertEquals(2000, tree.getSize());
+        Assertions.assertEquals(3, tree.getDimension());
+
+        Random random = new Random(2);
+        int[] indices = new int[10];
+        double[] distances = new double[10];
+        for (int query = 0; query < 50; query++) {
+            Vector3D target = new Vector3D(random.nextDouble() * 100, random.nextDouble() * 100, random.nextDouble() * 100);
+            double[] expected = points.stream().mapToDouble(point -> point.distance(target)).sorted().limit(10).toArray();
+            Assertions.assertEquals(10, tree.nearest(target, 10, indices, distances));
+            Assertions.assertArrayEquals(expected, distances, 1E-12);
+            for (int index = 0; index < 10; index++) {
+                Assertions.assertEquals(distances[index], points.get(indices[index]).distance(target), 1E-12);
+            }
+            Assertions.assertEquals(expected[0], points.get(tree.nearest(target)).distance(target), 1E-12);
+        }
+    }
+
+    @Test
+    public void testRadiusAndBox() {
+        List<Vector3D> points = randomPoints(3000, 3);
+        KdTree tree = new KdTree(points);
+        Vector3D center = new Vector3D(50, 50, 50);
+
+        int[] found = tree.withinRadius(center, 20);
+        Arrays.sort(found);
+        int[] expected = new int[points.size()];
+        int count = 0;
+        for (int index = 0; index < points.size(); index++) {
+            if (points.get(index).distance(center) <= 20) expected[count++] = index;
+        }
+        Assertions.assertArrayEquals(Arrays.copyOf(expected, count), found);
+
+        found = tree.withinBox(new Vector3D(10, 20, 30), new Vector3D(40, 50, 60));
+        Arrays.sort(found);
+        count = 0;
+        for (int index = 0; index < points.size(); index++) {
+            Vector3D point = points.get(index);
+            if (point.getX() >= 10 && point.getX() <= 40 && point.getY() >= 20 && point.getY() <= 50 && point.getZ() >= 30 && point.getZ() <= 60) {
+                expected[count++] = index;
+            }
+        }
+        Assertions.assertArrayEquals(Arrays.copyOf(expected, count), found);
+
+        int[] truncated = new int[2];
+        Assertions.assertEquals(count, tree.withinBox(new double[]{10, 20, 30}, new double[]{40, 50, 60}, truncated));
+    }
+
+    @Test
+    public void testMixedVectors() {
+        List<Vector> points = List.of(new Vector2D(0, 0), new ArrayVector(new double[]{5, 5}), new Vector3D(1, 1, 7), new Vector2D(-3, 2));
+        KdTree tree = new KdTree(points, 2);
+        Assertions.assertEquals(2, tree.nearest(new Vector2D(1.2, 0.9)));
+        Assertions.assertEquals(1, tree.nearest(new ArrayVector(new double[]{4, 4})));
+        Assertions.assertEquals(4, tree.nearest(new Vector2D(), 10, new int[10], new double[10]));
+    }
+
+    @Test
+    public void testParallelBuild() {
+        int count = KdTree.PARALLEL_THRESHOLD * 2 + 17;
+        Random random = new Random(4);
+        double[] coordinates = new double[count * 2];
+        for (int index = 0; index < coordinates.length; index++) coordinates[index] = random.nextDouble();
+        KdTree tree = new KdTree(coordinates, 2);
+        double[] query = {0.5, 0.5};
+        int nearest = -1;
+        double best = Double.MAX_VALUE;
+        for (int index = 0; index < count; index++) {
+            double distance = new Vector2D(coordinates[index * 2], coordinates[index * 2 + 1]).distance(new Vector2D(0.5, 0.5));
+            if (distance < best) {
+                best = distance;
+                nearest = index;
+            }
+        }
+        int[] indices = new int[1];
+        tree.nearest(query, 1, indices, new double[1]);
+        Assertions.assertEquals(nearest, indices[0]);
+    }
+}
@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.spatial.Octree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class OctreeTests {
+    protected int[] sorted(int[] result, int count) {
+        int[] found = Arrays.copyOf(result, count);
+        Arrays.sort(found);
+        return found;
+    }
+
+    @Test
+    public void testPutAndRemove() {
+        Octree octree = new Octree(new Vector3D(0, 0, 0), 10, 2, 8);
+        octree.put(0, new Vector3D(1, 1, 1));
+        octree.put(1, 2, 2, 2);
+        octree.put(2, -5, -5, -5);
+        octree.put(3, 100, 100, 100);
+        Assertions.assertEquals(4, octree.getSize());
+        Assertions.assertTrue(octree.contains(3));
+        Assertions.assertFalse(octree.contains(4));
+        Assertions.assertEquals(new Vector3D(-5, -5, -5), octree.get(2, new Vector3D()));
+
+        int[] result = new int[8];
+        Assertions.assertArrayEquals(new int[]{0, 1}, sorted(result, octree.queryBox(0, 0, 0, 3, 3, 3, result)));
+        Assertions.assertArrayEquals(new int[]{3}, sorted(result, octree.querySphere(100, 100, 101, 1, result)));
+        octree.put(1, -4, -5, -5);
+        Assertions.assertArrayEquals(new int[]{0}, sorted(result, octree.queryBox(0, 0, 0, 3, 3, 3, result)));
+        Assertions.assertArrayEquals(new int[]{1, 2}, sorted(result, octree.querySphere(-5, -5, -5, 1.5, result)));
+        Assertions.assertTrue(octree.remove(2));
+        Assertions.assertFalse(octree.remove(2));
+        Assertions.assertArrayEquals(new int[]{1}, sorted(result, octree.querySphere(-5, -5, -5, 1.5, result)));
+        Assertions.assertEquals(3, octree.getSize());
+        Assertions.assertEquals(3, octree.queryBox(-1000, -1000, -1000, 1000, 1000, 1000, new int[1]));
+    }
+
+    @Test
+    public void testFrustum() {
+        Octree octree = new Octree(new Vector3D(0, 0, 0), 16, 4, 8);
+        for (int id = 0; id < 32; id++) octree.put(id, id - 16, 0, 0);
+        // Пирамида вдоль оси x: 0 <= x <= 10, |y| <= x, |z| <= x.
+        double[] planes = {
+                1, 0, 0, 0,
+                -1, 0, 0, 10,
+                1, -1, 0, 0,
+                1, 1, 0, 0,
+                1, 0, -1, 0,
+                1, 0, 1, 0,
+        };
+        int[] result = new int[32];
+        int[] expected = new int[11];
+        for (int i = 0; i <= 10; i++) expected[i] = i + 16;
+        Assertions.assertArrayEquals(expected, sorted(result, octree.queryFrustum(planes, result)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> octree.queryFrustum(new double[3], result));
+    }
+
+    @Test
+    public void testRandomMoves() {
+        Random random = new Random(1);
+        int count = 3000;
+        Octree octree = new Octree(new Vector3D(0, 0, 0), 20, 8, 10);
+        double[][] points = new double[count][];
+        int[] result = new int[count];
+        for (int step = 0; step < 8; step++) {
+            for (int id = 0; id < count; id++) {
+                if (random.nextInt(10) == 0) {
+                    octree.remove(id);
+                    points[id] = null;
+                    continue;
+                }
+                if (points[id] != null && random.nextBoolean()) {
+                    for (int axis = 0; axis < 3; axis++) points[id][axis] += random.nextDouble() * 0.2 - 0.1;
+                } else {
+                    points[id] = new double[]{random.nextDouble() * 50 - 25, random.nextDouble() * 50 - 25, random.nextDouble() * 50 - 25};
+                }
+                octree.put(id, points[id][0], points[id][1], points[id][2]);
+            }
+            double x = random.nextDouble() * 20 - 10, y = random.nextDouble() * 20 - 10, z = random.nextDouble() * 20 - 10;
+            double radius = random.nextDouble() * 10;
+            List<Integer> sphere = new ArrayList<>();
+            List<Integer> box = new ArrayList<>();
+            for (int id = 0; id < count; id++) {
+                if (points[id] == null) continue;
+                double dx = points[id][0] - x, dy = points[id][1] - y, dz = points[id][2] - z;
+                if (dx * dx + dy * dy + dz * dz <= radius * radius) sphere.add(id);
+                if (Math.abs(dx) <= radius && Math.abs(dy) <= radius && Math.abs(dz) <= radius) box.add(id);
+            }
+            Assertions.assertArrayEquals(sphere.stream().mapToInt(Integer::intValue).toArray(), sorted(result, octree.querySphere(x, y, z, radius, result)));
+            Assertions.assertArrayEquals(box.stream().mapToInt(Integer::intValue).toArray(),
+                    sorted(result, octree.queryBox(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, result)));
+        }
+    }
+}
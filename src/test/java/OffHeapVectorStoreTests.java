@@ -0,0 +1,64 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.store.OffHeapVectorStore;
+import ru.vladislav117.vectors.store.OffHeapVectorView;
+
+public class OffHeapVectorStoreTests {
+    protected OffHeapVectorStore createStore() {
+        OffHeapVectorStore store = new OffHeapVectorStore(3, 3);
+        store.set(0, new Vector3D(1, 2, 3));
+        store.set(1, new ArrayVector(new double[]{4, 5, 6}));
+        store.set(2, 0, 7);
+        return store;
+    }
+
+    @Test
+    public void testGetters() {
+        OffHeapVectorStore store = createStore();
+        Assertions.assertEquals(3, store.getRowCount());
+        Assertions.assertEquals(3, store.getDimension());
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 3}), store.get(0));
+        Assertions.assertEquals(5, store.get(1, 1));
+        Assertions.assertEquals(new Vector3D(7, 0, 0), store.get(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.get(3));
+    }
+
+    @Test
+    public void testMath() {
+        OffHeapVectorStore store = createStore();
+        store.add(0, new Vector3D(1, 1, 1));
+        Assertions.assertEquals(new Vector3D(2, 3, 4), store.get(0));
+        store.subtract(0, store.view(1));
+        Assertions.assertEquals(new Vector3D(-2, -2, -2), store.get(0));
+        store.multiple(0, -2);
+        Assertions.assertEquals(new Vector3D(4, 4, 4), store.get(0));
+        store.divide(0, 4);
+        Assertions.assertEquals(new Vector3D(1, 1, 1), store.get(0));
+        Assertions.assertEquals(Math.sqrt(3), store.length(0));
+        Assertions.assertEquals(Math.sqrt(50), store.distance(0, 1));
+        Assertions.assertEquals(new Vector3D(4, 5, 6).distance(new Vector3D()), store.distance(1, new Vector3D()));
+
+        store.normalizeAll();
+        Assertions.assertEquals(new Vector3D(1, 0, 0), store.get(2));
+        Assertions.assertEquals(1, store.length(1), 1E-15);
+    }
+
+    @Test
+    public void testView() {
+        OffHeapVectorStore store = createStore();
+        OffHeapVectorView view = store.view(1);
+        Assertions.assertEquals(new Vector3D(4, 5, 6), view);
+        Assertions.assertEquals(new Vector3D(4, 5, 6).hashCode(), view.hashCode());
+
+        view.add(new Vector3D(1, 1, 1));
+        Assertions.assertEquals(new Vector3D(5, 6, 7), store.get(1));
+
+        ArrayVector copy = view.clone();
+        view.moveTo(0).setIndex(0, 10);
+        Assertions.assertEquals(new Vector3D(5, 6, 7), copy);
+        Assertions.assertEquals(10, store.get(0, 0));
+        Assertions.assertEquals(new Vector3D(-9, -1, -2), view.vectorTo(new Vector3D(1, 1, 1)));
+    }
+}
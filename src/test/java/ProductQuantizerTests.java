@@ -0,0 +1,80 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.search.Metric;
+import ru.vladislav117.vectors.search.ProductQuantizedIndex;
+import ru.vladislav117.vectors.search.ProductQuantizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ProductQuantizerTests {
+    public static final double accuracy = 1E-9;
+
+    protected List<ArrayVector> clusteredVectors(int count, double[][] centers, long seed) {
+        Random random = new Random(seed);
+        List<ArrayVector> vectors = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            double[] center = centers[index % centers.length];
+            double[] values = new double[center.length];
+            for (int axis = 0; axis < values.length; axis++) values[axis] = center[axis] + random.nextGaussian() * 0.01;
+            vectors.add(new ArrayVector(values));
+        }
+        return vectors;
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        double[][] centers = {{1, 2, 3, 4}, {-1, 0, 5, 5}, {0, 0, 0, 0}};
+        List<ArrayVector> vectors = clusteredVectors(300, centers, 1);
+        ProductQuantizer quantizer = new ProductQuantizer(4, 2, 3).train(vectors, 10, 7);
+        Assertions.assertTrue(quantizer.isTrained());
+        for (ArrayVector vector : vectors) {
+            byte[] codes = quantizer.encode(vector);
+            Assertions.assertEquals(2, codes.length);
+            Assertions.assertTrue(quantizer.decode(codes, 0).distance(vector) < 0.1);
+        }
+
+        double[] query = {0.5, 1, -2, 3};
+        double[] table = quantizer.lookupTable(query, Metric.L2, new double[6]);
+        byte[] codes = quantizer.encode(vectors.get(0));
+        ArrayVector decoded = quantizer.decode(codes, 0);
+        Assertions.assertEquals(-decoded.distanceSquared(new ArrayVector(query)), quantizer.key(table, codes, 0), accuracy);
+        quantizer.lookupTable(query, Metric.DOT, table);
+        Assertions.assertEquals(decoded.dot(new ArrayVector(query)), quantizer.key(table, codes, 0), accuracy);
+    }
+
+    @Test
+    public void testIndex() {
+        Random random = new Random(2);
+        double[][] centers = new double[16][8];
+        for (double[] center : centers) for (int axis = 0; axis < center.length; axis++) center[axis] = random.nextGaussian() * 10;
+        List<ArrayVector> vectors = clusteredVectors(2000, centers, 3);
+        ProductQuantizer quantizer = new ProductQuantizer(8, 4, 16).train(vectors, 15, 5);
+        List<ArrayVector> normalized = vectors.stream().map(vector -> vector.clone().normalize()).toList();
+        ProductQuantizer normalizedQuantizer = new ProductQuantizer(8, 4, 16).train(normalized, 15, 5);
+        for (Metric metric : Metric.values()) {
+            ProductQuantizedIndex index = new ProductQuantizedIndex(metric == Metric.COSINE ? normalizedQuantizer : quantizer, vectors.size(), metric);
+            Assertions.assertEquals(0, index.addAll(vectors));
+            long[] indices = new long[5];
+            double[] scores = new double[5];
+            for (int center = 0; center < centers.length; center++) {
+                Assertions.assertEquals(5, index.search(new ArrayVector(centers[center]), 5, indices, scores));
+                for (int position = 1; position < 5; position++) {
+                    Assertions.assertTrue(metric == Metric.L2 ? scores[position - 1] <= scores[position] : scores[position - 1] >= scores[position]);
+                }
+                if (metric == Metric.DOT) continue;
+                // Ближайшие по расстоянию и по направлению векторы принадлежат кластеру запроса.
+                for (long id : indices) Assertions.assertEquals(center, id % centers.length);
+            }
+        }
+
+        ProductQuantizedIndex index = new ProductQuantizedIndex(quantizer, 1, Metric.L2);
+        index.add(vectors.get(0));
+        Assertions.assertTrue(index.decode(0).distance(vectors.get(0)) < 0.1);
+        Assertions.assertThrows(IllegalStateException.class, () -> index.add(vectors.get(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ProductQuantizedIndex(new ProductQuantizer(8, 4, 16), 1, Metric.L2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ProductQuantizer(8, 3, 16));
+    }
+}
@@ -0,0 +1,150 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.ValueType;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.error.VectorIndexError;
+import ru.vladislav117.vectors.kernel.QuantizedArrayKernels;
+import ru.vladislav117.vectors.store.QuantizedArrayVector;
+import ru.vladislav117.vectors.store.QuantizedVectorStore;
+import ru.vladislav117.vectors.store.QuantizedVectorStore.Precision;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+public class QuantizedVectorStoreTests {
+    public static final double accuracy = 1E-9;
+
+    protected ArrayVector randomVector(int dimension, Random random) {
+        double[] values = new double[dimension];
+        for (int axis = 0; axis < dimension; axis++) values[axis] = random.nextGaussian();
+        return new ArrayVector(values);
+    }
+
+    protected void assertKernels(QuantizedArrayKernels kernels) {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 7, 8, 17, 768, 1029}) {
+            byte[] firstBytes = new byte[size + 2], secondBytes = new byte[size + 1];
+            short[] firstShorts = new short[size + 2], secondShorts = new short[size + 1];
+            random.nextBytes(firstBytes);
+            random.nextBytes(secondBytes);
+            for (int index = 0; index < size + 2; index++) firstShorts[index] = (short) random.nextInt();
+            for (int index = 0; index < size + 1; index++) secondShorts[index] = (short) random.nextInt();
+            if (size > 0) firstShorts[2] = secondShorts[1] = Short.MIN_VALUE;
+            long byteDot = 0, shortDot = 0;
+            double[] expectedBytes = new double[size + 1], expectedShorts = new double[size + 1];
+            for (int index = 0; index < size; index++) {
+                byteDot += firstBytes[index + 2] * secondBytes[index + 1];
+                shortDot += (long) firstShorts[index + 2] * secondShorts[index + 1];
+                expectedBytes[index + 1] = 0.5 + 0.25 * firstBytes[index + 2];
+                expectedShorts[index + 1] = 0.5 + 0.25 * firstShorts[index + 2];
+            }
+            Assertions.assertEquals(byteDot, kernels.dot(firstBytes, 2, secondBytes, 1, size));
+            Assertions.assertEquals(shortDot, kernels.dot(firstShorts, 2, secondShorts, 1, size));
+            double[] actual = new double[size + 1];
+            kernels.dequantize(firstBytes, 2, actual, 1, size, 0.5, 0.25);
+            Assertions.assertArrayEquals(expectedBytes, actual, accuracy);
+            kernels.dequantize(firstShorts, 2, actual, 1, size, 0.5, 0.25);
+            Assertions.assertArrayEquals(expectedShorts, actual, accuracy);
+        }
+        byte[] large = new byte[300_000];
+        Arrays.fill(large, Byte.MIN_VALUE);
+        Assertions.assertEquals(300_000L * 128 * 128, kernels.dot(large, 0, large, 0, large.length));
+    }
+
+    @Test
+    public void testKernels() {
+        assertKernels(QuantizedArrayKernels.scalar());
+        if (QuantizedArrayKernels.isSimdAvailable()) assertKernels(QuantizedArrayKernels.simd());
+    }
+
+    @Test
+    public void testStore() {
+        Random random = new Random(2);
+        int dimension = 33;
+        for (Precision precision : Precision.values()) {
+            QuantizedVectorStore store = new QuantizedVectorStore(20, dimension, precision);
+            ArrayVector[] vectors = new ArrayVector[20];
+            for (int row = 0; row < 20; row++) store.set(row, vectors[row] = randomVector(dimension, random));
+            for (int row = 0; row < 20; row++) {
+                ArrayVector restored = store.get(row);
+                for (int axis = 0; axis < dimension; axis++) {
+                    Assertions.assertEquals(vectors[row].getIndex(axis), restored.getIndex(axis), store.getScale(row) / 2 + accuracy);
+                    Assertions.assertEquals(restored.getIndex(axis), store.get(row, axis), accuracy);
+                }
+                Assertions.assertEquals(restored.lengthSquared(), store.lengthSquared(row), accuracy);
+                ArrayVector other = store.get((row + 1) % 20);
+                Assertions.assertEquals(restored.dot(other), store.dot(row, (row + 1) % 20), accuracy);
+                Assertions.assertEquals(restored.distanceSquared(other), store.distanceSquared(row, (row + 1) % 20), 1E-7);
+            }
+
+            ArrayVector query = randomVector(dimension, random);
+            QuantizedArrayVector quantizedQuery = new QuantizedArrayVector(query, precision);
+            double[] dots = store.rowDots(query, new double[20]);
+            double[] distances = store.rowDistancesSquared(query, new double[20]);
+            for (int row = 0; row < 20; row++) {
+                Assertions.assertEquals(store.get(row).dot(quantizedQuery.clone()), dots[row], 1E-7);
+                Assertions.assertEquals(store.view(row).distanceSquared(quantizedQuery), distances[row], 1E-7);
+                Assertions.assertEquals(vectors[row].dot(query), dots[row], precision == Precision.INT8 ? 0.5 : 0.01);
+            }
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.dot(0, new QuantizedVectorStore(1, dimension + 1, precision), 0));
+        }
+    }
+
+    @Test
+    public void testVector() {
+        QuantizedArrayVector vector = new QuantizedArrayVector(new Vector3D(-1, 0, 3), Precision.INT16);
+        Assertions.assertEquals(3, vector.getSize());
+        Assertions.assertEquals(-1, vector.getIndex(0), accuracy);
+        Assertions.assertEquals(3, vector.getIndex(2), accuracy);
+        Assertions.assertEquals(0, vector.getIndex(1), 1E-4);
+        Assertions.assertThrows(VectorIndexError.class, () -> vector.getIndex(3));
+        Assertions.assertEquals(0, vector.getIndexOrZero(3));
+
+        vector.setIndex(1, 5);
+        Assertions.assertEquals(5, vector.getIndex(1), accuracy);
+        vector.add(new Vector3D(1, 1, 1)).multiple(2);
+        Assertions.assertEquals(0, vector.getIndex(0), 1E-3);
+        Assertions.assertEquals(12, vector.getIndex(1), 1E-3);
+        Assertions.assertEquals(8, vector.getIndex(2), 1E-3);
+        Assertions.assertEquals(vector.clone(), vector);
+        Assertions.assertEquals(vector.hashCode(), new ArrayVector(vector.copyTo(new double[3], 0)).hashCode());
+        Assertions.assertEquals(1, vector.toNormalized().length(), accuracy);
+
+        QuantizedVectorStore store = new QuantizedVectorStore(2, 2, Precision.INT8);
+        store.view(0).set(new ArrayVector(new double[]{2, 2}));
+        Assertions.assertEquals(2, store.get(0, 1));
+        Assertions.assertEquals(8, store.view(0).dot(new ArrayVector(new double[]{2, 2})), accuracy);
+        Assertions.assertEquals(0, store.view(0).moveTo(1).length());
+    }
+
+    @Test
+    public void testBuffer() {
+        int dimension = 64;
+        ArrayVector source = randomVector(dimension, new Random(2));
+        for (Precision precision : Precision.values()) {
+            for (ValueType type : ValueType.values()) {
+                ByteBuffer buffer = source.writeTo(ByteBuffer.allocate(dimension * type.getBytes()), type).flip();
+                QuantizedVectorStore store = new QuantizedVectorStore(2, dimension, precision);
+                QuantizedArrayVector vector = store.view(0).readFrom(buffer, type);
+                Assertions.assertEquals(0, buffer.remaining());
+                double[] values = new ArrayVector(dimension).readFrom(buffer.flip(), type).copyTo(new double[dimension], 0);
+                store.copyFrom(1, values, 0);
+                Assertions.assertEquals(store.view(1), vector);
+                double halfStep = store.getScale(0) / 2 + accuracy;
+                for (int axis = 0; axis < dimension; axis++) Assertions.assertEquals(values[axis], vector.getIndex(axis), halfStep);
+
+                ByteBuffer written = vector.writeTo(ByteBuffer.allocate(dimension * type.getBytes()), type).flip();
+                Assertions.assertArrayEquals(vector.copyTo(new double[dimension], 0), new ArrayVector(dimension).readFrom(written, type).copyTo(new double[dimension], 0), 1E-6);
+                Assertions.assertThrows(BufferOverflowException.class, () -> vector.writeTo(ByteBuffer.allocate(type.getBytes()), type));
+                ByteBuffer small = ByteBuffer.allocate(type.getBytes());
+                Assertions.assertThrows(BufferUnderflowException.class, () -> vector.readFrom(small, type));
+                Assertions.assertEquals(type.getBytes(), small.remaining());
+                Assertions.assertEquals(store.view(1), vector);
+            }
+        }
+    }
+}
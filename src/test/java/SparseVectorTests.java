@@ -0,0 +1,86 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.SparseVector;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.error.VectorIndexError;
+
+import java.util.Random;
+
+public class SparseVectorTests {
+    public static final double delta = 1E-9;
+
+    protected SparseVector randomSparse(Random random, int size, int nonZeros) {
+        SparseVector vector = new SparseVector(size);
+        for (int i = 0; i < nonZeros; i++) vector.setIndex(random.nextInt(size), random.nextInt(21) - 10);
+        return vector;
+    }
+
+    protected ArrayVector dense(SparseVector vector) {
+        ArrayVector dense = new ArrayVector(vector.getSize());
+        for (int position = 0; position < vector.getNonZeroCount(); position++) {
+            dense.setIndex(vector.getNonZeroIndex(position), vector.getNonZeroValue(position));
+        }
+        return dense;
+    }
+
+    @Test
+    public void testIndexAccess() {
+        SparseVector vector = new SparseVector(1_000_000, new int[]{3, 10, 999_999}, new double[]{1, 0, 2});
+        Assertions.assertEquals(1_000_000, vector.getSize());
+        Assertions.assertEquals(2, vector.getNonZeroCount());
+        Assertions.assertEquals(2, vector.getIndex(999_999));
+        Assertions.assertEquals(0, vector.getIndex(4));
+        Assertions.assertEquals(0, vector.getIndexOrZero(-1));
+        Assertions.assertThrows(VectorIndexError.class, () -> vector.getIndex(1_000_000));
+        vector.setIndex(5, 7).addIndex(3, -1).multipleIndex(5, 2);
+        Assertions.assertEquals(2, vector.getNonZeroCount());
+        Assertions.assertEquals(5, vector.getNonZeroIndex(0));
+        Assertions.assertEquals(14, vector.getNonZeroValue(0));
+        Assertions.assertEquals(Math.sqrt(14 * 14 + 4), vector.length(), delta);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SparseVector(10, new int[]{2, 1}, new double[]{1, 1}));
+    }
+
+    @Test
+    public void testAgainstDense() {
+        Random random = new Random(3);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            int size = 1 + random.nextInt(60);
+            SparseVector first = randomSparse(random, size, random.nextInt(size + 1));
+            SparseVector second = randomSparse(random, 1 + random.nextInt(60), random.nextInt(20));
+            ArrayVector firstDense = dense(first);
+            ArrayVector secondDense = dense(second);
+
+            Assertions.assertEquals(firstDense.distance(secondDense), first.distance(second), delta);
+            Assertions.assertEquals(firstDense.distance(secondDense), first.distance(secondDense), delta);
+            Assertions.assertEquals(firstDense.distance(secondDense), firstDense.distance(second), delta);
+            Assertions.assertEquals(firstDense.hashCode(), first.hashCode());
+            Assertions.assertEquals(firstDense, first);
+            Assertions.assertEquals(first, firstDense);
+
+            Assertions.assertEquals(firstDense.clone().add(secondDense), first.clone().add(second));
+            Assertions.assertEquals(firstDense.clone().subtract(secondDense), first.clone().subtract(second));
+            Assertions.assertEquals(firstDense.clone().add(secondDense), first.clone().add(secondDense));
+            Assertions.assertEquals(firstDense.clone().subtract(secondDense), first.clone().subtract(secondDense));
+            Assertions.assertEquals(firstDense.clone().add(secondDense), firstDense.clone().add(second));
+            Assertions.assertEquals(firstDense.clone().subtract(secondDense), firstDense.clone().subtract(second));
+            Assertions.assertEquals(firstDense.clone().set(secondDense), first.clone().set(second));
+            Assertions.assertEquals(firstDense.clone().set(secondDense), first.clone().set(secondDense));
+            Assertions.assertEquals(firstDense.clone().set(secondDense), firstDense.clone().set(second));
+            Assertions.assertEquals(firstDense.vectorTo(secondDense), first.vectorTo(second));
+        }
+    }
+
+    @Test
+    public void testSelfOperations() {
+        SparseVector vector = new SparseVector(10, new int[]{1, 4}, new double[]{3, 4});
+        Assertions.assertEquals(new SparseVector(10, new int[]{1, 4}, new double[]{6, 8}), vector.clone().add(vector.clone()));
+        Assertions.assertEquals(0, vector.clone().subtract(vector).getNonZeroCount());
+        Assertions.assertEquals(new SparseVector(10, new int[]{1, 4}, new double[]{0.6, 0.8}), vector.toNormalized());
+        SparseVector destination = vector.clone();
+        vector.vectorTo(new Vector3D(0, 3, 0), destination);
+        Assertions.assertEquals(new SparseVector(10, new int[]{4}, new double[]{-4}), destination);
+        Assertions.assertEquals(0, vector.clone().multiple(0).getNonZeroCount());
+        Assertions.assertEquals(5, vector.distance(new Vector3D()), delta);
+    }
+}
@@ -0,0 +1,68 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.spatial.SpatialHashGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SpatialHashGridTests {
+    protected List<Integer> within(SpatialHashGrid grid, Vector3D center, double radius) {
+        List<Integer> found = new ArrayList<>();
+        grid.forEachWithin(center, radius, found::add);
+        found.sort(null);
+        return found;
+    }
+
+    @Test
+    public void testPutAndRemove() {
+        SpatialHashGrid grid = new SpatialHashGrid(2, 1);
+        grid.put(0, new Vector2D(0.5, 0.5));
+        grid.put(1, 1.5, 0.5);
+        grid.put(100, -3.2, 7);
+        Assertions.assertEquals(3, grid.getSize());
+        Assertions.assertTrue(grid.contains(100));
+        Assertions.assertFalse(grid.contains(2));
+        Assertions.assertEquals(-3.2, grid.get(100, Axis.X_INDEX));
+
+        Assertions.assertEquals(List.of(0, 1), within(grid, new Vector3D(1, 0.5, 0), 0.6));
+        grid.put(1, 10, 10);
+        Assertions.assertEquals(List.of(0), within(grid, new Vector3D(1, 0.5, 0), 0.6));
+        Assertions.assertTrue(grid.remove(0));
+        Assertions.assertFalse(grid.remove(0));
+        Assertions.assertEquals(List.of(), within(grid, new Vector3D(1, 0.5, 0), 0.6));
+        Assertions.assertEquals(2, grid.getSize());
+
+        grid.clear();
+        Assertions.assertEquals(0, grid.getSize());
+        Assertions.assertEquals(List.of(), within(grid, new Vector3D(10, 10, 0), 1));
+    }
+
+    @Test
+    public void testRandomMoves() {
+        Random random = new Random(1);
+        int count = 2000;
+        SpatialHashGrid grid = new SpatialHashGrid(3, 2.5);
+        Vector3D[] points = new Vector3D[count];
+        for (int step = 0; step < 5; step++) {
+            for (int id = 0; id < count; id++) {
+                if (random.nextInt(10) == 0) {
+                    grid.remove(id);
+                    points[id] = null;
+                    continue;
+                }
+                points[id] = new Vector3D(random.nextDouble() * 40 - 20, random.nextDouble() * 40 - 20, random.nextDouble() * 40 - 20);
+                grid.put(id, points[id]);
+            }
+            Vector3D center = new Vector3D(random.nextDouble() * 10, random.nextDouble() * 10, random.nextDouble() * 10);
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < count; id++) {
+                if (points[id] != null && points[id].distance(center) <= 6) expected.add(id);
+            }
+            Assertions.assertEquals(expected, within(grid, center, 6));
+        }
+    }
+}
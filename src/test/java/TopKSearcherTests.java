@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.search.Metric;
+import ru.vladislav117.vectors.search.TopKSearcher;
+import ru.vladislav117.vectors.store.OffHeapVectorStore;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class TopKSearcherTests {
+    public static final double accuracy = 1E-9;
+
+    protected List<ArrayVector> randomVectors(int count, int dimension, long seed) {
+        Random random = new Random(seed);
+        List<ArrayVector> vectors = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            double[] values = new double[dimension];
+            for (int axis = 0; axis < dimension; axis++) values[axis] = random.nextGaussian();
+            vectors.add(new ArrayVector(values));
+        }
+        return vectors;
+    }
+
+    protected double score(Metric metric, Vector vector, Vector query) {
+        return switch (metric) {
+            case COSINE -> vector.dot(query) / (vector.length() * query.length());
+            case DOT -> vector.dot(query);
+            case L2 -> vector.distance(query);
+        };
+    }
+
+    protected int[] expected(Metric metric, List<ArrayVector> vectors, Vector query, int k) {
+        Comparator<Integer> comparator = Comparator.comparingDouble(index -> score(metric, vectors.get(index), query));
+        if (metric != Metric.L2) comparator = comparator.reversed();
+        return IntStream.range(0, vectors.size()).boxed().sorted(comparator).limit(k).mapToInt(Integer::intValue).toArray();
+    }
+
+    protected void assertResults(Metric metric, List<ArrayVector> vectors, Vector query, int[] expected, int count, long[] indices, double[] scores) {
+        Assertions.assertEquals(expected.length, count);
+        for (int position = 0; position < count; position++) {
+            Assertions.assertEquals(expected[position], indices[position]);
+            Assertions.assertEquals(score(metric, vectors.get(expected[position]), query), scores[position], accuracy);
+        }
+    }
+
+    @Test
+    public void testSources() {
+        for (int count : new int[]{50, 20_000}) {
+            int dimension = 8, k = 10;
+            List<ArrayVector> vectors = randomVectors(count, dimension, count);
+            VectorMatrix matrix = new VectorMatrix(vectors, dimension);
+            OffHeapVectorStore store = new OffHeapVectorStore(count, dimension);
+            for (int row = 0; row < count; row++) store.set(row, vectors.get(row));
+            ArrayVector query = randomVectors(1, dimension, -1).get(0);
+            for (Metric metric : Metric.values()) {
+                TopKSearcher searcher = new TopKSearcher(metric);
+                int[] expected = expected(metric, vectors, query, k);
+                long[] indices = new long[k];
+                double[] scores = new double[k];
+                assertResults(metric, vectors, query, expected, searcher.search(query, vectors, k, indices, scores), indices, scores);
+                assertResults(metric, vectors, query, expected, searcher.search(query, matrix, k, indices, scores), indices, scores);
+                assertResults(metric, vectors, query, expected, searcher.search(query, store, k, indices, scores), indices, scores);
+            }
+        }
+    }
+
+    @Test
+    public void testEdgeCases() {
+        List<Vector3D> vectors = List.of(new Vector3D(1, 0, 0), new Vector3D(0, 2, 0), new Vector3D());
+        TopKSearcher searcher = new TopKSearcher(Metric.COSINE);
+        long[] indices = new long[5];
+        double[] scores = new double[5];
+        Assertions.assertEquals(3, searcher.search(new Vector3D(0, 1, 0), vectors, 5, indices, scores));
+        Assertions.assertEquals(1, indices[0]);
+        Assertions.assertEquals(1, scores[0], accuracy);
+        Assertions.assertEquals(0, scores[1]);
+        Assertions.assertEquals(0, scores[2]);
+        Assertions.assertEquals(0, searcher.search(new Vector3D(), vectors, 0, indices, scores));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> searcher.search(new Vector3D(), vectors, 6, indices, scores));
+
+        TopKSearcher l2 = new TopKSearcher(Metric.L2);
+        Assertions.assertEquals(1, l2.search(new Vector3D(0.9, 0, 0), vectors, 1, indices, scores));
+        Assertions.assertEquals(0, indices[0]);
+        Assertions.assertEquals(0.1, scores[0], accuracy);
+    }
+}
@@ -0,0 +1,58 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.collection.Vector2DIntMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class Vector2DIntMapTests {
+    @Test
+    public void testPutAndRemove() {
+        Vector2DIntMap map = new Vector2DIntMap(4);
+        Assertions.assertEquals(Vector2DIntMap.NO_VALUE, map.put(new Vector2D(1, 2), 10));
+        Assertions.assertEquals(10, map.putIfAbsent(1, 2, 11));
+        Assertions.assertEquals(10, map.get(1, 2));
+        Assertions.assertTrue(map.containsKey(new Vector2D(1, 2)));
+        Assertions.assertEquals(Vector2DIntMap.NO_VALUE, map.get(2, 1));
+        Assertions.assertEquals(10, map.remove(new Vector2D(1, 2)));
+        Assertions.assertEquals(0, map.getSize());
+    }
+
+    @Test
+    public void testWelding() {
+        Random random = new Random(1);
+        Vector2DIntMap map = new Vector2DIntMap(0, 1e-6);
+        int[] indices = new int[10_000];
+        for (int point = 0; point < indices.length; point++) {
+            double x = point % 100, y = point / 100;
+            indices[point] = map.putIfAbsent(x, y, map.getSize());
+            if (indices[point] == Vector2DIntMap.NO_VALUE) indices[point] = map.getSize() - 1;
+        }
+        Assertions.assertEquals(indices.length, map.getSize());
+        for (int point = 0; point < indices.length; point++) {
+            double x = point % 100 + (random.nextDouble() - 0.5) * 1e-7, y = point / 100 + (random.nextDouble() - 0.5) * 1e-7;
+            Assertions.assertEquals(indices[point], map.get(x, y));
+        }
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(2);
+        Vector2DIntMap map = new Vector2DIntMap();
+        Map<Vector2D, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 100_000; step++) {
+            Vector2D key = new Vector2D(random.nextInt(200) * 0.5, random.nextInt(200) * 0.5);
+            if (random.nextBoolean()) {
+                Integer previous = expected.put(key, step);
+                Assertions.assertEquals(previous == null ? Vector2DIntMap.NO_VALUE : previous, map.put(key, step));
+            } else {
+                Integer removed = expected.remove(key);
+                Assertions.assertEquals(removed == null ? Vector2DIntMap.NO_VALUE : removed, map.remove(key));
+            }
+        }
+        Assertions.assertEquals(expected.size(), map.getSize());
+        map.forEach((x, y, value) -> Assertions.assertEquals((int) expected.get(new Vector2D(x, y)), value));
+    }
+}
@@ -0,0 +1,82 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.collection.Vector3DIntMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class Vector3DIntMapTests {
+    @Test
+    public void testPutAndRemove() {
+        Vector3DIntMap map = new Vector3DIntMap();
+        Assertions.assertEquals(Vector3DIntMap.NO_VALUE, map.put(1, 2, 3, 10));
+        Assertions.assertEquals(10, map.put(1, 2, 3, 11));
+        Assertions.assertEquals(11, map.putIfAbsent(new Vector3D(1, 2, 3), 12));
+        Assertions.assertEquals(Vector3DIntMap.NO_VALUE, map.putIfAbsent(new Vector2D(1, 2), 20));
+        Assertions.assertEquals(2, map.getSize());
+        Assertions.assertEquals(11, map.get(new Vector3D(1, 2, 3)));
+        Assertions.assertEquals(20, map.get(1, 2, 0));
+        Assertions.assertEquals(Vector3DIntMap.NO_VALUE, map.get(3, 2, 1));
+        Assertions.assertEquals(7, map.getOrDefault(3, 2, 1, 7));
+        Assertions.assertTrue(map.containsKey(1, 2, -0.0));
+        Assertions.assertFalse(map.containsKey(new Vector3D(1, 2, 3.5)));
+
+        Assertions.assertEquals(20, map.remove(1, 2, 0));
+        Assertions.assertEquals(Vector3DIntMap.NO_VALUE, map.remove(1, 2, 0));
+        Assertions.assertEquals(1, map.getSize());
+        map.clear();
+        Assertions.assertEquals(0, map.getSize());
+        Assertions.assertFalse(map.containsKey(1, 2, 3));
+    }
+
+    @Test
+    public void testEpsilon() {
+        Vector3DIntMap map = new Vector3DIntMap(0, 0.01);
+        Assertions.assertEquals(0.01, map.getEpsilon());
+        Assertions.assertEquals(Vector3DIntMap.NO_VALUE, map.putIfAbsent(1, 2, 3, map.getSize()));
+        Assertions.assertEquals(0, map.putIfAbsent(1.001, 1.999, 3.002, map.getSize()));
+        Assertions.assertEquals(Vector3DIntMap.NO_VALUE, map.putIfAbsent(1.02, 2, 3, map.getSize()));
+        Assertions.assertEquals(2, map.getSize());
+        double[] first = new double[3];
+        map.forEach((x, y, z, value) -> {
+            if (value == 0) {
+                first[0] = x;
+                first[1] = y;
+                first[2] = z;
+            }
+        });
+        Assertions.assertArrayEquals(new double[]{1, 2, 3}, first);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Vector3DIntMap(0, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Vector3DIntMap(-1));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(1);
+        Vector3DIntMap map = new Vector3DIntMap();
+        Map<Vector3D, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 200_000; step++) {
+            Vector3D key = new Vector3D(random.nextInt(40), random.nextInt(40), random.nextInt(40));
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                Integer previous = expected.put(key, step);
+                Assertions.assertEquals(previous == null ? Vector3DIntMap.NO_VALUE : previous, map.put(key, step));
+            } else if (operation == 1) {
+                Integer removed = expected.remove(key);
+                Assertions.assertEquals(removed == null ? Vector3DIntMap.NO_VALUE : removed, map.remove(key));
+            } else {
+                Assertions.assertEquals((int) expected.getOrDefault(key, Vector3DIntMap.NO_VALUE), map.get(key));
+            }
+        }
+        Assertions.assertEquals(expected.size(), map.getSize());
+        int[] count = {0};
+        map.forEach((x, y, z, value) -> {
+            Assertions.assertEquals((int) expected.get(new Vector3D(x, y, z)), value);
+            count[0]++;
+        });
+        Assertions.assertEquals(expected.size(), count[0]);
+    }
+}
@@ -3,6 +3,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import ru.vladislav117.vectors.Axis;
 import ru.vladislav117.vectors.Vector1D;
+import ru.vladislav117.vectors.Vector2D;
 import ru.vladislav117.vectors.Vector3D;
 
 public class Vector3DTests {
@@ -203,6 +204,23 @@ public class Vector3DTests {
         assertVector(directionTo, -1 / Math.sqrt(3), -1 / Math.sqrt(3), -1 / Math.sqrt(3));
     }
 
+    @Test
+    public void testProducts() {
+        Vector3D vector = new Vector3D(1, 2, 3);
+        Assertions.assertEquals(14, vector.lengthSquared());
+        Assertions.assertEquals(27, vector.distanceSquared(new Vector3D(4, 5, 6)));
+        Assertions.assertEquals(32, vector.dot(new Vector3D(4, 5, 6)));
+        Assertions.assertEquals(5, vector.dot(new Vector2D(1, 2)));
+
+        assertVector(new Vector3D(1, 0, 0).cross(new Vector3D(0, 1, 0)), 0, 0, 1);
+        assertVector(vector.cross(new Vector3D(4, 5, 6)), -3, 6, -3);
+        Vector3D destination = new Vector3D();
+        Assertions.assertSame(destination, vector.cross(new Vector2D(0, 1), destination));
+        assertVector(destination, -3, 0, 1);
+        vector.cross(new Vector3D(4, 5, 6), vector);
+        assertVector(vector, -3, 6, -3);
+    }
+
     @Test
     public void testNormalization() {
         Vector3D vector;
@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.concurrent.VectorAdder;
+
+public class VectorAdderTests {
+    @Test
+    public void testOperations() {
+        VectorAdder adder = new VectorAdder(3);
+        Assertions.assertEquals(3, adder.getDimension());
+        adder.add(1, 2, 3).add(new Vector2D(1, 1)).add(new double[]{0, 1, 1, 1}, 1);
+        Assertions.assertEquals(new ArrayVector(new double[]{3, 4, 4}), adder.sum());
+        Vector3D destination = new Vector3D(9, 9, 9);
+        Assertions.assertSame(destination, adder.sum(destination));
+        Assertions.assertEquals(new Vector3D(3, 4, 4), destination);
+        Assertions.assertArrayEquals(new double[]{0, 3, 4, 4}, adder.sum(new double[4], 1));
+        Assertions.assertEquals(new Vector3D(), adder.reset().sum(new Vector3D()));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> adder.add(1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> adder.sum(new double[3], 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VectorAdder(0));
+    }
+
+    @Test
+    @Timeout(10)
+    public void testFailingSummand() {
+        VectorAdder adder = new VectorAdder(3);
+        adder.add(1, 2, 3);
+        ArrayVector failing = new ArrayVector(new double[]{1, 1, 1}) {
+            @Override
+            public double getIndexOrZero(int index) {
+                if (index == 1) throw new IllegalStateException("Stale vector");
+                return super.getIndexOrZero(index);
+            }
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> adder.add(failing));
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 3}), adder.sum());
+        Assertions.assertEquals(new Vector3D(), adder.reset().sum(new Vector3D()));
+        Assertions.assertEquals(new Vector3D(1, 1, 1), adder.add(new Vector3D(1, 1, 1)).sum(new Vector3D()));
+    }
+
+    @Test
+    public void testLargeDimension() {
+        int dimension = 5000;
+        VectorAdder adder = new VectorAdder(dimension);
+        double[] values = new double[dimension];
+        for (int axis = 0; axis < dimension; axis++) values[axis] = axis;
+        adder.add(new ArrayVector(values)).add(new ArrayVector(values));
+        double[] sum = adder.sum(new double[dimension], 0);
+        for (int axis = 0; axis < dimension; axis++) Assertions.assertEquals(2.0 * axis, sum[axis]);
+    }
+
+    @Test
+    public void testConcurrentAddition() throws InterruptedException {
+        int dimension = 64, threadCount = 8, additions = 20_000;
+        VectorAdder adder = new VectorAdder(dimension);
+        Thread[] threads = new Thread[threadCount];
+        for (int thread = 0; thread < threadCount; thread++) {
+            threads[thread] = new Thread(() -> {
+                double[] values = new double[dimension];
+                for (int axis = 0; axis < dimension; axis++) values[axis] = axis;
+                ArrayVector vector = new ArrayVector(values);
+                for (int addition = 0; addition < additions; addition++) {
+                    if (addition % 2 == 0) adder.add(values);
+                    else adder.add(vector);
+                }
+            });
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        double[] sum = adder.sum(new double[dimension], 0);
+        for (int axis = 0; axis < dimension; axis++) Assertions.assertEquals((double) axis * threadCount * additions, sum[axis]);
+    }
+}
@@ -0,0 +1,183 @@
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.FloatArrayVector;
+import ru.vladislav117.vectors.SparseVector;
+import ru.vladislav117.vectors.StridedArrayVector;
+import ru.vladislav117.vectors.ValueType;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector1D;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector2F;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.collection.Vector3DIntMap;
+import ru.vladislav117.vectors.collection.VectorSet;
+import ru.vladislav117.vectors.concurrent.AtomicVector3D;
+import ru.vladislav117.vectors.concurrent.VectorAdder;
+import ru.vladislav117.vectors.store.OffHeapVectorStore;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class VectorAllocationTests {
+    public static final int warmupIterations = 20_000;
+    public static final int iterations = 100_000;
+
+    protected void assertNoAllocation(String name, Runnable action) {
+        ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) return;
+        for (int iteration = 0; iteration < warmupIterations; iteration++) action.run();
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int iteration = 0; iteration < iterations; iteration++) action.run();
+        long allocated = bean.getCurrentThreadAllocatedBytes() - before;
+        Assertions.assertTrue(allocated < iterations, name + " allocated " + allocated + " bytes in " + iterations + " calls");
+    }
+
+    @Test
+    public void testFixedVectors() {
+        Vector1D vector1D = new Vector1D(1), target1D = new Vector1D(3), destination1D = new Vector1D();
+        assertNoAllocation("Vector1D.vectorTo", () -> vector1D.vectorTo(target1D, destination1D));
+        assertNoAllocation("Vector1D.directionTo", () -> vector1D.directionTo(target1D, destination1D));
+        assertNoAllocation("Vector1D.toNormalized", () -> vector1D.toNormalized(destination1D));
+
+        Vector2D vector2D = new Vector2D(1, 2), target2D = new Vector2D(3, 5), destination2D = new Vector2D();
+        assertNoAllocation("Vector2D.vectorTo", () -> vector2D.vectorTo(target2D, destination2D));
+        assertNoAllocation("Vector2D.directionTo", () -> vector2D.directionTo(target2D, destination2D));
+        assertNoAllocation("Vector2D.toNormalized", () -> vector2D.toNormalized(destination2D));
+
+        Vector3D vector3D = new Vector3D(1, 2, 3), target3D = new Vector3D(3, 5, 7), destination3D = new Vector3D();
+        assertNoAllocation("Vector3D.vectorTo", () -> vector3D.vectorTo(target3D, destination3D));
+        assertNoAllocation("Vector3D.directionTo", () -> vector3D.directionTo(target3D, destination3D));
+        assertNoAllocation("Vector3D.toNormalized", () -> vector3D.toNormalized(destination3D));
+
+        Vector4D vector4D = new Vector4D(1, 2, 3, 4), target4D = new Vector4D(3, 5, 7, 9), destination4D = new Vector4D();
+        assertNoAllocation("Vector4D.vectorTo", () -> vector4D.vectorTo(target4D, destination4D));
+        assertNoAllocation("Vector4D.directionTo", () -> vector4D.directionTo(target4D, destination4D));
+        assertNoAllocation("Vector4D.toNormalized", () -> vector4D.toNormalized(destination4D));
+
+        Vector5D vector5D = new Vector5D(1, 2, 3, 4, 5), target5D = new Vector5D(3, 5, 7, 9, 11), destination5D = new Vector5D();
+        assertNoAllocation("Vector5D.vectorTo", () -> vector5D.vectorTo(target5D, destination5D));
+        assertNoAllocation("Vector5D.directionTo", () -> vector5D.directionTo(target5D, destination5D));
+        assertNoAllocation("Vector5D.toNormalized", () -> vector5D.toNormalized(destination5D));
+    }
+
+    @Test
+    public void testArrayVector() {
+        ArrayVector vector = new ArrayVector(new double[]{1, 2, 3, 4});
+        ArrayVector target = new ArrayVector(new double[]{3, 5, 7, 9});
+        ArrayVector destination = new ArrayVector(4);
+        Vector3D mixedTarget = new Vector3D(3, 5, 7);
+        assertNoAllocation("ArrayVector.vectorTo", () -> vector.vectorTo(target, destination));
+        assertNoAllocation("ArrayVector.vectorTo(Vector3D)", () -> vector.vectorTo(mixedTarget, destination));
+        assertNoAllocation("ArrayVector.directionTo", () -> vector.directionTo(target, destination));
+        assertNoAllocation("ArrayVector.toNormalized", () -> vector.toNormalized(destination));
+    }
+
+    @Test
+    public void testMixedTypes() {
+        Vector3D vector3D = new Vector3D(1, 2, 3);
+        Vector2D vector2D = new Vector2D(1, 1);
+        ArrayVector arrayVector = new ArrayVector(new double[]{1, 2, 3, 4});
+        assertNoAllocation("Vector3D.add(Vector2D)", () -> vector3D.add(vector2D));
+        assertNoAllocation("Vector3D.set(ArrayVector)", () -> vector3D.set(arrayVector));
+        assertNoAllocation("Vector3D.distance(ArrayVector)", () -> vector3D.distance(arrayVector));
+        assertNoAllocation("ArrayVector.add(Vector3D)", () -> arrayVector.add(vector3D));
+        assertNoAllocation("ArrayVector.equals(Vector3D)", () -> arrayVector.equals(vector3D));
+    }
+
+    @Test
+    public void testLargeOperands() {
+        int largeSize = 10_000;
+        Vector large = new OffHeapVectorStore(1, largeSize).view(0);
+        large.setIndex(largeSize - 1, 1);
+        ArrayVector arrayVector = new ArrayVector(4);
+        StridedArrayVector stridedVector = new StridedArrayVector(new double[8], 0, 4, 2);
+        FloatArrayVector floatVector = new FloatArrayVector(4);
+        SparseVector sparseVector = new SparseVector(4, new int[]{1}, new double[]{2});
+        assertNoAllocation("ArrayVector.set(large)", () -> arrayVector.set(large));
+        assertNoAllocation("ArrayVector.equals(large)", () -> arrayVector.equals(large));
+        assertNoAllocation("StridedArrayVector.set(large)", () -> stridedVector.set(large));
+        assertNoAllocation("StridedArrayVector.add(large)", () -> stridedVector.add(large));
+        assertNoAllocation("FloatArrayVector.set(large)", () -> floatVector.set(large));
+        assertNoAllocation("FloatArrayVector.dot(large)", () -> floatVector.dot(large));
+        assertNoAllocation("SparseVector.dot(large)", () -> sparseVector.dot(large));
+        assertNoAllocation("SparseVector.equals(large)", () -> sparseVector.equals(large));
+    }
+
+    @Test
+    public void testResults() {
+        Vector3D vector = new Vector3D(1, 2, 3);
+        Vector3D destination = new Vector3D();
+        Assertions.assertSame(destination, vector.vectorTo(new Vector3D(3, 5, 7), destination));
+        Assertions.assertEquals(new Vector3D(2, 3, 4), destination);
+        Assertions.assertEquals(vector.directionTo(new Vector2D(3, 5)), vector.directionTo(new Vector2D(3, 5), destination));
+        Assertions.assertEquals(vector.toNormalized(), vector.toNormalized(destination));
+        vector.vectorTo(new Vector3D(3, 5, 7), vector);
+        Assertions.assertEquals(new Vector3D(2, 3, 4), vector);
+
+        ArrayVector arrayVector = new ArrayVector(new double[]{1, 2, 3});
+        ArrayVector arrayDestination = new ArrayVector(3);
+        Assertions.assertEquals(new Vector3D(2, 3, -3), arrayVector.vectorTo(new ArrayVector(new double[]{3, 5}), arrayDestination));
+        Assertions.assertEquals(arrayVector.toNormalized(), arrayVector.toNormalized(arrayDestination));
+        arrayVector.vectorTo(new ArrayVector(new double[]{3, 5, 7}), arrayVector);
+        Assertions.assertEquals(new Vector3D(2, 3, 4), arrayVector);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> arrayVector.vectorTo(new Vector1D(), new ArrayVector(2)));
+    }
+
+    @Test
+    public void testSerialization() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024).order(ByteOrder.LITTLE_ENDIAN);
+        Vector3D vector3D = new Vector3D(1, 2, 3);
+        Vector5D vector5D = new Vector5D(1, 2, 3, 4, 5);
+        ArrayVector arrayVector = new ArrayVector(new double[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertNoAllocation("Vector3D.writeTo/readFrom", () -> vector3D.readFrom(vector3D.writeTo(buffer.clear(), ValueType.FLOAT).flip(), ValueType.FLOAT));
+        assertNoAllocation("Vector5D.writeTo/readFrom", () -> vector5D.readFrom(vector5D.writeTo(buffer.clear()).flip()));
+        assertNoAllocation("ArrayVector.writeTo/readFrom", () -> arrayVector.readFrom(arrayVector.writeTo(buffer.clear()).flip()));
+    }
+
+    @Test
+    public void testHashCode() {
+        Vector1D vector1D = new Vector1D(1);
+        Vector2D vector2D = new Vector2D(1, 2);
+        Vector3D vector3D = new Vector3D(1, 2, 3);
+        Vector4D vector4D = new Vector4D(1, 2, 3, 4);
+        Vector5D vector5D = new Vector5D(1, 2, 3, 4, 5);
+        Vector2F vector2F = new Vector2F(1, 2);
+        assertNoAllocation("Vector1D.hashCode", vector1D::hashCode);
+        assertNoAllocation("Vector2D.hashCode", vector2D::hashCode);
+        assertNoAllocation("Vector3D.hashCode", vector3D::hashCode);
+        assertNoAllocation("Vector4D.hashCode", vector4D::hashCode);
+        assertNoAllocation("Vector5D.hashCode", vector5D::hashCode);
+        assertNoAllocation("Vector2F.hashCode", vector2F::hashCode);
+    }
+
+    @Test
+    public void testVectorCollections() {
+        Vector3DIntMap map = new Vector3DIntMap(16, 1e-6);
+        VectorSet set = new VectorSet(3);
+        Vector3D vector3D = new Vector3D(1, 2, 3);
+        map.put(vector3D, 1);
+        set.add(vector3D);
+        assertNoAllocation("Vector3DIntMap.get", () -> map.get(1, 2, 3));
+        assertNoAllocation("Vector3DIntMap.putIfAbsent", () -> map.putIfAbsent(vector3D, 2));
+        assertNoAllocation("VectorSet.add", () -> set.add(vector3D));
+        assertNoAllocation("VectorSet.contains", () -> set.contains(vector3D));
+    }
+
+    @Test
+    public void testConcurrentAccumulators() {
+        AtomicVector3D atomicVector = new AtomicVector3D();
+        VectorAdder adder = new VectorAdder(3);
+        Vector3D vector3D = new Vector3D(1, 2, 3), destination = new Vector3D();
+        double[] values = {1, 2, 3};
+        assertNoAllocation("AtomicVector3D.accumulate", () -> atomicVector.accumulate(vector3D));
+        assertNoAllocation("AtomicVector3D.get", () -> atomicVector.get(destination));
+        assertNoAllocation("VectorAdder.add", () -> adder.add(values, 0));
+        assertNoAllocation("VectorAdder.add(Vector3D)", () -> adder.add(vector3D));
+        assertNoAllocation("VectorAdder.sum", () -> adder.sum(values, 0));
+    }
+}
@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Axis;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.buffer.Vector2DBuffer;
+import ru.vladislav117.vectors.buffer.Vector3DBuffer;
+import ru.vladislav117.vectors.buffer.Vector4DBuffer;
+import ru.vladislav117.vectors.buffer.Vector5DBuffer;
+import ru.vladislav117.vectors.buffer.VectorBuffer;
+import ru.vladislav117.vectors.buffer.VectorBufferCursor;
+
+public class VectorBufferTests {
+    protected Vector3DBuffer createBuffer() {
+        Vector3DBuffer buffer = new Vector3DBuffer(1);
+        buffer.append(1, 2, 3);
+        buffer.append(new Vector3D(4, 5, 6));
+        buffer.append(new ArrayVector(new double[]{7, 8}));
+        return buffer;
+    }
+
+    @Test
+    public void testAppend() {
+        Vector3DBuffer buffer = createBuffer();
+        Assertions.assertEquals(3, buffer.getSize());
+        Assertions.assertEquals(3, buffer.getDimension());
+        Assertions.assertTrue(buffer.getCapacity() >= 3);
+        Assertions.assertEquals(new Vector3D(1, 2, 3), buffer.get(0));
+        Assertions.assertEquals(new Vector3D(4, 5, 6), buffer.get(1));
+        Assertions.assertEquals(new Vector3D(7, 8, 0), buffer.get(2));
+        Assertions.assertEquals(5, buffer.getY(1));
+        Assertions.assertEquals(6, buffer.get(1, Axis.Z_INDEX));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+
+        buffer.clear();
+        Assertions.assertEquals(0, buffer.getSize());
+    }
+
+    @Test
+    public void testSetters() {
+        Vector3DBuffer buffer = createBuffer();
+        buffer.setX(0, 10);
+        buffer.set(1, Axis.Y_INDEX, 20);
+        buffer.set(2, new ArrayVector(new double[]{30, 40}));
+        Assertions.assertEquals(new Vector3D(10, 2, 3), buffer.get(0));
+        Assertions.assertEquals(new Vector3D(4, 20, 6), buffer.get(1));
+        Assertions.assertEquals(new Vector3D(30, 40, 0), buffer.get(2));
+    }
+
+    @Test
+    public void testMath() {
+        Vector3DBuffer buffer = createBuffer();
+        buffer.add(new Vector3D(1, 1, 1));
+        Assertions.assertEquals(new Vector3D(2, 3, 4), buffer.get(0));
+        buffer.subtract(new Vector2D(1, 1));
+        Assertions.assertEquals(new Vector3D(1, 2, 4), buffer.get(0));
+        buffer.multiple(2);
+        Assertions.assertEquals(new Vector3D(2, 4, 8), buffer.get(0));
+        buffer.divide(2);
+        Assertions.assertEquals(new Vector3D(1, 2, 4), buffer.get(0));
+
+        Vector3DBuffer other = createBuffer();
+        buffer.subtract(other);
+        Assertions.assertEquals(new Vector3D(0, 0, 1), buffer.get(0));
+        buffer.add(other);
+        Assertions.assertEquals(new Vector3D(1, 2, 4), buffer.get(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> other.add(new Vector3DBuffer()));
+    }
+
+    @Test
+    public void testCalculations() {
+        Vector3DBuffer buffer = createBuffer();
+        Vector3D target = new Vector3D(1, 1, 1);
+        double[] lengths = buffer.lengths(new double[buffer.getSize()]);
+        double[] distances = buffer.distances(target, new double[buffer.getSize()]);
+        for (int index = 0; index < buffer.getSize(); index++) {
+            Assertions.assertEquals(buffer.get(index).length(), lengths[index]);
+            Assertions.assertEquals(buffer.get(index).distance(target), distances[index]);
+            Assertions.assertEquals(buffer.get(index).distance(target), buffer.distance(index, target));
+        }
+        Assertions.assertEquals(Math.sqrt(27), buffer.distance(0, 1));
+
+        double[] pairDistances = buffer.distances(createBuffer().add(target), new double[3]);
+        Assertions.assertEquals(Math.sqrt(3), pairDistances[2]);
+
+        Vector3D expected = buffer.get(1).normalize();
+        buffer.normalize();
+        Assertions.assertEquals(expected, buffer.get(1));
+    }
+
+    @Test
+    public void testCursor() {
+        Vector3DBuffer buffer = createBuffer();
+        VectorBufferCursor cursor = buffer.cursor(0);
+        Assertions.assertEquals(new Vector3D(1, 2, 3), cursor);
+        Assertions.assertEquals(new Vector3D(1, 2, 3).hashCode(), cursor.hashCode());
+        Assertions.assertEquals(Math.sqrt(14), cursor.length());
+
+        cursor.moveTo(1).add(new Vector3D(1, 1, 1));
+        Assertions.assertEquals(new Vector3D(5, 6, 7), buffer.get(1));
+        Assertions.assertEquals(new Vector3D(-4, -5, -6), cursor.vectorTo(new Vector3D(1, 1, 1)));
+
+        Vector copy = cursor.clone();
+        cursor.setIndex(Axis.X_INDEX, 0);
+        Assertions.assertEquals(new Vector3D(5, 6, 7), copy);
+        Assertions.assertEquals(0, buffer.getX(1));
+    }
+
+    @Test
+    public void testSiblings() {
+        VectorBuffer[] buffers = {new Vector2DBuffer(), new Vector3DBuffer(), new Vector4DBuffer(), new Vector5DBuffer()};
+        Vector[] vectors = {new Vector2D(3, 4), new Vector3D(1, 2, 2), new Vector4D(1, 1, 1, 1), new Vector5D(1, 2, 3, 4, 5)};
+        for (int index = 0; index < buffers.length; index++) {
+            buffers[index].append(vectors[index]);
+            Assertions.assertEquals(vectors[index], buffers[index].get(0));
+            Assertions.assertEquals(vectors[index].length(), buffers[index].cursor(0).length());
+        }
+        Vector5DBuffer buffer5D = (Vector5DBuffer) buffers[3];
+        buffer5D.normalize();
+        Assertions.assertEquals(new Vector5D(1, 2, 3, 4, 5).normalize(), buffer5D.get(0));
+    }
+}
@@ -0,0 +1,128 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.FloatArrayVector;
+import ru.vladislav117.vectors.SparseVector;
+import ru.vladislav117.vectors.StridedArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector1D;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector2F;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector3F;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector4F;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.buffer.Vector3DBuffer;
+import ru.vladislav117.vectors.buffer.Vector5DBuffer;
+import ru.vladislav117.vectors.store.OffHeapVectorStore;
+import ru.vladislav117.vectors.store.OffHeapVectorView;
+
+import java.util.List;
+
+public class VectorCopyTests {
+    protected List<Vector> vectors() {
+        Vector5DBuffer buffer = new Vector5DBuffer();
+        buffer.append(1, 2, 3, 4, 5);
+        return List.of(
+                new Vector1D(1), new Vector2D(1, 2), new Vector3D(1, 2, 3), new Vector4D(1, 2, 3, 4), new Vector5D(1, 2, 3, 4, 5),
+                new Vector2F(1, 2), new Vector3F(1, 2, 3), new Vector4F(1, 2, 3, 4),
+                new ArrayVector(new double[]{1, 2, 3, 4, 5, 6}), new FloatArrayVector(new float[]{1, 2, 3}),
+                new SparseVector(7, new int[]{0, 1, 2, 3}, new double[]{1, 2, 3, 4}),
+                buffer.cursor(0), new OffHeapVectorStore(1, 4).view(0).copyFrom(new double[]{1, 2, 3, 4}, 0));
+    }
+
+    @Test
+    public void testCopyTo() {
+        for (Vector vector : vectors()) {
+            double[] destination = new double[vector.getSize() + 2];
+            destination[0] = -1;
+            Assertions.assertSame(destination, vector.copyTo(destination, 1));
+            Assertions.assertEquals(-1, destination[0]);
+            for (int axis = 0; axis < vector.getSize(); axis++) {
+                Assertions.assertEquals(vector.getIndex(axis), destination[axis + 1], vector.getClass().getSimpleName());
+            }
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> vector.copyTo(new double[vector.getSize()], 1));
+        }
+    }
+
+    @Test
+    public void testCopyFrom() {
+        double[] source = {0, 9, 8, 7, 6, 5, 4, 3, 2, 1};
+        for (Vector vector : vectors()) {
+            Assertions.assertSame(vector, vector.copyFrom(source, 1));
+            for (int axis = 0; axis < vector.getSize(); axis++) {
+                Assertions.assertEquals(source[axis + 1], vector.getIndex(axis), vector.getClass().getSimpleName());
+            }
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> vector.copyFrom(new double[vector.getSize()], 1));
+        }
+    }
+
+    @Test
+    public void testMixedOperations() {
+        Vector3DBuffer buffer = new Vector3DBuffer();
+        buffer.append(1, 1, 1);
+        Vector cursor = buffer.cursor(0);
+
+        Assertions.assertEquals(new Vector3D(2, 3, 4), new Vector3D(1, 2, 3).add(cursor));
+        Assertions.assertEquals(new Vector3D(0, 1, 2), new Vector3D(1, 2, 3).subtract(cursor));
+        Assertions.assertEquals(new Vector3D(1, 1, 1), new Vector3D(5, 5, 5).set(cursor));
+        Assertions.assertEquals(new Vector3D(1, 1, 5), new Vector3D(5, 5, 5).set(new Vector2D(1, 1)));
+        Assertions.assertEquals(new Vector2D(1, 2), new Vector2D(9, 9).set(new ArrayVector(new double[]{1, 2, 3})));
+        Assertions.assertEquals(3, new Vector3D(1, 2, 3).distance(new ArrayVector(new double[]{1, 2})), 1E-12);
+        Assertions.assertEquals(new Vector3D(1, 1, 1), cursor);
+        Assertions.assertNotEquals(new Vector3D(1, 1, 1), new Vector2D(1, 1));
+        Assertions.assertEquals(new Vector2D(1, 1), new Vector3D(1, 1, 1));
+
+        ArrayVector arrayVector = new ArrayVector(new double[]{1, 2, 3, 4});
+        Assertions.assertEquals(new ArrayVector(new double[]{2, 3, 4, 4}), arrayVector.clone().add(cursor));
+        Assertions.assertEquals(new ArrayVector(new double[]{0, 1, 2, 4}), arrayVector.clone().subtract(cursor));
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 1, 1, 4}), arrayVector.clone().set(cursor));
+        Assertions.assertEquals(new ArrayVector(new double[]{7, 8, 3, 4}), arrayVector.clone().set(new ArrayVector(new double[]{7, 8})));
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2}), new ArrayVector(2).set(arrayVector));
+        Assertions.assertEquals(Math.sqrt(1 + 4 + 16), arrayVector.distance(cursor), 1E-12);
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 3}), new Vector3D(1, 2, 3));
+        Assertions.assertNotEquals(arrayVector, new Vector3D(1, 2, 3));
+
+        SparseVector sparse = new SparseVector(1_000_000, new int[]{1, 999_999}, new double[]{2, 5});
+        Assertions.assertEquals(new Vector3D(1, 4, 3), new Vector3D(1, 2, 3).add(sparse));
+        Assertions.assertEquals(new SparseVector(1_000_000, new int[]{0, 1, 2, 999_999}, new double[]{1, 3, 1, 5}), sparse.clone().add(cursor));
+        Assertions.assertEquals(Math.sqrt(1 + 1 + 1 + 25), sparse.distance(cursor), 1E-12);
+    }
+
+    @Test
+    public void testLargeOperandPrefix() {
+        int largeSize = 10_000;
+        OffHeapVectorStore store = new OffHeapVectorStore(1, largeSize);
+        Vector large = new OffHeapVectorView(store, 0) {
+            @Override
+            public double[] copyTo(double[] destination, int offset) {
+                throw new AssertionError("Large operand must not be copied entirely");
+            }
+        };
+        large.setIndex(0, 1).setIndex(1, 2).setIndex(largeSize - 1, 9);
+
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 0}), new ArrayVector(3).set(large));
+        Assertions.assertEquals(new ArrayVector(new double[]{2, 3, 1}), new ArrayVector(new double[]{1, 1, 1}).add(large));
+        Assertions.assertEquals(5, new ArrayVector(new double[]{1, 2, 3}).dot(large), 1E-12);
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2}), large);
+        Assertions.assertTrue(new ArrayVector(new double[]{1, 2}).equals(large));
+
+        StridedArrayVector strided = new StridedArrayVector(new double[6], 0, 3, 2);
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 0}), strided.set(large));
+        Assertions.assertEquals(new ArrayVector(new double[]{2, 4, 0}), strided.add(large));
+        Assertions.assertTrue(new StridedArrayVector(new double[]{1, 0, 2, 0}, 0, 2, 2).equals(large));
+
+        FloatArrayVector floatVector = new FloatArrayVector(3);
+        Assertions.assertEquals(new ArrayVector(new double[]{1, 2, 0}), floatVector.set(large));
+        Assertions.assertEquals(5, floatVector.dot(large), 1E-6);
+        Assertions.assertTrue(new FloatArrayVector(new float[]{1, 2}).equals(large));
+
+        SparseVector sparse = new SparseVector(3, new int[]{1}, new double[]{2});
+        Assertions.assertEquals(4, sparse.dot(large), 1E-12);
+        Assertions.assertEquals(1, sparse.distance(large), 1E-12);
+        Assertions.assertTrue(new SparseVector(2, new int[]{0, 1}, new double[]{1, 2}).equals(large));
+        Assertions.assertEquals(new SparseVector(3, new int[]{0, 1}, new double[]{1, 2}), sparse.set(large));
+        Assertions.assertEquals(new SparseVector(3, new int[]{0, 1}, new double[]{2, 4}), sparse.add(large));
+    }
+}
@@ -0,0 +1,113 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.store.MappedVectorStore;
+import ru.vladislav117.vectors.store.OffHeapVectorView;
+import ru.vladislav117.vectors.store.VectorFile;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class VectorFileTests {
+    @Test
+    public void testFixedVectors() throws IOException {
+        Path path = Files.createTempFile("vectors", ".vecs");
+        try {
+            List<Vector3D> vectors = List.of(new Vector3D(1, 2, 3), new Vector3D(-4, 5.5, 0), new Vector3D());
+            VectorFile.write(path, vectors, 3);
+            Assertions.assertEquals(VectorFile.HEADER_BYTES + 3 * 3 * Double.BYTES, Files.size(path));
+            ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+            Assertions.assertEquals('V', header.get(0));
+            Assertions.assertEquals('S', header.get(3));
+            Assertions.assertEquals(3, header.getInt(8));
+            Assertions.assertEquals(3, header.getLong(16));
+            Assertions.assertEquals(5.5, header.getDouble(VectorFile.HEADER_BYTES + 4 * Double.BYTES));
+
+            Assertions.assertEquals(vectors, VectorFile.read(path, Vector3D::new));
+            MappedVectorStore store = MappedVectorStore.open(path);
+            Assertions.assertEquals(3, store.getRowCount());
+            Assertions.assertEquals(3, store.getDimension());
+            Assertions.assertEquals(vectors.get(1), store.view(1));
+            Assertions.assertEquals(vectors.get(1).hashCode(), store.view(1).hashCode());
+            Assertions.assertEquals(vectors.get(0).distance(vectors.get(1)), store.distance(0, 1), 1E-12);
+            Assertions.assertThrows(ReadOnlyBufferException.class, () -> store.set(0, 0, 1));
+            Assertions.assertSame(store, store.verify());
+
+            List<Vector2D> planar = List.of(new Vector2D(1, 2), new Vector2D(3, 4));
+            VectorFile.write(path, planar, 2);
+            Assertions.assertEquals(planar, VectorFile.read(path, Vector2D::new));
+            List<Vector5D> fiveDimensional = List.of(new Vector5D(1, 2, 3, 4, 5));
+            VectorFile.write(path, fiveDimensional, 5);
+            Assertions.assertEquals(fiveDimensional, VectorFile.read(path, Vector5D::new));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testStores() throws IOException {
+        Path path = Files.createTempFile("vectors", ".vecs");
+        try {
+            int dimension = 100;
+            VectorMatrix matrix = new VectorMatrix(300, dimension);
+            for (long row = 0; row < 300; row++) {
+                for (int axis = 0; axis < dimension; axis++) matrix.set(row, axis, row * 1000 + axis);
+            }
+            VectorFile.write(path, matrix);
+            MappedVectorStore store = MappedVectorStore.open(path, true);
+            for (long row = 0; row < 300; row++) Assertions.assertEquals(matrix.get(row), store.view(row));
+
+            Path copy = Files.createTempFile("vectors", ".vecs");
+            try {
+                VectorFile.write(copy, store);
+                Assertions.assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(copy));
+            } finally {
+                Files.deleteIfExists(copy);
+            }
+            List<ArrayVector> vectors = VectorFile.read(path, OffHeapVectorView::clone, true);
+            Assertions.assertEquals(300, vectors.size());
+            Assertions.assertEquals(matrix.get(299), vectors.get(299));
+
+            VectorFile.write(path, List.<Vector>of(), 4);
+            Assertions.assertEquals(0, MappedVectorStore.open(path).verify().getRowCount());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testCorruption() throws IOException {
+        Path path = Files.createTempFile("vectors", ".vecs");
+        try {
+            VectorFile.write(path, List.of(new Vector2D(1, 2), new Vector2D(3, 4)), 2);
+            byte[] bytes = Files.readAllBytes(path);
+            bytes[VectorFile.HEADER_BYTES + 3] ^= 1;
+            Files.write(path, bytes);
+            MappedVectorStore store = MappedVectorStore.open(path);
+            Assertions.assertEquals(2, store.getRowCount());
+            Assertions.assertThrows(IOException.class, store::verify);
+            Assertions.assertThrows(IOException.class, () -> MappedVectorStore.open(path, true));
+            Assertions.assertThrows(IOException.class, () -> VectorFile.read(path, Vector2D::new, true));
+            Assertions.assertEquals(2, VectorFile.read(path, Vector2D::new).size());
+
+            Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+            Assertions.assertThrows(IOException.class, () -> MappedVectorStore.open(path, false));
+            bytes[0] = 'X';
+            Files.write(path, bytes);
+            Assertions.assertThrows(IOException.class, () -> MappedVectorStore.open(path, false));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
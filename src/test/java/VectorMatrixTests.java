@@ -0,0 +1,97 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.error.VectorIndexError;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.List;
+import java.util.Random;
+
+public class VectorMatrixTests {
+    protected VectorMatrix createMatrix() {
+        return new VectorMatrix(List.of(new Vector3D(1, 2, 3), new ArrayVector(new double[]{4, 5, 6}), new Vector2D(7, 0)), 3);
+    }
+
+    @Test
+    public void testGetters() {
+        VectorMatrix matrix = createMatrix();
+        Assertions.assertEquals(3, matrix.getRowCount());
+        Assertions.assertEquals(3, matrix.getDimension());
+        Assertions.assertEquals(new Vector3D(1, 2, 3), matrix.get(0));
+        Assertions.assertEquals(5, matrix.get(1, 1));
+        Assertions.assertEquals(new Vector3D(7, 0, 0), matrix.get(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(3));
+        Assertions.assertThrows(VectorIndexError.class, () -> matrix.get(0, 3));
+    }
+
+    @Test
+    public void testViews() {
+        VectorMatrix matrix = createMatrix();
+        ArrayVector view = matrix.view(1);
+        view.add(new Vector3D(1, 1, 1));
+        Assertions.assertEquals(new Vector3D(5, 6, 7), matrix.get(1));
+        matrix.set(1, 0, 0);
+        Assertions.assertEquals(0, view.getIndex(0));
+        Assertions.assertEquals(new Vector3D(1, 2, 3), matrix.get(0));
+        Assertions.assertEquals(new Vector3D(7, 0, 0), matrix.get(2));
+
+        ArrayVector copy = matrix.get(0);
+        copy.multiple(0);
+        Assertions.assertEquals(1, matrix.get(0, 0));
+        Assertions.assertArrayEquals(new double[]{0, 7, 0, 0}, matrix.copyTo(2, new double[4], 1));
+        matrix.copyFrom(2, new double[]{1, 1, 1}, 0);
+        Assertions.assertEquals(new Vector3D(1, 1, 1), matrix.view(2));
+    }
+
+    @Test
+    public void testBatchOperations() {
+        VectorMatrix matrix = createMatrix();
+        Assertions.assertArrayEquals(new double[]{Math.sqrt(14), Math.sqrt(77), 7}, matrix.rowDistances(new Vector3D()));
+        Assertions.assertArrayEquals(new double[]{1, 4, 7}, matrix.rowDots(new Vector2D(1, 0)));
+        Assertions.assertArrayEquals(new double[]{77, 28}, matrix.rowDots(new Vector3D(4, 5, 6), 1, new double[2]));
+        Assertions.assertArrayEquals(new double[]{7, 0}, matrix.rowDots(new Vector3D(1, 1, 1), 2, new double[2]));
+
+        matrix.normalizeRows();
+        Assertions.assertEquals(new Vector3D(1, 0, 0), matrix.get(2));
+        Assertions.assertEquals(1, matrix.view(0).length(), 1E-12);
+    }
+
+    @Test
+    public void testChunksAndParallel() {
+        int rows = 50_000, dimension = 4;
+        VectorMatrix matrix = new VectorMatrix(rows, dimension, 1_000) {
+        };
+        VectorMatrix reference = new VectorMatrix(rows, dimension);
+        Random random = new Random(1);
+        for (int row = 0; row < rows; row++) {
+            for (int axis = 0; axis < dimension; axis++) {
+                double value = random.nextDouble() - 0.5;
+                matrix.set(row, axis, value);
+                reference.set(row, axis, value);
+            }
+        }
+        Vector3D query = new Vector3D(0.1, 0.2, 0.3);
+        double[] distances = matrix.rowDistances(query);
+        double[] dots = matrix.rowDots(query);
+        for (int row = 0; row < rows; row += 997) {
+            Assertions.assertEquals(matrix.view(row).distance(query), distances[row], 1E-12);
+            Assertions.assertEquals(reference.view(row).distance(query), distances[row], 1E-12);
+            double dot = 0;
+            for (int axis = 0; axis < 3; axis++) dot += matrix.get(row, axis) * query.getIndex(axis);
+            Assertions.assertEquals(dot, dots[row], 1E-12);
+        }
+        matrix.normalizeRows();
+        for (int row = 0; row < rows; row += 997) {
+            Assertions.assertEquals(1, matrix.view(row).length(), 1E-12);
+        }
+        long[] visited = new long[1];
+        matrix.forEachRow((row, array, offset) -> {
+            synchronized (visited) {
+                visited[0] += row;
+            }
+        });
+        Assertions.assertEquals((long) rows * (rows - 1) / 2, visited[0]);
+    }
+}
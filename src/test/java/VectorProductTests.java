@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.FloatArrayVector;
+import ru.vladislav117.vectors.SparseVector;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector1D;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector2F;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector3F;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector4F;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.buffer.Vector3DBuffer;
+import ru.vladislav117.vectors.store.OffHeapVectorStore;
+
+import java.util.List;
+
+public class VectorProductTests {
+    public static final double accuracy = 1E-9;
+
+    protected List<Vector> createVectors() {
+        OffHeapVectorStore store = new OffHeapVectorStore(1, 4);
+        store.set(0, new Vector4D(1, -2, 0.5, 3));
+        Vector3DBuffer buffer = new Vector3DBuffer(1);
+        buffer.append(-1, 0.25, 2);
+        return List.of(
+                new Vector1D(2),
+                new Vector2D(1, -3),
+                new Vector3D(0.5, 2, -1),
+                new Vector4D(1, 1, 2, -2),
+                new Vector5D(-1, 2, 3, 0.5, 4),
+                new Vector2F(2, 0.5f),
+                new Vector3F(-1, 1.5f, 2),
+                new Vector4F(3, 0, -1, 0.25f),
+                new ArrayVector(new double[]{1, 2, 3, 4, 5, 6}),
+                ArrayVector.wrap(new double[]{9, -1, 2, 0.5, 9}, 1, 3),
+                ArrayVector.wrap(new double[]{1, 7, 2, 7, 3, 7}, 0, 3, 2),
+                new FloatArrayVector(new float[]{0.5f, -1, 2, 4}),
+                new SparseVector(7).setIndex(1, 2).setIndex(4, -3).setIndex(6, 1),
+                store.view(0),
+                buffer.cursor(0)
+        );
+    }
+
+    protected double lengthSquared(Vector vector) {
+        double lengthSquared = 0;
+        for (int index = 0; index < vector.getSize(); index++) lengthSquared += vector.getIndex(index) * vector.getIndex(index);
+        return lengthSquared;
+    }
+
+    protected double distanceSquared(Vector vector, Vector other) {
+        double distanceSquared = 0;
+        for (int index = 0; index < vector.getSize(); index++) {
+            double difference = vector.getIndex(index) - other.getIndexOrZero(index);
+            distanceSquared += difference * difference;
+        }
+        return distanceSquared;
+    }
+
+    protected double dot(Vector vector, Vector other) {
+        double dot = 0;
+        for (int index = 0; index < vector.getSize(); index++) dot += vector.getIndex(index) * other.getIndexOrZero(index);
+        return dot;
+    }
+
+    @Test
+    public void testAgainstDefinition() {
+        List<Vector> vectors = createVectors();
+        for (Vector vector : vectors) {
+            String name = vector.getClass().getSimpleName();
+            Assertions.assertEquals(lengthSquared(vector), vector.lengthSquared(), accuracy, name);
+            Assertions.assertEquals(Math.sqrt(vector.lengthSquared()), vector.length(), accuracy, name);
+            for (Vector other : vectors) {
+                String pair = name + " / " + other.getClass().getSimpleName();
+                Assertions.assertEquals(distanceSquared(vector, other), vector.distanceSquared(other), accuracy, pair);
+                Assertions.assertEquals(Math.sqrt(vector.distanceSquared(other)), vector.distance(other), accuracy, pair);
+                Assertions.assertEquals(dot(vector, other), vector.dot(other), accuracy, pair);
+            }
+        }
+    }
+
+    @Test
+    public void testSparseDot() {
+        SparseVector first = new SparseVector(100).setIndex(3, 2).setIndex(50, 4).setIndex(99, -1);
+        SparseVector second = new SparseVector(100).setIndex(50, 0.5).setIndex(60, 3).setIndex(99, 2);
+        Assertions.assertEquals(0, first.dot(second));
+        Assertions.assertEquals(4, first.dot(new ArrayVector(new double[]{0, 0, 0, 2})));
+        Assertions.assertEquals(4, new ArrayVector(new double[]{0, 0, 0, 2}).dot(first));
+    }
+}
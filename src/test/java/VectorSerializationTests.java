@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.FloatArrayVector;
+import ru.vladislav117.vectors.SparseVector;
+import ru.vladislav117.vectors.ValueType;
+import ru.vladislav117.vectors.Vector;
+import ru.vladislav117.vectors.Vector1D;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector5D;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class VectorSerializationTests {
+    protected void assertRoundTrip(Vector vector, Vector target) {
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+            for (ValueType type : ValueType.values()) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(64).order(order);
+                vector.writeTo(buffer, type);
+                Assertions.assertEquals(vector.getSize() * type.getBytes(), buffer.position());
+                buffer.flip();
+                for (int axis = 0; axis < vector.getSize(); axis++) {
+                    double value = type == ValueType.DOUBLE ? buffer.getDouble(axis * 8) : buffer.getFloat(axis * 4);
+                    Assertions.assertEquals(type == ValueType.DOUBLE ? vector.getIndexOrZero(axis) : (float) vector.getIndexOrZero(axis), value);
+                }
+                Assertions.assertSame(target, target.readFrom(buffer, type));
+                Assertions.assertFalse(buffer.hasRemaining());
+                Assertions.assertEquals(vector, target);
+            }
+        }
+        ByteBuffer buffer = vector.writeTo(ByteBuffer.allocate(64));
+        Assertions.assertEquals(vector.getSize() * Double.BYTES, buffer.position());
+        Assertions.assertEquals(vector, target.readFrom(buffer.flip()));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        assertRoundTrip(new Vector1D(0.5), new Vector1D());
+        assertRoundTrip(new Vector2D(0.5, -2), new Vector2D());
+        assertRoundTrip(new Vector3D(0.5, -2, 3.25), new Vector3D());
+        assertRoundTrip(new Vector4D(0.5, -2, 3.25, 4), new Vector4D());
+        assertRoundTrip(new Vector5D(0.5, -2, 3.25, 4, -0.125), new Vector5D());
+        assertRoundTrip(new ArrayVector(new double[]{1, 2.5, -3}), new ArrayVector(3));
+        assertRoundTrip(ArrayVector.wrap(new double[]{9, 1, 2, 9}, 1, 2), ArrayVector.wrap(new double[]{7, 7, 7, 7}, 2, 2));
+        assertRoundTrip(new FloatArrayVector(new float[]{1, 2.5f}), new FloatArrayVector(2));
+        assertRoundTrip(new SparseVector(5, new int[]{1, 3}, new double[]{2, -4}), new SparseVector(5));
+        Assertions.assertEquals(1.1f, new Vector1D().readFrom(new Vector1D(1.1).writeTo(ByteBuffer.allocate(4), ValueType.FLOAT).flip(), ValueType.FLOAT).getX());
+    }
+
+    @Test
+    public void testBulk() {
+        Vector3D[] vectors = {new Vector3D(1, 2, 3), new Vector3D(4, 5, 6), new Vector3D(7, 8, 9)};
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024).order(ByteOrder.LITTLE_ENDIAN);
+        Vector.writeTo(buffer, vectors, 1, 2, ValueType.FLOAT);
+        Assertions.assertEquals(6 * Float.BYTES, buffer.position());
+        Vector3D[] targets = {new Vector3D(), new Vector3D(), new Vector3D()};
+        Assertions.assertSame(targets, Vector.readFrom(buffer.flip(), targets, 0, 2, ValueType.FLOAT));
+        Assertions.assertEquals(vectors[1], targets[0]);
+        Assertions.assertEquals(vectors[2], targets[1]);
+        Assertions.assertEquals(new Vector3D(), targets[2]);
+    }
+
+    @Test
+    public void testBounds() {
+        ByteBuffer small = ByteBuffer.allocate(20);
+        Assertions.assertThrows(BufferOverflowException.class, () -> new Vector3D(1, 2, 3).writeTo(small));
+        Assertions.assertEquals(0, small.position());
+        Assertions.assertThrows(BufferOverflowException.class, () -> new ArrayVector(3).writeTo(small));
+        Assertions.assertThrows(BufferOverflowException.class, () -> Vector.writeTo(small, new Vector[]{new Vector2D(), new Vector2D()}, 0, 2, ValueType.DOUBLE));
+        Assertions.assertEquals(0, small.position());
+
+        small.limit(16);
+        Vector3D vector = new Vector3D(1, 2, 3);
+        Assertions.assertThrows(BufferUnderflowException.class, () -> vector.readFrom(small));
+        Assertions.assertEquals(new Vector3D(1, 2, 3), vector);
+        Assertions.assertEquals(0, small.position());
+        new Vector3D(1, 2, 3).writeTo(small, ValueType.FLOAT);
+        Assertions.assertEquals(12, small.position());
+    }
+}
@@ -0,0 +1,63 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.collection.VectorSet;
+import ru.vladislav117.vectors.store.VectorMatrix;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class VectorSetTests {
+    @Test
+    public void testAddAndRemove() {
+        VectorSet set = new VectorSet(4);
+        Assertions.assertEquals(4, set.getDimension());
+        Assertions.assertTrue(set.add(new Vector4D(1, 2, 3, 4)));
+        Assertions.assertFalse(set.add(new ArrayVector(new double[]{1, 2, 3, 4})));
+        Assertions.assertFalse(set.add(new double[]{0, 1, 2, 3, 4}, 1));
+        Assertions.assertTrue(set.add(new Vector3D(1, 2, 3)));
+        Assertions.assertTrue(set.contains(new double[]{1, 2, 3, 0}, 0));
+        Assertions.assertTrue(set.contains(new Vector4D(1, 2, 3, -0.0)));
+        Assertions.assertEquals(2, set.getSize());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> set.contains(new double[]{1, 2, 3}, 0));
+
+        Assertions.assertTrue(set.remove(new Vector3D(1, 2, 3)));
+        Assertions.assertFalse(set.remove(new double[]{1, 2, 3, 0}, 0));
+        Assertions.assertEquals(List.of(new ArrayVector(new double[]{1, 2, 3, 4})), set.toList());
+        set.clear();
+        Assertions.assertEquals(0, set.getSize());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VectorSet(0));
+    }
+
+    @Test
+    public void testDeduplication() {
+        Random random = new Random(1);
+        VectorSet set = new VectorSet(3, 0, 1e-3);
+        Set<Vector3D> expected = new HashSet<>();
+        for (int point = 0; point < 50_000; point++) {
+            Vector3D key = new Vector3D(random.nextInt(30), random.nextInt(30), random.nextInt(30));
+            Assertions.assertEquals(expected.add(key), set.add(key.clone().add(new Vector3D(1e-5, -1e-5, 1e-5))));
+        }
+        Assertions.assertEquals(expected.size(), set.getSize());
+        for (Vector3D key : expected) Assertions.assertTrue(set.contains(key));
+
+        VectorMatrix matrix = set.toMatrix();
+        Assertions.assertEquals(expected.size(), matrix.getRowCount());
+        VectorSet copy = new VectorSet(3, set.getSize(), 1e-3);
+        for (long row = 0; row < matrix.getRowCount(); row++) Assertions.assertTrue(copy.add(matrix.view(row)));
+        int removed = 0;
+        for (Vector3D key : expected) {
+            if (random.nextBoolean()) {
+                Assertions.assertTrue(copy.remove(key));
+                removed++;
+            } else {
+                Assertions.assertTrue(copy.contains(key));
+            }
+        }
+        Assertions.assertEquals(expected.size() - removed, copy.getSize());
+    }
+}
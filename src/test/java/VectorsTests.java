@@ -0,0 +1,63 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.vectors.ArrayVector;
+import ru.vladislav117.vectors.Vector2D;
+import ru.vladislav117.vectors.Vector3D;
+import ru.vladislav117.vectors.Vector4D;
+import ru.vladislav117.vectors.Vector5D;
+import ru.vladislav117.vectors.Vectors2D;
+import ru.vladislav117.vectors.Vectors3D;
+import ru.vladislav117.vectors.Vectors4D;
+import ru.vladislav117.vectors.Vectors5D;
+
+public class VectorsTests {
+    @Test
+    public void testVectors2D() {
+        Assertions.assertEquals(25, Vectors2D.lengthSquared(3, 4));
+        Assertions.assertEquals(5, Vectors2D.length(3, 4));
+        Assertions.assertEquals(25, Vectors2D.distanceSquared(1, 1, 4, 5));
+        Assertions.assertEquals(5, Vectors2D.distance(1, 1, 4, 5));
+        Assertions.assertEquals(11, Vectors2D.dot(1, 2, 3, 4));
+        Assertions.assertArrayEquals(new double[]{0, 0.6, 0.8}, Vectors2D.normalizeInto(3, 4, new double[3], 1));
+        Assertions.assertEquals(new Vector2D(-1, -1).angle(), Vectors2D.angle(-1, -1));
+
+        Vector2D vector = new Vector2D(1, 2);
+        Assertions.assertEquals(vector.angleTo(new Vector2D(5, -3)), Vectors2D.angleTo(1, 2, 5, -3));
+        Assertions.assertEquals(vector.angleTo(new Vector2D(5, 0)), vector.angleTo(new ArrayVector(new double[]{5})));
+        Assertions.assertEquals(vector.angleDegreesTo(new Vector2D(5, -3)), Vectors2D.angleDegreesTo(1, 2, 5, -3));
+    }
+
+    @Test
+    public void testVectors3D() {
+        Assertions.assertEquals(14, Vectors3D.lengthSquared(1, 2, 3));
+        Assertions.assertEquals(Math.sqrt(14), Vectors3D.length(1, 2, 3));
+        Assertions.assertEquals(27, Vectors3D.distanceSquared(1, 2, 3, 4, 5, 6));
+        Assertions.assertEquals(new Vector3D(1, 2, 3).distance(new Vector3D(4, 5, 6)), Vectors3D.distance(1, 2, 3, 4, 5, 6));
+        Assertions.assertEquals(32, Vectors3D.dot(1, 2, 3, 4, 5, 6));
+        Assertions.assertArrayEquals(new double[]{0, 0, 1}, Vectors3D.cross(1, 0, 0, 0, 1, 0, new double[3], 0));
+        Assertions.assertArrayEquals(new double[]{-3, 6, -3}, Vectors3D.cross(1, 2, 3, 4, 5, 6, new double[3], 0));
+
+        double[] normalized = Vectors3D.normalizeInto(1, 2, 3, new double[3], 0);
+        Assertions.assertEquals(new Vector3D(1, 2, 3).normalize(), new Vector3D(normalized[0], normalized[1], normalized[2]));
+    }
+
+    @Test
+    public void testVectors4D() {
+        Assertions.assertEquals(30, Vectors4D.lengthSquared(1, 2, 3, 4));
+        Assertions.assertEquals(new Vector4D(1, 2, 3, 4).length(), Vectors4D.length(1, 2, 3, 4));
+        Assertions.assertEquals(4, Vectors4D.distance(1, 1, 1, 1, 3, 3, 3, 3));
+        Assertions.assertEquals(16, Vectors4D.distanceSquared(1, 1, 1, 1, 3, 3, 3, 3));
+        Assertions.assertEquals(10, Vectors4D.dot(1, 2, 3, 4, 1, 1, 1, 1));
+        Assertions.assertArrayEquals(new double[]{0.5, 0.5, 0.5, 0.5}, Vectors4D.normalizeInto(2, 2, 2, 2, new double[4], 0));
+    }
+
+    @Test
+    public void testVectors5D() {
+        Assertions.assertEquals(55, Vectors5D.lengthSquared(1, 2, 3, 4, 5));
+        Assertions.assertEquals(new Vector5D(1, 2, 3, 4, 5).length(), Vectors5D.length(1, 2, 3, 4, 5));
+        Assertions.assertEquals(new Vector5D(1, 2, 3, 4, 5).distance(new Vector5D()), Vectors5D.distance(1, 2, 3, 4, 5, 0, 0, 0, 0, 0));
+        Assertions.assertEquals(55, Vectors5D.distanceSquared(1, 2, 3, 4, 5, 0, 0, 0, 0, 0));
+        Assertions.assertEquals(15, Vectors5D.dot(1, 2, 3, 4, 5, 1, 1, 1, 1, 1));
+        Assertions.assertArrayEquals(new double[]{1, 0, 0, 0, 0}, Vectors5D.normalizeInto(3, 0, 0, 0, 0, new double[5], 0));
+    }
+}